@@ -0,0 +1,264 @@
+package com.slinky.mockmate.data;
+
+import java.util.Arrays;
+
+/**
+ * A cursor that picks each new question to learn the most about the learner's
+ * ability, instead of following the chapter's order.
+ *
+ * <p>
+ * The cursor holds a posterior distribution of the learner's ability over a
+ * fixed grid, starting from a standard normal prior. Each call to
+ * {@link #answer(char[])} grades the current question with
+ * {@link Question#isCorrect(char[])} and adds the response's log-likelihood to
+ * the posterior, which costs one table lookup per grid point. The ability
+ * estimate is the posterior mean, which stays finite even when every answer is
+ * right or wrong. {@link #next()} then asks the {@link ItemBank} for the
+ * unasked question with the most information at that estimate.
+ * </p>
+ * <p>
+ * Questions once asked form a history that {@link #previous()},
+ * {@link #position()} and {@link #seek(int)} navigate, just as the sequential
+ * cursor navigates the chapter. Calling {@link #next()} at the end of the
+ * history chooses a new question. Once every question has been asked, the
+ * choice starts over from the whole bank while the ability estimate is kept.
+ * </p>
+ * <p>
+ * Cursors are not thread-safe. Each learner should create their own with
+ * {@link ItemBank#cursor()} or {@link Chapter#adaptiveCursor(double[])}.
+ * </p>
+ *
+ * @author Kheagen Haskins
+ */
+public final class AdaptiveCursor implements ChapterCursor {
+
+    // ================================[ Fields ]================================ \\
+
+    /**
+     * The questions and their parameters.
+     */
+    private final ItemBank bank;
+
+    /**
+     * The log posterior of the ability at each grid point, up to a constant.
+     */
+    private final double[] posterior = new double[ItemBank.GRID];
+
+    /**
+     * The items asked since the choice last started over.
+     */
+    private final boolean[] asked;
+
+    /**
+     * The items answered, so that each counts once towards the estimate.
+     */
+    private final boolean[] answered;
+
+    /**
+     * The items in the order they were first returned.
+     */
+    private int[] history = new int[16];
+    private int historySize;
+
+    /**
+     * The position in {@link #history} of the question {@link #next()}
+     * returns, and the item last returned, or {@code -1}.
+     */
+    private int position;
+    private int current = -1;
+
+    /**
+     * The posterior mean and standard deviation.
+     */
+    private double ability, standardError;
+
+    // =============================[ Constructors ]============================= \\
+
+    /**
+     * Constructs a cursor with the prior ability estimate.
+     *
+     * @param bank the questions to choose from.
+     */
+    AdaptiveCursor(ItemBank bank) {
+        this.bank     = bank;
+        this.asked    = new boolean[bank.size()];
+        this.answered = new boolean[bank.size()];
+        for (int g = 0; g < ItemBank.GRID; g++) {
+            double theta = ItemBank.THETA_MIN + g * ItemBank.THETA_STEP;
+            posterior[g] = -theta * theta / 2;
+        }
+
+        estimate();
+    }
+
+    // ===========================[ Accessor Methods ]=========================== \\
+
+    /**
+     * Retrieves the learner's estimated ability.
+     *
+     * @return the posterior mean ability, on the logit scale of the item
+     *         difficulties.
+     */
+    public double ability() {
+        return ability;
+    }
+
+    /**
+     * Retrieves the uncertainty of the ability estimate.
+     *
+     * @return the posterior standard deviation.
+     */
+    public double standardError() {
+        return standardError;
+    }
+
+    /**
+     * Retrieves the number of questions answered.
+     *
+     * @return the number of distinct questions that have counted towards the
+     *         estimate.
+     */
+    public int answeredCount() {
+        int count = 0;
+        for (boolean a : answered) {
+            count += a ? 1 : 0;
+        }
+
+        return count;
+    }
+
+    // =============================[ API Methods ]============================== \\
+
+    @Override
+    public Question next() {
+        checkNotEmpty();
+        if (position == historySize) {
+            int item = bank.select(ability, asked);
+            if (item < 0) {
+                Arrays.fill(asked, false);
+                item = bank.select(ability, asked);
+            }
+
+            asked[item] = true;
+            if (historySize == history.length) {
+                history = Arrays.copyOf(history, historySize * 2);
+            }
+
+            history[historySize++] = item;
+        }
+
+        current = history[position++];
+        return bank.question(current);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException if no question has been returned yet.
+     */
+    @Override
+    public Question previous() {
+        checkNotEmpty();
+        if (historySize == 0) {
+            throw new IllegalStateException("No question has been asked yet");
+        }
+
+        position = (position + historySize - 1) % historySize;
+        current  = history[position];
+        return bank.question(current);
+    }
+
+    /**
+     * Grades the question last returned by {@link #next()} or
+     * {@link #previous()} and, the first time it is answered, updates the
+     * ability estimate.
+     *
+     * @param answers the learner's answers.
+     * @return {@code true} if the answers are correct.
+     * @throws IllegalStateException if no question has been returned yet.
+     * @throws NullPointerException  if {@code answers} is {@code null}.
+     */
+    public boolean answer(char[] answers) {
+        if (current < 0) {
+            throw new IllegalStateException("No question has been asked yet");
+        }
+
+        boolean correct = bank.question(current).isCorrect(answers);
+        if (!answered[current]) {
+            answered[current] = true;
+            bank.update(current, correct, posterior);
+            estimate();
+        }
+
+        return correct;
+    }
+
+    /**
+     * Retrieves the position in the history of asked questions of the
+     * question that {@link #next()} will return; a position equal to the
+     * history's length means a new question will be chosen.
+     *
+     * @return the zero-based position of the cursor.
+     */
+    @Override
+    public int position() {
+        return position;
+    }
+
+    /**
+     * Moves the cursor within the history of asked questions.
+     *
+     * @param position the zero-based position, up to and including the
+     *                 number of questions asked.
+     * @throws IllegalArgumentException if the position is out of range.
+     */
+    @Override
+    public void seek(int position) {
+        if (position < 0 || position > historySize) {
+            throw new IllegalArgumentException("Invalid cursor position: " + position);
+        }
+
+        this.position = position;
+    }
+
+    @Override
+    public int size() {
+        return bank.size();
+    }
+
+    // ============================[ Helper Methods ]============================ \\
+
+    /**
+     * Recomputes the posterior mean and standard deviation.
+     */
+    private void estimate() {
+        double max = Double.NEGATIVE_INFINITY;
+        for (double p : posterior) {
+            max = Math.max(max, p);
+        }
+
+        double total = 0, sum = 0, squares = 0;
+        for (int g = 0; g < ItemBank.GRID; g++) {
+            double theta  = ItemBank.THETA_MIN + g * ItemBank.THETA_STEP;
+            double weight = Math.exp(posterior[g] - max);
+            total   += weight;
+            sum     += weight * theta;
+            squares += weight * theta * theta;
+        }
+
+        ability       = sum / total;
+        standardError = Math.sqrt(Math.max(0, squares / total - ability * ability));
+    }
+
+    /**
+     * Ensures that there are questions to navigate.
+     *
+     * @throws IllegalStateException if there are no questions.
+     */
+    private void checkNotEmpty() {
+        if (bank.size() == 0) {
+            throw new IllegalStateException("Cannot iterate through questions whens they are empty");
+        }
+    }
+
+}
@@ -0,0 +1,929 @@
+package com.slinky.mockmate.data;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * An append-only, crash-safe log of submitted answers, from which the
+ * {@link SessionState} is rebuilt at startup.
+ *
+ * <p>
+ * The journal is a directory of <em>segment</em> files named after the
+ * sequence number of their first record. Each segment starts with a header
+ * holding a magic number, the format version and that sequence number,
+ * followed by records of the form {@code [length][payload][CRC-32C]}: the
+ * payload holds the answer time, user, exam, chapter, question ordinal and
+ * answer mask. A segment is closed and a new one started once it grows past
+ * {@code mockmate.journal.segmentBytes}, 64 MiB by default. Opening a journal
+ * appends to its newest segment while that has room, so restarts do not leave
+ * a trail of small segments behind.
+ * </p>
+ * <p>
+ * Writes use <em>group commit</em>. {@link #append} encodes the record into an
+ * in-memory buffer and returns at once with a future, and a single writer
+ * thread swaps the buffer for an empty one, writes it through a
+ * {@link FileChannel} and forces it to disk with one {@code fsync}. Every
+ * future in the batch is then completed with its record's sequence number, so
+ * a caller that waits on the future knows its answer is durable, while one
+ * {@code fsync} covers every answer submitted while the previous one was in
+ * progress. The buffer holds {@code mockmate.journal.bufferBytes}, 1 MiB by
+ * default, and appends wait while both buffers are full.
+ * </p>
+ * <p>
+ * {@link #open(Path, Visitor)} replays every record, in order, before the
+ * journal accepts new ones, then passes each new record to the same visitor on
+ * the writer thread once it is durable and before its future completes. A
+ * visitor that applies records to some state therefore sees exactly the
+ * durable records, in sequence order, whichever thread appended them. A record
+ * that is cut short or fails its checksum at the end of the last segment is
+ * what a crash during a write leaves behind: replay stops there and the
+ * segment is truncated to its last whole record, and a last segment whose
+ * header is cut short or was never written is deleted. The same damage in any
+ * earlier segment means records were lost and is reported as an
+ * {@link IOException}, as is a complete header with another magic number or
+ * format version, which is never repaired away. Records are read in bulk into a reused buffer and
+ * passed to the visitor as primitives, so replay allocates nothing per record.
+ * </p>
+ * <p>
+ * {@link #open(Path, SessionState)} starts from the newest snapshot a
+ * {@link JournalCompactor} wrote to the directory and replays only the records
+ * after it, so segments the compactor has dropped are never needed.
+ * </p>
+ * <p>
+ * All methods are thread-safe.
+ * </p>
+ * <p>
+ * Example usage:
+ * </p>
+ * <pre>{@code
+ * var state = new SessionState();
+ * try (var journal = AnswerJournal.open(Path.of("journal"), state)) {
+ *     journal.append(System.currentTimeMillis(), user, ExamCode.EXAM_CODE_1Z0_829, 1, 4, mask).join();
+ *     int answer = state.answerMask(user, ExamCode.EXAM_CODE_1Z0_829, 1, 4);
+ * }
+ * }</pre>
+ *
+ * @author Kheagen Haskins
+ */
+public final class AnswerJournal implements Closeable {
+
+    // ================================[ Static ]================================ \\
+
+    /**
+     * Identifies a journal segment.
+     */
+    private static final int MAGIC = 0x4D4D414A; // "MMAJ"
+
+    /**
+     * The version of the segment format.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * The size of a segment header: magic, version and first sequence number.
+     */
+    static final int HEADER_BYTES = 16;
+
+    /**
+     * The size of a record's payload: time, user, exam, chapter, ordinal and
+     * answer mask.
+     */
+    static final int PAYLOAD_BYTES = 8 + 4 + 2 + 2 + 2 + 4;
+
+    /**
+     * The size of a whole record: length, payload and checksum.
+     */
+    static final int RECORD_BYTES = 4 + PAYLOAD_BYTES + 4;
+
+    /**
+     * The file name suffix of a segment.
+     */
+    static final String SEGMENT_SUFFIX = ".journal";
+
+    /**
+     * Default segment size after which a new segment is started, overridable
+     * with the {@code mockmate.journal.segmentBytes} system property.
+     */
+    private static final long DEFAULT_SEGMENT_BYTES = Long.getLong("mockmate.journal.segmentBytes", 64L << 20);
+
+    /**
+     * Default size of each of the two append buffers, overridable with the
+     * {@code mockmate.journal.bufferBytes} system property.
+     */
+    private static final int DEFAULT_BUFFER_BYTES = Integer.getInteger("mockmate.journal.bufferBytes", 1 << 20);
+
+    /**
+     * The exams by the number of their code, such as 829 for 1Z0-829, which
+     * unlike their ordinals never change.
+     */
+    private static final ExamCode[] EXAMS_BY_NUMBER = new ExamCode[1_000];
+
+    static {
+        for (ExamCode examCode : ExamCode.values()) {
+            EXAMS_BY_NUMBER[examNumber(examCode)] = examCode;
+        }
+    }
+
+    // ================================[ Fields ]================================ \\
+
+    /**
+     * The directory holding the segments.
+     */
+    private final Path directory;
+
+    /**
+     * The size after which the writer starts a new segment.
+     */
+    private final long segmentBytes;
+
+    /**
+     * Receives each record once it is durable. Called by the writer thread.
+     */
+    private final Visitor visitor;
+
+    /**
+     * Guards the fields below that are not owned by the writer, and signals
+     * the writer when records arrive and appenders when a buffer is free.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull  = lock.newCondition();
+
+    /**
+     * The buffer records are appended to, and the futures of its records, in
+     * order. Guarded by {@link #lock}.
+     */
+    private ByteBuffer filling;
+    private List<CompletableFuture<Long>> waiting = new ArrayList<>();
+
+    /**
+     * The buffer being written and the futures of its records. Owned by the
+     * writer thread between swaps.
+     */
+    private ByteBuffer draining;
+    private List<CompletableFuture<Long>> completing = new ArrayList<>();
+
+    /**
+     * Computes record checksums. Guarded by {@link #lock}.
+     */
+    private final CRC32C checksum = new CRC32C();
+
+    /**
+     * The sequence number of the next record appended. Guarded by
+     * {@link #lock}.
+     */
+    private long nextSequence;
+
+    /**
+     * Whether the journal is closed, and the write failure that stopped the
+     * writer, if any. Guarded by {@link #lock}.
+     */
+    private boolean closed;
+    private IOException failure;
+
+    /**
+     * The current segment and its size. Owned by the writer thread.
+     */
+    private FileChannel channel;
+    private long segmentSize;
+
+    /**
+     * The sequence number after the last record that is durable and has been
+     * passed to the visitor, and the number of batches forced to disk.
+     */
+    private volatile long durableSequence;
+    private volatile long batchCount;
+
+    /**
+     * The thread that writes and forces the batches.
+     */
+    private final Thread writer;
+
+    // =============================[ Constructors ]============================= \\
+
+    /**
+     * Constructs a journal that appends to its newest segment, or to a new
+     * one if that is full.
+     *
+     * @param directory    the journal directory.
+     * @param sequence     the sequence number of the next record.
+     * @param visitor      receives each record once it is durable.
+     * @param segmentBytes the size after which a new segment is started.
+     * @param bufferBytes  the size of each append buffer.
+     * @throws IOException if the segment cannot be opened or created.
+     */
+    private AnswerJournal(Path directory, long sequence, Visitor visitor, long segmentBytes, int bufferBytes) throws IOException {
+        this.directory       = directory;
+        this.segmentBytes    = segmentBytes;
+        this.visitor         = visitor;
+        this.nextSequence    = sequence;
+        this.durableSequence = sequence;
+        this.filling         = ByteBuffer.allocate(bufferBytes);
+        this.draining        = ByteBuffer.allocate(bufferBytes);
+        openTail(sequence);
+
+        this.writer = new Thread(this::drain, "mockmate-journal-" + directory.getFileName());
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    // ============================[ Factory Methods ]=========================== \\
+
+    /**
+     * Opens a journal, creating the directory if needed, after replaying every
+     * record already in it and repairing a torn final record. Segments a
+     * {@link JournalCompactor} has dropped are not replayed; use
+     * {@link #open(Path, SessionState)} for a compacted journal.
+     *
+     * @param directory the journal directory.
+     * @param visitor   receives every record already in the journal, in
+     *                  order, then each new record once it is durable. It is
+     *                  called by one thread at a time and should not throw;
+     *                  exceptions thrown for new records are ignored.
+     * @return the journal, ready for appends.
+     * @throws IOException          if the journal cannot be read, is damaged
+     *                              before its final record, or cannot be
+     *                              written.
+     * @throws NullPointerException if an argument is {@code null}.
+     */
+    public static AnswerJournal open(Path directory, Visitor visitor) throws IOException {
+        return open(directory, visitor, DEFAULT_SEGMENT_BYTES, DEFAULT_BUFFER_BYTES);
+    }
+
+    /**
+     * Opens a journal whose answers are applied to a session state: the
+     * newest snapshot in the directory is loaded into the state, the records
+     * after it are replayed, and each new record is recorded once it is
+     * durable.
+     *
+     * @param directory the journal directory.
+     * @param state     an empty session state.
+     * @return the journal, ready for appends.
+     * @throws IOException           if the snapshot or journal cannot be read,
+     *                               is damaged, or records after the snapshot
+     *                               are missing.
+     * @throws IllegalStateException if the state is not empty.
+     * @throws NullPointerException  if an argument is {@code null}.
+     */
+    public static AnswerJournal open(Path directory, SessionState state) throws IOException {
+        return open(directory, state, DEFAULT_SEGMENT_BYTES, DEFAULT_BUFFER_BYTES);
+    }
+
+    /**
+     * Opens a journal with the given segment and buffer sizes.
+     *
+     * @param directory    the journal directory.
+     * @param visitor      receives every record.
+     * @param segmentBytes the size after which a new segment is started.
+     * @param bufferBytes  the size of each append buffer.
+     * @return the journal.
+     * @throws IOException              if the journal cannot be opened.
+     * @throws IllegalArgumentException if a size is too small.
+     */
+    static AnswerJournal open(Path directory, Visitor visitor, long segmentBytes, int bufferBytes) throws IOException {
+        Objects.requireNonNull(directory, "Journal directory cannot be null");
+        Objects.requireNonNull(visitor, "Visitor cannot be null");
+        checkSizes(segmentBytes, bufferBytes);
+        Files.createDirectories(directory);
+        long sequence = scan(directory, -1, visitor, true);
+        return new AnswerJournal(directory, sequence, visitor, segmentBytes, bufferBytes);
+    }
+
+    /**
+     * Opens a journal over a session state with the given segment and buffer
+     * sizes.
+     *
+     * @param directory    the journal directory.
+     * @param state        an empty session state.
+     * @param segmentBytes the size after which a new segment is started.
+     * @param bufferBytes  the size of each append buffer.
+     * @return the journal.
+     * @throws IOException              if the journal cannot be opened.
+     * @throws IllegalArgumentException if a size is too small.
+     */
+    static AnswerJournal open(Path directory, SessionState state, long segmentBytes, int bufferBytes) throws IOException {
+        Objects.requireNonNull(directory, "Journal directory cannot be null");
+        Objects.requireNonNull(state, "Session state cannot be null");
+        checkSizes(segmentBytes, bufferBytes);
+        Files.createDirectories(directory);
+        long snapshot = JournalCompactor.loadSnapshot(directory, state);
+        long sequence = scan(directory, snapshot, state::record, true);
+        return new AnswerJournal(directory, sequence, state::record, segmentBytes, bufferBytes);
+    }
+
+    /**
+     * Reads every record in a journal that is not open for writing, without
+     * changing it. A torn final record is skipped.
+     *
+     * @param directory the journal directory.
+     * @param visitor   receives every record, in order.
+     * @return the sequence number after the last record read, which is the
+     *         number of records ever appended.
+     * @throws IOException          if the journal cannot be read or is damaged
+     *                              before its final record.
+     * @throws NullPointerException if an argument is {@code null}.
+     */
+    public static long replay(Path directory, Visitor visitor) throws IOException {
+        Objects.requireNonNull(directory, "Journal directory cannot be null");
+        Objects.requireNonNull(visitor, "Visitor cannot be null");
+        return scan(directory, -1, visitor, false);
+    }
+
+    // ===========================[ Accessor Methods ]=========================== \\
+
+    /**
+     * Retrieves the journal directory.
+     *
+     * @return the directory.
+     */
+    public Path directory() {
+        return directory;
+    }
+
+    /**
+     * Retrieves the sequence number the next record will be given.
+     *
+     * @return the number of records ever appended.
+     */
+    public long nextSequence() {
+        lock.lock();
+        try {
+            return nextSequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves the sequence number after the last record known to be on
+     * disk.
+     *
+     * @return the number of durable records.
+     */
+    public long durableSequence() {
+        return durableSequence;
+    }
+
+    /**
+     * Retrieves the number of batches forced to disk since the journal was
+     * opened, which is the number of {@code fsync} calls made for records.
+     *
+     * @return the batch count.
+     */
+    public long batchCount() {
+        return batchCount;
+    }
+
+    // =============================[ API Methods ]============================== \\
+
+    /**
+     * Appends an answer to the journal.
+     *
+     * @param time          the time of the answer, in epoch milliseconds.
+     * @param user          the user index.
+     * @param examCode      the exam.
+     * @param chapterNumber the chapter number.
+     * @param ordinal       the question's ordinal within the chapter.
+     * @param answerMask    the answer mask submitted.
+     * @return a future completed with the record's sequence number once the
+     *         record is on disk, or exceptionally if it cannot be written.
+     * @throws NullPointerException     if {@code examCode} is {@code null}.
+     * @throws IllegalArgumentException if the user, chapter number or ordinal
+     *                                  is out of range.
+     * @throws IllegalStateException    if the journal is closed.
+     */
+    public CompletableFuture<Long> append(long time, int user, ExamCode examCode, int chapterNumber, int ordinal, int answerMask) {
+        Objects.requireNonNull(examCode, "Exam code cannot be null");
+        if (user < 0) {
+            throw new IllegalArgumentException("Invalid user index: " + user);
+        }
+
+        if (chapterNumber < 0 || chapterNumber > SessionState.MAX_NUMBER) {
+            throw new IllegalArgumentException("Invalid chapter number: " + chapterNumber);
+        }
+
+        if (ordinal < 0 || ordinal > SessionState.MAX_NUMBER) {
+            throw new IllegalArgumentException("Invalid question ordinal: " + ordinal);
+        }
+
+        var future = new CompletableFuture<Long>();
+        lock.lock();
+        try {
+            while (filling.remaining() < RECORD_BYTES && !closed && failure == null) {
+                notFull.awaitUninterruptibly();
+            }
+
+            if (closed) {
+                throw new IllegalStateException("Journal is closed: " + directory);
+            }
+
+            if (failure != null) {
+                future.completeExceptionally(failure);
+                return future;
+            }
+
+            final int start = filling.position();
+            filling.putInt(PAYLOAD_BYTES)
+                   .putLong(time)
+                   .putInt(user)
+                   .putShort((short) examNumber(examCode))
+                   .putShort((short) chapterNumber)
+                   .putShort((short) ordinal)
+                   .putInt(answerMask);
+            checksum.reset();
+            checksum.update(filling.array(), filling.arrayOffset() + start + 4, PAYLOAD_BYTES);
+            filling.putInt((int) checksum.getValue());
+
+            waiting.add(future);
+            nextSequence++;
+            if (start == 0) {
+                notEmpty.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        return future;
+    }
+
+    /**
+     * Stops accepting records, waits until every record appended so far is on
+     * disk and closes the current segment. Closing a closed journal does
+     * nothing.
+     *
+     * @throws IOException if a batch could not be written, in which case its
+     *                     futures have failed too.
+     */
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+
+            closed = true;
+            notEmpty.signal();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            writer.join();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while closing journal " + directory);
+        }
+
+        channel.close();
+        lock.lock();
+        try {
+            if (failure != null) {
+                throw failure;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "AnswerJournal[directory=%s, durable=%d]".formatted(directory, durableSequence);
+    }
+
+    // ============================[ Helper Methods ]============================ \\
+
+    /**
+     * The writer thread's loop: swaps the buffers, writes and forces the full
+     * one and completes its futures, until the journal is closed and drained.
+     */
+    private void drain() {
+        try {
+            while (true) {
+                long first;
+                lock.lock();
+                try {
+                    while (filling.position() == 0 && !closed) {
+                        notEmpty.awaitUninterruptibly();
+                    }
+
+                    if (filling.position() == 0) {
+                        return;
+                    }
+
+                    ByteBuffer buffer = filling;
+                    filling           = draining;
+                    draining          = buffer;
+
+                    var futures = waiting;
+                    waiting     = completing;
+                    completing  = futures;
+                    first       = nextSequence - completing.size();
+                    notFull.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+
+                if (segmentSize >= segmentBytes) {
+                    channel.close();
+                    startSegment(first);
+                }
+
+                draining.flip();
+                segmentSize += draining.remaining();
+                while (draining.hasRemaining()) {
+                    channel.write(draining);
+                }
+
+                channel.force(false);
+                for (int start = 0; start < draining.limit(); start += RECORD_BYTES) {
+                    try {
+                        visit(draining, start, examCode(draining.getShort(start + 16)), visitor);
+                    } catch (RuntimeException ex) {
+                        // A failing visitor must not stop the journal
+                    }
+                }
+
+                draining.clear();
+                durableSequence = first + completing.size();
+                batchCount++;
+                for (int i = 0; i < completing.size(); i++) {
+                    completing.get(i).complete(first + i);
+                }
+
+                completing.clear();
+            }
+        } catch (IOException ex) {
+            fail(ex);
+        }
+    }
+
+    /**
+     * Fails every pending record after a write error and wakes any appender.
+     *
+     * @param ex the write error.
+     */
+    private void fail(IOException ex) {
+        lock.lock();
+        try {
+            failure = ex;
+            completing.forEach(future -> future.completeExceptionally(ex));
+            waiting.forEach(future -> future.completeExceptionally(ex));
+            completing.clear();
+            waiting.clear();
+            filling.clear();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Reopens the newest segment for appending if it has room and its records
+     * end just before the next sequence number, as they do once it has been
+     * scanned and repaired; otherwise starts a new segment. Called by the
+     * constructor.
+     *
+     * @param sequence the sequence number of the next record.
+     * @throws IOException if the segment cannot be opened or created.
+     */
+    private void openTail(long sequence) throws IOException {
+        List<Path> segments = segments(directory);
+        if (!segments.isEmpty()) {
+            Path tail = segments.get(segments.size() - 1);
+            long size = Files.size(tail);
+            if (size >= HEADER_BYTES && size < segmentBytes && (size - HEADER_BYTES) % RECORD_BYTES == 0
+                    && baseOf(tail) + (size - HEADER_BYTES) / RECORD_BYTES == sequence) {
+                channel     = FileChannel.open(tail, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+                segmentSize = size;
+                return;
+            }
+        }
+
+        startSegment(sequence);
+    }
+
+    /**
+     * Creates a segment, writes its header and makes its directory entry
+     * durable. Called by the constructor, then only by the writer thread.
+     *
+     * @param sequence the sequence number of the segment's first record.
+     * @throws IOException if the segment cannot be created.
+     */
+    private void startSegment(long sequence) throws IOException {
+        channel = FileChannel.open(segmentPath(directory, sequence), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).putInt(MAGIC).putInt(VERSION).putLong(sequence).flip();
+        while (header.hasRemaining()) {
+            channel.write(header);
+        }
+
+        channel.force(true);
+        segmentSize = HEADER_BYTES;
+        syncDirectory(directory);
+    }
+
+    /**
+     * Reads the segments of a journal in order.
+     *
+     * @param directory the journal directory.
+     * @param from      the sequence number of the first record to pass to the
+     *                  visitor, or {@code -1} to start at the first segment.
+     * @param visitor   receives every record from {@code from} on.
+     * @param repair    whether to truncate a torn final record.
+     * @return the sequence number after the last record.
+     * @throws IOException if a segment cannot be read, has a header of
+     *                     another format or is damaged before the end of the
+     *                     journal, or records from {@code from} on are
+     *                     missing.
+     */
+    private static long scan(Path directory, long from, Visitor visitor, boolean repair) throws IOException {
+        List<Path> segments = Files.isDirectory(directory) ? segments(directory) : List.of();
+        int first = 0;
+        while (from >= 0 && first + 1 < segments.size() && baseOf(segments.get(first + 1)) <= from) {
+            first++; // Every record in the segment is older than the snapshot
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(Math.max(RECORD_BYTES, DEFAULT_BUFFER_BYTES));
+        var checksum      = new CRC32C();
+        long sequence     = -1;
+        Path unfinished   = null;
+        for (int s = first; s < segments.size(); s++) {
+            Path segment = segments.get(s);
+            boolean last = s == segments.size() - 1;
+            try (var in = repair && last
+                    ? FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)
+                    : FileChannel.open(segment, StandardOpenOption.READ)) {
+                long size = in.size();
+                buffer.clear().limit(HEADER_BYTES);
+                while (buffer.hasRemaining() && in.read(buffer) >= 0) {
+                    // Read the whole header
+                }
+
+                buffer.flip();
+                if (buffer.remaining() < HEADER_BYTES || isZeroed(buffer)) {
+                    if (!last) {
+                        throw new IOException("Not a journal segment: " + segment);
+                    }
+
+                    // A crash while the segment was being created; deleted once closed
+                    if (repair) {
+                        unfinished = segment;
+                    }
+
+                    break;
+                }
+
+                // A complete header that is not ours is never repaired away
+                int magic   = buffer.getInt();
+                int version = buffer.getInt();
+                if (magic != MAGIC) {
+                    throw new IOException("Not a journal segment: " + segment);
+                }
+
+                if (version != VERSION) {
+                    throw new IOException("Unsupported journal version %d in %s".formatted(version, segment));
+                }
+
+                long base = buffer.getLong();
+                if (sequence >= 0 ? base != sequence : from >= 0 && base > from) {
+                    long missing = sequence >= 0 ? sequence : from;
+                    throw new IOException("Journal records %d to %d are missing before %s".formatted(missing, base - 1, segment));
+                }
+
+                sequence      = base;
+                long position = HEADER_BYTES;
+                buffer.clear();
+                boolean intact = true;
+                while (intact && in.read(buffer) >= 0) {
+                    buffer.flip();
+                    while (buffer.remaining() >= RECORD_BYTES) {
+                        final int start = buffer.position();
+                        if (buffer.getInt(start) != PAYLOAD_BYTES) {
+                            intact = false;
+                            break;
+                        }
+
+                        checksum.reset();
+                        checksum.update(buffer.array(), buffer.arrayOffset() + start + 4, PAYLOAD_BYTES);
+                        ExamCode examCode = examCode(buffer.getShort(start + 16));
+                        if (buffer.getInt(start + 4 + PAYLOAD_BYTES) != (int) checksum.getValue() || examCode == null) {
+                            intact = false;
+                            break;
+                        }
+
+                        if (sequence >= from) {
+                            visit(buffer, start, examCode, visitor);
+                        }
+
+                        buffer.position(start + RECORD_BYTES);
+                        position += RECORD_BYTES;
+                        sequence++;
+                    }
+
+                    buffer.compact();
+                }
+
+                if (position < size) {
+                    if (!last) {
+                        throw new IOException("Journal segment %s is damaged at byte %d".formatted(segment, position));
+                    }
+
+                    if (repair) {
+                        in.truncate(position);
+                        in.force(true);
+                    }
+                }
+            }
+        }
+
+        if (unfinished != null) {
+            Files.delete(unfinished);
+        }
+
+        if (from >= 0 && sequence >= 0 && sequence < from) {
+            throw new IOException("Journal records %d to %d are missing from %s".formatted(sequence, from - 1, directory));
+        }
+
+        return Math.max(sequence, Math.max(from, 0));
+    }
+
+    /**
+     * Tests whether the remaining bytes of a buffer are all zero, as in a
+     * segment header whose space was allocated but never written.
+     *
+     * @param buffer the buffer.
+     * @return {@code true} if every remaining byte is zero.
+     */
+    private static boolean isZeroed(ByteBuffer buffer) {
+        for (int i = buffer.position(); i < buffer.limit(); i++) {
+            if (buffer.get(i) != 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Passes the record at a position in a buffer to a visitor.
+     *
+     * @param buffer   the buffer.
+     * @param start    the position of the record's length.
+     * @param examCode the record's exam, already decoded.
+     * @param visitor  the visitor.
+     */
+    private static void visit(ByteBuffer buffer, int start, ExamCode examCode, Visitor visitor) {
+        visitor.accept(buffer.getLong(start + 4), buffer.getInt(start + 12), examCode,
+                Short.toUnsignedInt(buffer.getShort(start + 18)), Short.toUnsignedInt(buffer.getShort(start + 20)),
+                buffer.getInt(start + 22));
+    }
+
+    /**
+     * Deletes the segments whose records all come before a sequence number.
+     * The newest segment is never deleted.
+     *
+     * @param directory the journal directory.
+     * @param sequence  the sequence number.
+     * @return the number of segments deleted.
+     * @throws IOException if the directory cannot be listed or a segment
+     *                     cannot be deleted.
+     */
+    static int dropSegments(Path directory, long sequence) throws IOException {
+        List<Path> segments = segments(directory);
+        int dropped = 0;
+        while (dropped + 1 < segments.size() && baseOf(segments.get(dropped + 1)) <= sequence) {
+            Files.delete(segments.get(dropped++));
+        }
+
+        return dropped;
+    }
+
+    /**
+     * Lists the segments of a journal in sequence order.
+     *
+     * @param directory the journal directory.
+     * @return the segment files.
+     * @throws IOException if the directory cannot be listed.
+     */
+    static List<Path> segments(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                        .sorted() // Names are zero padded sequence numbers
+                        .toList();
+        }
+    }
+
+    /**
+     * Names the segment whose first record has a sequence number.
+     *
+     * @param directory the journal directory.
+     * @param sequence  the sequence number.
+     * @return the segment's path.
+     */
+    static Path segmentPath(Path directory, long sequence) {
+        return directory.resolve("%019d%s".formatted(sequence, SEGMENT_SUFFIX));
+    }
+
+    /**
+     * Reads the sequence number of a segment's first record from its name.
+     *
+     * @param segment the segment.
+     * @return the sequence number.
+     */
+    static long baseOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    /**
+     * Checks the segment and buffer sizes.
+     *
+     * @param segmentBytes the size after which a new segment is started.
+     * @param bufferBytes  the size of each append buffer.
+     * @throws IllegalArgumentException if a size is too small.
+     */
+    private static void checkSizes(long segmentBytes, int bufferBytes) {
+        if (segmentBytes <= HEADER_BYTES) {
+            throw new IllegalArgumentException("Invalid segment size: " + segmentBytes);
+        }
+
+        if (bufferBytes < RECORD_BYTES) {
+            throw new IllegalArgumentException("Invalid buffer size: " + bufferBytes);
+        }
+    }
+
+    /**
+     * Forces a directory's entries to disk, so a new file survives a crash.
+     * Not every platform can open a directory, in which case this does
+     * nothing.
+     *
+     * @param directory the directory.
+     */
+    static void syncDirectory(Path directory) {
+        try (var dir = FileChannel.open(directory, StandardOpenOption.READ)) {
+            dir.force(true);
+        } catch (IOException ex) {
+            // Best effort: the file's own contents are already forced
+        }
+    }
+
+    /**
+     * Retrieves the number of an exam's code, such as 829 for 1Z0-829.
+     *
+     * @param examCode the exam.
+     * @return the code number.
+     */
+    static int examNumber(ExamCode examCode) {
+        String code = examCode.getCode();
+        return Integer.parseInt(code.substring(code.indexOf('-') + 1));
+    }
+
+    /**
+     * Finds the exam with a code number.
+     *
+     * @param number the code number.
+     * @return the exam, or {@code null} if there is none.
+     */
+    static ExamCode examCode(int number) {
+        return number >= 0 && number < EXAMS_BY_NUMBER.length ? EXAMS_BY_NUMBER[number] : null;
+    }
+
+    // ============================[ Nested Types ]============================== \\
+
+    /**
+     * Receives the records of a journal as it is replayed.
+     */
+    @FunctionalInterface
+    public interface Visitor {
+
+        /**
+         * Receives one record.
+         *
+         * @param time          the time of the answer, in epoch milliseconds.
+         * @param user          the user index.
+         * @param examCode      the exam.
+         * @param chapterNumber the chapter number.
+         * @param ordinal       the question's ordinal within the chapter.
+         * @param answerMask    the answer mask submitted.
+         */
+        void accept(long time, int user, ExamCode examCode, int chapterNumber, int ordinal, int answerMask);
+
+    }
+
+}
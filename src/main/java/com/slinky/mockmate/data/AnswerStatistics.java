@@ -0,0 +1,317 @@
+package com.slinky.mockmate.data;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Live counts of how often each question is answered, answered correctly, and
+ * how often each of its choice letters is picked.
+ *
+ * <p>
+ * Questions are identified by dense question ids, such as those of
+ * {@link ExamGrader} or {@link AttributeIndex}. Counters are held in one
+ * {@link AtomicLongArray} split into <em>stripes</em>, each a complete table
+ * of every question's counters. A thread always records into the stripe its
+ * id hashes to, so threads rarely update the same counter and the stripes,
+ * which lie far apart in memory, do not share cache lines. This is the layout
+ * of {@link java.util.concurrent.atomic.LongAdder} applied to a whole table at
+ * once, without an object per counter. The number of stripes defaults to the
+ * next power of two at or above the number of processors, overridable with
+ * the {@code mockmate.stats.stripes} system property.
+ * </p>
+ * <p>
+ * Reads add up the stripes. A single counter costs one read per stripe, and
+ * {@link #snapshot()} copies every counter into a {@link StatisticsSnapshot}
+ * in one pass for dashboards. Reads are not atomic with respect to concurrent
+ * recording, so a snapshot taken under load may include part of an answer
+ * being recorded at that moment.
+ * </p>
+ * <p>
+ * Example usage:
+ * </p>
+ * <pre>{@code
+ * ExamGrader grader        = ExamGrader.of(exam);
+ * AnswerStatistics stats   = new AnswerStatistics(grader.questionCount());
+ * grader.grade(offsets, ids, masks, ScoringPolicy.allOrNothing(), stats);
+ * StatisticsSnapshot daily = stats.snapshot();
+ * double rate              = daily.correctRate(grader.questionId(1, 4));
+ * }</pre>
+ *
+ * @author Kheagen Haskins
+ */
+public final class AnswerStatistics {
+
+    // ================================[ Static ]================================ \\
+
+    /**
+     * The number of choice letters counted when none is given: A to H.
+     */
+    public static final int DEFAULT_CHOICES = 8;
+
+    /**
+     * The default number of stripes, overridable with the
+     * {@code mockmate.stats.stripes} system property.
+     */
+    private static final int DEFAULT_STRIPES = Integer.getInteger("mockmate.stats.stripes",
+            Math.min(64, Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1))));
+
+    /**
+     * The column of the answer and correct answer counts in a question's row;
+     * the choice letters follow.
+     */
+    static final int ANSWERED = 0, CORRECT = 1, PICKS = 2;
+
+    // ================================[ Fields ]================================ \\
+
+    /**
+     * The number of questions and of choice letters counted per question.
+     */
+    private final int questionCount, choiceCount;
+
+    /**
+     * The number of counters in a question's row, and in a stripe.
+     */
+    private final int rowWidth, stripeWidth;
+
+    /**
+     * The number of stripes less one; the stripe count is a power of two.
+     */
+    private final int stripeMask;
+
+    /**
+     * The counters: stripe by stripe, question by question, then
+     * {@link #ANSWERED}, {@link #CORRECT} and one pick count per letter.
+     */
+    private final AtomicLongArray counters;
+
+    // =============================[ Constructors ]============================= \\
+
+    /**
+     * Constructs empty statistics counting the letters A to H.
+     *
+     * @param questionCount the number of questions.
+     * @throws IllegalArgumentException if {@code questionCount} is negative.
+     */
+    public AnswerStatistics(int questionCount) {
+        this(questionCount, DEFAULT_CHOICES, DEFAULT_STRIPES);
+    }
+
+    /**
+     * Constructs empty statistics.
+     *
+     * @param questionCount the number of questions.
+     * @param choiceCount   the number of choice letters counted, from A; picks
+     *                      of later letters are not counted.
+     * @param stripes       the number of stripes, rounded up to a power of
+     *                      two.
+     * @throws IllegalArgumentException if a count is out of range or the
+     *                                  table would be too large.
+     */
+    public AnswerStatistics(int questionCount, int choiceCount, int stripes) {
+        if (questionCount < 0) {
+            throw new IllegalArgumentException("Invalid question count: " + questionCount);
+        }
+
+        if (choiceCount < 0 || choiceCount > 31) {
+            throw new IllegalArgumentException("Invalid choice count: " + choiceCount);
+        }
+
+        if (stripes <= 0 || stripes > 1 << 10) {
+            throw new IllegalArgumentException("Invalid stripe count: " + stripes);
+        }
+
+        final int stripeCount = Integer.highestOneBit(stripes * 2 - 1);
+        final long size       = (long) stripeCount * questionCount * (PICKS + choiceCount);
+        if (size > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many counters: " + size);
+        }
+
+        this.questionCount = questionCount;
+        this.choiceCount   = choiceCount;
+        this.rowWidth      = PICKS + choiceCount;
+        this.stripeWidth   = questionCount * rowWidth;
+        this.stripeMask    = stripeCount - 1;
+        this.counters      = new AtomicLongArray((int) size);
+    }
+
+    // ===========================[ Accessor Methods ]=========================== \\
+
+    /**
+     * Retrieves the number of questions counted.
+     *
+     * @return the question count.
+     */
+    public int questionCount() {
+        return questionCount;
+    }
+
+    /**
+     * Retrieves the number of choice letters counted per question.
+     *
+     * @return the choice count.
+     */
+    public int choiceCount() {
+        return choiceCount;
+    }
+
+    /**
+     * Retrieves the number of stripes.
+     *
+     * @return the stripe count.
+     */
+    public int stripeCount() {
+        return stripeMask + 1;
+    }
+
+    /**
+     * Retrieves how often a question has been answered.
+     *
+     * @param questionId the question id.
+     * @return the number of answers recorded.
+     * @throws IllegalArgumentException if the question id is out of range.
+     */
+    public long answered(int questionId) {
+        return sum(checkId(questionId), ANSWERED);
+    }
+
+    /**
+     * Retrieves how often a question has been answered correctly.
+     *
+     * @param questionId the question id.
+     * @return the number of correct answers recorded.
+     * @throws IllegalArgumentException if the question id is out of range.
+     */
+    public long correct(int questionId) {
+        return sum(checkId(questionId), CORRECT);
+    }
+
+    /**
+     * Retrieves how often a choice letter of a question has been picked.
+     *
+     * @param questionId the question id.
+     * @param choice     the choice letter.
+     * @return the number of answers that included the letter, or {@code 0}
+     *         if the letter is not counted.
+     * @throws IllegalArgumentException if the question id is out of range.
+     */
+    public long picks(int questionId, char choice) {
+        int letter = Character.toUpperCase(choice) - 'A';
+        return letter >= 0 && letter < choiceCount ? sum(checkId(questionId), PICKS + letter) : 0;
+    }
+
+    // =============================[ API Methods ]============================== \\
+
+    /**
+     * Grades an answer with {@link Question#isCorrect(char[])} and records it.
+     *
+     * @param questionId the question's id.
+     * @param question   the question.
+     * @param answers    the choice letters picked.
+     * @return {@code true} if the answer was correct.
+     * @throws IllegalArgumentException if the question id is out of range.
+     */
+    public boolean record(int questionId, Question question, char[] answers) {
+        boolean correct = question.isCorrect(answers);
+        add(questionId, ScoringPolicy.mask(answers), correct);
+        return correct;
+    }
+
+    /**
+     * Records an answer given as an answer mask, as graded by
+     * {@link ExamGrader}.
+     *
+     * @param questionId the question's id.
+     * @param key        the question's answer mask.
+     * @param submission the answer mask submitted.
+     * @throws IllegalArgumentException if the question id is out of range.
+     */
+    public void record(int questionId, int key, int submission) {
+        add(questionId, submission, submission == key);
+    }
+
+    /**
+     * Copies every counter, adding up the stripes.
+     *
+     * @return a snapshot of the statistics.
+     */
+    public StatisticsSnapshot snapshot() {
+        long[] totals = new long[stripeWidth];
+        for (int s = 0, base = 0; s <= stripeMask; s++, base += stripeWidth) {
+            for (int i = 0; i < stripeWidth; i++) {
+                totals[i] += counters.get(base + i);
+            }
+        }
+
+        return new StatisticsSnapshot(totals, questionCount, choiceCount);
+    }
+
+    @Override
+    public String toString() {
+        return "AnswerStatistics[questions=%d, choices=%d, stripes=%d]".formatted(questionCount, choiceCount, stripeCount());
+    }
+
+    // ============================[ Helper Methods ]============================ \\
+
+    /**
+     * Adds an answer to the calling thread's stripe.
+     *
+     * @param questionId the question id.
+     * @param mask       the answer mask submitted.
+     * @param correct    whether the answer was correct.
+     * @throws IllegalArgumentException if the question id is out of range.
+     */
+    private void add(int questionId, int mask, boolean correct) {
+        final int row = stripe() * stripeWidth + checkId(questionId) * rowWidth;
+        counters.getAndIncrement(row + ANSWERED);
+        if (correct) {
+            counters.getAndIncrement(row + CORRECT);
+        }
+
+        // Bit 31 marks an invalid letter and is never a counted choice
+        for (int bits = mask & ((1 << choiceCount) - 1); bits != 0; bits &= bits - 1) {
+            counters.getAndIncrement(row + PICKS + Integer.numberOfTrailingZeros(bits));
+        }
+    }
+
+    /**
+     * Adds up one counter over every stripe.
+     *
+     * @param questionId the question id.
+     * @param column     the counter's column.
+     * @return the total.
+     */
+    private long sum(int questionId, int column) {
+        long total = 0;
+        for (int i = questionId * rowWidth + column; i < counters.length(); i += stripeWidth) {
+            total += counters.get(i);
+        }
+
+        return total;
+    }
+
+    /**
+     * Picks the calling thread's stripe.
+     *
+     * @return the stripe index.
+     */
+    @SuppressWarnings("deprecation") // Thread.threadId() needs Java 19
+    private int stripe() {
+        long h = Thread.currentThread().getId() * 0x9E3779B97F4A7C15L;
+        return (int) (h >>> 32) & stripeMask;
+    }
+
+    /**
+     * Checks a question id.
+     *
+     * @param questionId the question id.
+     * @return the question id.
+     * @throws IllegalArgumentException if the question id is out of range.
+     */
+    private int checkId(int questionId) {
+        if (questionId < 0 || questionId >= questionCount) {
+            throw new IllegalArgumentException("Invalid question id: " + questionId);
+        }
+
+        return questionId;
+    }
+
+}
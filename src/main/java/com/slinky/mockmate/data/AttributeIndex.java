@@ -0,0 +1,378 @@
+package com.slinky.mockmate.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Bitmap indexes over the attributes of every question in one or more exams,
+ * for answering {@link QuestionFilter}s without touching {@link Question}
+ * objects.
+ *
+ * <p>
+ * The index numbers the questions of all its exams with dense, global
+ * <em>question ids</em>: the questions of the first exam chapter by chapter in
+ * chapter order, then those of the next exam, and so on. For each attribute
+ * value it keeps a {@link QuestionBitmap} of the ids that have it: the exam,
+ * the chapter number, whether the question has a code snippet, whether it has
+ * one or several answers, and its number of choices. A filter such as
+ * "multi-answer questions with code in chapters 1 to 3" is then a handful of
+ * bitmap operations, and the ids it selects map back to an exam, chapter and
+ * ordinal through primitive arrays.
+ * </p>
+ * <p>
+ * An index is a snapshot of its exams when it was built and does not change
+ * afterwards: it keeps the questions it indexed, so {@link #load} returns
+ * those even after a hot reload has swapped their chapter. It is immutable and
+ * thread-safe.
+ * </p>
+ * <p>
+ * Example usage:
+ * </p>
+ * <pre>{@code
+ * AttributeIndex index = AttributeIndex.buildAll();
+ * QuestionBitmap ids   = index.select(QuestionFilter.multiAnswer()
+ *         .and(QuestionFilter.withCode())
+ *         .and(QuestionFilter.chapters(1, 3)));
+ * ids.forEach(id -> System.out.println(index.chapterNumber(id) + "." + index.ordinal(id)));
+ * }</pre>
+ *
+ * @author Kheagen Haskins
+ */
+public final class AttributeIndex {
+
+    // ================================[ Fields ]================================ \\
+
+    /**
+     * The exam, chapter number and ordinal of each question, and the question
+     * as it was indexed, by question id.
+     */
+    private final ExamCode[] examOf;
+    private final int[] chapterOf;
+    private final int[] ordinalOf;
+    private final Question[] questionOf;
+
+    /**
+     * Every question id.
+     */
+    private final QuestionBitmap all;
+
+    /**
+     * The questions with a code snippet, with exactly one answer, and with
+     * several answers.
+     */
+    private final QuestionBitmap withCode, singleAnswer, multiAnswer;
+
+    /**
+     * The questions of each exam.
+     */
+    private final Map<ExamCode, QuestionBitmap> byExam;
+
+    /**
+     * The questions of each chapter number, across all exams, in chapter
+     * number order.
+     */
+    private final NavigableMap<Integer, QuestionBitmap> byChapter;
+
+    /**
+     * The questions with each number of choices.
+     */
+    private final Map<Integer, QuestionBitmap> byChoiceCount;
+
+    // =============================[ Constructors ]============================= \\
+
+    /**
+     * Builds the index, loading every chapter of every exam once through
+     * {@link Exam#loadSharedChapter(int)}.
+     *
+     * @param exams the exams to index, in question id order.
+     */
+    private AttributeIndex(Map<ExamCode, Exam> exams) {
+        List<ExamCode> examCodes = new ArrayList<>();
+        List<Chapter> chapters   = new ArrayList<>();
+        int total = 0;
+        for (var entry : exams.entrySet()) {
+            Exam exam = entry.getValue();
+            for (int c = 1; c <= exam.getChapterCount(); c++) {
+                Chapter chapter = exam.loadSharedChapter(c);
+                examCodes.add(entry.getKey());
+                chapters.add(chapter);
+                total += chapter.countQuestions();
+            }
+        }
+
+        this.examOf     = new ExamCode[total];
+        this.chapterOf  = new int[total];
+        this.ordinalOf  = new int[total];
+        this.questionOf = new Question[total];
+
+        var allIds      = new QuestionBitmap();
+        var codeIds     = new QuestionBitmap();
+        var singleIds   = new QuestionBitmap();
+        var multiIds    = new QuestionBitmap();
+        var examIds     = new EnumMap<ExamCode, QuestionBitmap>(ExamCode.class);
+        var chapterIds  = new TreeMap<Integer, QuestionBitmap>();
+        var choiceIds   = new HashMap<Integer, QuestionBitmap>();
+
+        int id = 0;
+        for (int c = 0; c < chapters.size(); c++) {
+            ExamCode examCode = examCodes.get(c);
+            Chapter chapter   = chapters.get(c);
+            List<Question> questions = chapter.getAllQuestions();
+            for (int p = 0; p < questions.size(); p++, id++) {
+                Question question = questions.get(p);
+                examOf[id]     = examCode;
+                chapterOf[id]  = chapter.getChapterNumber();
+                ordinalOf[id]  = question.ordinal();
+                questionOf[id] = question;
+
+                allIds.add(id);
+                examIds.computeIfAbsent(examCode, e -> new QuestionBitmap()).add(id);
+                chapterIds.computeIfAbsent(chapter.getChapterNumber(), n -> new QuestionBitmap()).add(id);
+                choiceIds.computeIfAbsent(question.choices().length, n -> new QuestionBitmap()).add(id);
+                if (question.hasCodeSnippet()) {
+                    codeIds.add(id);
+                }
+
+                int answers = Integer.bitCount(question.answerMask());
+                if (answers == 1) {
+                    singleIds.add(id);
+                } else if (answers > 1) {
+                    multiIds.add(id);
+                }
+            }
+        }
+
+        this.all           = allIds;
+        this.withCode      = codeIds;
+        this.singleAnswer  = singleIds;
+        this.multiAnswer   = multiIds;
+        this.byExam        = examIds;
+        this.byChapter     = chapterIds;
+        this.byChoiceCount = choiceIds;
+    }
+
+    /**
+     * Builds an index over a single exam.
+     *
+     * @param examCode the code of the exam.
+     * @param exam     the exam.
+     * @return a new index.
+     * @throws NullPointerException if either argument is {@code null}.
+     */
+    public static AttributeIndex of(ExamCode examCode, Exam exam) {
+        if (examCode == null || exam == null) {
+            throw new NullPointerException("Exam code and exam cannot be null.");
+        }
+
+        return new AttributeIndex(Map.of(examCode, exam));
+    }
+
+    /**
+     * Builds an index over every exam in {@link ExamCode} that has question
+     * data, loading each through {@link Exam#loadExam(ExamCode)}.
+     *
+     * @return a new index.
+     */
+    public static AttributeIndex buildAll() {
+        var exams = new EnumMap<ExamCode, Exam>(ExamCode.class);
+        for (ExamCode examCode : ExamCode.values()) {
+            if (ResourceIndex.get().contains(examCode)) {
+                exams.put(examCode, Exam.loadExam(examCode));
+            }
+        }
+
+        return new AttributeIndex(exams);
+    }
+
+    // ===========================[ Accessor Methods ]=========================== \\
+
+    /**
+     * Retrieves the number of indexed questions, one more than the largest
+     * question id.
+     *
+     * @return the number of questions.
+     */
+    public int size() {
+        return examOf.length;
+    }
+
+    /**
+     * Retrieves the exam of a question.
+     *
+     * @param id the question id.
+     * @return the question's exam.
+     * @throws IndexOutOfBoundsException if there is no such question.
+     */
+    public ExamCode examCode(int id) {
+        return examOf[id];
+    }
+
+    /**
+     * Retrieves the chapter number of a question.
+     *
+     * @param id the question id.
+     * @return the question's chapter number.
+     * @throws IndexOutOfBoundsException if there is no such question.
+     */
+    public int chapterNumber(int id) {
+        return chapterOf[id];
+    }
+
+    /**
+     * Retrieves the ordinal of a question within its chapter.
+     *
+     * @param id the question id.
+     * @return the question's ordinal.
+     * @throws IndexOutOfBoundsException if there is no such question.
+     */
+    public int ordinal(int id) {
+        return ordinalOf[id];
+    }
+
+    /**
+     * Retrieves every question id.
+     *
+     * @return the bitmap of all questions.
+     */
+    public QuestionBitmap all() {
+        return all;
+    }
+
+    /**
+     * Retrieves the questions of an exam.
+     *
+     * @param examCode the exam.
+     * @return the exam's questions; empty if the exam is not indexed.
+     */
+    public QuestionBitmap exam(ExamCode examCode) {
+        return byExam.getOrDefault(examCode, QuestionBitmap.EMPTY);
+    }
+
+    /**
+     * Retrieves the questions of a chapter number, in every indexed exam.
+     *
+     * @param chapterNumber the chapter number.
+     * @return the chapter's questions; empty if no exam has the chapter.
+     */
+    public QuestionBitmap chapter(int chapterNumber) {
+        return byChapter.getOrDefault(chapterNumber, QuestionBitmap.EMPTY);
+    }
+
+    /**
+     * Retrieves the questions of a range of chapter numbers, in every indexed
+     * exam. Only the chapter numbers that occur in the index are visited, so
+     * the cost does not depend on the width of the range.
+     *
+     * @param from the first chapter number, inclusive.
+     * @param to   the last chapter number, inclusive.
+     * @return the questions of the chapters in the range; empty if there are
+     *         none.
+     * @throws IllegalArgumentException if {@code from} is greater than
+     *                                  {@code to}.
+     */
+    public QuestionBitmap chapters(int from, int to) {
+        if (from > to) {
+            throw new IllegalArgumentException("Invalid chapter range: %d to %d".formatted(from, to));
+        }
+
+        QuestionBitmap ids = QuestionBitmap.EMPTY;
+        for (QuestionBitmap chapter : byChapter.subMap(from, true, to, true).values()) {
+            ids = ids.or(chapter);
+        }
+
+        return ids;
+    }
+
+    /**
+     * Retrieves the questions with a code snippet.
+     *
+     * @return the questions for which {@link Question#hasCodeSnippet()} holds.
+     */
+    public QuestionBitmap withCode() {
+        return withCode;
+    }
+
+    /**
+     * Retrieves the questions with exactly one correct answer.
+     *
+     * @return the single-answer questions.
+     */
+    public QuestionBitmap singleAnswer() {
+        return singleAnswer;
+    }
+
+    /**
+     * Retrieves the questions with more than one correct answer.
+     *
+     * @return the multi-answer questions.
+     */
+    public QuestionBitmap multiAnswer() {
+        return multiAnswer;
+    }
+
+    /**
+     * Retrieves the questions with a given number of choices.
+     *
+     * @param count the number of choices.
+     * @return the matching questions; empty if there are none.
+     */
+    public QuestionBitmap choiceCount(int count) {
+        return byChoiceCount.getOrDefault(count, QuestionBitmap.EMPTY);
+    }
+
+    // =============================[ API Methods ]============================== \\
+
+    /**
+     * Selects the questions matching a filter.
+     *
+     * @param filter the filter.
+     * @return the ids of the matching questions.
+     * @throws NullPointerException if {@code filter} is {@code null}.
+     */
+    public QuestionBitmap select(QuestionFilter filter) {
+        if (filter == null) {
+            throw new NullPointerException("Filter cannot be null.");
+        }
+
+        return filter.apply(this);
+    }
+
+    /**
+     * Counts the questions matching a filter.
+     *
+     * @param filter the filter.
+     * @return the number of matching questions.
+     * @throws NullPointerException if {@code filter} is {@code null}.
+     */
+    public int count(QuestionFilter filter) {
+        return select(filter).cardinality();
+    }
+
+    /**
+     * Loads the questions with the given ids, as they were when the index was
+     * built, so that every question has the attributes it was selected by.
+     *
+     * @param ids the question ids.
+     * @return the questions, in ascending id order.
+     * @throws IndexOutOfBoundsException if an id is not in the index.
+     */
+    public List<Question> load(QuestionBitmap ids) {
+        Question[] questions = new Question[ids.cardinality()];
+        int[] n              = new int[1];
+        ids.forEach(id -> questions[n[0]++] = questionOf[id]);
+
+        return Arrays.asList(questions);
+    }
+
+    @Override
+    public String toString() {
+        return "AttributeIndex[questions=%d, exams=%s]".formatted(size(), byExam.keySet());
+    }
+
+}
@@ -0,0 +1,242 @@
+package com.slinky.mockmate.data;
+
+import java.io.IOException;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntPredicate;
+
+/**
+ * An {@link Exam} served from a compiled {@link ExamBundle}, either mapped from
+ * the classpath or packed into a direct buffer at runtime.
+ *
+ * <p>
+ * Loading a chapter neither opens resources nor parses JSON: the returned
+ * chapter holds {@link BundledQuestion} views whose fields are read from the
+ * mapped buffer on demand. Each question record has a single view, shared by
+ * every chapter that holds it. Every call to {@link #loadChapter(int)} returns
+ * a separate {@link Chapter}, so callers can navigate and modify their copy
+ * independently. {@link #loadSharedChapter(int)} builds each chapter once and
+ * returns views of the same frozen instance afterwards.
+ * </p>
+ * <p>
+ * Example usage:
+ * </p>
+ * <pre>{@code
+ * Exam exam = Exam.mapExam(ExamCode.EXAM_CODE_1Z0_829);
+ * Chapter chapter = exam.loadChapter(1);
+ * }</pre>
+ *
+ * @author Kheagen Haskins
+ */
+final class BundledExam implements Exam {
+
+    // ================================[ Fields ]================================ \\
+
+    /**
+     * The code representing the exam.
+     */
+    private final ExamCode examCode;
+
+    /**
+     * The mapped bundle.
+     */
+    private final ExamBundle bundle;
+
+    /**
+     * The frozen, shared instance of each chapter, by chapter record index,
+     * built on first use.
+     */
+    private final AtomicReferenceArray<ChapterData> sharedChapters;
+
+    // =============================[ Constructors ]============================= \\
+
+    /**
+     * Constructs an exam over an opened bundle.
+     *
+     * @param examCode the code of the exam.
+     * @param bundle   the bundle holding the exam's chapters.
+     * @throws IllegalArgumentException if the bundle belongs to another exam.
+     */
+    BundledExam(ExamCode examCode, ExamBundle bundle) {
+        if (!examCode.getCode().equals(bundle.examCode())) {
+            throw new IllegalArgumentException("Bundle for %s does not match %s".formatted(bundle.examCode(), examCode.getCode()));
+        }
+
+        this.examCode  = examCode;
+        this.bundle    = bundle;
+        sharedChapters = new AtomicReferenceArray<>(bundle.chapterCount());
+    }
+
+    /**
+     * Maps the compiled bundle for the given exam from the classpath.
+     *
+     * @param examCode the exam to map.
+     * @return the mapped exam.
+     * @throws IllegalArgumentException if no bundle exists for the exam.
+     */
+    static Exam map(ExamCode examCode) {
+        try {
+            return new BundledExam(examCode, ExamBundle.load(examCode));
+        } catch (IOException ex) {
+            throw new RuntimeException("IO Error: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Loads an exam from its question packs and packs it into a bundle held
+     * outside the Java heap.
+     *
+     * @param examCode the exam to pack.
+     * @return the packed exam.
+     * @throws IllegalArgumentException if there is no data for the exam.
+     */
+    static Exam pack(ExamCode examCode) {
+        return new BundledExam(examCode, ExamBundle.pack(Exam.loadExam(examCode)));
+    }
+
+    // ===========================[ Accessor Methods ]=========================== \\
+
+    @Override
+    public String getExamCode() {
+        return examCode.getCode();
+    }
+
+    @Override
+    public String getJavaVersion() {
+        return examCode.getJavaVersion();
+    }
+
+    @Override
+    public int getChapterCount() {
+        return bundle.chapterCount();
+    }
+
+    @Override
+    public String getChapterTitle(int chapterNumber) {
+        return bundle.chapterTitle(indexOf(chapterNumber));
+    }
+
+    @Override
+    public int getQuestionCount(int chapterNumber) {
+        return bundle.chapterQuestionCount(indexOf(chapterNumber));
+    }
+
+    // =============================[ API Methods ]============================== \\
+
+    /**
+     * Loads a specific chapter of the exam from the mapped bundle.
+     *
+     * @param chapterNumber the number of the chapter to load.
+     * @return a {@link Chapter} holding views of the chapter's questions.
+     */
+    @Override
+    public Chapter loadChapter(int chapterNumber) {
+        return buildChapter(indexOf(chapterNumber));
+    }
+
+    /**
+     * Loads a view of the shared instance of a chapter, building the chapter
+     * from the bundle on first use.
+     *
+     * @param chapterNumber the number of the chapter to load.
+     * @return a new view of the shared, immutable chapter.
+     */
+    @Override
+    public Chapter loadSharedChapter(int chapterNumber) {
+        final int index = indexOf(chapterNumber);
+        var chapter = sharedChapters.get(index);
+        if (chapter == null) {
+            // Concurrent first loads may each build the chapter, but only one is published
+            sharedChapters.compareAndSet(index, null, buildChapter(index).freeze());
+            chapter = sharedChapters.get(index);
+        }
+
+        return new SharedChapter(chapter);
+    }
+
+    /**
+     * Loads a specific chapter of the exam on the given executor. Building a
+     * chapter from the bundle does no I/O, so this is only useful to keep the
+     * calling thread free.
+     *
+     * @param chapterNumber the number of the chapter to load.
+     * @param executor      the executor to run the load on.
+     * @return a future completed with the loaded chapter.
+     */
+    @Override
+    public CompletableFuture<Chapter> loadChapterAsync(int chapterNumber, Executor executor) {
+        indexOf(chapterNumber);
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor cannot be null");
+        }
+
+        return CompletableFuture.supplyAsync(() -> loadChapter(chapterNumber), executor);
+    }
+
+    /**
+     * Draws a seeded random selection of questions. Each chosen question is a
+     * view of its record in the bundle; no chapter is built.
+     *
+     * @param n             the number of questions wanted.
+     * @param chapterFilter selects the chapters to draw from.
+     * @param seed          the seed of the draw.
+     * @return the chosen questions in draw order.
+     */
+    @Override
+    public List<Question> sample(int n, IntPredicate chapterFilter, long seed) {
+        final int[][] drawn = QuestionSampler.draw(this, n, chapterFilter, seed);
+        final var questions = new Question[drawn.length];
+        for (int i = 0; i < drawn.length; i++) {
+            questions[i] = bundle.question(bundle.firstQuestion(indexOf(drawn[i][0])) + drawn[i][1]);
+        }
+
+        return List.of(questions);
+    }
+
+    // ============================[ Helper Methods ]============================ \\
+
+    /**
+     * Builds a chapter holding views of a chapter record's questions.
+     *
+     * @param index the zero-based index of the chapter record.
+     * @return the new chapter.
+     */
+    private ChapterData buildChapter(int index) {
+        final int first   = bundle.firstQuestion(index);
+        final int count   = bundle.chapterQuestionCount(index);
+        final var chapter = new ChapterData(bundle.chapterNumber(index), bundle.chapterTitle(index));
+
+        for (int i = 0; i < count; i++) {
+            chapter.addQuestion(bundle.question(first + i));
+        }
+
+        return chapter;
+    }
+
+    /**
+     * Finds the chapter record holding the given chapter number.
+     *
+     * @param chapterNumber the chapter number.
+     * @return the zero-based index of the chapter record.
+     * @throws IllegalArgumentException if the bundle has no such chapter.
+     */
+    private int indexOf(int chapterNumber) {
+        // Chapters are compiled in order, so the record is normally at number - 1
+        final int count = bundle.chapterCount();
+        if (chapterNumber > 0 && chapterNumber <= count && bundle.chapterNumber(chapterNumber - 1) == chapterNumber) {
+            return chapterNumber - 1;
+        }
+
+        for (int i = 0; i < count; i++) {
+            if (bundle.chapterNumber(i) == chapterNumber) {
+                return i;
+            }
+        }
+
+        throw new IllegalArgumentException("Invalid chapter number: " + chapterNumber);
+    }
+
+}
@@ -0,0 +1,204 @@
+package com.slinky.mockmate.data;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A flyweight {@link Question} that reads its fields straight out of a
+ * compiled bundle buffer.
+ *
+ * <p>
+ * Only the buffer and a few offsets are held on the heap. Numeric fields are
+ * read on every call and strings are decoded from UTF-8 on every call, so
+ * callers that read the same text repeatedly should keep the result. The
+ * question record is laid out as:
+ * </p>
+ * <pre>
+ *   int   ordinal
+ *   int   questionTextRef
+ *   int   codeSnippetRef      or -1 when there is no snippet
+ *   int   firstChoice         index into the choice table
+ *   short choiceCount
+ *   short flags               bit 0: has a non-blank code snippet
+ *   int   answerMask          bit n set when choice 'A' + n is correct
+ * </pre>
+ * <p>
+ * Because the answer key is stored as a bit mask, {@link #answers()} returns
+ * the correct answers in alphabetical order rather than the order they were
+ * written in the source file. The choices are decoded and indexed once, on the
+ * first call to {@link #getOrdinalOf(String)}.
+ * </p>
+ *
+ * @author Kheagen Haskins
+ * @see ExamBundle
+ */
+final class BundledQuestion implements Question {
+
+    // ================================[ Static ]================================ \\
+
+    /**
+     * Size of a question record in bytes.
+     */
+    static final int RECORD_SIZE = 24;
+
+    /**
+     * Flag set when the question has a non-blank code snippet.
+     */
+    static final short FLAG_HAS_CODE = 1;
+
+    // ================================[ Fields ]================================ \\
+
+    /**
+     * The buffer holding the record, choice table and string table.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * Absolute offsets of this question's record, the choice table and the
+     * string table.
+     */
+    private final int record, choiceTable, stringTable;
+
+    /**
+     * The index of this question's decoded choices, built on the first lookup.
+     */
+    private volatile ChoiceIndex choiceIndex;
+
+    // =============================[ Constructors ]============================= \\
+
+    /**
+     * Constructs a view of the question record at the given offset.
+     *
+     * @param buffer      the buffer holding the bundle.
+     * @param record      the absolute offset of the question record.
+     * @param choiceTable the absolute offset of the choice table.
+     * @param stringTable the absolute offset of the string table.
+     */
+    BundledQuestion(ByteBuffer buffer, int record, int choiceTable, int stringTable) {
+        this.buffer      = buffer;
+        this.record      = record;
+        this.choiceTable = choiceTable;
+        this.stringTable = stringTable;
+    }
+
+    // ===========================[ Accessor Methods ]=========================== \\
+
+    @Override
+    public int ordinal() {
+        return buffer.getInt(record);
+    }
+
+    @Override
+    public String questionText() {
+        return string(buffer.getInt(record + 4));
+    }
+
+    @Override
+    public String codeSnippet() {
+        return string(buffer.getInt(record + 8));
+    }
+
+    @Override
+    public String[] choices() {
+        final int first    = buffer.getInt(record + 12);
+        final String[] out = new String[choiceCount()];
+        for (int i = 0; i < out.length; i++) {
+            out[i] = choice(first, i);
+        }
+
+        return out;
+    }
+
+    @Override
+    public char[] answers() {
+        final int mask    = answerMask();
+        final char[] out  = new char[Integer.bitCount(mask)];
+        int next          = 0;
+        for (int bit = 0; bit < Integer.SIZE && next < out.length; bit++) {
+            if ((mask & (1 << bit)) != 0) {
+                out[next++] = (char) ('A' + bit);
+            }
+        }
+
+        return out;
+    }
+
+    @Override
+    public int answerMask() {
+        return buffer.getInt(record + 20);
+    }
+
+    /**
+     * Retrieves the buffer this view reads from.
+     *
+     * @return the bundle buffer.
+     */
+    ByteBuffer buffer() {
+        return buffer;
+    }
+
+    /**
+     * Retrieves the offset of the record this view reads.
+     *
+     * @return the absolute offset of the question record.
+     */
+    int record() {
+        return record;
+    }
+
+    // =============================[ API Methods ]============================== \\
+
+    @Override
+    public boolean hasCodeSnippet() {
+        return (buffer.getShort(record + 18) & FLAG_HAS_CODE) != 0;
+    }
+
+    @Override
+    public char getOrdinalOf(String answer) {
+        var index = choiceIndex;
+        if (index == null) {
+            // Racing threads may each build an index; they are equivalent, so any one may win
+            index       = new ChoiceIndex(choices());
+            choiceIndex = index;
+        }
+
+        return index.ordinalOf(answer);
+    }
+
+    @Override
+    public String toString() {
+        return RenderCache.shared().render(this, RenderStyle.FULL);
+    }
+
+    // ============================[ Helper Methods ]============================ \\
+
+    /**
+     * Reads the number of choices.
+     *
+     * @return the choice count.
+     */
+    private int choiceCount() {
+        return buffer.getShort(record + 16);
+    }
+
+    /**
+     * Decodes one of this question's choices.
+     *
+     * @param first the index of the question's first choice table entry.
+     * @param i     the zero-based choice index.
+     * @return the decoded choice.
+     */
+    private String choice(int first, int i) {
+        return string(buffer.getInt(choiceTable + (first + i) * ExamBundle.CHOICE_RECORD_SIZE));
+    }
+
+    /**
+     * Decodes a string from the string table.
+     *
+     * @param ref the string reference.
+     * @return the decoded string, or {@code null} for {@link ExamBundle#NO_STRING}.
+     */
+    private String string(int ref) {
+        return ExamBundle.decodeString(buffer, stringTable, ref);
+    }
+
+}
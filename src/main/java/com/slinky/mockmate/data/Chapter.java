@@ -10,6 +10,15 @@ import java.util.List;
  * This interface defines methods for retrieving chapter details, managing
  * questions, and navigating through questions sequentially.
  * </p>
+ * <p>
+ * A chapter may be shared, as returned by {@link Exam#loadSharedChapter(int)}.
+ * The questions of a shared chapter are immutable and safe to use from many
+ * threads, and the chapter cannot be modified. Each view returned by
+ * {@link Exam#loadSharedChapter(int)} has its own position for
+ * {@link #nextQuestion()} and {@link #previousQuestion()}; a user can also
+ * navigate with their own {@link ChapterCursor}, either in file order with
+ * {@link #cursor()} or adaptively with {@link #adaptiveCursor(double[])}.
+ * </p>
  *
  * @author Kheagen Haskins
  */
@@ -40,6 +49,7 @@ public interface Chapter {
      * Adds a question to the chapter.
      *
      * @param question the question to add.
+     * @throws UnsupportedOperationException if the chapter is shared.
      */
     void addQuestion(Question question);
 
@@ -49,6 +59,7 @@ public interface Chapter {
      * @param ordinal the ordinal value of the question to remove.
      * @return {@code true} if the question was removed successfully;
      * {@code false} otherwise.
+     * @throws UnsupportedOperationException if the chapter is shared.
      */
     boolean removeQuestion(int ordinal);
 
@@ -91,4 +102,35 @@ public interface Chapter {
      */
     List<Question> getAllQuestions();
 
+    /**
+     * Creates a cursor over the chapter's current questions, starting at the
+     * first question.
+     *
+     * @return a new cursor.
+     */
+    ChapterCursor cursor();
+
+    /**
+     * Creates a cursor that picks each new question to learn the most about
+     * the learner's ability, using a Rasch model of the chapter's current
+     * questions.
+     *
+     * <p>
+     * Each call builds a new {@link ItemBank}. To serve many learners from the
+     * same parameters, build the bank once with
+     * {@link ItemBank#of(Chapter, double[])} and call
+     * {@link ItemBank#cursor()} for each learner.
+     * </p>
+     *
+     * @param difficulties the difficulty of each question, in the order of
+     *                     {@link #getAllQuestions()}, on the logit scale.
+     * @return a new adaptive cursor.
+     * @throws IllegalArgumentException if the number of difficulties does not
+     *                                  match the number of questions, or a
+     *                                  difficulty is not finite.
+     */
+    default AdaptiveCursor adaptiveCursor(double[] difficulties) {
+        return ItemBank.of(this, difficulties).cursor();
+    }
+
 }
\ No newline at end of file
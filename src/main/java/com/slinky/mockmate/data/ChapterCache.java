@@ -0,0 +1,484 @@
+package com.slinky.mockmate.data;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * A bounded, thread-safe cache of parsed chapters shared between {@link Exam}
+ * instances.
+ *
+ * <p>
+ * Entries are keyed by {@link ExamCode} and chapter number and are evicted in
+ * least-recently-used order once either the chapter limit or the weight limit
+ * is exceeded. The weight of a chapter is its question count. Concurrent misses
+ * for the same chapter are coalesced so that a chapter is only parsed once, no
+ * matter how many callers ask for it at the same time.
+ * </p>
+ * <p>
+ * Cached chapters are never handed out directly. Callers receive their own
+ * {@link ChapterData} built over the cached question list, so navigation state
+ * and edits made by one caller are never visible to another.
+ * </p>
+ * <p>
+ * A {@link QuestionBankWatcher} can swap a new version of a chapter in with
+ * {@link #replace(ExamCode, int, ChapterData)}. Swapped in chapters take
+ * precedence over the packs they were first loaded from, are read without
+ * taking the cache lock, and are not evicted: only chapters listed in the
+ * {@link ResourceIndex} can be swapped in, so they are bounded by the chapters
+ * of the bundled exams, and {@link #clear()} forgets them.
+ * </p>
+ * <p>
+ * Example usage:
+ * </p>
+ * <pre>{@code
+ * var cache = new ChapterCache(16, 2_000);
+ * var exam  = Exam.loadExam(ExamCode.EXAM_CODE_1Z0_829, cache);
+ * exam.loadChapter(1);
+ * exam.loadChapter(1);
+ * System.out.println(cache.hitCount()); // 1
+ * }</pre>
+ *
+ * @author Kheagen Haskins
+ */
+public final class ChapterCache {
+
+    // ================================[ Static ]================================ \\
+
+    /**
+     * Default maximum number of cached chapters, overridable with the
+     * {@code mockmate.cache.maxChapters} system property.
+     */
+    private static final int DEFAULT_MAX_CHAPTERS = Integer.getInteger("mockmate.cache.maxChapters", 64);
+
+    /**
+     * Default maximum total number of cached questions, overridable with the
+     * {@code mockmate.cache.maxQuestions} system property.
+     */
+    private static final int DEFAULT_MAX_WEIGHT = Integer.getInteger("mockmate.cache.maxQuestions", 10_000);
+
+    /**
+     * The cache used by {@link Exam#loadExam(ExamCode)}.
+     */
+    private static final ChapterCache SHARED = new ChapterCache(DEFAULT_MAX_CHAPTERS, DEFAULT_MAX_WEIGHT);
+
+    // ================================[ Fields ]================================ \\
+
+    /**
+     * The maximum number of chapters held at once.
+     */
+    private final int maxChapters;
+
+    /**
+     * The maximum total weight (question count) held at once.
+     */
+    private final long maxWeight;
+
+    /**
+     * Cached chapters in access order, eldest first. Guarded by {@code this}.
+     */
+    private final LinkedHashMap<Key, ChapterData> entries;
+
+    /**
+     * Loads currently in progress, used to coalesce concurrent misses.
+     */
+    private final Map<Key, CompletableFuture<ChapterData>> inFlight;
+
+    /**
+     * The latest version of each chapter swapped in by a reload, at most one
+     * per chapter in the {@link ResourceIndex}.
+     */
+    private final Map<Key, ChapterData> reloaded;
+
+    /**
+     * Notified of every chapter loaded on a miss.
+     */
+    private final List<BiConsumer<ExamCode, ? super Chapter>> loadListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * The current total weight of all cached chapters. Guarded by {@code this}.
+     */
+    private long weight;
+
+    /**
+     * Statistics counters. Guarded by {@code this}.
+     */
+    private long hits, misses, evictions;
+
+    // =============================[ Constructors ]============================= \\
+
+    /**
+     * Constructs a new, empty {@code ChapterCache}.
+     *
+     * @param maxChapters the maximum number of chapters to hold; must be
+     *                    positive.
+     * @param maxWeight   the maximum total number of questions to hold; must be
+     *                    positive.
+     * @throws IllegalArgumentException if either limit is not positive.
+     */
+    public ChapterCache(int maxChapters, long maxWeight) {
+        if (maxChapters <= 0) {
+            throw new IllegalArgumentException("Invalid chapter limit: " + maxChapters);
+        }
+
+        if (maxWeight <= 0) {
+            throw new IllegalArgumentException("Invalid weight limit: " + maxWeight);
+        }
+
+        this.maxChapters = maxChapters;
+        this.maxWeight   = maxWeight;
+        entries          = new LinkedHashMap<>(16, 0.75f, true);
+        inFlight         = new ConcurrentHashMap<>();
+        reloaded         = new ConcurrentHashMap<>();
+    }
+
+    // ===========================[ Accessor Methods ]=========================== \\
+
+    /**
+     * Retrieves the cache shared by all exams loaded through
+     * {@link Exam#loadExam(ExamCode)}.
+     *
+     * @return the shared {@code ChapterCache}.
+     */
+    public static ChapterCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Retrieves the number of lookups served from the cache.
+     *
+     * @return the hit count.
+     */
+    public synchronized long hitCount() {
+        return hits;
+    }
+
+    /**
+     * Retrieves the number of chapters loaded on a miss. Callers that waited
+     * for a load another caller had already started are not counted.
+     *
+     * @return the miss count.
+     */
+    public synchronized long missCount() {
+        return misses;
+    }
+
+    /**
+     * Retrieves the number of chapters evicted to stay within the limits.
+     *
+     * @return the eviction count.
+     */
+    public synchronized long evictionCount() {
+        return evictions;
+    }
+
+    /**
+     * Retrieves the number of chapters currently cached.
+     *
+     * @return the number of cached chapters.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Retrieves the total number of questions currently cached.
+     *
+     * @return the current weight of the cache.
+     */
+    public synchronized long weight() {
+        return weight;
+    }
+
+    // =============================[ API Methods ]============================== \\
+
+    /**
+     * Removes every cached chapter, including chapters swapped in by a reload,
+     * so that each is loaded from its pack again. Statistics counters are left
+     * untouched.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        reloaded.clear();
+        weight = 0;
+    }
+
+    /**
+     * Registers a listener notified of every chapter this cache loads from now
+     * on, such as a {@link SearchIndex} that indexes chapters as they arrive.
+     *
+     * <p>
+     * The listener receives the shared, immutable chapter on the thread that
+     * completed the load, after callers waiting for the chapter have been
+     * given it. An exception thrown by the listener does not affect the load.
+     * </p>
+     *
+     * @param listener receives the exam code and chapter of each load.
+     * @throws NullPointerException if {@code listener} is {@code null}.
+     */
+    public void addLoadListener(BiConsumer<ExamCode, ? super Chapter> listener) {
+        if (listener == null) {
+            throw new NullPointerException("Load listener cannot be null.");
+        }
+
+        loadListeners.add(listener);
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "ChapterCache[size=%d, weight=%d, hits=%d, misses=%d, evictions=%d]"
+                .formatted(entries.size(), weight, hits, misses, evictions);
+    }
+
+    /**
+     * Retrieves a chapter from the cache, loading it with the given loader on a
+     * miss.
+     *
+     * <p>
+     * The loader runs on the calling thread, outside the cache lock. If several
+     * threads miss on the same chapter at once, only one of them runs the loader
+     * and the others wait for its result.
+     * </p>
+     *
+     * @param examCode      the exam the chapter belongs to.
+     * @param chapterNumber the number of the chapter.
+     * @param loader        produces the chapter on a miss.
+     * @return the cached or freshly loaded chapter; never {@code null}.
+     */
+    ChapterData get(ExamCode examCode, int chapterNumber, Supplier<ChapterData> loader) {
+        return await(getAsync(examCode, chapterNumber, () -> CompletableFuture.completedFuture(loader.get())));
+    }
+
+    /**
+     * Retrieves a chapter from the cache, starting an asynchronous load with the
+     * given loader on a miss.
+     *
+     * <p>
+     * Concurrent misses for the same chapter share a single load, whether they
+     * come through this method or through
+     * {@link #get(ExamCode, int, Supplier)}. A failed load is not cached.
+     * </p>
+     * <p>
+     * A chapter swapped in with {@link #replace(ExamCode, int, ChapterData)}
+     * is returned without taking the cache lock and is not counted as a hit.
+     * </p>
+     *
+     * @param examCode      the exam the chapter belongs to.
+     * @param chapterNumber the number of the chapter.
+     * @param loader        starts loading the chapter on a miss.
+     * @return a future completed with the cached or freshly loaded chapter.
+     */
+    CompletableFuture<ChapterData> getAsync(ExamCode examCode, int chapterNumber,
+                                            Supplier<CompletableFuture<ChapterData>> loader) {
+        final Key key = new Key(examCode, chapterNumber);
+
+        var current = reloaded.get(key);
+        if (current != null) {
+            return CompletableFuture.completedFuture(current);
+        }
+
+        synchronized (this) {
+            var chapter = entries.get(key);
+            if (chapter != null) {
+                hits++;
+                return CompletableFuture.completedFuture(chapter);
+            }
+        }
+
+        var pending  = new CompletableFuture<ChapterData>();
+        var existing = inFlight.putIfAbsent(key, pending);
+        if (existing != null) {
+            return existing;
+        }
+
+        // A load that finished between the lookup above and claiming the key
+        // has already published its chapter, so it must not be loaded again
+        synchronized (this) {
+            var chapter = entries.get(key);
+            if (chapter == null) {
+                misses++;
+            } else {
+                hits++;
+                inFlight.remove(key, pending);
+                pending.complete(chapter);
+                return pending;
+            }
+        }
+
+        CompletableFuture<ChapterData> load;
+        try {
+            load = loader.get();
+        } catch (RuntimeException ex) {
+            load = CompletableFuture.failedFuture(ex);
+        }
+
+        load.whenComplete((chapter, ex) -> {
+            if (ex == null) {
+                put(key, chapter);
+            }
+
+            // Only forget the load once the result is visible in the cache
+            inFlight.remove(key, pending);
+
+            if (ex == null) {
+                pending.complete(chapter);
+                notifyLoaded(key.examCode(), chapter);
+            } else {
+                pending.completeExceptionally(ex);
+            }
+        });
+
+        return pending;
+    }
+
+    /**
+     * Retrieves a chapter only if it is already cached. A chapter found this
+     * way counts as recently used, but neither a hit nor a miss is recorded.
+     *
+     * @param examCode      the exam the chapter belongs to.
+     * @param chapterNumber the number of the chapter.
+     * @return the cached chapter, or {@code null} if it is not cached.
+     */
+    ChapterData getIfPresent(ExamCode examCode, int chapterNumber) {
+        final Key key = new Key(examCode, chapterNumber);
+
+        var current = reloaded.get(key);
+        if (current != null) {
+            return current;
+        }
+
+        synchronized (this) {
+            return entries.get(key);
+        }
+    }
+
+    /**
+     * Swaps a new version of a chapter in, replacing whatever the cache held
+     * for it.
+     *
+     * <p>
+     * The swap is a single write, so a lookup sees either the old version or
+     * the new one in full. Callers already holding the old version, or cursors
+     * created from it, keep it. The load listeners are notified of the new
+     * version as though it had just been loaded.
+     * </p>
+     *
+     * @param examCode      the exam the chapter belongs to.
+     * @param chapterNumber the number of the chapter.
+     * @param chapter       the new version of the chapter.
+     * @throws IllegalArgumentException if {@code chapter} is not frozen, or
+     *                                  the {@link ResourceIndex} lists no such
+     *                                  chapter.
+     */
+    void replace(ExamCode examCode, int chapterNumber, ChapterData chapter) {
+        if (!chapter.isFrozen()) {
+            throw new IllegalArgumentException("Only a frozen chapter can be swapped in");
+        }
+
+        if (!ResourceIndex.get().contains(examCode, chapterNumber)) {
+            throw new IllegalArgumentException("No chapter %d in %s to swap in".formatted(chapterNumber, examCode.getCode()));
+        }
+
+        final Key key = new Key(examCode, chapterNumber);
+        reloaded.put(key, chapter);
+
+        synchronized (this) {
+            var previous = entries.remove(key);
+            if (previous != null) {
+                weight -= previous.countQuestions();
+            }
+        }
+
+        notifyLoaded(examCode, chapter);
+    }
+
+    // ============================[ Helper Methods ]============================ \\
+
+    /**
+     * Passes a freshly loaded chapter to every load listener. A failing
+     * listener is skipped so that the others are still notified.
+     *
+     * @param examCode the exam the chapter belongs to.
+     * @param chapter  the loaded chapter.
+     */
+    private void notifyLoaded(ExamCode examCode, ChapterData chapter) {
+        for (var listener : loadListeners) {
+            try {
+                listener.accept(examCode, chapter);
+            } catch (RuntimeException ex) {
+                // A listener must not fail the load, which has already completed
+            }
+        }
+    }
+
+    /**
+     * Inserts a chapter and evicts the least recently used entries until the
+     * cache is back within its limits. A chapter heavier than the weight limit
+     * is not cached at all.
+     *
+     * @param key     the cache key.
+     * @param chapter the chapter to cache.
+     */
+    private synchronized void put(Key key, ChapterData chapter) {
+        final int chapterWeight = chapter.countQuestions();
+        if (chapterWeight > maxWeight) {
+            return;
+        }
+
+        var previous = entries.put(key, chapter);
+        if (previous != null) {
+            weight -= previous.countQuestions();
+        }
+
+        weight += chapterWeight;
+
+        Iterator<Map.Entry<Key, ChapterData>> it = entries.entrySet().iterator();
+        while ((entries.size() > maxChapters || weight > maxWeight) && it.hasNext()) {
+            var eldest = it.next();
+            if (eldest.getKey().equals(key)) {
+                continue;
+            }
+
+            weight -= eldest.getValue().countQuestions();
+            it.remove();
+            evictions++;
+        }
+    }
+
+    /**
+     * Waits for a load started by another thread, rethrowing its failure
+     * unwrapped.
+     *
+     * @param future the in-flight load.
+     * @return the loaded chapter.
+     */
+    private static ChapterData await(CompletableFuture<ChapterData> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            throw ex;
+        }
+    }
+
+    // ============================[ Nested Types ]============================== \\
+
+    /**
+     * Identifies a chapter of a particular exam.
+     *
+     * @param examCode      the exam code.
+     * @param chapterNumber the chapter number.
+     */
+    private record Key(ExamCode examCode, int chapterNumber) {}
+
+}
@@ -0,0 +1,77 @@
+package com.slinky.mockmate.data;
+
+/**
+ * A navigation position over the questions of a {@link Chapter}.
+ *
+ * <p>
+ * A cursor holds only its position and a reference to the questions it
+ * navigates, so one chapter can be shared by any number of sessions, each
+ * navigating it with its own cursor. A cursor sees the questions the chapter
+ * held when the cursor was created and is not affected by later changes to the
+ * chapter.
+ * </p>
+ * <p>
+ * Cursors are not thread-safe. Each session should create its own with
+ * {@link Chapter#cursor()}.
+ * </p>
+ * <p>
+ * Example usage:
+ * </p>
+ * <pre>{@code
+ * Chapter shared = exam.loadSharedChapter(1);
+ * ChapterCursor cursor = shared.cursor();
+ * Question first = cursor.next();
+ * }</pre>
+ *
+ * @author Kheagen Haskins
+ */
+public interface ChapterCursor {
+
+    /**
+     * Retrieves the next question and advances the cursor.
+     * <p>
+     * If the end of the sequence is reached, the navigation wraps back to the
+     * first question.
+     * </p>
+     *
+     * @return the next question in the sequence.
+     * @throws IllegalStateException if there are no questions.
+     */
+    Question next();
+
+    /**
+     * Moves the cursor back and retrieves the question it then points at.
+     * <p>
+     * If at the beginning of the sequence, the navigation wraps to the last
+     * question.
+     * </p>
+     *
+     * @return the previous question in the sequence.
+     * @throws IllegalStateException if there are no questions.
+     */
+    Question previous();
+
+    /**
+     * Retrieves the position of the question that {@link #next()} will return.
+     *
+     * @return the zero-based position of the cursor.
+     */
+    int position();
+
+    /**
+     * Moves the cursor to a position.
+     *
+     * @param position the zero-based position of the question that
+     *                 {@link #next()} should return.
+     * @throws IllegalArgumentException if the position is out of range.
+     */
+    void seek(int position);
+
+    /**
+     * Retrieves the number of questions the cursor navigates.
+     *
+     * @return the number of questions.
+     */
+    int size();
+
+}
@@ -1,8 +1,10 @@
 package com.slinky.mockmate.data;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
 
 /**
  * Represents metadata for a specific chapter and acts as a manager for
@@ -13,6 +15,21 @@ import java.util.List;
  * managing questions, retrieving metadata, and navigating through questions
  * sequentially.
  * </p>
+ * <p>
+ * Questions are held in an array of slots in the order they were added, with
+ * an {@link OrdinalIndex} from ordinal to slot, so {@link #getQuestion(int)}
+ * and {@link #removeQuestion(int)} take constant time. Removing a question
+ * only clears its slot. The cleared slots are compacted away when the array
+ * is full or before the questions are next accessed by position, which keeps
+ * removal constant time in amortised terms.
+ * </p>
+ * <p>
+ * A chapter can be frozen with {@link #freeze()} once it is fully built, which
+ * makes it immutable so that a single instance can be shared between threads.
+ * Navigation state is then held by each user's {@link SharedChapter} view or
+ * {@link ChapterCursor}, which refers to the frozen question array rather than
+ * copying it.
+ * </p>
  *
  * @author  Kheagen Haskins
  * @version 0.1
@@ -20,6 +37,13 @@ import java.util.List;
  */
 final class ChapterData implements Chapter {
 
+    // ================================[ Static ]================================ \\
+
+    /**
+     * The number of slots allocated for a new chapter.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
     // ================================[ Fields ]================================ \\
     
     /**
@@ -33,15 +57,43 @@ final class ChapterData implements Chapter {
     private final int chapterNumber;
 
     /**
-     * The list of questions associated with this chapter.
+     * The questions associated with this chapter in the order they were
+     * added. Slots of removed questions are {@code null} until compacted.
+     */
+    private Question[] slots;
+
+    /**
+     * The number of slots in use, including cleared ones.
+     */
+    private int end;
+
+    /**
+     * The number of questions in the chapter.
+     */
+    private int size;
+
+    /**
+     * The index from question ordinal to slot.
      */
-    private final List<Question> questions;
+    private final OrdinalIndex index;
 
     /**
      * The index of the next question to be retrieved.
      */
     private int nextIndex;
 
+    /**
+     * Whether the chapter has been frozen and can no longer be modified or
+     * navigated directly.
+     */
+    private boolean frozen;
+
+    /**
+     * The questions as of the last modification, shared by cursors created
+     * since then, or {@code null} if no cursor has been created since.
+     */
+    private Question[] snapshot;
+
     // =============================[ Constructors ]============================= \\
     
     /**
@@ -61,10 +113,45 @@ final class ChapterData implements Chapter {
         
         this.title    = title;
         chapterNumber = number;
-        questions     = new ArrayList<>();
+        slots         = new Question[INITIAL_CAPACITY];
+        index         = new OrdinalIndex(INITIAL_CAPACITY);
         nextIndex     = 0;
     }
 
+    /**
+     * Constructs a new {@code ChapterData} holding the same questions as the
+     * given chapter.
+     * <p>
+     * The question instances are shared, but the new chapter has its own
+     * question list and starts its navigation at the first question, so it can
+     * be modified and navigated independently of {@code source}. The copy is
+     * never frozen, even if {@code source} is.
+     * </p>
+     *
+     * @param source the chapter to copy.
+     */
+    ChapterData(ChapterData source) {
+        title         = source.title;
+        chapterNumber = source.chapterNumber;
+        nextIndex     = 0;
+
+        if (source.end == source.size) {
+            // Nothing to compact, so the slots and index can be copied as they are
+            slots = source.slots.clone();
+            end   = source.end;
+            size  = source.size;
+            index = new OrdinalIndex(source.index);
+        } else {
+            slots = new Question[Math.max(source.size, INITIAL_CAPACITY)];
+            index = new OrdinalIndex(slots.length);
+            for (int i = 0; i < source.end; i++) {
+                if (source.slots[i] != null) {
+                    addQuestion(source.slots[i]);
+                }
+            }
+        }
+    }
+
     // ===========================[ Accessor Methods ]=========================== \\
     
     /**
@@ -96,7 +183,7 @@ final class ChapterData implements Chapter {
      */
     @Override
     public int countQuestions() {
-        return questions.size();
+        return size;
     }
 
     /**
@@ -106,11 +193,23 @@ final class ChapterData implements Chapter {
      */
     @Override
     public void addQuestion(Question question) {
+        checkNotFrozen();
         if (question == null) {
             throw new IllegalArgumentException("Cannot add a null question to a chapter");
         }
         
-        questions.add(question);
+        if (end == slots.length) {
+            if (size < end) {
+                compact();
+            } else {
+                slots = Arrays.copyOf(slots, Math.max(INITIAL_CAPACITY, slots.length * 2));
+            }
+        }
+
+        index.add(question.ordinal(), end);
+        slots[end++] = question;
+        size++;
+        snapshot = null;
     }
 
     /**
@@ -121,13 +220,20 @@ final class ChapterData implements Chapter {
      */
     @Override
     public boolean removeQuestion(int ordinal) {
-        for (Question question : questions) {
-            if (question.ordinal() == ordinal) {
-                return questions.remove(question);
-            }
+        checkNotFrozen();
+        int slot = index.removeFirst(ordinal);
+        if (slot < 0) {
+            return false;
         }
-        
-        return false;
+
+        slots[slot] = null;
+        snapshot    = null;
+        size--;
+        if (slot == end - 1) {
+            end--;
+        }
+
+        return true;
     }
 
     /**
@@ -139,10 +245,9 @@ final class ChapterData implements Chapter {
      */
     @Override
     public Question getQuestion(int ordinal) {
-        for (Question question : questions) {
-            if (question.ordinal() == ordinal) {
-                return question;
-            }
+        int slot = index.first(ordinal);
+        if (slot >= 0) {
+            return slots[slot];
         }
         
         throw new IllegalArgumentException("Invalid question number: " + ordinal);
@@ -158,12 +263,13 @@ final class ChapterData implements Chapter {
      */
     @Override
     public Question nextQuestion() {
-        if (questions.isEmpty()) {
+        checkNotFrozen();
+        if (size == 0) {
             throw new IllegalStateException("Cannot iterate through questions whens they are empty");
         }
         
-        var q     = questions.get(nextIndex);
-        nextIndex = (nextIndex + 1) % questions.size();
+        var q     = questionAt(nextIndex);
+        nextIndex = (nextIndex + 1) % size;
         return q;
     }
 
@@ -177,12 +283,13 @@ final class ChapterData implements Chapter {
      */
     @Override
     public Question previousQuestion() {
-        if (questions.isEmpty()) {
+        checkNotFrozen();
+        if (size == 0) {
             throw new IllegalStateException("Cannot iterate through questions whens they are empty");
         }
         
-        nextIndex = ((nextIndex + questions.size()) - 1) % questions.size();
-        var q     = questions.get(nextIndex);
+        nextIndex = ((nextIndex + size) - 1) % size;
+        var q     = questionAt(nextIndex);
         return q;
     }
 
@@ -194,17 +301,216 @@ final class ChapterData implements Chapter {
      */
     @Override
     public List<Question> getAllQuestions() {
-       return Collections.unmodifiableList(questions);
+       return new QuestionList();
+    }
+
+    /**
+     * Creates a cursor over the chapter's current questions, starting at the
+     * first question.
+     * <p>
+     * Cursors created between two modifications of the chapter share one
+     * snapshot of its questions. Cursors over a frozen chapter share its
+     * question array directly, so creating one allocates nothing but the
+     * cursor itself.
+     * </p>
+     *
+     * @return a new cursor.
+     */
+    @Override
+    public ChapterCursor cursor() {
+        var questions = snapshot;
+        if (questions == null) {
+            compact();
+            questions = Arrays.copyOf(slots, size);
+            snapshot  = questions;
+        }
+
+        return new Cursor(questions);
+    }
+
+    /**
+     * Freezes the chapter, making it immutable so that it can be shared between
+     * threads. Once frozen, {@link #addQuestion(Question)},
+     * {@link #removeQuestion(int)}, {@link #nextQuestion()} and
+     * {@link #previousQuestion()} throw {@link UnsupportedOperationException}.
+     * <p>
+     * The chapter must be safely published to other threads after it is
+     * frozen, for example through a concurrent collection.
+     * </p>
+     *
+     * @return this chapter.
+     */
+    ChapterData freeze() {
+        if (!frozen) {
+            compact();
+            slots    = Arrays.copyOf(slots, size);
+            snapshot = slots;
+            frozen   = true;
+        }
+
+        return this;
+    }
+
+    /**
+     * Checks whether the chapter has been frozen.
+     *
+     * @return {@code true} if the chapter is immutable.
+     */
+    boolean isFrozen() {
+        return frozen;
     }
 
     @Override
     public String toString() {
+        final RenderCache renders = RenderCache.shared();
         StringBuilder qStrBuilder = new StringBuilder();
-        for (Question question : questions) {
-            qStrBuilder.append("%n%s".formatted(question));
+        for (Question question : getAllQuestions()) {
+            qStrBuilder.append(System.lineSeparator()).append(renders.render(question, RenderStyle.FULL));
         }
         
         return "Chapter %d: %s\n%s".formatted(chapterNumber, title, qStrBuilder.toString());
     }
-    
-}
\ No newline at end of file
+
+    // ============================[ Helper Methods ]============================ \\
+
+    /**
+     * Ensures that the chapter has not been frozen.
+     *
+     * @throws UnsupportedOperationException if the chapter is frozen.
+     */
+    private void checkNotFrozen() {
+        if (frozen) {
+            throw new UnsupportedOperationException(
+                    "Chapter %d is shared and cannot be modified or navigated directly; use a ChapterCursor".formatted(chapterNumber));
+        }
+    }
+
+    /**
+     * Retrieves the question at a position in the chapter, compacting the
+     * slots first if any have been cleared.
+     *
+     * @param position the zero-based position of the question.
+     * @return the question at that position.
+     * @throws IndexOutOfBoundsException if the position is out of range.
+     */
+    private Question questionAt(int position) {
+        if (end != size) {
+            compact();
+        }
+
+        return slots[Objects.checkIndex(position, size)];
+    }
+
+    /**
+     * Moves the remaining questions to the front of the slot array, keeping
+     * their order, and rebuilds the ordinal index over their new slots.
+     */
+    private void compact() {
+        if (end == size) {
+            return;
+        }
+
+        int live = 0;
+        index.clear();
+        for (int i = 0; i < end; i++) {
+            if (slots[i] != null) {
+                index.add(slots[i].ordinal(), live);
+                slots[live++] = slots[i];
+            }
+        }
+
+        Arrays.fill(slots, live, end, null);
+        end = live;
+    }
+
+    // ============================[ Nested Types ]============================== \\
+
+    /**
+     * A cursor over a fixed array of questions.
+     */
+    private static final class Cursor implements ChapterCursor {
+
+        /**
+         * The questions being navigated. Never modified.
+         */
+        private final Question[] questions;
+
+        /**
+         * The position of the next question to be retrieved.
+         */
+        private int position;
+
+        /**
+         * Constructs a cursor at the first question.
+         *
+         * @param questions the questions to navigate.
+         */
+        Cursor(Question[] questions) {
+            this.questions = questions;
+        }
+
+        @Override
+        public Question next() {
+            checkNotEmpty();
+            var q    = questions[position];
+            position = (position + 1) % questions.length;
+            return q;
+        }
+
+        @Override
+        public Question previous() {
+            checkNotEmpty();
+            position = (position + questions.length - 1) % questions.length;
+            return questions[position];
+        }
+
+        @Override
+        public int position() {
+            return position;
+        }
+
+        @Override
+        public void seek(int position) {
+            if (position < 0 || position >= questions.length) {
+                throw new IllegalArgumentException("Invalid cursor position: " + position);
+            }
+
+            this.position = position;
+        }
+
+        @Override
+        public int size() {
+            return questions.length;
+        }
+
+        /**
+         * Ensures that there are questions to navigate.
+         *
+         * @throws IllegalStateException if there are no questions.
+         */
+        private void checkNotEmpty() {
+            if (questions.length == 0) {
+                throw new IllegalStateException("Cannot iterate through questions whens they are empty");
+            }
+        }
+
+    }
+
+    /**
+     * An unmodifiable, live view of the chapter's questions.
+     */
+    private final class QuestionList extends AbstractList<Question> implements RandomAccess {
+
+        @Override
+        public Question get(int position) {
+            return questionAt(position);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+    }
+
+}
@@ -0,0 +1,233 @@
+package com.slinky.mockmate.data;
+
+import java.util.Arrays;
+
+/**
+ * A case-insensitive lookup from answer text to the ordinal of a question's
+ * choice.
+ *
+ * <p>
+ * Choices are stored with their ordinal prefix, as in
+ * {@code "A. It prints q1=blue."}, so each choice is indexed twice: once as
+ * written and once without the prefix. An answer matches a choice when it
+ * equals either form ignoring case, as {@link String#equalsIgnoreCase} would
+ * compare them, after leading and trailing whitespace is ignored. When several
+ * choices match, prefixed forms win over bare ones and earlier choices over
+ * later ones, so an answer equal to a choice as written resolves to the same
+ * ordinal a linear search of the choices would.
+ * </p>
+ * <p>
+ * The index keeps a reference to the choice strings and stores only offsets
+ * into them, in an open-addressing hash table of primitive arrays. Hashes are
+ * computed and entries compared in place, so a lookup never allocates. An
+ * index is immutable and thread-safe.
+ * </p>
+ *
+ * @author Kheagen Haskins
+ */
+final class ChoiceIndex {
+
+    // ================================[ Static ]================================ \\
+
+    /**
+     * Marks an unused table entry.
+     */
+    private static final int NONE = -1;
+
+    // ================================[ Fields ]================================ \\
+
+    /**
+     * The indexed choices.
+     */
+    private final String[] choices;
+
+    /**
+     * The case-insensitive hash of each table entry.
+     */
+    private final int[] hashes;
+
+    /**
+     * The zero-based choice index of each table entry, or {@link #NONE} if the
+     * entry is unused.
+     */
+    private final int[] slots;
+
+    /**
+     * The start (inclusive) and end (exclusive) of each table entry's text
+     * within its choice.
+     */
+    private final int[] starts, ends;
+
+    /**
+     * The table size minus one. The table size is a power of two.
+     */
+    private final int mask;
+
+    // =============================[ Constructors ]============================= \\
+    /**
+     * Builds an index over the given choices, which are not copied.
+     *
+     * @param choices the question's choices, in ordinal order.
+     */
+    ChoiceIndex(String[] choices) {
+        this.choices = choices;
+
+        // Two forms per choice, at most half full
+        final int size = Integer.highestOneBit(Math.max(2, choices.length * 4) - 1) << 1;
+        this.hashes    = new int[size];
+        this.slots     = new int[size];
+        this.starts    = new int[size];
+        this.ends      = new int[size];
+        this.mask      = size - 1;
+        Arrays.fill(slots, NONE);
+
+        for (int i = 0; i < choices.length; i++) {
+            String choice = choices[i];
+            if (choice != null) {
+                insert(i, trimStart(choice, 0, choice.length()), trimEnd(choice, 0, choice.length()));
+            }
+        }
+
+        for (int i = 0; i < choices.length; i++) {
+            String choice = choices[i];
+            if (choice != null) {
+                int end = trimEnd(choice, 0, choice.length());
+                insert(i, bareStart(choice, trimStart(choice, 0, end), end), end);
+            }
+        }
+    }
+
+    // =============================[ API Methods ]============================== \\
+
+    /**
+     * Looks up the choice matching an answer.
+     *
+     * @param answer the answer text.
+     * @return the ordinal character of the matching choice ({@code 'A'},
+     *         {@code 'B'}, ...), or {@code 0} if none matches.
+     * @throws NullPointerException if {@code answer} is {@code null}.
+     */
+    char ordinalOf(String answer) {
+        if (answer == null) {
+            throw new NullPointerException("Answer cannot be null.");
+        }
+
+        final int end   = trimEnd(answer, 0, answer.length());
+        final int start = trimStart(answer, 0, end);
+        final int hash  = hash(answer, start, end);
+        final int len   = end - start;
+
+        for (int i = hash & mask; slots[i] != NONE; i = (i + 1) & mask) {
+            if (hashes[i] == hash && ends[i] - starts[i] == len
+                    && choices[slots[i]].regionMatches(true, starts[i], answer, start, len)) {
+                return (char) ('A' + slots[i]);
+            }
+        }
+
+        return 0;
+    }
+
+    // ============================[ Helper Methods ]============================ \\
+
+    /**
+     * Adds a form of a choice, unless an equal form is already present.
+     *
+     * @param choice the zero-based choice index.
+     * @param start  the start of the form within the choice.
+     * @param end    the end of the form within the choice.
+     */
+    private void insert(int choice, int start, int end) {
+        final String text = choices[choice];
+        final int hash    = hash(text, start, end);
+        final int len     = end - start;
+
+        int i = hash & mask;
+        for (; slots[i] != NONE; i = (i + 1) & mask) {
+            if (hashes[i] == hash && ends[i] - starts[i] == len
+                    && choices[slots[i]].regionMatches(true, starts[i], text, start, len)) {
+                return;
+            }
+        }
+
+        hashes[i] = hash;
+        slots[i]  = choice;
+        starts[i] = start;
+        ends[i]   = end;
+    }
+
+    /**
+     * Finds where the bare text of a choice starts, skipping an ordinal prefix
+     * such as {@code "A. "} or {@code "b) "}.
+     *
+     * @param choice the choice.
+     * @param start  the start of the trimmed choice.
+     * @param end    the end of the trimmed choice.
+     * @return the start of the bare text, or {@code start} if the choice has
+     *         no prefix.
+     */
+    private static int bareStart(String choice, int start, int end) {
+        if (end - start < 3 || !Character.isLetter(choice.charAt(start))) {
+            return start;
+        }
+
+        char separator = choice.charAt(start + 1);
+        if ((separator != '.' && separator != ')') || !Character.isWhitespace(choice.charAt(start + 2))) {
+            return start;
+        }
+
+        return trimStart(choice, start + 2, end);
+    }
+
+    /**
+     * Computes a hash of a region of text that is equal for regions equal
+     * ignoring case.
+     *
+     * @param text  the text.
+     * @param start the start of the region.
+     * @param end   the end of the region.
+     * @return the hash.
+     */
+    private static int hash(String text, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            // Folded the same way String.regionMatches(true, ...) compares characters
+            hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(text.charAt(i)));
+        }
+
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Skips leading whitespace.
+     *
+     * @param text  the text.
+     * @param start the start of the region.
+     * @param end   the end of the region.
+     * @return the index of the first non-whitespace character, or {@code end}.
+     */
+    private static int trimStart(String text, int start, int end) {
+        while (start < end && Character.isWhitespace(text.charAt(start))) {
+            start++;
+        }
+
+        return start;
+    }
+
+    /**
+     * Skips trailing whitespace.
+     *
+     * @param text  the text.
+     * @param start the start of the region.
+     * @param end   the end of the region.
+     * @return the index after the last non-whitespace character, or
+     *         {@code start}.
+     */
+    private static int trimEnd(String text, int start, int end) {
+        while (end > start && Character.isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+
+        return end;
+    }
+
+}
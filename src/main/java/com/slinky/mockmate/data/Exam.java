@@ -1,5 +1,11 @@
 package com.slinky.mockmate.data;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.IntPredicate;
+
 /**
  * Represents an Exam interface that provides methods for loading and
  * interacting with exam data.
@@ -39,6 +45,59 @@ public interface Exam {
         return new ExamData().load(examCode);
     }
 
+    /**
+     * Loads an exam using the given {@link ExamCode}, caching its chapters in
+     * the given {@link ChapterCache} instead of the shared one.
+     *
+     * @param examCode the {@link ExamCode} representing the specific exam to be
+     *                 loaded.
+     * @param cache    the cache to hold the exam's parsed chapters.
+     * @return an instance of {@link Exam} containing the loaded exam data.
+     */
+    static Exam loadExam(ExamCode examCode, ChapterCache cache) {
+        return new ExamData(cache).load(examCode);
+    }
+
+    /**
+     * Maps the compiled binary bundle of an exam, generated at build time from
+     * the exam's JSON files.
+     * <p>
+     * Chapters of a mapped exam are served straight out of the mapped bundle:
+     * loading a chapter does no parsing, and question text is only decoded when
+     * it is read.
+     * </p>
+     *
+     * @param examCode the {@link ExamCode} representing the specific exam to be
+     *                 mapped.
+     * @return an instance of {@link Exam} backed by the exam's bundle.
+     * @throws IllegalArgumentException if no bundle exists for the exam.
+     */
+    static Exam mapExam(ExamCode examCode) {
+        return BundledExam.map(examCode);
+    }
+
+    /**
+     * Loads an exam and packs its questions into a direct buffer outside the
+     * Java heap.
+     * <p>
+     * The packed exam is served like a mapped one: its questions are
+     * flyweight views that decode their text from the buffer when it is read.
+     * Use it for exams with no build-time bundle while keeping question text
+     * out of the garbage collector's reach. The exam is a snapshot of the
+     * chapters as they are served when it is packed, including any swapped in
+     * by a {@link QuestionBankWatcher}; chapters swapped in afterwards are not
+     * reflected.
+     * </p>
+     *
+     * @param examCode the {@link ExamCode} representing the specific exam to be
+     *                 packed.
+     * @return an instance of {@link Exam} backed by an off-heap bundle.
+     * @throws IllegalArgumentException if there is no data for the exam.
+     */
+    static Exam packExam(ExamCode examCode) {
+        return BundledExam.pack(examCode);
+    }
+
     // =============================[ API Methods ]============================== \\
     /**
      * Retrieves the code of the exam.
@@ -56,12 +115,141 @@ public interface Exam {
 
     /**
      * Loads a specific chapter of the exam based on its number.
+     * <p>
+     * Parsed chapters are cached, so repeated loads of the same chapter are
+     * cheap. Every call returns a separate {@link Chapter} instance which the
+     * caller is free to navigate and modify.
+     * </p>
      *
      * @param chapterNumber the number of the chapter to load.
      * @return a {@link Chapter} object representing the loaded chapter.
      */
     Chapter loadChapter(int chapterNumber);
 
+    /**
+     * Loads a read-only chapter whose questions are decoded one at a time, the
+     * first time each is accessed.
+     * <p>
+     * Use this for sessions that only visit a few questions of a chapter. The
+     * chapter can be navigated but not modified. Implementations that already
+     * decode questions on demand may return {@link #loadChapter(int)}, which
+     * is what this default does.
+     * </p>
+     *
+     * @param chapterNumber the number of the chapter to load.
+     * @return the loaded chapter.
+     * @throws IllegalArgumentException if the chapter number is out of range.
+     */
+    default Chapter loadLazyChapter(int chapterNumber) {
+        return loadChapter(chapterNumber);
+    }
+
+    /**
+     * Loads a view of the shared, immutable instance of a chapter.
+     * <p>
+     * Unlike {@link #loadChapter(int)}, no copy of the chapter's questions is
+     * made: every view of a chapter refers to the same questions. A view
+     * cannot be modified, but it has its own position for
+     * {@link Chapter#nextQuestion()} and {@link Chapter#previousQuestion()},
+     * and a {@link ChapterCursor} from {@link Chapter#cursor()} navigates it
+     * the same way, so any number of concurrent sessions can share one copy
+     * of the questions.
+     * </p>
+     *
+     * @param chapterNumber the number of the chapter to load.
+     * @return the shared chapter.
+     * @throws IllegalArgumentException if the chapter number is out of range.
+     */
+    Chapter loadSharedChapter(int chapterNumber);
+
+    /**
+     * Loads a specific chapter of the exam asynchronously, reading its
+     * questions in parallel on the default loader executor.
+     * <p>
+     * The default executor uses virtual threads when running on JDK 21 or
+     * later, and a bounded pool of daemon threads otherwise.
+     * </p>
+     *
+     * @param chapterNumber the number of the chapter to load.
+     * @return a future completed with the loaded {@link Chapter}, whose
+     *         questions are in the same order as {@link #loadChapter(int)}
+     *         returns them.
+     * @throws IllegalArgumentException if the chapter number is out of range.
+     */
+    default CompletableFuture<Chapter> loadChapterAsync(int chapterNumber) {
+        return loadChapterAsync(chapterNumber, LoadExecutors.defaultExecutor());
+    }
+
+    /**
+     * Loads a specific chapter of the exam asynchronously, reading its
+     * questions in parallel on the given executor.
+     *
+     * @param chapterNumber the number of the chapter to load.
+     * @param executor      the executor to run the question reads on.
+     * @return a future completed with the loaded {@link Chapter}, whose
+     *         questions are in the same order as {@link #loadChapter(int)}
+     *         returns them.
+     * @throws IllegalArgumentException if the chapter number is out of range.
+     */
+    CompletableFuture<Chapter> loadChapterAsync(int chapterNumber, Executor executor);
+
+    /**
+     * Loads every chapter of the exam asynchronously on the default loader
+     * executor.
+     *
+     * @return a future completed with all chapters, ordered by chapter number.
+     */
+    default CompletableFuture<List<Chapter>> loadAllChaptersAsync() {
+        return loadAllChaptersAsync(LoadExecutors.defaultExecutor());
+    }
+
+    /**
+     * Loads every chapter of the exam asynchronously on the given executor.
+     *
+     * @param executor the executor to run the question reads on.
+     * @return a future completed with all chapters, ordered by chapter number.
+     */
+    default CompletableFuture<List<Chapter>> loadAllChaptersAsync(Executor executor) {
+        List<CompletableFuture<Chapter>> loads = new ArrayList<>(getChapterCount());
+        for (int i = 1; i <= getChapterCount(); i++) {
+            loads.add(loadChapterAsync(i, executor));
+        }
+
+        return CompletableFuture.allOf(loads.toArray(CompletableFuture<?>[]::new)).thenApply(done -> {
+            Chapter[] chapters = new Chapter[loads.size()];
+            for (int i = 0; i < chapters.length; i++) {
+                chapters[i] = loads.get(i).join();
+            }
+
+            return List.of(chapters);
+        });
+    }
+
+    /**
+     * Draws a seeded random selection of questions, such as a practice test of
+     * {@code n} questions from chapters 3 to 5:
+     * <pre>{@code
+     * List<Question> test = exam.sample(20, c -> c >= 3 && c <= 5, seed);
+     * }</pre>
+     * <p>
+     * Every question of the selected chapters is equally likely to be chosen.
+     * The draw uses only the chapters' question counts, and only the chosen
+     * questions are materialised, so no chapter is loaded in full. The same
+     * seed always gives the same questions in the same order.
+     * </p>
+     *
+     * @param n             the number of questions wanted.
+     * @param chapterFilter selects the chapters to draw from, by chapter
+     *                      number.
+     * @param seed          the seed of the draw.
+     * @return the chosen questions in draw order; fewer than {@code n} if the
+     *         selected chapters hold fewer questions.
+     * @throws IllegalArgumentException if {@code n} is negative.
+     * @throws NullPointerException     if {@code chapterFilter} is
+     *                                  {@code null}.
+     */
+    List<Question> sample(int n, IntPredicate chapterFilter, long seed);
+
     /**
      * Retrieves the total number of chapters in the exam.
      *
@@ -69,4 +257,38 @@ public interface Exam {
      */
     int getChapterCount();
 
+    /**
+     * Retrieves the title of a chapter without loading it.
+     *
+     * @param chapterNumber the chapter number.
+     * @return the chapter title.
+     * @throws IllegalArgumentException if the exam has no such chapter.
+     */
+    String getChapterTitle(int chapterNumber);
+
+    /**
+     * Retrieves the number of questions in a chapter without loading it.
+     *
+     * @param chapterNumber the chapter number.
+     * @return the chapter's question count.
+     * @throws IllegalArgumentException if the exam has no such chapter.
+     */
+    int getQuestionCount(int chapterNumber);
+
+    /**
+     * Retrieves the estimated heap saved by holding repeated choices once,
+     * across the chapters of this exam and the exams loaded before it.
+     * <p>
+     * Only the chapters currently in memory count: a chapter decoded again
+     * after it was evicted replaces its earlier savings rather than adding to
+     * them. Implementations that do not pool strings report zero, which is
+     * what this default does.
+     * </p>
+     *
+     * @return the saved bytes.
+     */
+    default long deduplicatedBytes() {
+        return 0;
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,363 @@
+package com.slinky.mockmate.data;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.net.URISyntaxException;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A read-only view over a compiled exam bundle.
+ *
+ * <p>
+ * A bundle packs every chapter and question of one exam into a single binary
+ * file, produced at build time by {@link ExamBundleCompiler}. All integers are
+ * big-endian and every offset is absolute from the start of the bundle. The
+ * layout is:
+ * </p>
+ * <pre>
+ * Header          (48 bytes)
+ *   int   magic               "MMEB"
+ *   short version
+ *   short reserved
+ *   int   examCodeRef         string reference
+ *   int   chapterCount
+ *   int   questionCount
+ *   int   choiceCount
+ *   int   chapterTableOffset
+ *   int   questionTableOffset
+ *   int   choiceTableOffset
+ *   int   stringTableOffset
+ *   int   stringTableLength
+ *   int   reserved
+ * Chapter table   (16 bytes per chapter)
+ *   int   chapterNumber, titleRef, firstQuestion, questionCount
+ * Question table  (24 bytes per question, see {@link BundledQuestion})
+ * Choice table    (4 bytes per choice: a string reference)
+ * String table    (int UTF-8 byte length followed by the bytes)
+ * </pre>
+ * <p>
+ * A string reference is the offset of a string relative to the start of the
+ * string table, or {@link #NO_STRING} for {@code null}. Identical strings are
+ * stored once.
+ * </p>
+ * <p>
+ * Bundles on the file system are memory-mapped. Bundles inside a jar are read
+ * once into a direct buffer, since jar entries cannot be mapped. An exam that
+ * has already been loaded can also be packed into a direct buffer at runtime
+ * with {@link #pack(Exam)}. Either way the question text lives outside the
+ * Java heap, so the garbage collector never traces it.
+ * </p>
+ *
+ * @author Kheagen Haskins
+ */
+final class ExamBundle {
+
+    // ================================[ Static ]================================ \\
+
+    /**
+     * The magic number identifying a bundle, the ASCII bytes {@code MMEB}.
+     */
+    static final int MAGIC = 0x4D4D4542;
+
+    /**
+     * The current bundle format version.
+     */
+    static final short VERSION = 1;
+
+    /**
+     * Size of the header in bytes.
+     */
+    static final int HEADER_SIZE = 48;
+
+    /**
+     * Size of a chapter record in bytes.
+     */
+    static final int CHAPTER_RECORD_SIZE = 16;
+
+    /**
+     * Size of a choice table entry in bytes.
+     */
+    static final int CHOICE_RECORD_SIZE = 4;
+
+    /**
+     * String reference used for {@code null} strings.
+     */
+    static final int NO_STRING = -1;
+
+    /**
+     * Classpath location of compiled bundles.
+     */
+    static final String BUNDLE_PATH = "/bundle/exam-%s.bin";
+
+    // ================================[ Fields ]================================ \\
+
+    /**
+     * The bundle contents. Only absolute reads are used, so the buffer can be
+     * shared between threads.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * Header values, cached on construction.
+     */
+    private final int chapterCount, questionCount, chapterTable, questionTable, choiceTable, stringTable;
+
+    /**
+     * The view of each question record, created on first use so that every
+     * load of a chapter shares the same flyweights.
+     */
+    private final AtomicReferenceArray<Question> questions;
+
+    // =============================[ Constructors ]============================= \\
+
+    /**
+     * Constructs a view over the given bundle contents, validating the header.
+     *
+     * @param buffer the bundle contents.
+     * @throws IllegalArgumentException if the buffer does not hold a bundle of
+     *                                  a supported version.
+     */
+    private ExamBundle(ByteBuffer buffer) {
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not an exam bundle");
+        }
+
+        if (buffer.getShort(4) != VERSION) {
+            throw new IllegalArgumentException("Unsupported bundle version: " + buffer.getShort(4));
+        }
+
+        this.buffer   = buffer;
+        chapterCount  = buffer.getInt(12);
+        questionCount = buffer.getInt(16);
+        chapterTable  = buffer.getInt(24);
+        questionTable = buffer.getInt(28);
+        choiceTable   = buffer.getInt(32);
+        stringTable   = buffer.getInt(36);
+        questions     = new AtomicReferenceArray<>(questionCount);
+    }
+
+    // ============================[ Factory Methods ]=========================== \\
+
+    /**
+     * Opens the compiled bundle for the given exam from the classpath.
+     *
+     * @param examCode the exam whose bundle to open.
+     * @return the opened bundle.
+     * @throws IllegalArgumentException if no bundle exists for the exam.
+     * @throws IOException              if the bundle cannot be read.
+     */
+    static ExamBundle load(ExamCode examCode) throws IOException {
+        final String path = BUNDLE_PATH.formatted(examCode.getCode());
+        final var url     = ExamBundle.class.getResource(path);
+        if (url == null) {
+            throw new IllegalArgumentException("No exam bundle found for " + examCode.getCode());
+        }
+
+        if ("file".equals(url.getProtocol())) {
+            try {
+                return open(Path.of(url.toURI()));
+            } catch (URISyntaxException ex) {
+                throw new IllegalArgumentException("Path error: " + ex.getMessage());
+            }
+        }
+
+        try (InputStream in = url.openStream()) {
+            byte[] bytes = in.readAllBytes();
+            return wrap(ByteBuffer.allocateDirect(bytes.length).put(bytes).flip());
+        }
+    }
+
+    /**
+     * Memory-maps the bundle stored in the given file.
+     *
+     * @param file the bundle file.
+     * @return the mapped bundle.
+     * @throws IOException if the file cannot be mapped.
+     */
+    static ExamBundle open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed
+            return wrap(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Packs every chapter of an exam into a new bundle held in a direct
+     * buffer.
+     * <p>
+     * Chapters are read with {@link Exam#loadLazyChapter(int)}, so chapters
+     * already cached, including ones swapped in by a
+     * {@link QuestionBankWatcher}, are packed as they currently are.
+     * </p>
+     *
+     * @param source the exam to pack.
+     * @return a view over the packed bundle.
+     * @throws IllegalArgumentException if a question has too many choices.
+     */
+    static ExamBundle pack(Exam source) {
+        final var writer = new ExamBundleCompiler.BundleWriter(source.getExamCode());
+        for (int c = 1; c <= source.getChapterCount(); c++) {
+            final Chapter chapter = source.loadLazyChapter(c);
+            writer.addChapter(chapter.getChapterNumber(), chapter.getTitle(), chapter.getAllQuestions());
+        }
+
+        return wrap(writer.toDirectBuffer());
+    }
+
+    /**
+     * Wraps bundle contents that are already in memory.
+     *
+     * @param buffer the bundle contents.
+     * @return a view over the bundle.
+     */
+    static ExamBundle wrap(ByteBuffer buffer) {
+        return new ExamBundle(buffer);
+    }
+
+    // ===========================[ Accessor Methods ]=========================== \\
+
+    /**
+     * Retrieves the exam code stored in the bundle header.
+     *
+     * @return the exam code, for example {@code "1Z0-829"}.
+     */
+    String examCode() {
+        return string(buffer.getInt(8));
+    }
+
+    /**
+     * Retrieves the number of chapters in the bundle.
+     *
+     * @return the chapter count.
+     */
+    int chapterCount() {
+        return chapterCount;
+    }
+
+    /**
+     * Retrieves the number of questions in the bundle.
+     *
+     * @return the question count.
+     */
+    int questionCount() {
+        return questionCount;
+    }
+
+    /**
+     * Retrieves the chapter number of a chapter record.
+     *
+     * @param index the zero-based index of the chapter record.
+     * @return the chapter number.
+     */
+    int chapterNumber(int index) {
+        return buffer.getInt(chapterRecord(index));
+    }
+
+    /**
+     * Retrieves the title of a chapter record.
+     *
+     * @param index the zero-based index of the chapter record.
+     * @return the chapter title.
+     */
+    String chapterTitle(int index) {
+        return string(buffer.getInt(chapterRecord(index) + 4));
+    }
+
+    /**
+     * Retrieves the index of the first question of a chapter record.
+     *
+     * @param index the zero-based index of the chapter record.
+     * @return the index of the chapter's first question record.
+     */
+    int firstQuestion(int index) {
+        return buffer.getInt(chapterRecord(index) + 8);
+    }
+
+    /**
+     * Retrieves the number of questions of a chapter record.
+     *
+     * @param index the zero-based index of the chapter record.
+     * @return the chapter's question count.
+     */
+    int chapterQuestionCount(int index) {
+        return buffer.getInt(chapterRecord(index) + 12);
+    }
+
+    /**
+     * Retrieves the view of a question record, creating it on first use.
+     * Repeated calls for the same record return the same view.
+     *
+     * @param index the zero-based index of the question record.
+     * @return a question backed by the bundle buffer.
+     */
+    Question question(int index) {
+        if (index < 0 || index >= questionCount) {
+            throw new IndexOutOfBoundsException("Invalid question index: " + index);
+        }
+
+        final Question view = questions.get(index);
+        if (view != null) {
+            return view;
+        }
+
+        // A racing thread may build an equal view; either one is kept
+        questions.compareAndSet(index, null,
+                new BundledQuestion(buffer, questionTable + index * BundledQuestion.RECORD_SIZE, choiceTable, stringTable));
+        return questions.get(index);
+    }
+
+    // ============================[ Helper Methods ]============================ \\
+
+    /**
+     * Computes the offset of a chapter record.
+     *
+     * @param index the zero-based index of the chapter record.
+     * @return the absolute offset of the record.
+     */
+    private int chapterRecord(int index) {
+        if (index < 0 || index >= chapterCount) {
+            throw new IndexOutOfBoundsException("Invalid chapter index: " + index);
+        }
+
+        return chapterTable + index * CHAPTER_RECORD_SIZE;
+    }
+
+    /**
+     * Decodes a string from the string table.
+     *
+     * @param ref the string reference.
+     * @return the decoded string, or {@code null} for {@link #NO_STRING}.
+     */
+    private String string(int ref) {
+        return decodeString(buffer, stringTable, ref);
+    }
+
+    /**
+     * Decodes a string from a string table held in the given buffer.
+     *
+     * @param buffer      the buffer holding the string table.
+     * @param stringTable the absolute offset of the string table.
+     * @param ref         the string reference.
+     * @return the decoded string, or {@code null} for {@link #NO_STRING}.
+     */
+    static String decodeString(ByteBuffer buffer, int stringTable, int ref) {
+        if (ref == NO_STRING) {
+            return null;
+        }
+
+        final int offset = stringTable + ref;
+        final int length = buffer.getInt(offset);
+        final byte[] bytes = new byte[length];
+        buffer.get(offset + 4, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
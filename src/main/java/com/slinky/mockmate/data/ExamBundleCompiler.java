@@ -0,0 +1,282 @@
+package com.slinky.mockmate.data;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * Build-time tool that compiles exam JSON directories into binary bundles.
+ *
+ * <p>
+ * Each {@code exam-<code>} directory under the JSON root becomes a single
+ * {@code exam-<code>.bin} file in the output directory, in the format described
+ * by {@link ExamBundle}. The tool runs during the {@code process-classes} phase
+ * of the Maven build, so bundles are available on the classpath next to the
+ * JSON files they were compiled from.
+ * </p>
+ * <p>
+ * Usage:
+ * </p>
+ * <pre>{@code
+ * java com.slinky.mockmate.data.ExamBundleCompiler <json-root> <output-dir>
+ * }</pre>
+ *
+ * @author Kheagen Haskins
+ */
+public final class ExamBundleCompiler {
+
+    // =============================[ Constructors ]============================= \\
+    /**
+     * Private constructor to prevent instantiation of the tool.
+     */
+    private ExamBundleCompiler() {}
+
+    // =============================[ API Methods ]============================== \\
+
+    /**
+     * Compiles every exam directory under a JSON root.
+     *
+     * @param args the JSON root directory and the output directory.
+     * @throws IOException if a directory cannot be read or a bundle cannot be
+     *                     written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: ExamBundleCompiler <json-root> <output-dir>");
+        }
+
+        final Path jsonRoot  = Path.of(args[0]);
+        final Path outputDir = Files.createDirectories(Path.of(args[1]));
+
+        for (Path examDir : ExamSources.exams(jsonRoot)) {
+            Path bundle = outputDir.resolve(examDir.getFileName() + ".bin");
+            int size    = compile(examDir, bundle);
+            System.out.println("Compiled %s (%d bytes)".formatted(bundle, size));
+        }
+    }
+
+    /**
+     * Compiles a single exam directory into a bundle file.
+     *
+     * @param examDir the {@code exam-<code>} directory.
+     * @param bundle  the bundle file to write.
+     * @return the size of the bundle in bytes.
+     * @throws IOException if the directory cannot be read or the bundle cannot
+     *                     be written.
+     */
+    static int compile(Path examDir, Path bundle) throws IOException {
+        final var writer = new BundleWriter(ExamSources.examCode(examDir));
+        for (Path chapterDir : ExamSources.chapters(examDir)) {
+            int number = ExamSources.chapterNumber(chapterDir);
+            List<QuestionData> questions = new ArrayList<>();
+            for (Path questionFile : ExamSources.questions(chapterDir)) {
+                try (InputStream in = Files.newInputStream(questionFile)) {
+                    questions.add(QuestionReader.shared().read(in));
+                }
+            }
+
+            writer.addChapter(number, ExamSources.meta(chapterDir).title(), questions);
+        }
+
+        byte[] bytes = writer.toByteArray();
+        Files.write(bundle, bytes);
+        return bytes.length;
+    }
+
+    // ============================[ Nested Types ]============================== \\
+
+    /**
+     * Accumulates chapters and lays them out in the bundle format. Also used
+     * at runtime by {@link ExamBundle#pack(Exam)}.
+     */
+    static final class BundleWriter {
+
+        /**
+         * The exam code written to the header.
+         */
+        private final String examCode;
+
+        /**
+         * Chapter records, four ints each.
+         */
+        private final List<int[]> chapters = new ArrayList<>();
+
+        /**
+         * Questions in bundle order.
+         */
+        private final List<Question> questions = new ArrayList<>();
+
+        /**
+         * The string table contents.
+         */
+        private final ByteArrayOutputStream strings = new ByteArrayOutputStream();
+
+        /**
+         * References of strings already in the table, for deduplication.
+         */
+        private final Map<String, Integer> stringRefs = new HashMap<>();
+
+        /**
+         * Constructs a writer for the given exam.
+         *
+         * @param examCode the exam code.
+         */
+        BundleWriter(String examCode) {
+            this.examCode = examCode;
+        }
+
+        /**
+         * Adds a chapter and its questions.
+         *
+         * @param number    the chapter number.
+         * @param title     the chapter title.
+         * @param questions the questions in order.
+         */
+        void addChapter(int number, String title, List<? extends Question> questions) {
+            chapters.add(new int[]{number, ref(title), this.questions.size(), questions.size()});
+            this.questions.addAll(questions);
+        }
+
+        /**
+         * Lays out and encodes the bundle.
+         *
+         * @return the encoded bundle.
+         */
+        byte[] toByteArray() {
+            return encode(ByteBuffer::allocate).array();
+        }
+
+        /**
+         * Lays out and encodes the bundle into a direct buffer, outside the
+         * Java heap.
+         *
+         * @return the encoded bundle, positioned at zero.
+         */
+        ByteBuffer toDirectBuffer() {
+            return encode(ByteBuffer::allocateDirect).flip();
+        }
+
+        /**
+         * Lays out and encodes the bundle into a buffer of the exact size.
+         *
+         * @param allocator allocates a buffer of the given capacity.
+         * @return the filled buffer.
+         */
+        private ByteBuffer encode(IntFunction<ByteBuffer> allocator) {
+            // Intern every question string before the string table is sized
+            final int examCodeRef = ref(examCode);
+            final int[][] questionRefs = new int[questions.size()][];
+            int choiceCount            = 0;
+            for (int i = 0; i < questionRefs.length; i++) {
+                questionRefs[i] = refs(questions.get(i));
+                choiceCount    += questionRefs[i].length - 2;
+            }
+
+            final int chapterTable  = ExamBundle.HEADER_SIZE;
+            final int questionTable = chapterTable + chapters.size() * ExamBundle.CHAPTER_RECORD_SIZE;
+            final int choiceTable   = questionTable + questions.size() * BundledQuestion.RECORD_SIZE;
+            final int stringTable   = choiceTable + choiceCount * ExamBundle.CHOICE_RECORD_SIZE;
+            final ByteBuffer out    = allocator.apply(stringTable + strings.size());
+
+            out.putInt(ExamBundle.MAGIC)
+               .putShort(ExamBundle.VERSION)
+               .putShort((short) 0)
+               .putInt(examCodeRef)
+               .putInt(chapters.size())
+               .putInt(questions.size())
+               .putInt(choiceCount)
+               .putInt(chapterTable)
+               .putInt(questionTable)
+               .putInt(choiceTable)
+               .putInt(stringTable)
+               .putInt(strings.size())
+               .putInt(0);
+
+            for (int[] chapter : chapters) {
+                for (int value : chapter) {
+                    out.putInt(value);
+                }
+            }
+
+            int firstChoice = 0;
+            for (int i = 0; i < questions.size(); i++) {
+                Question question = questions.get(i);
+                out.putInt(question.ordinal())
+                   .putInt(questionRefs[i][0])
+                   .putInt(questionRefs[i][1])
+                   .putInt(firstChoice)
+                   .putShort((short) question.choices().length)
+                   .putShort(question.hasCodeSnippet() ? BundledQuestion.FLAG_HAS_CODE : 0)
+                   .putInt(question.answerMask());
+                firstChoice += question.choices().length;
+            }
+
+            for (int[] refs : questionRefs) {
+                for (int c = 2; c < refs.length; c++) {
+                    out.putInt(refs[c]);
+                }
+            }
+
+            out.put(strings.toByteArray());
+            return out;
+        }
+
+        /**
+         * Interns the strings of a question.
+         *
+         * @param question the question.
+         * @return the text and snippet references followed by one reference per
+         *         choice.
+         */
+        private int[] refs(Question question) {
+            final String[] choices = question.choices();
+            // The answer mask holds one bit per letter from 'A' to 'Z'
+            if (choices.length > 26) {
+                throw new IllegalArgumentException("Too many choices in question " + question.ordinal()
+                        + ": at most 26 are supported");
+            }
+
+            final int[] refs = new int[2 + choices.length];
+            refs[0] = ref(question.questionText());
+            refs[1] = ref(question.codeSnippet());
+            for (int c = 0; c < choices.length; c++) {
+                refs[2 + c] = ref(choices[c]);
+            }
+
+            return refs;
+        }
+
+        /**
+         * Interns a string, appending it to the string table on first use.
+         *
+         * @param value the string, possibly {@code null}.
+         * @return the string reference.
+         */
+        private int ref(String value) {
+            if (value == null) {
+                return ExamBundle.NO_STRING;
+            }
+
+            return stringRefs.computeIfAbsent(value, v -> {
+                int ref = strings.size();
+                byte[] bytes = v.getBytes(StandardCharsets.UTF_8);
+                strings.writeBytes(ByteBuffer.allocate(4).putInt(bytes.length).array());
+                strings.writeBytes(bytes);
+                return ref;
+            });
+        }
+
+    }
+
+}
@@ -1,12 +1,17 @@
 package com.slinky.mockmate.data;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.core.JsonFactory;
-import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.JsonToken;
-import com.slinky.mockmate.util.FileUtil;
-
 import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntPredicate;
 
 /**
  * A class that handles I/O operations for reading question and chapter data from storage.
@@ -24,50 +29,80 @@ import java.io.IOException;
  * 
  * <p>
  * This implementation uses JSON files to load chapter and question data, relying on
- * helper utilities and the Jackson library for parsing.
+ * helper utilities and Jackson's streaming parser (see {@link QuestionReader}).
+ * The exam's {@link ExamManifest} is read once in {@link #load(ExamCode)}, so
+ * chapter counts, titles and question counts never touch storage. Each chapter's
+ * questions are read from its question pack in one go and decoded from the
+ * offsets recorded in the manifest.
  * </p>
  * 
  * @author Kheagen Haskins
  */
 public final class ExamData implements Exam {
 
-    // ================================[ Static ]================================ \\
+    // ================================[ Fields ]================================ \\
 
     /**
-     * Directory prefix for exam data files.
+     * Flag to indicate whether the exam has been loaded.
      */
-    private static final String EXAM_ROOT_DIR = "/json/exam-%s/";
+    private boolean loaded;
 
-    // ================================[ Fields ]================================ \\
+    /**
+     * The code representing the exam.
+     */
+    private ExamCode examCode;
 
     /**
-     * The number of chapters in the exam.
+     * The manifest describing this exam's chapters and resource files.
      */
-    private int chapterCount;
+    private ExamManifest manifest;
 
     /**
-     * Flag to indicate whether the exam has been loaded.
+     * The cache holding this exam's parsed chapters.
      */
-    private boolean loaded;
+    private final ChapterCache cache;
 
     /**
-     * The code representing the exam.
+     * The question pack of each chapter loaded lazily so far, by chapter
+     * index. Packs are held softly: every lazy chapter over a pack holds it
+     * strongly, and once none is left the garbage collector may reclaim the
+     * pack under memory pressure, in which case the next lazy load reads it
+     * again.
      */
-    private ExamCode examCode;
+    private AtomicReferenceArray<SoftReference<LazyChapter.Pack>> packs;
 
     /**
-     * The base URL for exam resources.
+     * The latest decode of each chapter read in full, by chapter index, with
+     * the heap it saved by string pooling. Chapters are held weakly, so that
+     * a chapter no longer in memory stops counting.
      */
-    private String resURL;
+    private AtomicReferenceArray<Decoded> decoded;
 
     // =============================[ Constructors ]============================= \\
 
     /**
-     * Constructs an instance of {@code ExamData}.
+     * Constructs an instance of {@code ExamData} backed by the shared
+     * {@link ChapterCache}.
      * Initially, the exam is not loaded.
      */
     ExamData() {
-        loaded = false;
+        this(ChapterCache.shared());
+    }
+
+    /**
+     * Constructs an instance of {@code ExamData} backed by the given
+     * {@link ChapterCache}.
+     * Initially, the exam is not loaded.
+     *
+     * @param cache the cache to hold parsed chapters.
+     */
+    ExamData(ChapterCache cache) {
+        if (cache == null) {
+            throw new IllegalArgumentException("Chapter cache cannot be null");
+        }
+
+        this.cache = cache;
+        loaded     = false;
     }
 
     // ===========================[ Accessor Methods ]=========================== \\
@@ -94,35 +129,114 @@ public final class ExamData implements Exam {
 
     /**
      * Loads a specific chapter of the exam based on the chapter number.
+     * <p>
+     * The chapter is parsed on first use and served from the
+     * {@link ChapterCache} afterwards. Each call returns a separate copy that
+     * shares the cached question instances.
+     * </p>
      * 
      * @param chapterNumber the number of the chapter to load.
-     * @return a {@link Chapter} object representing the loaded chapter, or {@code null} if an error occurs.
+     * @return a {@link Chapter} object representing the loaded chapter.
      */
     @Override
     public Chapter loadChapter(int chapterNumber) {
-        if (chapterNumber <= 0 || chapterNumber > chapterCount) {
+        if (chapterNumber <= 0 || chapterNumber > manifest.chapterCount()) {
             throw new IllegalArgumentException();
         }
         
-        final Chapter chapter;
-        final String chapterDir = getChapterDir(chapterNumber);
-        final int questionCount = FileUtil.countFiles(chapterDir) - 1; // Minus one for meta.json file
-        ObjectMapper mapper     = new ObjectMapper();
+        return new ChapterData(cache.get(examCode, chapterNumber, () -> readChapter(chapterNumber)));
+    }
 
-        try {
-            chapter = new ChapterData(chapterNumber, getChapterTitle(chapterNumber));
-            for (int i = 0; i < questionCount; i++) {
-                String path  = chapterDir + "q%d.json".formatted(i + 1);
-                var file     = getClass().getResourceAsStream(path);
-                var question = mapper.readValue(file, QuestionData.class);
-                chapter.addQuestion(question);
+    /**
+     * Loads a read-only chapter whose questions are decoded on first access.
+     * <p>
+     * If the chapter is already in the {@link ChapterCache}, a copy of the
+     * cached chapter is returned, as from {@link #loadChapter(int)}. Otherwise
+     * the chapter's question pack is read and kept softly by this exam, and
+     * every lazy chapter loaded from it shares the questions decoded so far.
+     * </p>
+     *
+     * @param chapterNumber the number of the chapter to load.
+     * @return the loaded chapter.
+     */
+    @Override
+    public Chapter loadLazyChapter(int chapterNumber) {
+        if (chapterNumber <= 0 || chapterNumber > manifest.chapterCount()) {
+            throw new IllegalArgumentException();
+        }
+
+        var cached = cache.getIfPresent(examCode, chapterNumber);
+        if (cached != null) {
+            return new ChapterData(cached);
+        }
+
+        final int index = chapterNumber - 1;
+        var held        = packs.get(index);
+        var pack        = held == null ? null : held.get();
+        if (pack == null) {
+            final var entry = manifest.chapter(chapterNumber);
+            pack            = LazyChapter.Pack.of(entry, readPack(entry));
+            final var read  = new SoftReference<>(pack);
+
+            // Another caller may have published a pack since; keep theirs while it is reachable
+            while (!packs.compareAndSet(index, held, read)) {
+                held      = packs.get(index);
+                var other = held == null ? null : held.get();
+                if (other != null) {
+                    pack = other;
+                    break;
+                }
             }
+        }
 
-            return chapter;
-        } catch (IOException ex) {
-            throw new RuntimeException("IO Error: " + ex.getMessage());
+        return new LazyChapter(pack);
+    }
+
+    /**
+     * Loads a view of the shared instance of a chapter.
+     * <p>
+     * The view navigates the frozen chapter held by the {@link ChapterCache}.
+     * If the chapter is later evicted, the next call parses it again and
+     * returns a view of a new shared instance.
+     * </p>
+     * 
+     * @param chapterNumber the number of the chapter to load.
+     * @return a new view of the shared, immutable chapter.
+     */
+    @Override
+    public Chapter loadSharedChapter(int chapterNumber) {
+        if (chapterNumber <= 0 || chapterNumber > manifest.chapterCount()) {
+            throw new IllegalArgumentException();
         }
         
+        return new SharedChapter(cache.get(examCode, chapterNumber, () -> readChapter(chapterNumber)));
+    }
+
+    /**
+     * Loads a specific chapter of the exam asynchronously.
+     * <p>
+     * On a cache miss the chapter's question pack is read on {@code executor}
+     * and each question is then decoded as a separate task. The questions are
+     * added to the chapter in file order, regardless of the order the tasks
+     * complete in.
+     * </p>
+     * 
+     * @param chapterNumber the number of the chapter to load.
+     * @param executor      the executor to run the reads on.
+     * @return a future completed with the loaded chapter.
+     */
+    @Override
+    public CompletableFuture<Chapter> loadChapterAsync(int chapterNumber, Executor executor) {
+        if (chapterNumber <= 0 || chapterNumber > manifest.chapterCount()) {
+            throw new IllegalArgumentException();
+        }
+
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor cannot be null");
+        }
+        
+        return cache.getAsync(examCode, chapterNumber, () -> readChapterAsync(chapterNumber, executor))
+                    .thenApply(ChapterData::new);
     }
 
     // =============================[ API Methods ]============================== \\
@@ -133,7 +247,104 @@ public final class ExamData implements Exam {
      */
     @Override
     public int getChapterCount() {
-        return chapterCount;
+        return manifest.chapterCount();
+    }
+
+    /**
+     * Retrieves the title of a chapter from the version in the
+     * {@link ChapterCache}, or from the exam's manifest if none is cached.
+     *
+     * @param chapterNumber the chapter number.
+     * @return the chapter title.
+     */
+    @Override
+    public String getChapterTitle(int chapterNumber) {
+        var served = cache.getIfPresent(examCode, chapterNumber);
+        return served != null ? served.getTitle() : manifest.chapter(chapterNumber).title();
+    }
+
+    /**
+     * Retrieves the number of questions in a chapter from the version in the
+     * {@link ChapterCache}, or from the exam's manifest if none is cached, so
+     * that it agrees with a chapter swapped in by a reload.
+     *
+     * @param chapterNumber the chapter number.
+     * @return the chapter's question count.
+     */
+    @Override
+    public int getQuestionCount(int chapterNumber) {
+        var served = cache.getIfPresent(examCode, chapterNumber);
+        return served != null ? served.countQuestions() : manifest.chapter(chapterNumber).questionCount();
+    }
+
+    /**
+     * Retrieves the estimated heap saved by sharing the choices of this
+     * exam's questions with questions decoded earlier, from this exam or any
+     * other (see {@link StringPool}). Only the latest decode of each chapter,
+     * and the questions of lazily loaded chapters that are still decoded,
+     * count; a chapter that is no longer in memory does not.
+     *
+     * @return the saved bytes.
+     */
+    @Override
+    public long deduplicatedBytes() {
+        long saved = 0;
+        for (int i = 0; i < decoded.length(); i++) {
+            var chapter = decoded.get(i);
+            if (chapter != null && chapter.get() != null) {
+                saved += chapter.saved;
+            }
+
+            var held = packs.get(i);
+            var pack = held == null ? null : held.get();
+            if (pack != null) {
+                saved += pack.deduplicatedBytes();
+            }
+        }
+
+        return saved;
+    }
+
+    /**
+     * Draws a seeded random selection of questions.
+     * <p>
+     * Questions of chapters already in the {@link ChapterCache}, including
+     * chapters swapped in by a reload, are taken from the cached chapter. For
+     * any other chapter, only the chosen questions' slices of its question
+     * pack are read and decoded, and the chapter is not cached. The version of
+     * each chapter is fixed before the draw, and positions are drawn against
+     * that version's question count, so a reload during the draw cannot shift
+     * them.
+     * </p>
+     *
+     * @param n             the number of questions wanted.
+     * @param chapterFilter selects the chapters to draw from.
+     * @param seed          the seed of the draw.
+     * @return the chosen questions in draw order.
+     */
+    @Override
+    public List<Question> sample(int n, IntPredicate chapterFilter, long seed) {
+        // The version each selected chapter is read from, or null for its pack
+        final var served    = new ChapterData[manifest.chapterCount()];
+        final int[][] drawn = QuestionSampler.draw(served.length, c -> {
+            served[c - 1] = cache.getIfPresent(examCode, c);
+            return served[c - 1] != null ? served[c - 1].countQuestions() : manifest.chapter(c).questionCount();
+        }, n, chapterFilter, seed);
+        final var questions = new Question[drawn.length];
+
+        QuestionSampler.byChapter(drawn).forEach((chapterNumber, picks) -> {
+            var cached = served[chapterNumber - 1];
+            if (cached != null) {
+                var all = cached.getAllQuestions();
+                for (int i : picks) {
+                    questions[i] = all.get(drawn[i][1]);
+                }
+            } else {
+                readQuestions(manifest.chapter(chapterNumber), picks, drawn, questions);
+            }
+        });
+
+        return List.of(questions);
     }
 
     /**
@@ -141,7 +352,8 @@ public final class ExamData implements Exam {
      * 
      * @param examCode the {@link ExamCode} representing the exam to be loaded.
      * @return the loaded {@link ExamData} instance.
-     * @throws IllegalStateException if the exam has already been loaded.
+     * @throws IllegalStateException    if the exam has already been loaded.
+     * @throws IllegalArgumentException if there is no data for the exam.
      */
     Exam load(ExamCode examCode) {
         if (loaded) {
@@ -149,8 +361,9 @@ public final class ExamData implements Exam {
         }
 
         this.examCode = examCode;
-        this.resURL   = EXAM_ROOT_DIR.formatted(examCode.getCode());
-        chapterCount  = FileUtil.countSubDir(resURL);
+        manifest      = ResourceIndex.get().exam(examCode);
+        packs         = new AtomicReferenceArray<>(manifest.chapterCount());
+        decoded       = new AtomicReferenceArray<>(manifest.chapterCount());
         loaded        = true;
         
         return this;
@@ -158,40 +371,166 @@ public final class ExamData implements Exam {
 
     // ============================[ Helper Methods ]============================ \\
     /**
-     * Retrieves the title of a specific chapter.
+     * Reads and parses a chapter and all of its questions from storage.
      * 
-     * @param chapterNumber the number of the chapter.
-     * @return a {@code String} representing the chapter title, or "Unknown" if an error occurs.
-     */
-    private String getChapterTitle(int chapterNumber) {
-        String dir = getChapterDir(chapterNumber) + "meta.json";
-        var jsonInpStr = getClass().getResourceAsStream(dir);
-
-        try (JsonParser parser = new JsonFactory().createParser(jsonInpStr)) {
-            while (!parser.isClosed()) {
-                JsonToken token = parser.nextToken();
-                if (token == JsonToken.FIELD_NAME) {
-                    if ("title".equals(parser.currentName())) {
-                        parser.nextToken(); // Move to the value
-                        return parser.getValueAsString();
-                    }
+     * @param chapterNumber the number of the chapter to read.
+     * @return the parsed chapter, frozen so that it can be shared.
+     */
+    private ChapterData readChapter(int chapterNumber) {
+        final var entry   = manifest.chapter(chapterNumber);
+        final var pack    = readPack(entry);
+        final var saved   = new LongAdder();
+        final var chapter = new ChapterData(chapterNumber, entry.title());
+
+        for (var question : entry.questions()) {
+            chapter.addQuestion(readQuestion(pack, question, saved));
+        }
+
+        return decoded(chapter.freeze(), saved);
+    }
+
+    /**
+     * Reads and parses a chapter, fanning the question decoding out over the
+     * given executor.
+     * 
+     * @param chapterNumber the number of the chapter to read.
+     * @param executor      the executor to run the reads on.
+     * @return a future completed with the parsed chapter, frozen so that it
+     *         can be shared.
+     */
+    private CompletableFuture<ChapterData> readChapterAsync(int chapterNumber, Executor executor) {
+        final var entry     = manifest.chapter(chapterNumber);
+        final var questions = entry.questions();
+        final var saved     = new LongAdder();
+
+        return CompletableFuture.supplyAsync(() -> readPack(entry), executor).thenCompose(pack -> {
+            final List<CompletableFuture<QuestionData>> reads = new ArrayList<>(questions.size());
+            for (final var question : questions) {
+                reads.add(CompletableFuture.supplyAsync(() -> readQuestion(pack, question, saved), executor));
+            }
+
+            return CompletableFuture.allOf(reads.toArray(CompletableFuture<?>[]::new)).thenApply(done -> {
+                var chapter = new ChapterData(chapterNumber, entry.title());
+                for (var read : reads) {
+                    chapter.addQuestion(read.join());
                 }
+
+                return decoded(chapter.freeze(), saved);
+            });
+        });
+    }
+
+    /**
+     * Records the latest full decode of a chapter.
+     *
+     * @param chapter the decoded chapter.
+     * @param saved   the heap its decode saved by string pooling.
+     * @return the chapter.
+     */
+    private ChapterData decoded(ChapterData chapter, LongAdder saved) {
+        decoded.set(chapter.getChapterNumber() - 1, new Decoded(chapter, saved.sum()));
+        return chapter;
+    }
+
+    /**
+     * Reads a chapter's question pack.
+     * 
+     * @param entry the manifest of the chapter.
+     * @return the bytes of the pack.
+     */
+    private byte[] readPack(ExamManifest.ChapterManifest entry) {
+        final var file = entry.pack();
+        try (InputStream in = getClass().getResourceAsStream(file.path())) {
+            if (in == null) {
+                throw new IOException("Question pack not found: " + file.path());
+            }
+
+            byte[] pack = in.readAllBytes();
+            if (pack.length != file.size()) {
+                throw new IOException("Question pack %s does not match the resource index".formatted(file.path()));
             }
+
+            return pack;
         } catch (IOException ex) {
-            System.out.println("IO Error: " + ex.getMessage());
+            throw new RuntimeException("IO Error: " + ex.getMessage());
         }
+    }
 
-        return "Unknown";
+    /**
+     * Reads and parses selected questions of a chapter, skipping over the
+     * rest of its question pack.
+     * 
+     * @param entry     the manifest of the chapter.
+     * @param picks     indexes into {@code drawn} of the questions to read, in
+     *                  ascending order of position.
+     * @param drawn     the drawn chapter numbers and positions.
+     * @param questions receives each parsed question at its index.
+     */
+    private void readQuestions(ExamManifest.ChapterManifest entry, List<Integer> picks, int[][] drawn, Question[] questions) {
+        final var file = entry.pack();
+        try (InputStream in = getClass().getResourceAsStream(file.path())) {
+            if (in == null) {
+                throw new IOException("Question pack not found: " + file.path());
+            }
+
+            long read = 0;
+            for (int i : picks) {
+                final var question = entry.questions().get(drawn[i][1]);
+                in.skipNBytes(question.offset() - read);
+
+                byte[] slice = in.readNBytes(question.length());
+                if (slice.length != question.length()) {
+                    throw new IOException("Question pack %s does not match the resource index".formatted(file.path()));
+                }
+
+                questions[i] = QuestionReader.shared().read(slice, 0, slice.length);
+                read         = question.offset() + question.length();
+            }
+        } catch (IOException ex) {
+            throw new RuntimeException("IO Error: " + ex.getMessage());
+        }
     }
 
     /**
-     * Constructs the directory path for a specific chapter.
+     * Parses a single question from its slice of a question pack.
      * 
-     * @param chapterNumber the number of the chapter.
-     * @return a {@code String} representing the chapter's directory path.
+     * @param pack     the bytes of the chapter's question pack.
+     * @param question the manifest entry of the question.
+     * @param saved    receives the heap saved by string pooling.
+     * @return the parsed question.
      */
-    private String getChapterDir(int chapterNumber) {
-        return resURL + "chapter%d/".formatted(chapterNumber);
+    private QuestionData readQuestion(byte[] pack, ExamManifest.QuestionEntry question, LongAdder saved) {
+        try {
+            return QuestionReader.shared().read(pack, question.offset(), question.length(), saved);
+        } catch (IOException ex) {
+            throw new RuntimeException("IO Error: " + ex.getMessage());
+        }
     }
-    
-}
\ No newline at end of file
+
+    // ============================[ Nested Types ]============================== \\
+
+    /**
+     * A fully decoded chapter, held weakly, with the heap its decode saved by
+     * string pooling.
+     */
+    private static final class Decoded extends WeakReference<ChapterData> {
+
+        /**
+         * The estimated bytes saved.
+         */
+        final long saved;
+
+        /**
+         * Constructs a reference to a decoded chapter.
+         *
+         * @param chapter the chapter.
+         * @param saved   the estimated bytes its decode saved.
+         */
+        Decoded(ChapterData chapter, long saved) {
+            super(chapter);
+            this.saved = saved;
+        }
+
+    }
+
+}
@@ -0,0 +1,384 @@
+package com.slinky.mockmate.data;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Grades batches of whole mock-exam submissions.
+ *
+ * <p>
+ * A grader flattens the answer keys of every question in an exam into
+ * primitive arrays, numbering the questions with dense <em>question ids</em>:
+ * the questions of chapter 1 in chapter order, then those of chapter 2, and so
+ * on (see {@link #questionId(int, int)}). Submissions are passed in columnar
+ * form, as parallel arrays of question ids and answer masks, so grading a
+ * batch touches no {@link Question} objects and allocates nothing per answer.
+ * Users are graded in parallel on a {@link ForkJoinPool}.
+ * </p>
+ * <p>
+ * The answers of user {@code u} are the entries from {@code offsets[u]}
+ * (inclusive) to {@code offsets[u + 1]} (exclusive) of the
+ * {@code questionIds} and {@code answerMasks} arrays, so {@code offsets} holds
+ * one more entry than there are users. Each question should appear at most
+ * once per user; unanswered questions score nothing.
+ * </p>
+ * <p>
+ * A grader is immutable and thread-safe.
+ * </p>
+ * <p>
+ * Example usage:
+ * </p>
+ * <pre>{@code
+ * ExamGrader grader = ExamGrader.of(Exam.mapExam(ExamCode.EXAM_CODE_1Z0_829));
+ * int[] offsets     = {0, 2, 3};
+ * int[] ids         = {grader.questionId(1, 1), grader.questionId(1, 2), grader.questionId(1, 1)};
+ * int[] masks       = {ScoringPolicy.mask('D', 'E'), ScoringPolicy.mask('B'), ScoringPolicy.mask('A')};
+ * GradeReport report = grader.grade(offsets, ids, masks, ScoringPolicy.allOrNothing());
+ * double total       = report.total(0);
+ * }</pre>
+ *
+ * @author Kheagen Haskins
+ */
+public final class ExamGrader {
+
+    // ================================[ Static ]================================ \\
+
+    /**
+     * The number of users graded by a single fork-join task before it stops
+     * splitting, overridable with the {@code mockmate.grader.batchSize} system
+     * property.
+     */
+    private static final int BATCH_SIZE = Math.max(1, Integer.getInteger("mockmate.grader.batchSize", 1_024));
+
+    /**
+     * Marks an ordinal with no question in {@link #idsByOrdinal}.
+     */
+    private static final int NONE = -1;
+
+    // ================================[ Fields ]================================ \\
+
+    /**
+     * The answer mask of each question, by question id.
+     */
+    private final int[] keys;
+
+    /**
+     * The zero-based chapter index of each question, by question id.
+     */
+    private final int[] chapterOf;
+
+    /**
+     * The number of questions in each chapter, by zero-based chapter index.
+     */
+    private final int[] chapterSizes;
+
+    /**
+     * For each zero-based chapter index, the question id of each ordinal, or
+     * {@link #NONE}.
+     */
+    private final int[][] idsByOrdinal;
+
+    /**
+     * The pool grading tasks run on.
+     */
+    private final ForkJoinPool pool;
+
+    // =============================[ Constructors ]============================= \\
+    /**
+     * Constructs a grader over the given chapters.
+     *
+     * @param chapters the exam's chapters, ordered by chapter number.
+     * @param pool     the pool to grade on.
+     */
+    private ExamGrader(List<Chapter> chapters, ForkJoinPool pool) {
+        int total = 0;
+        for (Chapter chapter : chapters) {
+            total += chapter.countQuestions();
+        }
+
+        this.keys         = new int[total];
+        this.chapterOf    = new int[total];
+        this.chapterSizes = new int[chapters.size()];
+        this.idsByOrdinal = new int[chapters.size()][];
+        this.pool         = pool;
+
+        int id = 0;
+        for (int c = 0; c < chapters.size(); c++) {
+            List<Question> questions = chapters.get(c).getAllQuestions();
+            int maxOrdinal = 0;
+            for (Question question : questions) {
+                maxOrdinal = Math.max(maxOrdinal, question.ordinal());
+            }
+
+            int[] ids = new int[maxOrdinal + 1];
+            Arrays.fill(ids, NONE);
+            for (Question question : questions) {
+                if (ids[question.ordinal()] == NONE) {
+                    ids[question.ordinal()] = id;
+                }
+
+                keys[id]      = question.answerMask();
+                chapterOf[id] = c;
+                id++;
+            }
+
+            chapterSizes[c] = questions.size();
+            idsByOrdinal[c] = ids;
+        }
+    }
+
+    /**
+     * Creates a grader for an exam that grades on the common fork-join pool.
+     * Every chapter of the exam is loaded once, through
+     * {@link Exam#loadSharedChapter(int)}.
+     *
+     * @param exam the exam to grade.
+     * @return a new grader.
+     * @throws NullPointerException if {@code exam} is {@code null}.
+     */
+    public static ExamGrader of(Exam exam) {
+        return of(exam, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a grader for an exam that grades on the given pool.
+     *
+     * @param exam the exam to grade.
+     * @param pool the pool to grade on.
+     * @return a new grader.
+     * @throws NullPointerException if {@code exam} or {@code pool} is
+     *                              {@code null}.
+     */
+    public static ExamGrader of(Exam exam, ForkJoinPool pool) {
+        if (exam == null || pool == null) {
+            throw new NullPointerException("Exam and pool cannot be null.");
+        }
+
+        Chapter[] chapters = new Chapter[exam.getChapterCount()];
+        for (int i = 0; i < chapters.length; i++) {
+            chapters[i] = exam.loadSharedChapter(i + 1);
+        }
+
+        return new ExamGrader(List.of(chapters), pool);
+    }
+
+    // =============================[ API Methods ]============================== \\
+
+    /**
+     * Retrieves the number of questions in the exam, which is also one more
+     * than the largest question id.
+     *
+     * @return the question count.
+     */
+    public int questionCount() {
+        return keys.length;
+    }
+
+    /**
+     * Retrieves the number of chapters in the exam.
+     *
+     * @return the chapter count.
+     */
+    public int chapterCount() {
+        return chapterSizes.length;
+    }
+
+    /**
+     * Retrieves the question id of a question. If a chapter holds several
+     * questions with the same ordinal, the id of the first is returned.
+     *
+     * @param chapterNumber the chapter number.
+     * @param ordinal       the question's ordinal within the chapter.
+     * @return the question id.
+     * @throws IllegalArgumentException if the exam has no such question.
+     */
+    public int questionId(int chapterNumber, int ordinal) {
+        if (chapterNumber < 1 || chapterNumber > chapterSizes.length) {
+            throw new IllegalArgumentException("No chapter " + chapterNumber);
+        }
+
+        int[] ids = idsByOrdinal[chapterNumber - 1];
+        int id    = ordinal >= 0 && ordinal < ids.length ? ids[ordinal] : NONE;
+        if (id == NONE) {
+            throw new IllegalArgumentException("No question " + ordinal + " in chapter " + chapterNumber);
+        }
+
+        return id;
+    }
+
+    /**
+     * Grades a batch of submissions.
+     *
+     * @param offsets     where each user's answers start, followed by the
+     *                    total number of answers; must be non-decreasing and
+     *                    start at zero.
+     * @param questionIds the question id of each answer.
+     * @param answerMasks the answer mask of each answer.
+     * @param policy      the scoring policy.
+     * @return the scores of each user, in the order of {@code offsets}.
+     * @throws NullPointerException     if any argument is {@code null}.
+     * @throws IllegalArgumentException if the arrays are inconsistent or a
+     *                                  question id is out of range.
+     */
+    public GradeReport grade(int[] offsets, int[] questionIds, int[] answerMasks, ScoringPolicy policy) {
+        return grade(offsets, questionIds, answerMasks, policy, null);
+    }
+
+    /**
+     * Grades a batch of submissions and records every answer in live
+     * statistics.
+     *
+     * @param offsets     where each user's answers start, followed by the
+     *                    total number of answers; must be non-decreasing and
+     *                    start at zero.
+     * @param questionIds the question id of each answer.
+     * @param answerMasks the answer mask of each answer.
+     * @param policy      the scoring policy.
+     * @param statistics  receives every answer, or {@code null} for none; it
+     *                    must count at least {@link #questionCount()}
+     *                    questions.
+     * @return the scores of each user, in the order of {@code offsets}.
+     * @throws NullPointerException     if any argument other than
+     *                                  {@code statistics} is {@code null}.
+     * @throws IllegalArgumentException if the arrays are inconsistent, a
+     *                                  question id is out of range, or the
+     *                                  statistics count too few questions.
+     */
+    public GradeReport grade(int[] offsets, int[] questionIds, int[] answerMasks, ScoringPolicy policy,
+                             AnswerStatistics statistics) {
+        if (offsets == null || questionIds == null || answerMasks == null || policy == null) {
+            throw new NullPointerException("Submission arrays and policy cannot be null.");
+        }
+
+        if (statistics != null && statistics.questionCount() < keys.length) {
+            throw new IllegalArgumentException("Statistics count %d questions but the exam has %d"
+                    .formatted(statistics.questionCount(), keys.length));
+        }
+
+        validate(offsets, questionIds, answerMasks);
+
+        final int users        = offsets.length - 1;
+        final int chapters     = chapterSizes.length;
+        double[] totals        = new double[users];
+        double[] chapterScores = new double[users * chapters];
+
+        if (users > 0) {
+            pool.invoke(new GradeTask(offsets, questionIds, answerMasks, policy, statistics, totals, chapterScores, 0, users));
+        }
+
+        return new GradeReport(totals, chapterScores, chapterSizes.clone());
+    }
+
+    // ============================[ Helper Methods ]============================ \\
+
+    /**
+     * Checks that submission arrays describe a well-formed batch.
+     *
+     * @param offsets     the answer offsets.
+     * @param questionIds the question ids.
+     * @param answerMasks the answer masks.
+     * @throws IllegalArgumentException if the arrays are inconsistent.
+     */
+    private void validate(int[] offsets, int[] questionIds, int[] answerMasks) {
+        if (offsets.length == 0 || offsets[0] != 0) {
+            throw new IllegalArgumentException("Offsets must start at zero.");
+        }
+
+        if (questionIds.length != answerMasks.length) {
+            throw new IllegalArgumentException("Expected %d answer masks but found %d".formatted(questionIds.length, answerMasks.length));
+        }
+
+        for (int u = 1; u < offsets.length; u++) {
+            if (offsets[u] < offsets[u - 1]) {
+                throw new IllegalArgumentException("Offsets must not decrease, at user " + (u - 1));
+            }
+        }
+
+        if (offsets[offsets.length - 1] != questionIds.length) {
+            throw new IllegalArgumentException("Offsets end at %d but there are %d answers".formatted(offsets[offsets.length - 1], questionIds.length));
+        }
+
+        for (int i = 0; i < questionIds.length; i++) {
+            if (questionIds[i] < 0 || questionIds[i] >= keys.length) {
+                throw new IllegalArgumentException("Invalid question id " + questionIds[i] + " at answer " + i);
+            }
+        }
+    }
+
+    // ============================[ Nested Types ]============================== \\
+
+    /**
+     * Grades a range of users, splitting in halves until a range holds no more
+     * than {@link #BATCH_SIZE} users. Each user's scores are written by exactly
+     * one task, so no synchronisation is needed.
+     *
+     * <p>
+     * {@code ForkJoinTask} is {@code Serializable}, but a grading task only
+     * ever lives within one {@link #grade} call, so it is never serialized.
+     * </p>
+     */
+    @SuppressWarnings("serial")
+    private final class GradeTask extends RecursiveAction {
+
+        private final int[] offsets;
+        private final int[] questionIds;
+        private final int[] answerMasks;
+        private final ScoringPolicy policy;
+        private final AnswerStatistics statistics;
+        private final double[] totals;
+        private final double[] chapterScores;
+        private final int from;
+        private final int to;
+
+        GradeTask(int[] offsets, int[] questionIds, int[] answerMasks, ScoringPolicy policy,
+                  AnswerStatistics statistics, double[] totals, double[] chapterScores, int from, int to) {
+            this.offsets       = offsets;
+            this.questionIds   = questionIds;
+            this.answerMasks   = answerMasks;
+            this.policy        = policy;
+            this.statistics    = statistics;
+            this.totals        = totals;
+            this.chapterScores = chapterScores;
+            this.from          = from;
+            this.to            = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= BATCH_SIZE) {
+                gradeUsers();
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(new GradeTask(offsets, questionIds, answerMasks, policy, statistics, totals, chapterScores, from, mid),
+                      new GradeTask(offsets, questionIds, answerMasks, policy, statistics, totals, chapterScores, mid, to));
+        }
+
+        /**
+         * Grades every user in this task's range.
+         */
+        private void gradeUsers() {
+            final int chapters = chapterSizes.length;
+            for (int u = from; u < to; u++) {
+                final int base = u * chapters;
+                double total   = 0;
+                for (int i = offsets[u], end = offsets[u + 1]; i < end; i++) {
+                    int id       = questionIds[i];
+                    double score = policy.score(keys[id], answerMasks[i]);
+                    chapterScores[base + chapterOf[id]] += score;
+                    total += score;
+                    if (statistics != null) {
+                        statistics.record(id, keys[id], answerMasks[i]);
+                    }
+                }
+
+                totals[u] = total;
+            }
+        }
+
+    }
+
+}
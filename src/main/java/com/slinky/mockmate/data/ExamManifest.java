@@ -0,0 +1,129 @@
+package com.slinky.mockmate.data;
+
+import java.util.List;
+
+/**
+ * The manifest of a single exam, read from the {@link ResourceIndex} once when
+ * the exam is loaded.
+ *
+ * <p>
+ * The manifest holds everything needed to describe the exam without touching
+ * its resources: each chapter's title, question count and content hash, and
+ * the byte offset of every question within the chapter's question pack. A
+ * question pack is the build-time concatenation of a chapter's question files,
+ * so a whole chapter can be read with one resource lookup and each question
+ * decoded from its slice.
+ * </p>
+ *
+ * @param code     the exam code.
+ * @param chapters the exam's chapters, in chapter order.
+ *
+ * @author Kheagen Haskins
+ */
+record ExamManifest(String code, List<ExamManifest.ChapterManifest> chapters) {
+
+    // =============================[ Constructors ]============================= \\
+    /**
+     * Compact constructor making the chapter list immutable and checking that
+     * chapters are numbered from one without gaps.
+     */
+    ExamManifest {
+        chapters = List.copyOf(chapters);
+        for (int i = 0; i < chapters.size(); i++) {
+            if (chapters.get(i).number() != i + 1) {
+                throw new IllegalArgumentException("Chapters of %s are not numbered in order".formatted(code));
+            }
+        }
+    }
+
+    // =============================[ API Methods ]============================== \\
+
+    /**
+     * Retrieves the number of chapters.
+     *
+     * @return the chapter count.
+     */
+    int chapterCount() {
+        return chapters.size();
+    }
+
+    /**
+     * Retrieves a chapter by number.
+     *
+     * @param number the chapter number.
+     * @return the chapter's manifest.
+     * @throws IllegalArgumentException if the exam has no such chapter.
+     */
+    ChapterManifest chapter(int number) {
+        if (number <= 0 || number > chapters.size()) {
+            throw new IllegalArgumentException("Invalid chapter number: " + number);
+        }
+
+        return chapters.get(number - 1);
+    }
+
+    // ============================[ Nested Types ]============================== \\
+
+    /**
+     * The manifest of a chapter.
+     *
+     * @param number    the chapter number.
+     * @param title     the chapter title.
+     * @param meta      the chapter's {@code meta.json} file.
+     * @param pack      the chapter's question pack. Its hash is the content
+     *                  hash of the chapter.
+     * @param questions the chapter's questions, in question order.
+     */
+    record ChapterManifest(int number, String title, ResourceIndex.FileEntry meta,
+                           ResourceIndex.FileEntry pack, List<QuestionEntry> questions) {
+
+        /**
+         * Compact constructor making the question list immutable.
+         */
+        ChapterManifest {
+            questions = List.copyOf(questions);
+        }
+
+        /**
+         * Retrieves the number of questions in the chapter.
+         *
+         * @return the question count.
+         */
+        int questionCount() {
+            return questions.size();
+        }
+
+        /**
+         * Retrieves the SHA-256 hash of the chapter's question content, which
+         * changes whenever any of its question files change.
+         *
+         * @return the content hash as lower case hexadecimal.
+         */
+        String contentHash() {
+            return pack.sha256();
+        }
+
+    }
+
+    /**
+     * The manifest entry of a question.
+     *
+     * @param file   the question's source file.
+     * @param offset the byte offset of the question within the chapter's
+     *               question pack. The question occupies {@code file.size()}
+     *               bytes from this offset.
+     */
+    record QuestionEntry(ResourceIndex.FileEntry file, int offset) {
+
+        /**
+         * Retrieves the length of the question in bytes.
+         *
+         * @return the length of the question's slice of the pack.
+         */
+        int length() {
+            return (int) file.size();
+        }
+
+    }
+
+}
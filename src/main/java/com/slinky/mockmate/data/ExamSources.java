@@ -0,0 +1,290 @@
+package com.slinky.mockmate.data;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Build-time helpers for walking the exam JSON source tree.
+ *
+ * <p>
+ * The tree has the shape {@code exam-<code>/chapter<n>/q<n>.json}, with a
+ * {@code meta.json} file in each chapter directory. Chapters and questions are
+ * returned in numeric order and must be numbered from one without gaps, since
+ * the runtime addresses them by number.
+ * </p>
+ * <p>
+ * Only the build tools and the {@link QuestionBankWatcher} use this class.
+ * Exams loaded from the bundled packs never list directories.
+ * </p>
+ * <p>
+ * This class is not instantiable and all methods are static.
+ * </p>
+ *
+ * @author Kheagen Haskins
+ */
+final class ExamSources {
+
+    // ================================[ Static ]================================ \\
+
+    /**
+     * Name of the chapter metadata file.
+     */
+    static final String META_FILE = "meta.json";
+
+    /**
+     * Name of the generated file holding a chapter's concatenated questions.
+     */
+    static final String PACK_FILE = "questions.pack";
+
+    /**
+     * Factory used to read chapter metadata.
+     */
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /**
+     * Matches exam directory names and captures the exam code.
+     */
+    private static final Pattern EXAM_DIR = Pattern.compile("exam-(.+)");
+
+    /**
+     * Matches chapter directory names and captures the chapter number.
+     */
+    private static final Pattern CHAPTER_DIR = Pattern.compile("chapter(\\d+)");
+
+    /**
+     * Matches question file names and captures the question number.
+     */
+    private static final Pattern QUESTION_FILE = Pattern.compile("q(\\d+)\\.json");
+
+    // =============================[ Constructors ]============================= \\
+    /**
+     * Private constructor to prevent instantiation of the utility class.
+     */
+    private ExamSources() {}
+
+    // =============================[ API Methods ]============================== \\
+
+    /**
+     * Lists the exam directories under a JSON root, ordered by name.
+     *
+     * @param jsonRoot the JSON root directory.
+     * @return the {@code exam-<code>} directories.
+     * @throws IOException if the directory cannot be read.
+     */
+    static List<Path> exams(Path jsonRoot) throws IOException {
+        try (Stream<Path> entries = Files.list(jsonRoot)) {
+            return entries.filter(p -> Files.isDirectory(p) && matches(p, EXAM_DIR)).sorted().toList();
+        }
+    }
+
+    /**
+     * Extracts the exam code from an exam directory name.
+     *
+     * @param examDir the {@code exam-<code>} directory.
+     * @return the exam code.
+     */
+    static String examCode(Path examDir) {
+        return matcher(examDir, EXAM_DIR).group(1);
+    }
+
+    /**
+     * Tests whether a directory is named like an exam directory.
+     *
+     * @param dir the directory.
+     * @return {@code true} if it is named {@code exam-<code>}.
+     */
+    static boolean isExam(Path dir) {
+        return matches(dir, EXAM_DIR);
+    }
+
+    /**
+     * Lists the chapter directories of an exam in chapter order.
+     *
+     * @param examDir the exam directory.
+     * @return the {@code chapter<n>} directories.
+     * @throws IOException if the directory cannot be read or the chapters are
+     *                     not numbered from one without gaps.
+     */
+    static List<Path> chapters(Path examDir) throws IOException {
+        return numbered(examDir, CHAPTER_DIR);
+    }
+
+    /**
+     * Extracts the chapter number from a chapter directory name.
+     *
+     * @param chapterDir the {@code chapter<n>} directory.
+     * @return the chapter number.
+     */
+    static int chapterNumber(Path chapterDir) {
+        return Integer.parseInt(matcher(chapterDir, CHAPTER_DIR).group(1));
+    }
+
+    /**
+     * Tests whether a directory is named like a chapter directory.
+     *
+     * @param dir the directory.
+     * @return {@code true} if it is named {@code chapter<n>}.
+     */
+    static boolean isChapter(Path dir) {
+        return matches(dir, CHAPTER_DIR);
+    }
+
+    /**
+     * Lists the question files of a chapter in question order.
+     *
+     * @param chapterDir the chapter directory.
+     * @return the {@code q<n>.json} files.
+     * @throws IOException if the directory cannot be read or the questions are
+     *                     not numbered from one without gaps.
+     */
+    static List<Path> questions(Path chapterDir) throws IOException {
+        return numbered(chapterDir, QUESTION_FILE);
+    }
+
+    /**
+     * Tests whether a file is named like a question file.
+     *
+     * @param file the file.
+     * @return {@code true} if it is named {@code q<n>.json}.
+     */
+    static boolean isQuestion(Path file) {
+        return matches(file, QUESTION_FILE);
+    }
+
+    /**
+     * Extracts the question number from a question file name.
+     *
+     * @param questionFile the {@code q<n>.json} file.
+     * @return the question number.
+     */
+    static int questionNumber(Path questionFile) {
+        return Integer.parseInt(matcher(questionFile, QUESTION_FILE).group(1));
+    }
+
+    /**
+     * Reads a chapter's {@code meta.json} file.
+     *
+     * <p>
+     * The {@code questionCount} field is optional. When present it must match
+     * the number of question files in the chapter, which catches metadata that
+     * was not updated alongside the questions.
+     * </p>
+     *
+     * @param chapterDir the chapter directory.
+     * @return the chapter's metadata.
+     * @throws IOException if the file cannot be read, has no title, or
+     *                     declares the wrong number of questions.
+     */
+    static Meta meta(Path chapterDir) throws IOException {
+        final Path metaFile  = chapterDir.resolve(META_FILE);
+        String title         = null;
+        int    questionCount = -1;
+
+        try (JsonParser parser = JSON_FACTORY.createParser(metaFile.toFile())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected an object in " + metaFile);
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "title"         -> title         = parser.getValueAsString();
+                    case "questionCount" -> questionCount = parser.getValueAsInt(-1);
+                    default              -> parser.skipChildren();
+                }
+            }
+        }
+
+        if (title == null) {
+            throw new IOException("No title in " + metaFile);
+        }
+
+        int actual = questions(chapterDir).size();
+        if (questionCount >= 0 && questionCount != actual) {
+            throw new IOException("%s declares %d questions but the chapter has %d".formatted(metaFile, questionCount, actual));
+        }
+
+        return new Meta(title, actual);
+    }
+
+    // ============================[ Helper Methods ]============================ \\
+
+    /**
+     * Lists the entries of a directory whose names match a numbering pattern,
+     * in numeric order, and checks that they are numbered 1..n.
+     *
+     * @param dir     the directory to list.
+     * @param pattern a pattern whose first group captures a number.
+     * @return the matching entries in order.
+     * @throws IOException if the directory cannot be read or the numbering has
+     *                     gaps.
+     */
+    private static List<Path> numbered(Path dir, Pattern pattern) throws IOException {
+        final List<Path> sorted;
+        try (Stream<Path> entries = Files.list(dir)) {
+            sorted = entries.filter(p -> matches(p, pattern))
+                            .sorted(Comparator.comparingInt(p -> Integer.parseInt(matcher(p, pattern).group(1))))
+                            .toList();
+        }
+
+        for (int i = 0; i < sorted.size(); i++) {
+            if (Integer.parseInt(matcher(sorted.get(i), pattern).group(1)) != i + 1) {
+                throw new IOException("Expected %s to be numbered %d".formatted(sorted.get(i), i + 1));
+            }
+        }
+
+        return sorted;
+    }
+
+    /**
+     * Tests whether a file name matches a pattern.
+     *
+     * @param path    the file.
+     * @param pattern the pattern.
+     * @return {@code true} if the whole file name matches.
+     */
+    private static boolean matches(Path path, Pattern pattern) {
+        return pattern.matcher(path.getFileName().toString()).matches();
+    }
+
+    /**
+     * Matches a file name against a pattern.
+     *
+     * @param path    the file.
+     * @param pattern the pattern.
+     * @return a matcher that has matched the whole file name.
+     * @throws IllegalArgumentException if the name does not match.
+     */
+    private static Matcher matcher(Path path, Pattern pattern) {
+        Matcher matcher = pattern.matcher(path.getFileName().toString());
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Unexpected file name: " + path);
+        }
+
+        return matcher;
+    }
+
+    // ============================[ Nested Types ]============================== \\
+
+    /**
+     * The metadata of a chapter.
+     *
+     * @param title         the chapter title.
+     * @param questionCount the number of questions in the chapter.
+     */
+    record Meta(String title, int questionCount) {}
+
+}
@@ -0,0 +1,123 @@
+package com.slinky.mockmate.data;
+
+/**
+ * The scores of a batch of submissions graded by an {@link ExamGrader}.
+ *
+ * <p>
+ * Scores are held in flat primitive arrays: one total per user, and one score
+ * per user and chapter. A question's score is the credit its
+ * {@link ScoringPolicy} awarded, so with the built-in policies a full mark on
+ * every question gives a total of {@link #maxScore()}.
+ * </p>
+ *
+ * @author Kheagen Haskins
+ */
+public final class GradeReport {
+
+    // ================================[ Fields ]================================ \\
+
+    /**
+     * The total score of each user.
+     */
+    private final double[] totals;
+
+    /**
+     * The score of each user in each chapter, with a row of
+     * {@link #chapterCount()} entries per user.
+     */
+    private final double[] chapterScores;
+
+    /**
+     * The number of questions in each chapter, by zero-based chapter index.
+     */
+    private final int[] chapterSizes;
+
+    // =============================[ Constructors ]============================= \\
+    /**
+     * Constructs a report over the given scores, which are not copied.
+     *
+     * @param totals        the total score of each user.
+     * @param chapterScores the per-chapter scores, one row per user.
+     * @param chapterSizes  the number of questions in each chapter.
+     */
+    GradeReport(double[] totals, double[] chapterScores, int[] chapterSizes) {
+        this.totals        = totals;
+        this.chapterScores = chapterScores;
+        this.chapterSizes  = chapterSizes;
+    }
+
+    // =============================[ API Methods ]============================== \\
+
+    /**
+     * Retrieves the number of users graded.
+     *
+     * @return the user count.
+     */
+    public int userCount() {
+        return totals.length;
+    }
+
+    /**
+     * Retrieves the number of chapters each user is scored on.
+     *
+     * @return the chapter count.
+     */
+    public int chapterCount() {
+        return chapterSizes.length;
+    }
+
+    /**
+     * Retrieves a user's total score.
+     *
+     * @param user the user's index in the graded batch.
+     * @return the user's total score.
+     * @throws IndexOutOfBoundsException if there is no such user.
+     */
+    public double total(int user) {
+        return totals[user];
+    }
+
+    /**
+     * Retrieves a user's score in one chapter.
+     *
+     * @param user          the user's index in the graded batch.
+     * @param chapterNumber the chapter number.
+     * @return the user's score in the chapter.
+     * @throws IndexOutOfBoundsException if there is no such user or chapter.
+     */
+    public double chapterScore(int user, int chapterNumber) {
+        if (user < 0 || user >= totals.length || chapterNumber < 1 || chapterNumber > chapterSizes.length) {
+            throw new IndexOutOfBoundsException("No score for user %d in chapter %d".formatted(user, chapterNumber));
+        }
+
+        return chapterScores[user * chapterSizes.length + chapterNumber - 1];
+    }
+
+    /**
+     * Retrieves the highest total a user can score, which is the number of
+     * questions in the exam.
+     *
+     * @return the maximum total.
+     */
+    public int maxScore() {
+        int max = 0;
+        for (int size : chapterSizes) {
+            max += size;
+        }
+
+        return max;
+    }
+
+    /**
+     * Retrieves the highest score a user can achieve in one chapter, which is
+     * the number of questions in the chapter.
+     *
+     * @param chapterNumber the chapter number.
+     * @return the maximum chapter score.
+     * @throws IndexOutOfBoundsException if there is no such chapter.
+     */
+    public int maxChapterScore(int chapterNumber) {
+        return chapterSizes[chapterNumber - 1];
+    }
+
+}
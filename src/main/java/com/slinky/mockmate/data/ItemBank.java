@@ -0,0 +1,377 @@
+package com.slinky.mockmate.data;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The questions of a chapter with item response theory parameters, used by
+ * {@link AdaptiveCursor} to choose the most informative question for a
+ * learner.
+ *
+ * <p>
+ * Each question is an <em>item</em> of the two-parameter logistic model: a
+ * learner of ability {@code θ} answers item {@code i} correctly with
+ * probability {@code 1 / (1 + e^(-a_i(θ - b_i)))}, where {@code b_i} is the
+ * item's difficulty and {@code a_i} its discrimination, both on the logit
+ * scale. The information an item gives about {@code θ} is
+ * {@code a_i² P (1 - P)}, which peaks where the difficulty matches the
+ * ability.
+ * </p>
+ * <p>
+ * Everything a selection needs is computed when the bank is built. The
+ * logistic function and its logarithms are tabulated once, so selecting a
+ * question calls no transcendental functions and folding a response into an
+ * ability posterior takes one table lookup per grid point.
+ * When all discriminations are equal, as in the Rasch model, the most
+ * informative item is simply the one whose difficulty is nearest the ability,
+ * and the bank keeps the items sorted by difficulty so that it is found by
+ * binary search. Otherwise every remaining item is scored from the tables.
+ * Either way a selection over thousands of items takes microseconds.
+ * </p>
+ * <p>
+ * A bank is immutable and may be shared between threads; each learner
+ * navigates it with their own {@link #cursor()}.
+ * </p>
+ * <p>
+ * Example usage:
+ * </p>
+ * <pre>{@code
+ * double[] difficulties = ...; // one per question, e.g. from ItemBank.difficultyOf(correctRate)
+ * ItemBank bank = ItemBank.of(exam.loadSharedChapter(1), difficulties);
+ * AdaptiveCursor cursor = bank.cursor();
+ * Question question = cursor.next();
+ * cursor.answer(new char[]{'B'});
+ * }</pre>
+ *
+ * @author Kheagen Haskins
+ */
+public final class ItemBank {
+
+    // ================================[ Static ]================================ \\
+
+    /**
+     * The ability grid on which posteriors are held: {@link #GRID} points from
+     * {@link #THETA_MIN} in steps of {@link #THETA_STEP}.
+     */
+    static final double THETA_MIN  = -4;
+    static final double THETA_STEP = 0.05;
+    static final int GRID          = 161;
+
+    /**
+     * The logistic tables cover {@code z = a(θ - b)} from {@code -Z_MAX} to
+     * {@code Z_MAX} in steps of {@code 1 / Z_SCALE}; values beyond are
+     * clamped.
+     */
+    private static final int Z_MAX   = 16;
+    private static final int Z_SCALE = 32;
+
+    /**
+     * {@code log P(z)}, {@code log(1 - P(z))} and {@code P(z)(1 - P(z))}, by
+     * table index.
+     */
+    private static final double[] LOG_P, LOG_Q, PQ;
+
+    static {
+        final int size = 2 * Z_MAX * Z_SCALE + 1;
+        LOG_P = new double[size];
+        LOG_Q = new double[size];
+        PQ    = new double[size];
+        for (int i = 0; i < size; i++) {
+            double z = (double) (i - Z_MAX * Z_SCALE) / Z_SCALE;
+            double p = 1 / (1 + Math.exp(-z));
+            LOG_P[i] = -Math.log1p(Math.exp(-z));
+            LOG_Q[i] = -Math.log1p(Math.exp(z));
+            PQ[i]    = p * (1 - p);
+        }
+    }
+
+    // ================================[ Fields ]================================ \\
+
+    /**
+     * The questions, by item index, in chapter order.
+     */
+    private final Question[] questions;
+
+    /**
+     * The difficulty and discrimination of each item.
+     */
+    private final double[] difficulty, discrimination;
+
+    /**
+     * Whether every item has the same discrimination.
+     */
+    private final boolean uniform;
+
+    /**
+     * The item indexes in ascending order of difficulty, and their
+     * difficulties.
+     */
+    private final int[] order;
+    private final double[] sortedDifficulty;
+
+    // =============================[ Constructors ]============================= \\
+
+    /**
+     * Constructs an item bank.
+     *
+     * @param questions      the questions.
+     * @param difficulty     the difficulty of each question.
+     * @param discrimination the discrimination of each question.
+     */
+    private ItemBank(Question[] questions, double[] difficulty, double[] discrimination) {
+        this.questions      = questions;
+        this.difficulty     = difficulty;
+        this.discrimination = discrimination;
+
+        boolean same = true;
+        for (double a : discrimination) {
+            same &= a == discrimination[0];
+        }
+
+        this.uniform = same;
+
+        Integer[] boxed = new Integer[questions.length];
+        for (int i = 0; i < boxed.length; i++) {
+            boxed[i] = i;
+        }
+
+        Arrays.sort(boxed, (x, y) -> Double.compare(difficulty[x], difficulty[y]));
+        this.order            = new int[boxed.length];
+        this.sortedDifficulty = new double[boxed.length];
+        for (int i = 0; i < boxed.length; i++) {
+            order[i]            = boxed[i];
+            sortedDifficulty[i] = difficulty[boxed[i]];
+        }
+    }
+
+    /**
+     * Creates a Rasch model bank, in which every question has a
+     * discrimination of 1.
+     *
+     * @param chapter      the chapter.
+     * @param difficulties the difficulty of each of the chapter's questions,
+     *                     in the order of {@link Chapter#getAllQuestions()}.
+     * @return a new item bank.
+     * @throws IllegalArgumentException if the number of difficulties does not
+     *                                  match the number of questions, or a
+     *                                  difficulty is not finite.
+     */
+    public static ItemBank of(Chapter chapter, double[] difficulties) {
+        double[] ones = new double[difficulties.length];
+        Arrays.fill(ones, 1);
+        return of(chapter, difficulties, ones);
+    }
+
+    /**
+     * Creates a two-parameter logistic model bank.
+     *
+     * @param chapter         the chapter.
+     * @param difficulties    the difficulty of each of the chapter's
+     *                        questions, in the order of
+     *                        {@link Chapter#getAllQuestions()}.
+     * @param discriminations the discrimination of each question.
+     * @return a new item bank.
+     * @throws IllegalArgumentException if the number of parameters does not
+     *                                  match the number of questions, a
+     *                                  difficulty is not finite, or a
+     *                                  discrimination is not positive and
+     *                                  finite.
+     */
+    public static ItemBank of(Chapter chapter, double[] difficulties, double[] discriminations) {
+        List<Question> all = chapter.getAllQuestions();
+        if (difficulties.length != all.size() || discriminations.length != all.size()) {
+            throw new IllegalArgumentException("Expected %d item parameters but found %d difficulties and %d discriminations"
+                    .formatted(all.size(), difficulties.length, discriminations.length));
+        }
+
+        for (int i = 0; i < difficulties.length; i++) {
+            if (!Double.isFinite(difficulties[i])) {
+                throw new IllegalArgumentException("Invalid difficulty for question %d: %s".formatted(i, difficulties[i]));
+            }
+
+            if (!(discriminations[i] > 0) || !Double.isFinite(discriminations[i])) {
+                throw new IllegalArgumentException("Invalid discrimination for question %d: %s".formatted(i, discriminations[i]));
+            }
+        }
+
+        return new ItemBank(all.toArray(Question[]::new), difficulties.clone(), discriminations.clone());
+    }
+
+    /**
+     * Converts the share of learners of average ability who answer a question
+     * correctly into a Rasch difficulty.
+     *
+     * @param correctRate the share of correct answers, between 0 and 1; it is
+     *                    clamped to [0.01, 0.99].
+     * @return the difficulty {@code -logit(correctRate)}.
+     */
+    public static double difficultyOf(double correctRate) {
+        double p = Math.min(0.99, Math.max(0.01, correctRate));
+        return Math.log((1 - p) / p);
+    }
+
+    // ===========================[ Accessor Methods ]=========================== \\
+
+    /**
+     * Retrieves the number of items.
+     *
+     * @return the number of questions in the bank.
+     */
+    public int size() {
+        return questions.length;
+    }
+
+    /**
+     * Retrieves the question of an item.
+     *
+     * @param item the item index.
+     * @return the question.
+     * @throws IndexOutOfBoundsException if there is no such item.
+     */
+    public Question question(int item) {
+        return questions[item];
+    }
+
+    /**
+     * Retrieves the difficulty of an item.
+     *
+     * @param item the item index.
+     * @return the difficulty, on the logit scale.
+     * @throws IndexOutOfBoundsException if there is no such item.
+     */
+    public double difficulty(int item) {
+        return difficulty[item];
+    }
+
+    /**
+     * Retrieves the discrimination of an item.
+     *
+     * @param item the item index.
+     * @return the discrimination.
+     * @throws IndexOutOfBoundsException if there is no such item.
+     */
+    public double discrimination(int item) {
+        return discrimination[item];
+    }
+
+    // =============================[ API Methods ]============================== \\
+
+    /**
+     * Creates a cursor that navigates the bank adaptively, for one learner.
+     *
+     * @return a new cursor with the prior ability estimate of 0.
+     */
+    public AdaptiveCursor cursor() {
+        return new AdaptiveCursor(this);
+    }
+
+    /**
+     * Computes the information an item gives about an ability, from the
+     * tables.
+     *
+     * @param item  the item index.
+     * @param theta the ability.
+     * @return the Fisher information of the item at {@code theta}.
+     */
+    public double information(int item, double theta) {
+        double a = discrimination[item];
+        return a * a * PQ[zIndex(a * (theta - difficulty[item]))];
+    }
+
+    // ============================[ Helper Methods ]============================ \\
+
+    /**
+     * Chooses the item with the most information at an ability, among those
+     * not yet asked.
+     *
+     * @param theta the ability estimate.
+     * @param asked the items already asked, by item index.
+     * @return the chosen item, or {@code -1} if every item has been asked.
+     */
+    int select(double theta, boolean[] asked) {
+        return uniform ? nearest(theta, asked) : mostInformative(theta, asked);
+    }
+
+    /**
+     * Adds the log-likelihood of a response to a posterior over the ability
+     * grid.
+     *
+     * @param item      the item answered.
+     * @param correct   whether the answer was correct.
+     * @param posterior the log posterior at each grid point.
+     */
+    void update(int item, boolean correct, double[] posterior) {
+        final double a     = discrimination[item];
+        final double[] log = correct ? LOG_P : LOG_Q;
+        for (int g = 0; g < GRID; g++) {
+            posterior[g] += log[zIndex(a * (THETA_MIN + g * THETA_STEP - difficulty[item]))];
+        }
+    }
+
+    /**
+     * Finds the unasked item whose difficulty is nearest an ability, walking
+     * outwards from its position in the difficulty order.
+     *
+     * @param theta the ability.
+     * @param asked the items already asked.
+     * @return the item, or {@code -1} if every item has been asked.
+     */
+    private int nearest(double theta, boolean[] asked) {
+        int hi = Arrays.binarySearch(sortedDifficulty, theta);
+        hi     = hi >= 0 ? hi : -hi - 1;
+        int lo = hi - 1;
+        while (lo >= 0 && asked[order[lo]]) {
+            lo--;
+        }
+
+        while (hi < order.length && asked[order[hi]]) {
+            hi++;
+        }
+
+        if (hi == order.length) {
+            return lo < 0 ? -1 : order[lo];
+        }
+
+        if (lo < 0) {
+            return order[hi];
+        }
+
+        return theta - sortedDifficulty[lo] <= sortedDifficulty[hi] - theta ? order[lo] : order[hi];
+    }
+
+    /**
+     * Scores every unasked item at an ability.
+     *
+     * @param theta the ability.
+     * @param asked the items already asked.
+     * @return the most informative item, or {@code -1} if every item has been
+     *         asked.
+     */
+    private int mostInformative(double theta, boolean[] asked) {
+        int best        = -1;
+        double bestInfo = -1;
+        for (int i = 0; i < questions.length; i++) {
+            if (!asked[i]) {
+                double info = information(i, theta);
+                if (info > bestInfo) {
+                    best     = i;
+                    bestInfo = info;
+                }
+            }
+        }
+
+        return best;
+    }
+
+    /**
+     * Finds the table index nearest a logit.
+     *
+     * @param z the logit.
+     * @return the clamped table index.
+     */
+    private static int zIndex(double z) {
+        long i = Math.round((z + Z_MAX) * Z_SCALE);
+        return (int) Math.max(0, Math.min(2L * Z_MAX * Z_SCALE, i));
+    }
+
+}
@@ -0,0 +1,165 @@
+package com.slinky.mockmate.data;
+
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * Splits question text and code into search terms.
+ *
+ * <p>
+ * A term is a maximal run of Java identifier characters, so identifiers,
+ * keywords and numbers survive intact ({@code var}, {@code String},
+ * {@code 1200}) while operators and punctuation separate terms. A compound
+ * identifier is also split into its words at case changes, underscores and
+ * dollar signs, so {@code parseInt} yields {@code parseint}, {@code parse} and
+ * {@code int}, and {@code MAX_VALUE} yields {@code max_value}, {@code max} and
+ * {@code value}. All terms are lower case.
+ * </p>
+ * <p>
+ * This class is not instantiable and all methods are static.
+ * </p>
+ *
+ * @author Kheagen Haskins
+ */
+final class JavaTokenizer {
+
+    // =============================[ Constructors ]============================= \\
+    /**
+     * Private constructor to prevent instantiation of the utility class.
+     */
+    private JavaTokenizer() {}
+
+    // =============================[ API Methods ]============================== \\
+
+    /**
+     * Passes every term of {@code text} to {@code sink}, in order of
+     * appearance. A term may be passed more than once.
+     *
+     * @param text the text to tokenize, or {@code null} for none.
+     * @param sink receives each term.
+     */
+    static void tokenize(CharSequence text, Consumer<String> sink) {
+        if (text == null) {
+            return;
+        }
+
+        final int length = text.length();
+        int i = 0;
+        while (i < length) {
+            if (!isTermChar(text.charAt(i))) {
+                i++;
+                continue;
+            }
+
+            int start = i;
+            while (i < length && isTermChar(text.charAt(i))) {
+                i++;
+            }
+
+            emit(text, start, i, sink);
+        }
+    }
+
+    // ============================[ Helper Methods ]============================ \\
+
+    /**
+     * Passes a run of identifier characters and, if it is compound, each of
+     * its words.
+     *
+     * @param text  the text.
+     * @param start the start of the run.
+     * @param end   the end of the run.
+     * @param sink  receives each term.
+     */
+    private static void emit(CharSequence text, int start, int end, Consumer<String> sink) {
+        sink.accept(lowerCase(text, start, end));
+
+        int wordStart = start;
+        int words     = 0;
+        for (int i = start + 1; i <= end; i++) {
+            if (i == end || isWordBoundary(text, i, end)) {
+                int from = skipSeparators(text, wordStart, i);
+                if (from < i && (words > 0 || i < end)) {
+                    sink.accept(lowerCase(text, from, i));
+                    words++;
+                }
+
+                wordStart = i;
+            }
+        }
+    }
+
+    /**
+     * Checks whether a new word starts at {@code i}: at a separator, at a
+     * lower to upper case change ({@code parse|Int}), or before the last
+     * capital of an acronym ({@code HTTP|Server}).
+     *
+     * @param text the text.
+     * @param i    the index of the character, greater than the run's start.
+     * @param end  the end of the run.
+     * @return {@code true} if a word starts at {@code i}.
+     */
+    private static boolean isWordBoundary(CharSequence text, int i, int end) {
+        char prev = text.charAt(i - 1), c = text.charAt(i);
+        if (isSeparator(c)) {
+            return true;
+        }
+
+        if (Character.isUpperCase(c)) {
+            return Character.isLowerCase(prev) || Character.isDigit(prev)
+                    || (Character.isUpperCase(prev) && i + 1 < end && Character.isLowerCase(text.charAt(i + 1)));
+        }
+
+        return false;
+    }
+
+    /**
+     * Skips separators at the start of a word.
+     *
+     * @param text the text.
+     * @param from the start of the word.
+     * @param to   the end of the word.
+     * @return the index of the word's first character that is not a
+     *         separator, or {@code to}.
+     */
+    private static int skipSeparators(CharSequence text, int from, int to) {
+        while (from < to && isSeparator(text.charAt(from))) {
+            from++;
+        }
+
+        return from;
+    }
+
+    /**
+     * Checks whether a character separates the words of an identifier.
+     *
+     * @param c the character.
+     * @return {@code true} for {@code '_'} and {@code '$'}.
+     */
+    private static boolean isSeparator(char c) {
+        return c == '_' || c == '$';
+    }
+
+    /**
+     * Checks whether a character can be part of a term.
+     *
+     * @param c the character.
+     * @return {@code true} if {@code c} can be part of a Java identifier.
+     */
+    private static boolean isTermChar(char c) {
+        return Character.isJavaIdentifierPart(c) && !Character.isIdentifierIgnorable(c);
+    }
+
+    /**
+     * Lower-cases a region of text.
+     *
+     * @param text  the text.
+     * @param start the start of the region.
+     * @param end   the end of the region.
+     * @return the region in lower case.
+     */
+    private static String lowerCase(CharSequence text, int start, int end) {
+        return text.subSequence(start, end).toString().toLowerCase(Locale.ROOT);
+    }
+
+}
@@ -0,0 +1,403 @@
+package com.slinky.mockmate.data;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import java.util.zip.Checksum;
+
+/**
+ * Periodically snapshots the {@link SessionState} an {@link AnswerJournal}
+ * maintains and drops the journal segments the snapshot makes redundant, so
+ * that recovery time is bounded by the size of the state rather than the
+ * length of the answer history.
+ *
+ * <p>
+ * A snapshot is taken at a journal sequence number: the journal's durable
+ * sequence when the snapshot starts, before which every record has already
+ * been applied to the state. The state is then written chapter by chapter,
+ * each section keyed by exam and chapter number, while appends carry on;
+ * answers recorded during the write may or may not be included. Because a
+ * later answer to a question always replaces an earlier one, replaying the
+ * records from the snapshot's sequence number on top of it yields exactly the
+ * state a full replay would, whichever of those answers the snapshot caught.
+ * </p>
+ * <p>
+ * Snapshots are written to a temporary file, forced to disk and renamed into
+ * the journal directory as {@code <sequence>.snapshot}, so a crash never
+ * leaves a partial snapshot in place, and a CRC-32C trailer catches later
+ * damage. Once the new snapshot is durable, older snapshots and every segment
+ * whose records all precede it are deleted. {@link AnswerJournal#open(Path,
+ * SessionState)} loads the newest snapshot and replays only what follows it.
+ * </p>
+ * <p>
+ * Snapshots run on a background daemon thread every
+ * {@code mockmate.journal.snapshotSeconds} seconds, 300 by default, and can be
+ * taken at any time with {@link #snapshot()}. A directory should have one
+ * compactor at a time. All methods are thread-safe.
+ * </p>
+ * <p>
+ * Example usage:
+ * </p>
+ * <pre>{@code
+ * var state = new SessionState();
+ * try (var journal   = AnswerJournal.open(Path.of("journal"), state);
+ *      var compactor = JournalCompactor.start(journal, state)) {
+ *     journal.append(System.currentTimeMillis(), user, examCode, 1, 4, mask).join();
+ * }
+ * }</pre>
+ *
+ * @author Kheagen Haskins
+ */
+public final class JournalCompactor implements Closeable {
+
+    // ================================[ Static ]================================ \\
+
+    /**
+     * Identifies a snapshot file.
+     */
+    private static final int MAGIC = 0x4D4D5353; // "MMSS"
+
+    /**
+     * The version of the snapshot format.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * The file name suffix of a snapshot.
+     */
+    static final String SNAPSHOT_SUFFIX = ".snapshot";
+
+    /**
+     * The file name suffix of a snapshot being written.
+     */
+    private static final String TEMP_SUFFIX = ".snapshot.tmp";
+
+    /**
+     * Default time between snapshots, overridable with the
+     * {@code mockmate.journal.snapshotSeconds} system property.
+     */
+    private static final Duration DEFAULT_PERIOD = Duration.ofSeconds(Long.getLong("mockmate.journal.snapshotSeconds", 300));
+
+    // ================================[ Fields ]================================ \\
+
+    /**
+     * The journal whose segments are dropped, and the state it maintains.
+     */
+    private final AnswerJournal journal;
+    private final SessionState state;
+
+    /**
+     * Runs the periodic snapshots.
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * The sequence number of the newest snapshot, or {@code -1} if there is
+     * none.
+     */
+    private volatile long snapshotSequence;
+
+    /**
+     * Why the last periodic snapshot failed, or {@code null} if it succeeded.
+     */
+    private volatile IOException lastFailure;
+
+    // =============================[ Constructors ]============================= \\
+
+    /**
+     * Constructs a compactor and schedules its snapshots.
+     *
+     * @param journal  the journal.
+     * @param state    the state the journal maintains.
+     * @param period   the time between snapshots.
+     * @param sequence the sequence number of the newest snapshot, or
+     *                 {@code -1}.
+     */
+    private JournalCompactor(AnswerJournal journal, SessionState state, Duration period, long sequence) {
+        this.journal          = journal;
+        this.state            = state;
+        this.snapshotSequence = sequence;
+        this.scheduler        = Executors.newSingleThreadScheduledExecutor(task -> {
+            var thread = new Thread(task, "mockmate-compactor-" + journal.directory().getFileName());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long millis = period.toMillis();
+        scheduler.scheduleWithFixedDelay(this::runScheduled, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    // ============================[ Factory Methods ]=========================== \\
+
+    /**
+     * Starts snapshotting a journal's state at the default period.
+     *
+     * @param journal the journal, opened with
+     *                {@link AnswerJournal#open(Path, SessionState)}.
+     * @param state   the state the journal was opened with.
+     * @return the running compactor.
+     * @throws IOException          if the journal directory cannot be listed.
+     * @throws NullPointerException if an argument is {@code null}.
+     */
+    public static JournalCompactor start(AnswerJournal journal, SessionState state) throws IOException {
+        return start(journal, state, DEFAULT_PERIOD);
+    }
+
+    /**
+     * Starts snapshotting a journal's state.
+     *
+     * @param journal the journal, opened with
+     *                {@link AnswerJournal#open(Path, SessionState)}.
+     * @param state   the state the journal was opened with.
+     * @param period  the time between snapshots.
+     * @return the running compactor.
+     * @throws IOException              if the journal directory cannot be
+     *                                  listed.
+     * @throws IllegalArgumentException if the period is shorter than a
+     *                                  millisecond.
+     * @throws NullPointerException     if an argument is {@code null}.
+     */
+    public static JournalCompactor start(AnswerJournal journal, SessionState state, Duration period) throws IOException {
+        Objects.requireNonNull(journal, "Journal cannot be null");
+        Objects.requireNonNull(state, "Session state cannot be null");
+        if (period.toMillis() <= 0) {
+            throw new IllegalArgumentException("Invalid snapshot period: " + period);
+        }
+
+        List<Path> snapshots = snapshots(journal.directory());
+        long sequence        = snapshots.isEmpty() ? -1 : sequenceOf(snapshots.get(snapshots.size() - 1));
+        return new JournalCompactor(journal, state, period, sequence);
+    }
+
+    // ===========================[ Accessor Methods ]=========================== \\
+
+    /**
+     * Retrieves the sequence number of the newest snapshot: every record
+     * before it is covered by the snapshot.
+     *
+     * @return the sequence number, or {@code -1} if there is no snapshot.
+     */
+    public long snapshotSequence() {
+        return snapshotSequence;
+    }
+
+    /**
+     * Retrieves why the last periodic snapshot failed. Periodic snapshots keep
+     * running after a failure.
+     *
+     * @return the failure, or {@code null} if the last periodic snapshot
+     *         succeeded or none has run.
+     */
+    public IOException lastFailure() {
+        return lastFailure;
+    }
+
+    // =============================[ API Methods ]============================== \\
+
+    /**
+     * Writes a snapshot of the state unless the journal has not advanced since
+     * the last one, then deletes older snapshots and redundant segments.
+     *
+     * @return the sequence number of the newest snapshot.
+     * @throws IOException if the snapshot cannot be written or a file cannot
+     *                     be deleted.
+     */
+    public synchronized long snapshot() throws IOException {
+        final Path directory = journal.directory();
+        final long sequence  = journal.durableSequence();
+        if (sequence > snapshotSequence) {
+            writeSnapshot(directory, state, sequence);
+            snapshotSequence = sequence;
+        }
+
+        for (Path snapshot : snapshots(directory)) {
+            if (sequenceOf(snapshot) < snapshotSequence) {
+                Files.delete(snapshot);
+            }
+        }
+
+        AnswerJournal.dropSegments(directory, snapshotSequence);
+        return snapshotSequence;
+    }
+
+    /**
+     * Stops the periodic snapshots, waiting for one in progress to finish.
+     * Closing a closed compactor does nothing.
+     *
+     * @throws InterruptedIOException if interrupted while waiting.
+     */
+    @Override
+    public void close() throws IOException {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while closing compactor for " + journal.directory());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "JournalCompactor[directory=%s, snapshot=%d]".formatted(journal.directory(), snapshotSequence);
+    }
+
+    // =============================[ Persistence ]============================== \\
+
+    /**
+     * Loads the newest snapshot in a journal directory into a state, deleting
+     * any snapshot left half written by a crash.
+     *
+     * @param directory the journal directory.
+     * @param state     an empty state.
+     * @return the snapshot's sequence number, or {@code -1} if there is no
+     *         snapshot.
+     * @throws IOException           if the snapshot cannot be read or is
+     *                               damaged.
+     * @throws IllegalStateException if the state is not empty.
+     */
+    static long loadSnapshot(Path directory, SessionState state) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path temp : files.filter(file -> file.getFileName().toString().endsWith(TEMP_SUFFIX)).toList()) {
+                Files.delete(temp);
+            }
+        }
+
+        List<Path> snapshots = snapshots(directory);
+        if (snapshots.isEmpty()) {
+            return -1;
+        }
+
+        Path file    = snapshots.get(snapshots.size() - 1);
+        byte[] bytes = Files.readAllBytes(file);
+        var checksum = new CRC32C();
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        try {
+            checksum.update(bytes, 0, bytes.length - 4);
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION
+                    || buffer.getInt(bytes.length - 4) != (int) checksum.getValue()) {
+                throw new IOException("Damaged session snapshot: " + file);
+            }
+
+            long sequence = buffer.getLong();
+            state.readFrom(buffer.limit(bytes.length - 4));
+            if (buffer.hasRemaining() || sequence != sequenceOf(file)) {
+                throw new IOException("Damaged session snapshot: " + file);
+            }
+
+            return sequence;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException ex) {
+            throw new IOException("Damaged session snapshot: " + file);
+        }
+    }
+
+    /**
+     * Writes a snapshot of a state and atomically moves it into place.
+     *
+     * @param directory the journal directory.
+     * @param state     the state.
+     * @param sequence  the journal sequence number the snapshot covers.
+     * @throws IOException if the snapshot cannot be written.
+     */
+    static void writeSnapshot(Path directory, SessionState state, long sequence) throws IOException {
+        Path temp = Files.createTempFile(directory, "", TEMP_SUFFIX);
+        try {
+            try (var channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                var checksum = new CRC32C();
+                write(channel, checksum, ByteBuffer.allocate(16).putInt(MAGIC).putInt(VERSION).putLong(sequence).flip());
+                state.writeTo(channel, checksum);
+                write(channel, new CRC32C(), ByteBuffer.allocate(4).putInt((int) checksum.getValue()).flip());
+                channel.force(true);
+            }
+
+            Files.move(temp, snapshotPath(directory, sequence), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            AnswerJournal.syncDirectory(directory);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Writes a whole buffer to a channel, adding its bytes to a checksum.
+     *
+     * @param channel  the channel.
+     * @param checksum the checksum.
+     * @param buffer   a heap buffer, flipped for reading.
+     * @throws IOException if the channel fails.
+     */
+    static void write(FileChannel channel, Checksum checksum, ByteBuffer buffer) throws IOException {
+        checksum.update(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    // ============================[ Helper Methods ]============================ \\
+
+    /**
+     * Periodic task: takes a snapshot and records any failure.
+     */
+    private void runScheduled() {
+        try {
+            snapshot();
+            lastFailure = null;
+        } catch (IOException ex) {
+            lastFailure = ex;
+        } catch (RuntimeException ex) {
+            lastFailure = new IOException("Snapshot failed for " + journal.directory(), ex);
+        }
+    }
+
+    /**
+     * Lists the snapshots of a journal in sequence order.
+     *
+     * @param directory the journal directory.
+     * @return the snapshot files.
+     * @throws IOException if the directory cannot be listed.
+     */
+    static List<Path> snapshots(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(SNAPSHOT_SUFFIX))
+                        .sorted() // Names are zero padded sequence numbers
+                        .toList();
+        }
+    }
+
+    /**
+     * Names the snapshot taken at a sequence number.
+     *
+     * @param directory the journal directory.
+     * @param sequence  the sequence number.
+     * @return the snapshot's path.
+     */
+    static Path snapshotPath(Path directory, long sequence) {
+        return directory.resolve("%019d%s".formatted(sequence, SNAPSHOT_SUFFIX));
+    }
+
+    /**
+     * Reads a snapshot's sequence number from its name.
+     *
+     * @param snapshot the snapshot.
+     * @return the sequence number.
+     */
+    private static long sequenceOf(Path snapshot) {
+        String name = snapshot.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SNAPSHOT_SUFFIX.length()));
+    }
+
+}
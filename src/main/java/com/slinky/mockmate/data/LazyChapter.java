@@ -0,0 +1,521 @@
+package com.slinky.mockmate.data;
+
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A read-only chapter that decodes each question from its slice of the
+ * chapter's question pack the first time it is accessed.
+ *
+ * <p>
+ * Loading a lazy chapter reads the pack and records where each question
+ * starts and how long it is, but parses nothing. A session that only visits a
+ * few questions of a chapter therefore only pays for those. The pack bytes and
+ * the decoded questions live in a {@link Pack} shared by every lazy chapter
+ * loaded from it, while navigation state belongs to each {@code LazyChapter}.
+ * </p>
+ * <p>
+ * Decoded questions are held through soft references, so the garbage
+ * collector can reclaim the ones that are no longer in use when memory runs
+ * short. A reclaimed question is decoded again on its next access.
+ * </p>
+ * <p>
+ * Questions are addressed by position: the question with ordinal {@code n} is
+ * the {@code n}th question of the pack, as the build tools guarantee. A lazy
+ * chapter cannot be modified.
+ * </p>
+ *
+ * @author Kheagen Haskins
+ */
+final class LazyChapter implements Chapter {
+
+    // ================================[ Fields ]================================ \\
+
+    /**
+     * The shared pack the questions are decoded from.
+     */
+    private final Pack pack;
+
+    /**
+     * The position of the next question to be retrieved.
+     */
+    private int nextIndex;
+
+    // =============================[ Constructors ]============================= \\
+
+    /**
+     * Constructs a lazy chapter over a pack, positioned at the first question.
+     *
+     * @param pack the pack to decode questions from.
+     */
+    LazyChapter(Pack pack) {
+        this.pack = Objects.requireNonNull(pack, "Pack cannot be null");
+    }
+
+    // ===========================[ Accessor Methods ]=========================== \\
+
+    /**
+     * Retrieves the shared pack this chapter decodes its questions from.
+     *
+     * @return the pack.
+     */
+    Pack pack() {
+        return pack;
+    }
+
+    @Override
+    public String getTitle() {
+        return pack.title;
+    }
+
+    @Override
+    public int getChapterNumber() {
+        return pack.chapterNumber;
+    }
+
+    @Override
+    public int countQuestions() {
+        return pack.offsets.length;
+    }
+
+    // =============================[ API Methods ]============================== \\
+
+    /**
+     * Not supported, since a lazy chapter is read only.
+     *
+     * @param question ignored.
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public void addQuestion(Question question) {
+        throw new UnsupportedOperationException("Chapter %d is loaded lazily and cannot be modified".formatted(pack.chapterNumber));
+    }
+
+    /**
+     * Not supported, since a lazy chapter is read only.
+     *
+     * @param ordinal ignored.
+     * @return never returns normally.
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public boolean removeQuestion(int ordinal) {
+        throw new UnsupportedOperationException("Chapter %d is loaded lazily and cannot be modified".formatted(pack.chapterNumber));
+    }
+
+    /**
+     * Retrieves a question by its ordinal value, decoding it if it has not
+     * been decoded yet.
+     *
+     * @param ordinal the ordinal value of the question to retrieve.
+     * @return the question with the specified ordinal value.
+     * @throws IllegalArgumentException if no question matches the given
+     *                                  ordinal value.
+     */
+    @Override
+    public Question getQuestion(int ordinal) {
+        if (ordinal < 1 || ordinal > pack.offsets.length) {
+            throw new IllegalArgumentException("Invalid question number: " + ordinal);
+        }
+
+        return pack.question(ordinal - 1);
+    }
+
+    /**
+     * Retrieves the next question in the sequence, wrapping back to the first
+     * question after the last.
+     *
+     * @return the next question in the sequence.
+     */
+    @Override
+    public Question nextQuestion() {
+        checkNotEmpty();
+        var q     = pack.question(nextIndex);
+        nextIndex = (nextIndex + 1) % pack.offsets.length;
+        return q;
+    }
+
+    /**
+     * Retrieves the previous question in the sequence, wrapping to the last
+     * question before the first.
+     *
+     * @return the previous question in the sequence.
+     */
+    @Override
+    public Question previousQuestion() {
+        checkNotEmpty();
+        nextIndex = (nextIndex + pack.offsets.length - 1) % pack.offsets.length;
+        return pack.question(nextIndex);
+    }
+
+    /**
+     * Retrieves an unmodifiable view of the chapter's questions. Each question
+     * is decoded when the view first hands it out.
+     *
+     * @return a list of all questions in the chapter.
+     */
+    @Override
+    public List<Question> getAllQuestions() {
+        return pack.view;
+    }
+
+    /**
+     * Creates a cursor that decodes each question as it reaches it.
+     *
+     * @return a new cursor.
+     */
+    @Override
+    public ChapterCursor cursor() {
+        return new Cursor(pack);
+    }
+
+    @Override
+    public String toString() {
+        return "LazyChapter[%d: %s, %d of %d decoded]"
+                .formatted(pack.chapterNumber, pack.title, pack.decodedCount(), pack.offsets.length);
+    }
+
+    // ============================[ Helper Methods ]============================ \\
+
+    /**
+     * Ensures that there are questions to navigate.
+     *
+     * @throws IllegalStateException if there are no questions.
+     */
+    private void checkNotEmpty() {
+        if (pack.offsets.length == 0) {
+            throw new IllegalStateException("Cannot iterate through questions whens they are empty");
+        }
+    }
+
+    // ============================[ Nested Types ]============================== \\
+
+    /**
+     * A chapter's question pack together with the position of every question
+     * in it and the questions decoded so far. Safe for use by many threads.
+     */
+    static final class Pack {
+
+        /**
+         * The chapter number.
+         */
+        private final int chapterNumber;
+
+        /**
+         * The chapter title.
+         */
+        private final String title;
+
+        /**
+         * The bytes of the question pack.
+         */
+        private final byte[] bytes;
+
+        /**
+         * The offset of each question within {@link #bytes}.
+         */
+        private final int[] offsets;
+
+        /**
+         * The length of each question in bytes.
+         */
+        private final int[] lengths;
+
+        /**
+         * The decoded questions by position, or {@code null} where a question
+         * has not been decoded yet.
+         */
+        private final AtomicReferenceArray<Decoded> decoded;
+
+        /**
+         * The number of times a question has been decoded, including decodes
+         * repeated after a reclaim or lost to a concurrent decode.
+         */
+        private final LongAdder decodes = new LongAdder();
+
+        /**
+         * An unmodifiable view of every question, in order.
+         */
+        private final List<Question> view = new QuestionList();
+
+        /**
+         * Constructs a pack.
+         *
+         * @param chapterNumber the chapter number.
+         * @param title         the chapter title.
+         * @param bytes         the bytes of the question pack.
+         * @param offsets       the offset of each question in the pack.
+         * @param lengths       the length of each question in bytes.
+         * @throws IllegalArgumentException if a slice lies outside the pack.
+         */
+        Pack(int chapterNumber, String title, byte[] bytes, int[] offsets, int[] lengths) {
+            if (offsets.length != lengths.length) {
+                throw new IllegalArgumentException("Expected one length per offset");
+            }
+
+            for (int i = 0; i < offsets.length; i++) {
+                Objects.checkFromIndexSize(offsets[i], lengths[i], bytes.length);
+            }
+
+            this.chapterNumber = chapterNumber;
+            this.title         = title;
+            this.bytes         = bytes;
+            this.offsets       = offsets;
+            this.lengths       = lengths;
+            this.decoded       = new AtomicReferenceArray<>(offsets.length);
+        }
+
+        /**
+         * Creates a pack from a chapter's manifest and the bytes of its
+         * question pack.
+         *
+         * @param entry the manifest of the chapter.
+         * @param bytes the bytes of the chapter's question pack.
+         * @return the pack.
+         */
+        static Pack of(ExamManifest.ChapterManifest entry, byte[] bytes) {
+            final var questions = entry.questions();
+            final int[] offsets = new int[questions.size()];
+            final int[] lengths = new int[questions.size()];
+            for (int i = 0; i < offsets.length; i++) {
+                offsets[i] = questions.get(i).offset();
+                lengths[i] = questions.get(i).length();
+            }
+
+            return new Pack(entry.number(), entry.title(), bytes, offsets, lengths);
+        }
+
+        /**
+         * Retrieves the question at a position, decoding it if it has not been
+         * decoded or has been reclaimed. When two threads decode the same
+         * question at once, both receive the instance that was stored first.
+         *
+         * @param position the zero-based position of the question.
+         * @return the question.
+         * @throws IndexOutOfBoundsException if the position is out of range.
+         * @throws IllegalStateException     if the question's ordinal does not
+         *                                   match its position.
+         */
+        QuestionData question(int position) {
+            Objects.checkIndex(position, offsets.length);
+            Decoded ref           = decoded.get(position);
+            QuestionData question = ref == null ? null : ref.get();
+            if (question != null) {
+                return question;
+            }
+
+            final var saved = new LongAdder();
+            question        = decode(position, saved);
+            var fresh       = new Decoded(question, saved.sum());
+            while (!decoded.compareAndSet(position, ref, fresh)) {
+                ref = decoded.get(position);
+                QuestionData winner = ref == null ? null : ref.get();
+                if (winner != null) {
+                    return winner;
+                }
+            }
+
+            return question;
+        }
+
+        /**
+         * Counts the questions currently held in decoded form.
+         *
+         * @return the number of decoded questions not yet reclaimed.
+         */
+        int decodedCount() {
+            int count = 0;
+            for (int i = 0; i < offsets.length; i++) {
+                var ref = decoded.get(i);
+                if (ref != null && ref.get() != null) {
+                    count++;
+                }
+            }
+
+            return count;
+        }
+
+        /**
+         * Retrieves the estimated heap saved by string pooling in the
+         * questions currently held in decoded form.
+         *
+         * @return the saved bytes; questions that have been reclaimed no
+         *         longer count.
+         */
+        long deduplicatedBytes() {
+            long saved = 0;
+            for (int i = 0; i < offsets.length; i++) {
+                var ref = decoded.get(i);
+                if (ref != null && ref.get() != null) {
+                    saved += ref.saved;
+                }
+            }
+
+            return saved;
+        }
+
+        /**
+         * Retrieves the number of decodes performed so far.
+         *
+         * @return the decode count.
+         */
+        long decodeCount() {
+            return decodes.sum();
+        }
+
+        /**
+         * Retrieves the number of bytes held for the pack itself.
+         *
+         * @return the pack size in bytes.
+         */
+        int byteSize() {
+            return bytes.length;
+        }
+
+        /**
+         * Parses the question at a position from its slice of the pack.
+         *
+         * @param position the zero-based position of the question.
+         * @param saved    receives the heap saved by string pooling.
+         * @return the parsed question.
+         */
+        private QuestionData decode(int position, LongAdder saved) {
+            final QuestionData question;
+            try {
+                question = QuestionReader.shared().read(bytes, offsets[position], lengths[position], saved);
+            } catch (IOException ex) {
+                throw new RuntimeException("IO Error: " + ex.getMessage());
+            }
+
+            decodes.increment();
+            if (question.ordinal() != position + 1) {
+                throw new IllegalStateException("Expected question %d of chapter %d but found %d"
+                        .formatted(position + 1, chapterNumber, question.ordinal()));
+            }
+
+            return question;
+        }
+
+        /**
+         * A decoded question, held softly, with the heap its decode saved by
+         * string pooling.
+         */
+        private static final class Decoded extends SoftReference<QuestionData> {
+
+            /**
+             * The estimated bytes saved.
+             */
+            final long saved;
+
+            /**
+             * Constructs a reference to a decoded question.
+             *
+             * @param question the question.
+             * @param saved    the estimated bytes its decode saved.
+             */
+            Decoded(QuestionData question, long saved) {
+                super(question);
+                this.saved = saved;
+            }
+
+        }
+
+        /**
+         * An unmodifiable view of the pack's questions that decodes each one on
+         * access.
+         */
+        private final class QuestionList extends AbstractList<Question> implements RandomAccess {
+
+            @Override
+            public Question get(int position) {
+                return question(position);
+            }
+
+            @Override
+            public int size() {
+                return offsets.length;
+            }
+
+        }
+
+    }
+
+    /**
+     * A cursor over a pack that decodes each question as it reaches it.
+     */
+    private static final class Cursor implements ChapterCursor {
+
+        /**
+         * The pack being navigated.
+         */
+        private final Pack pack;
+
+        /**
+         * The position of the next question to be retrieved.
+         */
+        private int position;
+
+        /**
+         * Constructs a cursor at the first question.
+         *
+         * @param pack the pack to navigate.
+         */
+        Cursor(Pack pack) {
+            this.pack = pack;
+        }
+
+        @Override
+        public Question next() {
+            checkNotEmpty();
+            var q    = pack.question(position);
+            position = (position + 1) % size();
+            return q;
+        }
+
+        @Override
+        public Question previous() {
+            checkNotEmpty();
+            position = (position + size() - 1) % size();
+            return pack.question(position);
+        }
+
+        @Override
+        public int position() {
+            return position;
+        }
+
+        @Override
+        public void seek(int position) {
+            if (position < 0 || position >= size()) {
+                throw new IllegalArgumentException("Invalid cursor position: " + position);
+            }
+
+            this.position = position;
+        }
+
+        @Override
+        public int size() {
+            return pack.offsets.length;
+        }
+
+        /**
+         * Ensures that there are questions to navigate.
+         *
+         * @throws IllegalStateException if there are no questions.
+         */
+        private void checkNotEmpty() {
+            if (size() == 0) {
+                throw new IllegalStateException("Cannot iterate through questions whens they are empty");
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,103 @@
+package com.slinky.mockmate.data;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Provides the default {@link Executor} used for asynchronous chapter loading.
+ *
+ * <p>
+ * On JDK 21 and later the default executor starts a virtual thread per task,
+ * which suits the many short blocking resource reads a chapter load performs.
+ * On earlier JDKs it falls back to a bounded pool of daemon threads, sized by
+ * the {@code mockmate.loader.threads} system property or, if unset, by the
+ * number of available processors.
+ * </p>
+ * <p>
+ * This class is not instantiable and all methods are static.
+ * </p>
+ *
+ * @author Kheagen Haskins
+ */
+final class LoadExecutors {
+
+    // ================================[ Static ]================================ \\
+
+    /**
+     * The lazily created default executor.
+     */
+    private static volatile Executor defaultExecutor;
+
+    // =============================[ Constructors ]============================= \\
+    /**
+     * Private constructor to prevent instantiation of the utility class.
+     */
+    private LoadExecutors() {}
+
+    // =============================[ API Methods ]============================== \\
+
+    /**
+     * Retrieves the executor used when no executor is passed to the
+     * asynchronous loading methods of {@link Exam}.
+     *
+     * @return the shared default executor.
+     */
+    static Executor defaultExecutor() {
+        var executor = defaultExecutor;
+        if (executor == null) {
+            synchronized (LoadExecutors.class) {
+                executor = defaultExecutor;
+                if (executor == null) {
+                    executor        = createDefaultExecutor();
+                    defaultExecutor = executor;
+                }
+            }
+        }
+
+        return executor;
+    }
+
+    // ============================[ Helper Methods ]============================ \\
+
+    /**
+     * Creates a virtual thread per task executor when the running JDK supports
+     * it, otherwise a bounded pool of daemon threads.
+     *
+     * @return a new executor.
+     */
+    private static Executor createDefaultExecutor() {
+        try {
+            // Looked up reflectively so the code still compiles for release 17
+            var factory = MethodHandles.publicLookup().findStatic(
+                    Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class));
+            return (ExecutorService) factory.invoke();
+        } catch (NoSuchMethodException | IllegalAccessException ex) {
+            int threads = Integer.getInteger("mockmate.loader.threads", Runtime.getRuntime().availableProcessors());
+            return Executors.newFixedThreadPool(Math.max(1, threads), daemonThreads());
+        } catch (Throwable ex) {
+            throw new IllegalStateException("Unable to create the loader executor", ex);
+        }
+    }
+
+    /**
+     * Creates a factory for named daemon threads, so that idle loader threads
+     * never keep the JVM alive.
+     *
+     * @return a new thread factory.
+     */
+    private static ThreadFactory daemonThreads() {
+        var counter = new AtomicInteger();
+        return task -> {
+            var thread = new Thread(task, "mockmate-loader-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+}
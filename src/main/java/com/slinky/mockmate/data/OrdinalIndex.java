@@ -0,0 +1,251 @@
+package com.slinky.mockmate.data;
+
+import java.util.Arrays;
+
+/**
+ * An index from question ordinals to the slots holding them in a
+ * {@link ChapterData}.
+ *
+ * <p>
+ * Ordinals are kept in an open-addressing hash table of primitive ints with
+ * linear probing, so lookups, insertions and removals take constant time and
+ * never box. A chapter may hold several questions with the same ordinal, so
+ * each table entry points at the first and last slot holding its ordinal, and
+ * the slots in between are chained in insertion order. Removing an ordinal
+ * therefore always removes its earliest remaining slot.
+ * </p>
+ *
+ * @author Kheagen Haskins
+ */
+final class OrdinalIndex {
+
+    // ================================[ Static ]================================ \\
+
+    /**
+     * Marks an unused table entry or the end of a slot chain.
+     */
+    private static final int NONE = -1;
+
+    /**
+     * The initial number of table entries. Must be a power of two.
+     */
+    private static final int INITIAL_TABLE_SIZE = 16;
+
+    // ================================[ Fields ]================================ \\
+
+    /**
+     * The ordinal of each table entry.
+     */
+    private int[] keys;
+
+    /**
+     * The first slot holding each entry's ordinal, or {@link #NONE} if the
+     * entry is unused.
+     */
+    private int[] heads;
+
+    /**
+     * The last slot holding each entry's ordinal.
+     */
+    private int[] tails;
+
+    /**
+     * For each slot, the next slot holding the same ordinal, or {@link #NONE}.
+     */
+    private int[] nextSame;
+
+    /**
+     * The number of distinct ordinals in the table.
+     */
+    private int count;
+
+    // =============================[ Constructors ]============================= \\
+
+    /**
+     * Constructs an empty index able to chain the given number of slots before
+     * growing.
+     *
+     * @param slotCapacity the initial slot capacity.
+     */
+    OrdinalIndex(int slotCapacity) {
+        keys     = new int[INITIAL_TABLE_SIZE];
+        heads    = newTable(INITIAL_TABLE_SIZE);
+        tails    = new int[INITIAL_TABLE_SIZE];
+        nextSame = new int[slotCapacity];
+    }
+
+    /**
+     * Constructs a copy of the given index.
+     *
+     * @param source the index to copy.
+     */
+    OrdinalIndex(OrdinalIndex source) {
+        keys     = source.keys.clone();
+        heads    = source.heads.clone();
+        tails    = source.tails.clone();
+        nextSame = source.nextSame.clone();
+        count    = source.count;
+    }
+
+    // =============================[ API Methods ]============================== \\
+
+    /**
+     * Records that a slot holds a question with the given ordinal. The slot
+     * must be later than every slot already recorded.
+     *
+     * @param ordinal the question's ordinal.
+     * @param slot    the slot holding the question.
+     */
+    void add(int ordinal, int slot) {
+        if (slot >= nextSame.length) {
+            nextSame = Arrays.copyOf(nextSame, Math.max(slot + 1, nextSame.length * 2));
+        }
+
+        nextSame[slot] = NONE;
+        int i = find(ordinal);
+        if (heads[i] != NONE) {
+            nextSame[tails[i]] = slot;
+            tails[i]           = slot;
+            return;
+        }
+
+        keys[i]  = ordinal;
+        heads[i] = slot;
+        tails[i] = slot;
+        if (++count * 2 > keys.length) {
+            resize(keys.length * 2);
+        }
+    }
+
+    /**
+     * Retrieves the earliest slot holding the given ordinal.
+     *
+     * @param ordinal the ordinal to look up.
+     * @return the slot, or {@code -1} if no slot holds the ordinal.
+     */
+    int first(int ordinal) {
+        return heads[find(ordinal)];
+    }
+
+    /**
+     * Removes the earliest slot holding the given ordinal.
+     *
+     * @param ordinal the ordinal to remove.
+     * @return the removed slot, or {@code -1} if no slot holds the ordinal.
+     */
+    int removeFirst(int ordinal) {
+        int i    = find(ordinal);
+        int head = heads[i];
+        if (head == NONE) {
+            return NONE;
+        }
+
+        int next = nextSame[head];
+        if (next == NONE) {
+            delete(i);
+        } else {
+            heads[i] = next;
+        }
+
+        return head;
+    }
+
+    /**
+     * Removes every ordinal from the index.
+     */
+    void clear() {
+        Arrays.fill(heads, NONE);
+        count = 0;
+    }
+
+    // ============================[ Helper Methods ]============================ \\
+
+    /**
+     * Finds the table entry of an ordinal.
+     *
+     * @param ordinal the ordinal to look up.
+     * @return the entry holding the ordinal, or the unused entry where it
+     *         would be inserted.
+     */
+    private int find(int ordinal) {
+        final int mask = keys.length - 1;
+        int i = hash(ordinal) & mask;
+        while (heads[i] != NONE && keys[i] != ordinal) {
+            i = (i + 1) & mask;
+        }
+
+        return i;
+    }
+
+    /**
+     * Removes a table entry, shifting later entries of the same probe run back
+     * so that lookups never need tombstones.
+     *
+     * @param i the entry to remove.
+     */
+    private void delete(int i) {
+        final int mask = keys.length - 1;
+        for (int j = (i + 1) & mask; heads[j] != NONE; j = (j + 1) & mask) {
+            int home = hash(keys[j]) & mask;
+            // The entry at j may move to i only if its home is not cyclically within (i, j]
+            boolean stays = i <= j ? (i < home && home <= j) : (i < home || home <= j);
+            if (!stays) {
+                keys[i]  = keys[j];
+                heads[i] = heads[j];
+                tails[i] = tails[j];
+                i        = j;
+            }
+        }
+
+        heads[i] = NONE;
+        count--;
+    }
+
+    /**
+     * Rehashes the table into the given number of entries.
+     *
+     * @param size the new table size, a power of two.
+     */
+    private void resize(int size) {
+        final int[] oldKeys  = keys;
+        final int[] oldHeads = heads;
+        final int[] oldTails = tails;
+
+        keys  = new int[size];
+        heads = newTable(size);
+        tails = new int[size];
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (oldHeads[j] != NONE) {
+                int i    = find(oldKeys[j]);
+                keys[i]  = oldKeys[j];
+                heads[i] = oldHeads[j];
+                tails[i] = oldTails[j];
+            }
+        }
+    }
+
+    /**
+     * Creates a table column with every entry unused.
+     *
+     * @param size the number of entries.
+     * @return the new column.
+     */
+    private static int[] newTable(int size) {
+        int[] table = new int[size];
+        Arrays.fill(table, NONE);
+        return table;
+    }
+
+    /**
+     * Spreads an ordinal over the table. Ordinals are usually small and
+     * consecutive, so the bits are mixed to avoid long probe runs.
+     *
+     * @param ordinal the ordinal.
+     * @return the mixed hash.
+     */
+    private static int hash(int ordinal) {
+        int h = ordinal * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+}
@@ -39,7 +39,8 @@ public interface Question {
     /**
      * Returns the available choices for the question.
      *
-     * @return an array of strings representing the answer choices.
+     * @return an array of strings representing the answer choices. Changes to
+     *         the array do not affect the question.
      */
     String[] choices();
 
@@ -47,11 +48,23 @@ public interface Question {
      * Returns the correct answers for the question.
      *
      * @return an array of characters representing the correct answers.
+     *         Changes to the array do not affect the question.
      */
     char[] answers();
 
     /**
-     * Determines whether the provided answers are correct.
+     * Returns the correct answers as an answer mask, in which bit {@code n} is
+     * set when choice {@code 'A' + n} is correct.
+     *
+     * @return the answer key mask.
+     * @see ScoringPolicy#mask(char...)
+     */
+    int answerMask();
+
+    /**
+     * Determines whether the provided answers are correct, that is, whether
+     * they select exactly the correct answers. Letters are case insensitive
+     * and their order does not matter.
      *
      * @param answers an array of answer characters to evaluate; must not be
      * {@code null}.
@@ -59,7 +72,34 @@ public interface Question {
      * test answers; {@code false} otherwise.
      * @throws NullPointerException if {@code answers} is {@code null}.
      */
-    boolean isCorrect(char[] answers);
+    default boolean isCorrect(char[] answers) {
+        return ScoringPolicy.mask(answers) == answerMask();
+    }
+
+    /**
+     * Scores the provided answers under a scoring policy.
+     *
+     * @param answers an array of answer characters to evaluate; must not be
+     * {@code null}.
+     * @param policy  the scoring policy.
+     * @return the credit awarded, where {@code 1} is full credit.
+     * @throws NullPointerException if {@code answers} is {@code null}.
+     */
+    default double score(char[] answers, ScoringPolicy policy) {
+        return score(ScoringPolicy.mask(answers), policy);
+    }
+
+    /**
+     * Scores a submission already converted to an answer mask under a scoring
+     * policy.
+     *
+     * @param submission the answer mask of the selected answers.
+     * @param policy     the scoring policy.
+     * @return the credit awarded, where {@code 1} is full credit.
+     */
+    default double score(int submission, ScoringPolicy policy) {
+        return policy.score(answerMask(), submission);
+    }
 
     /**
      * Checks whether a code snippet is associated with the question.
@@ -77,10 +117,27 @@ public interface Question {
      * @return the number of correct answers found.
      * @throws NullPointerException if {@code answers} is {@code null}.
      */
-    int countCorrect(char[] answers);
+    default int countCorrect(char[] answers) {
+        if (answers == null) {
+            throw new NullPointerException("Answers array cannot be null.");
+        }
+
+        final int key = answerMask();
+        int count     = 0;
+        for (char answer : answers) {
+            // A letter's mask has a single bit, so this adds one exactly when it is in the key
+            count += Integer.bitCount(key & ScoringPolicy.bit(answer));
+        }
+
+        return count;
+    }
 
     /**
      * Retrieves the ordinal character corresponding to the specified answer.
+     * The answer is matched ignoring case and surrounding whitespace, and may
+     * be given with or without the choice's ordinal prefix, so both
+     * {@code "A. It prints q1=blue."} and {@code "it prints q1=blue."} map to
+     * {@code 'A'}.
      *
      * @param answer the answer to find the ordinal for; must not be
      * {@code null}.
@@ -90,4 +147,39 @@ public interface Question {
      */
     char getOrdinalOf(String answer);
 
+    /**
+     * Retrieves the ordinal characters corresponding to many answers at once,
+     * as {@link #getOrdinalOf(String)} would for each. Nothing is allocated,
+     * so callers can reuse {@code ordinals} across questions.
+     *
+     * @param answers  the answers to find the ordinals for; no element may be
+     *                 {@code null}.
+     * @param ordinals receives the ordinal of {@code answers[i]} at index
+     *                 {@code i}, or {@code 0} if it matches no choice.
+     * @return the number of answers that matched a choice.
+     * @throws NullPointerException      if either array or any answer is
+     *                                   {@code null}.
+     * @throws IndexOutOfBoundsException if {@code ordinals} is shorter than
+     *                                   {@code answers}.
+     */
+    default int getOrdinalsOf(String[] answers, char[] ordinals) {
+        if (answers == null || ordinals == null) {
+            throw new NullPointerException("Answers and ordinals arrays cannot be null.");
+        }
+
+        if (ordinals.length < answers.length) {
+            throw new IndexOutOfBoundsException("Expected room for %d ordinals but found %d".formatted(answers.length, ordinals.length));
+        }
+
+        int matched = 0;
+        for (int i = 0; i < answers.length; i++) {
+            ordinals[i] = getOrdinalOf(answers[i]);
+            if (ordinals[i] != 0) {
+                matched++;
+            }
+        }
+
+        return matched;
+    }
+
 }
\ No newline at end of file
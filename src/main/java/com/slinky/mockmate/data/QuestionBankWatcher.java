@@ -0,0 +1,587 @@
+package com.slinky.mockmate.data;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+/**
+ * Watches an exam JSON source tree and swaps edited chapters into a
+ * {@link ChapterCache} while the application is running.
+ *
+ * <p>
+ * Every exam and chapter directory under the root is registered with a
+ * {@link WatchService}. Events are debounced: a batch is applied once the tree
+ * has been quiet for the debounce interval, so an editor that saves a file in
+ * several writes causes a single reload. For each chapter touched by the
+ * batch, only the changed {@code q<n>.json} files are parsed again and the
+ * other questions are carried over from the current version of the chapter.
+ * </p>
+ * <p>
+ * The new version is frozen before it is swapped in with
+ * {@link ChapterCache#replace(ExamCode, int, ChapterData)}, so readers never
+ * block on a reload. A user who already holds the old chapter, or a cursor
+ * over it, keeps a consistent view of the old questions until they load the
+ * chapter again.
+ * </p>
+ * <p>
+ * A file that cannot be parsed leaves the current version in place and is
+ * reported through {@link #lastFailure()}. The chapter's changes stay pending,
+ * so the other edits of the batch are not lost: the next event in the tree,
+ * such as the next save of the file, tries the whole set again. The exam manifest is not reread, so chapter counts keep their
+ * build-time values and a chapter directory the build did not know about is
+ * ignored. The titles and question counts an {@link Exam} reports,
+ * {@link Exam#sample} and a {@link SearchIndex} attached to the cache follow
+ * the swapped in version. An {@link AttributeIndex} keeps the questions it was
+ * built from, and exams opened with {@link Exam#mapExam(ExamCode)} do not see
+ * reloads.
+ * </p>
+ * <p>
+ * Example usage:
+ * </p>
+ * <pre>{@code
+ * try (var watcher = QuestionBankWatcher.start(Path.of("src/main/resources/json"))) {
+ *     Exam exam = Exam.loadExam(ExamCode.EXAM_CODE_1Z0_829);
+ *     // Edits to exam-1Z0-829/chapter1/q3.json show up in new loads of chapter 1
+ * }
+ * }</pre>
+ *
+ * @author Kheagen Haskins
+ */
+public final class QuestionBankWatcher implements Closeable {
+
+    // ================================[ Static ]================================ \\
+
+    /**
+     * Default quiet period before a batch of edits is applied, overridable
+     * with the {@code mockmate.reload.debounceMillis} system property.
+     */
+    private static final Duration DEFAULT_DEBOUNCE = Duration.ofMillis(Long.getLong("mockmate.reload.debounceMillis", 250));
+
+    /**
+     * The longest a batch is held back by a stream of edits, in debounce
+     * intervals, so that a file written continuously is still reloaded.
+     */
+    private static final int MAX_BATCH_INTERVALS = 8;
+
+    // ================================[ Fields ]================================ \\
+
+    /**
+     * The root of the watched tree.
+     */
+    private final Path jsonRoot;
+
+    /**
+     * The cache new chapter versions are swapped into.
+     */
+    private final ChapterCache cache;
+
+    /**
+     * The quiet period before a batch is applied, in nanoseconds.
+     */
+    private final long debounceNanos;
+
+    /**
+     * Delivers the file system events.
+     */
+    private final WatchService service;
+
+    /**
+     * Collects events and applies each batch.
+     */
+    private final Thread thread;
+
+    /**
+     * The number of chapter versions swapped in. Written only by
+     * {@link #thread}.
+     */
+    private volatile long reloadCount;
+
+    /**
+     * The number of question files parsed. Written only by {@link #thread}.
+     */
+    private volatile long parseCount;
+
+    /**
+     * Why the last batch failed, or {@code null} if it succeeded.
+     */
+    private volatile IOException lastFailure;
+
+    /**
+     * The first failure of the batch being collected and applied. Accessed
+     * only by {@link #thread}.
+     */
+    private IOException batchFailure;
+
+    // =============================[ Constructors ]============================= \\
+
+    /**
+     * Constructs a watcher and registers the tree with a new watch service.
+     * The watching thread is started by the factory method.
+     *
+     * @param jsonRoot the root of the tree.
+     * @param cache    the cache to swap chapters into.
+     * @param debounce the quiet period before a batch is applied.
+     * @throws IOException if the tree cannot be registered.
+     */
+    private QuestionBankWatcher(Path jsonRoot, ChapterCache cache, Duration debounce) throws IOException {
+        this.jsonRoot      = jsonRoot;
+        this.cache         = cache;
+        this.debounceNanos = debounce.toNanos();
+        this.service       = jsonRoot.getFileSystem().newWatchService();
+
+        try {
+            register(jsonRoot);
+            for (Path examDir : ExamSources.exams(jsonRoot)) {
+                registerExam(examDir);
+            }
+        } catch (IOException | RuntimeException ex) {
+            service.close();
+            throw ex;
+        }
+
+        this.thread = new Thread(this::run, "mockmate-reload-" + jsonRoot.getFileName());
+        thread.setDaemon(true);
+    }
+
+    // ============================[ Factory Methods ]=========================== \\
+
+    /**
+     * Starts watching a JSON source tree for the shared chapter cache, with
+     * the default debounce interval.
+     *
+     * @param jsonRoot the directory holding the {@code exam-<code>}
+     *                 directories.
+     * @return the running watcher.
+     * @throws IOException          if the tree cannot be registered.
+     * @throws NullPointerException if {@code jsonRoot} is {@code null}.
+     */
+    public static QuestionBankWatcher start(Path jsonRoot) throws IOException {
+        return start(jsonRoot, ChapterCache.shared(), DEFAULT_DEBOUNCE);
+    }
+
+    /**
+     * Starts watching a JSON source tree.
+     *
+     * @param jsonRoot the directory holding the {@code exam-<code>}
+     *                 directories.
+     * @param cache    the cache the edited chapters are swapped into.
+     * @param debounce the quiet period before a batch of edits is applied.
+     * @return the running watcher.
+     * @throws IOException              if the tree cannot be registered.
+     * @throws IllegalArgumentException if the debounce interval is shorter
+     *                                  than a millisecond.
+     * @throws NullPointerException     if an argument is {@code null}.
+     */
+    public static QuestionBankWatcher start(Path jsonRoot, ChapterCache cache, Duration debounce) throws IOException {
+        Objects.requireNonNull(jsonRoot, "JSON root cannot be null");
+        Objects.requireNonNull(cache, "Chapter cache cannot be null");
+        if (debounce.toMillis() <= 0) {
+            throw new IllegalArgumentException("Invalid debounce interval: " + debounce);
+        }
+
+        var watcher = new QuestionBankWatcher(jsonRoot, cache, debounce);
+        watcher.thread.start();
+        return watcher;
+    }
+
+    // ===========================[ Accessor Methods ]=========================== \\
+
+    /**
+     * Retrieves the number of chapter versions swapped in so far.
+     *
+     * @return the reload count.
+     */
+    public long reloadCount() {
+        return reloadCount;
+    }
+
+    /**
+     * Retrieves the number of question files parsed so far, which grows by the
+     * number of changed files on each reload rather than by the chapter size.
+     *
+     * @return the parse count.
+     */
+    public long parseCount() {
+        return parseCount;
+    }
+
+    /**
+     * Retrieves the first failure of the last batch. Failed chapters are
+     * tried again with the next batch, and a batch in which every chapter is
+     * reloaded clears it.
+     *
+     * @return the failure, or {@code null} if the last batch succeeded.
+     */
+    public IOException lastFailure() {
+        return lastFailure;
+    }
+
+    // =============================[ API Methods ]============================== \\
+
+    /**
+     * Stops watching. Edits still waiting out the debounce interval are
+     * discarded. Calling this method again has no effect.
+     *
+     * @throws IOException if interrupted while waiting for the watching thread
+     *                     to stop.
+     */
+    @Override
+    public void close() throws IOException {
+        service.close();
+        try {
+            thread.join();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while closing watcher for " + jsonRoot);
+        }
+    }
+
+    // ============================[ Helper Methods ]============================ \\
+
+    /**
+     * Body of the watching thread: waits for an event, collects the events
+     * that follow until the tree is quiet, then applies the batch. The changes
+     * of a chapter that fails to reload are kept for the next batch.
+     */
+    private void run() {
+        final Map<Path, Changes> pending = new HashMap<>();
+        final long maxBatchNanos         = debounceNanos * MAX_BATCH_INTERVALS;
+
+        try {
+            while (true) {
+                collect(service.take(), pending);
+
+                final long deadline = System.nanoTime() + maxBatchNanos;
+                WatchKey key;
+                while (System.nanoTime() - deadline < 0
+                        && (key = service.poll(debounceNanos, TimeUnit.NANOSECONDS)) != null) {
+                    collect(key, pending);
+                }
+
+                pending.entrySet().removeIf(entry -> apply(entry.getKey(), entry.getValue()));
+                lastFailure  = batchFailure;
+                batchFailure = null;
+            }
+        } catch (ClosedWatchServiceException ex) {
+            // Closed by close()
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Records the events of a watch key as pending changes and resets the key.
+     *
+     * @param key     the signalled key.
+     * @param pending the changes waiting to be applied, by chapter directory.
+     */
+    private void collect(WatchKey key, Map<Path, Changes> pending) {
+        final Path dir = (Path) key.watchable();
+
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW) {
+                // Events were lost, so every chapter below the directory is read again
+                markAll(dir, pending);
+                continue;
+            }
+
+            final Path child = dir.resolve((Path) event.context());
+            if (isChapterDir(dir)) {
+                if (ExamSources.isQuestion(child)) {
+                    pending.computeIfAbsent(dir, d -> new Changes()).questions.add(ExamSources.questionNumber(child));
+                } else if (child.getFileName().toString().equals(ExamSources.META_FILE)) {
+                    pending.computeIfAbsent(dir, d -> new Changes()).meta = true;
+                }
+            } else if (event.kind() == ENTRY_CREATE && Files.isDirectory(child)) {
+                try {
+                    if (dir.equals(jsonRoot) && ExamSources.isExam(child)) {
+                        registerExam(child);
+                        markAll(child, pending);
+                    } else if (isChapterDir(child)) {
+                        register(child);
+                        pending.computeIfAbsent(child, d -> new Changes()).all = true;
+                    }
+                } catch (IOException ex) {
+                    fail(ex);
+                }
+            }
+        }
+
+        key.reset();
+    }
+
+    /**
+     * Marks every chapter at or below a directory to be read in full.
+     *
+     * @param dir     the root, an exam directory or a chapter directory.
+     * @param pending the changes waiting to be applied, by chapter directory.
+     */
+    private void markAll(Path dir, Map<Path, Changes> pending) {
+        try (Stream<Path> paths = Files.walk(dir, 2)) {
+            paths.filter(p -> Files.isDirectory(p) && isChapterDir(p))
+                 .forEach(p -> pending.computeIfAbsent(p, d -> new Changes()).all = true);
+        } catch (IOException ex) {
+            fail(ex);
+        }
+    }
+
+    /**
+     * Builds and swaps in a new version of an edited chapter, recording the
+     * failure if it cannot be built.
+     *
+     * @param chapterDir the chapter directory.
+     * @param changes    what changed in it.
+     * @return {@code true} if the changes were applied, {@code false} if they
+     *         must be tried again.
+     */
+    private boolean apply(Path chapterDir, Changes changes) {
+        try {
+            reload(chapterDir, changes);
+            return true;
+        } catch (IOException ex) {
+            fail(ex);
+        } catch (RuntimeException ex) {
+            fail(new IOException("Could not reload " + chapterDir, ex));
+        }
+
+        return false;
+    }
+
+    /**
+     * Records a failure of the current batch, keeping the first one.
+     *
+     * @param ex the failure.
+     */
+    private void fail(IOException ex) {
+        if (batchFailure == null) {
+            batchFailure = ex;
+        } else {
+            batchFailure.addSuppressed(ex);
+        }
+    }
+
+    /**
+     * Builds a new version of an edited chapter and swaps it in.
+     *
+     * <p>
+     * The new version starts from the one currently cached. If there is none,
+     * or events were lost, every question file of the chapter is read.
+     * Directories that name no exam or chapter in the {@link ResourceIndex}
+     * are ignored.
+     * </p>
+     *
+     * @param chapterDir the chapter directory.
+     * @param changes    what changed in it.
+     * @throws IOException if a changed file cannot be read or parsed.
+     */
+    private void reload(Path chapterDir, Changes changes) throws IOException {
+        final ExamCode examCode = examCode(chapterDir.getParent());
+        final int number        = ExamSources.chapterNumber(chapterDir);
+        if (examCode == null || !ResourceIndex.get().contains(examCode, number)) {
+            return;
+        }
+
+        final ChapterData current = changes.all ? null : cache.getIfPresent(examCode, number);
+        final ChapterData next    = current == null
+                ? readChapter(chapterDir, number)
+                : updateChapter(current, chapterDir, changes);
+
+        cache.replace(examCode, number, next.freeze());
+        reloadCount++;
+    }
+
+    /**
+     * Reads every question of a chapter directory.
+     *
+     * @param chapterDir the chapter directory.
+     * @param number     the chapter number.
+     * @return the new, unfrozen chapter.
+     * @throws IOException if a file cannot be read or parsed.
+     */
+    private ChapterData readChapter(Path chapterDir, int number) throws IOException {
+        final var chapter = new ChapterData(number, ExamSources.meta(chapterDir).title());
+        for (Path file : ExamSources.questions(chapterDir)) {
+            chapter.addQuestion(readQuestion(file, ExamSources.questionNumber(file)));
+        }
+
+        return chapter;
+    }
+
+    /**
+     * Builds a new version of a chapter from its current version, parsing
+     * only the changed question files. A changed file that no longer exists
+     * removes its question. Every changed file is tried, so that one failure
+     * reports the others as suppressed exceptions.
+     *
+     * @param current    the current version.
+     * @param chapterDir the chapter directory.
+     * @param changes    what changed in it.
+     * @return the new, unfrozen chapter.
+     * @throws IOException if a changed file cannot be read or parsed.
+     */
+    private ChapterData updateChapter(ChapterData current, Path chapterDir, Changes changes) throws IOException {
+        final String title = changes.meta ? ExamSources.meta(chapterDir).title() : current.getTitle();
+
+        final Map<Integer, Question> questions = new TreeMap<>();
+        for (Question question : current.getAllQuestions()) {
+            questions.put(question.ordinal(), question);
+        }
+
+        IOException failure = null;
+        for (int ordinal : changes.questions) {
+            final Path file = chapterDir.resolve("q" + ordinal + ".json");
+            try {
+                if (Files.exists(file)) {
+                    questions.put(ordinal, readQuestion(file, ordinal));
+                } else {
+                    questions.remove(ordinal);
+                }
+            } catch (IOException ex) {
+                if (failure == null) {
+                    failure = ex;
+                } else {
+                    failure.addSuppressed(ex);
+                }
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+
+        final var chapter = new ChapterData(current.getChapterNumber(), title);
+        for (Question question : questions.values()) {
+            chapter.addQuestion(question);
+        }
+
+        return chapter;
+    }
+
+    /**
+     * Parses a question file and checks that its ordinal matches its name.
+     *
+     * @param file    the {@code q<n>.json} file.
+     * @param ordinal the number in the file name.
+     * @return the parsed question.
+     * @throws IOException if the file cannot be read or parsed, or holds a
+     *                     different question.
+     */
+    private QuestionData readQuestion(Path file, int ordinal) throws IOException {
+        final QuestionData question;
+        try (InputStream in = Files.newInputStream(file)) {
+            question = QuestionReader.shared().read(in);
+        }
+
+        parseCount++;
+        if (question.ordinal() != ordinal) {
+            throw new IOException("Expected %s to hold question %d but found %d".formatted(file, ordinal, question.ordinal()));
+        }
+
+        return question;
+    }
+
+    /**
+     * Registers a directory for creations, modifications and deletions.
+     *
+     * @param dir the directory.
+     * @throws IOException if it cannot be registered.
+     */
+    private void register(Path dir) throws IOException {
+        dir.register(service, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+    }
+
+    /**
+     * Registers an exam directory and each of its chapter directories.
+     *
+     * @param examDir the exam directory.
+     * @throws IOException if a directory cannot be listed or registered.
+     */
+    private void registerExam(Path examDir) throws IOException {
+        register(examDir);
+        try (Stream<Path> entries = Files.list(examDir)) {
+            for (Path dir : (Iterable<Path>) entries::iterator) {
+                if (Files.isDirectory(dir) && ExamSources.isChapter(dir)) {
+                    register(dir);
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests whether a path is a chapter directory of an exam under the root.
+     *
+     * @param dir the path.
+     * @return {@code true} if it is {@code <root>/exam-<code>/chapter<n>}.
+     */
+    private boolean isChapterDir(Path dir) {
+        final Path examDir = dir.getParent();
+        return examDir != null && jsonRoot.equals(examDir.getParent())
+                && ExamSources.isExam(examDir) && ExamSources.isChapter(dir);
+    }
+
+    /**
+     * Finds the exam an exam directory holds.
+     *
+     * @param examDir the {@code exam-<code>} directory.
+     * @return the exam code, or {@code null} if it names no known exam.
+     */
+    private static ExamCode examCode(Path examDir) {
+        final String code = ExamSources.examCode(examDir);
+        for (ExamCode examCode : ExamCode.values()) {
+            if (examCode.getCode().equals(code)) {
+                return examCode;
+            }
+        }
+
+        return null;
+    }
+
+    // ============================[ Nested Types ]============================== \\
+
+    /**
+     * The edits to one chapter directory collected for the next batch.
+     * Accessed only by the watching thread.
+     */
+    private static final class Changes {
+
+        /**
+         * The numbers of the question files created, modified or deleted.
+         */
+        final TreeSet<Integer> questions = new TreeSet<>();
+
+        /**
+         * Whether {@code meta.json} changed.
+         */
+        boolean meta;
+
+        /**
+         * Whether every question file must be read, because the directory is
+         * new or events were lost.
+         */
+        boolean all;
+
+    }
+
+}
@@ -0,0 +1,553 @@
+package com.slinky.mockmate.data;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * A compressed set of question ids, used by
+ * {@link AttributeIndex} to answer filters with set operations.
+ *
+ * <p>
+ * The layout follows roaring bitmaps. Ids are split into a high and a low 16
+ * bits, and the low bits of all ids sharing a high half are kept in one
+ * container: a sorted {@code char} array while it holds at most 4,096 ids, or
+ * a 65,536-bit bitmap once it holds more. Sparse sets therefore cost two bytes
+ * per id and dense sets one bit per id, and {@link #and}, {@link #or} and
+ * {@link #andNot} work container by container, skipping containers present in
+ * only one operand where they can.
+ * </p>
+ * <p>
+ * A bitmap is filled with {@link #add(int)} while it is built and never
+ * changes once published. Its fields are not final, so it must be published
+ * safely before it is shared between threads, as {@link AttributeIndex} does
+ * through its final fields; after that it is read-only and thread-safe.
+ * Results of set operations may share containers with their operands.
+ * </p>
+ * <p>
+ * Example usage:
+ * </p>
+ * <pre>{@code
+ * QuestionBitmap ids = index.withCode().and(index.multiAnswer());
+ * ids.forEach(id -> System.out.println(index.ordinal(id)));
+ * }</pre>
+ *
+ * @author Kheagen Haskins
+ */
+public final class QuestionBitmap {
+
+    // ================================[ Static ]================================ \\
+
+    /**
+     * The largest number of ids an array container holds before it becomes a
+     * bitmap container, the point at which both take 8 KB.
+     */
+    private static final int ARRAY_LIMIT = 4_096;
+
+    /**
+     * The number of {@code long} words in a bitmap container.
+     */
+    private static final int WORDS = 1 << 10;
+
+    /**
+     * The bitmap holding no ids.
+     */
+    public static final QuestionBitmap EMPTY = new QuestionBitmap(new char[0], new Container[0], 0);
+
+    // ================================[ Fields ]================================ \\
+
+    /**
+     * The high 16 bits of the ids in each container, ascending.
+     */
+    private char[] keys;
+
+    /**
+     * The containers, in the order of {@link #keys}.
+     */
+    private Container[] containers;
+
+    /**
+     * The number of containers in use.
+     */
+    private int size;
+
+    // =============================[ Constructors ]============================= \\
+
+    /**
+     * Constructs an empty bitmap to be filled with {@link #add(int)}.
+     */
+    QuestionBitmap() {
+        this(new char[4], new Container[4], 0);
+    }
+
+    /**
+     * Constructs a bitmap over the given containers.
+     *
+     * @param keys       the container keys.
+     * @param containers the containers.
+     * @param size       the number of containers in use.
+     */
+    private QuestionBitmap(char[] keys, Container[] containers, int size) {
+        this.keys       = keys;
+        this.containers = containers;
+        this.size       = size;
+    }
+
+    /**
+     * Creates a bitmap holding the given ids.
+     *
+     * @param ids the ids, in any order; duplicates are ignored.
+     * @return a new bitmap.
+     * @throws IllegalArgumentException if an id is negative.
+     */
+    public static QuestionBitmap of(int... ids) {
+        int[] sorted = ids.clone();
+        Arrays.sort(sorted);
+
+        var bitmap = new QuestionBitmap();
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                bitmap.add(sorted[i]);
+            }
+        }
+
+        return bitmap;
+    }
+
+    // ===========================[ Accessor Methods ]=========================== \\
+
+    /**
+     * Retrieves the number of ids in the bitmap.
+     *
+     * @return the number of ids.
+     */
+    public int cardinality() {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            count += containers[i].cardinality;
+        }
+
+        return count;
+    }
+
+    /**
+     * Checks whether the bitmap is empty.
+     *
+     * @return {@code true} if the bitmap holds no ids.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Checks whether the bitmap holds an id.
+     *
+     * @param id the id.
+     * @return {@code true} if {@code id} is in the bitmap.
+     */
+    public boolean contains(int id) {
+        if (id < 0) {
+            return false;
+        }
+
+        int i = Arrays.binarySearch(keys, 0, size, (char) (id >>> 16));
+        return i >= 0 && containers[i].contains((char) id);
+    }
+
+    // =============================[ API Methods ]============================== \\
+
+    /**
+     * Computes the ids in both this bitmap and another.
+     *
+     * @param other the other bitmap.
+     * @return the intersection.
+     */
+    public QuestionBitmap and(QuestionBitmap other) {
+        var result = new QuestionBitmap(new char[Math.min(size, other.size)], new Container[Math.min(size, other.size)], 0);
+        int i = 0, j = 0;
+        while (i < size && j < other.size) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                result.append(keys[i], Container.and(containers[i], other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Computes the ids in either this bitmap or another.
+     *
+     * @param other the other bitmap.
+     * @return the union.
+     */
+    public QuestionBitmap or(QuestionBitmap other) {
+        var result = new QuestionBitmap(new char[size + other.size], new Container[size + other.size], 0);
+        int i = 0, j = 0;
+        while (i < size || j < other.size) {
+            if (j == other.size || (i < size && keys[i] < other.keys[j])) {
+                result.append(keys[i], containers[i++]);
+            } else if (i == size || keys[i] > other.keys[j]) {
+                result.append(other.keys[j], other.containers[j++]);
+            } else {
+                result.append(keys[i], Container.or(containers[i++], other.containers[j++]));
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Computes the ids in this bitmap but not in another.
+     *
+     * @param other the ids to remove.
+     * @return the difference.
+     */
+    public QuestionBitmap andNot(QuestionBitmap other) {
+        var result = new QuestionBitmap(new char[size], new Container[size], 0);
+        int j = 0;
+        for (int i = 0; i < size; i++) {
+            while (j < other.size && other.keys[j] < keys[i]) {
+                j++;
+            }
+
+            boolean shared = j < other.size && other.keys[j] == keys[i];
+            result.append(keys[i], shared ? Container.andNot(containers[i], other.containers[j]) : containers[i]);
+        }
+
+        return result;
+    }
+
+    /**
+     * Passes every id to {@code action}, in ascending order.
+     *
+     * @param action receives each id.
+     */
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < size; i++) {
+            containers[i].forEach(keys[i] << 16, action);
+        }
+    }
+
+    /**
+     * Lists the ids.
+     *
+     * @return the ids in ascending order.
+     */
+    public int[] toArray() {
+        int[] ids = new int[cardinality()];
+        int[] n   = new int[1];
+        forEach(id -> ids[n[0]++] = id);
+        return ids;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (!(obj instanceof QuestionBitmap other) || size != other.size) {
+            return false;
+        }
+
+        for (int i = 0; i < size; i++) {
+            if (keys[i] != other.keys[i] || !containers[i].sameIds(other.containers[i])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int[] hash = {1};
+        forEach(id -> hash[0] = 31 * hash[0] + id);
+        return hash[0];
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    // ============================[ Helper Methods ]============================ \\
+
+    /**
+     * Adds an id greater than every id already present. Only used while
+     * building a bitmap, before it is published.
+     *
+     * @param id the id.
+     * @throws IllegalArgumentException if {@code id} is negative or not greater
+     *                                  than the last id added.
+     */
+    void add(int id) {
+        if (id < 0) {
+            throw new IllegalArgumentException("Invalid question id: " + id);
+        }
+
+        final char key = (char) (id >>> 16);
+        if (size == 0 || keys[size - 1] != key) {
+            if (size > 0 && keys[size - 1] > key) {
+                throw new IllegalArgumentException("Question ids must be added in ascending order: " + id);
+            }
+
+            var container = new Container();
+            container.add((char) id);
+            append(key, container);
+            return;
+        }
+
+        containers[size - 1].add((char) id);
+    }
+
+    /**
+     * Appends a container unless it is empty.
+     *
+     * @param key       the container's key, greater than any present.
+     * @param container the container.
+     */
+    private void append(char key, Container container) {
+        if (container.cardinality == 0) {
+            return;
+        }
+
+        if (size == keys.length) {
+            keys       = Arrays.copyOf(keys, Math.max(4, size * 2));
+            containers = Arrays.copyOf(containers, keys.length);
+        }
+
+        keys[size]       = key;
+        containers[size] = container;
+        size++;
+    }
+
+    // ============================[ Nested Types ]============================== \\
+
+    /**
+     * The low 16 bits of the ids sharing a high half, held either as a sorted
+     * array ({@code values}) or as a bitmap ({@code words}), and the largest
+     * of them ({@code last}), so that adding to a bitmap does not scan it.
+     */
+    private static final class Container {
+
+        private char[] values;
+        private long[] words;
+        private int cardinality;
+        private char last;
+
+        /**
+         * Constructs an empty array container.
+         */
+        Container() {
+            this.values = new char[4];
+        }
+
+        /**
+         * Constructs a container over the given values or words.
+         *
+         * @param values      the sorted values, or {@code null}.
+         * @param words       the bitmap, or {@code null}.
+         * @param cardinality the number of ids held.
+         */
+        private Container(char[] values, long[] words, int cardinality) {
+            this.values      = values;
+            this.words       = words;
+            this.cardinality = cardinality;
+            this.last        = cardinality == 0 ? 0 : words == null ? values[cardinality - 1] : lastOf(words);
+        }
+
+        /**
+         * Adds a value greater than every value present.
+         *
+         * @param low the value.
+         * @throws IllegalArgumentException if {@code low} is not greater than
+         *                                  the last value.
+         */
+        void add(char low) {
+            if (cardinality > 0 && low <= last) {
+                throw new IllegalArgumentException("Question ids must be added in ascending order");
+            }
+
+            if (words == null && cardinality == ARRAY_LIMIT) {
+                words  = toWords();
+                values = null;
+            }
+
+            if (words != null) {
+                words[low >>> 6] |= 1L << low;
+            } else {
+                if (cardinality == values.length) {
+                    values = Arrays.copyOf(values, Math.min(ARRAY_LIMIT, cardinality * 2));
+                }
+
+                values[cardinality] = low;
+            }
+
+            last = low;
+            cardinality++;
+        }
+
+        boolean contains(char low) {
+            return words != null
+                    ? (words[low >>> 6] & (1L << low)) != 0
+                    : Arrays.binarySearch(values, 0, cardinality, low) >= 0;
+        }
+
+        void forEach(int base, IntConsumer action) {
+            if (words == null) {
+                for (int i = 0; i < cardinality; i++) {
+                    action.accept(base | values[i]);
+                }
+
+                return;
+            }
+
+            for (int w = 0; w < WORDS; w++) {
+                for (long word = words[w]; word != 0; word &= word - 1) {
+                    action.accept(base | (w << 6) | Long.numberOfTrailingZeros(word));
+                }
+            }
+        }
+
+        boolean sameIds(Container other) {
+            return cardinality == other.cardinality && Arrays.equals(toWords(), other.toWords());
+        }
+
+        static Container and(Container a, Container b) {
+            if (a.words != null && b.words != null) {
+                long[] words = new long[WORDS];
+                for (int w = 0; w < WORDS; w++) {
+                    words[w] = a.words[w] & b.words[w];
+                }
+
+                return fromWords(words);
+            }
+
+            // Probe the array side against the other
+            Container array = a.words == null ? a : b, other = array == a ? b : a;
+            char[] values   = new char[array.cardinality];
+            int n           = 0;
+            for (int i = 0; i < array.cardinality; i++) {
+                if (other.contains(array.values[i])) {
+                    values[n++] = array.values[i];
+                }
+            }
+
+            return new Container(values, null, n);
+        }
+
+        static Container or(Container a, Container b) {
+            if (a.words == null && b.words == null && a.cardinality + b.cardinality <= ARRAY_LIMIT) {
+                char[] values = new char[a.cardinality + b.cardinality];
+                int i = 0, j = 0, n = 0;
+                while (i < a.cardinality || j < b.cardinality) {
+                    if (j == b.cardinality || (i < a.cardinality && a.values[i] < b.values[j])) {
+                        values[n++] = a.values[i++];
+                    } else if (i == a.cardinality || a.values[i] > b.values[j]) {
+                        values[n++] = b.values[j++];
+                    } else {
+                        values[n++] = a.values[i++];
+                        j++;
+                    }
+                }
+
+                return new Container(values, null, n);
+            }
+
+            long[] words = a.toWords(), other = b.words != null ? b.words : b.toWords();
+            for (int w = 0; w < WORDS; w++) {
+                words[w] |= other[w];
+            }
+
+            return fromWords(words);
+        }
+
+        static Container andNot(Container a, Container b) {
+            if (a.words == null) {
+                char[] values = new char[a.cardinality];
+                int n         = 0;
+                for (int i = 0; i < a.cardinality; i++) {
+                    if (!b.contains(a.values[i])) {
+                        values[n++] = a.values[i];
+                    }
+                }
+
+                return new Container(values, null, n);
+            }
+
+            long[] words = a.toWords(), other = b.words != null ? b.words : b.toWords();
+            for (int w = 0; w < WORDS; w++) {
+                words[w] &= ~other[w];
+            }
+
+            return fromWords(words);
+        }
+
+        /**
+         * Copies the container into a new bitmap.
+         *
+         * @return the ids as 1,024 words.
+         */
+        private long[] toWords() {
+            if (words != null) {
+                return words.clone();
+            }
+
+            long[] copy = new long[WORDS];
+            for (int i = 0; i < cardinality; i++) {
+                copy[values[i] >>> 6] |= 1L << values[i];
+            }
+
+            return copy;
+        }
+
+        /**
+         * Builds a container from a bitmap, as an array if it is small enough.
+         *
+         * @param words the bitmap.
+         * @return the container.
+         */
+        private static Container fromWords(long[] words) {
+            int cardinality = 0;
+            for (long word : words) {
+                cardinality += Long.bitCount(word);
+            }
+
+            if (cardinality > ARRAY_LIMIT) {
+                return new Container(null, words, cardinality);
+            }
+
+            char[] values = new char[cardinality];
+            int n         = 0;
+            for (int w = 0; w < WORDS; w++) {
+                for (long word = words[w]; word != 0; word &= word - 1) {
+                    values[n++] = (char) ((w << 6) | Long.numberOfTrailingZeros(word));
+                }
+            }
+
+            return new Container(values, null, cardinality);
+        }
+
+        /**
+         * Finds the largest value in a bitmap that is not empty.
+         *
+         * @param words the bitmap.
+         * @return the largest value.
+         */
+        private static char lastOf(long[] words) {
+            for (int w = WORDS - 1; ; w--) {
+                if (words[w] != 0) {
+                    return (char) ((w << 6) | (63 - Long.numberOfLeadingZeros(words[w])));
+                }
+            }
+        }
+
+    }
+
+}
@@ -1,12 +1,13 @@
 package com.slinky.mockmate.data;
 
-import com.slinky.mockmate.util.StringUtil;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.util.Arrays;
+import java.util.Objects;
 
 /**
- * A record model for a mock question to be displayed by a front-end view
- * component.
+ * A model for a mock question to be displayed by a front-end view component.
  *
  * <p>
  * The {@code QuestionData} class represents a single question in a quiz-like
@@ -14,18 +15,82 @@ import java.util.Arrays;
  * choices</b>, and correct answer<b>s</b>. It provides methods to validate
  * input, check answer correctness, and format question details.
  * </p>
+ * <p>
+ * The answer key is also held as an answer mask, computed once at
+ * construction, so grading a submission compares two {@code int}s instead of
+ * searching the answer array (see {@link ScoringPolicy}). Likewise the choices
+ * are indexed once, so {@link #getOrdinalOf(String)} is a hash lookup that
+ * accepts the choice text with or without its ordinal prefix (see
+ * {@link ChoiceIndex}). Both are derived from the question's components and
+ * take no part in equality.
+ * </p>
+ * <p>
+ * A question is immutable and compares like a record of its ordinal, text,
+ * code snippet, choices and answers, with the arrays compared by identity.
+ * {@link #choices()} and {@link #answers()} return copies, so callers cannot
+ * change the question through them. Jackson binds it through the constructor.
+ * </p>
  *
  * @author  Kheagen Haskins
  * @version 0.1
  * @since   2025-01-06
  */
-record QuestionData (int ordinal, String questionText, String codeSnippet, String[] choices, char[] answers) implements Question {
+final class QuestionData implements Question {
+
+    // ================================[ Fields ]================================ \\
+
+    /**
+     * The question number.
+     */
+    private final int ordinal;
+
+    /**
+     * The question text.
+     */
+    private final String questionText;
+
+    /**
+     * The code snippet, or {@code null}.
+     */
+    private final String codeSnippet;
+
+    /**
+     * The answer choices.
+     */
+    private final String[] choices;
+
+    /**
+     * The correct answer letters.
+     */
+    private final char[] answers;
+
+    /**
+     * The answer mask of {@link #answers}.
+     */
+    private final int answerMask;
+
+    /**
+     * The index of {@link #choices}.
+     */
+    private final ChoiceIndex choiceIndex;
 
     // =============================[ Constructors ]============================= \\
     /**
-     * Compact constructor to validate input
+     * Constructs a question, validating input, computing its answer mask from
+     * {@code answers} and indexing its choices.
+     *
+     * @param ordinal      the question number.
+     * @param questionText the question text.
+     * @param codeSnippet  the code snippet, or {@code null}.
+     * @param choices      the answer choices.
+     * @param answers      the correct answer letters.
      */
-    QuestionData {
+    @JsonCreator
+    QuestionData(@JsonProperty("ordinal")      int ordinal,
+                 @JsonProperty("questionText") String questionText,
+                 @JsonProperty("codeSnippet")  String codeSnippet,
+                 @JsonProperty("choices")      String[] choices,
+                 @JsonProperty("answers")      char[] answers) {
         if (ordinal <= 0) {
             throw new IllegalArgumentException("Ordinal must be positive.");
         }
@@ -34,39 +99,62 @@ record QuestionData (int ordinal, String questionText, String codeSnippet, Strin
             throw new IllegalArgumentException("Question text cannot be null or empty.");
         }
         
-        if (answers == null || answers.length <= 0) {
-            throw new IllegalArgumentException("User choices cannot be empty or null");
+        if (choices == null) {
+            throw new IllegalArgumentException("User choices cannot be null");
         }
         
         if (answers == null || answers.length <= 0) {
             throw new IllegalArgumentException("Question answers cannot be empty or null");
         }
-    } // long constructor called
 
-    // =============================[ API Methods ]============================== \\
+        final int mask = ScoringPolicy.mask(answers);
+        if ((mask & ScoringPolicy.INVALID_CHOICE) != 0) {
+            throw new IllegalArgumentException("Question answers must be letters: " + Arrays.toString(answers));
+        }
+
+        this.ordinal      = ordinal;
+        this.questionText = questionText;
+        this.codeSnippet  = codeSnippet;
+        this.choices      = choices;
+        this.answers      = answers;
+        this.answerMask   = mask;
+        this.choiceIndex  = new ChoiceIndex(choices);
+    }
+
+    // ===========================[ Accessor Methods ]=========================== \\
 
-    /**
-     * Determines whether the provided answers are correct.
-     *
-     * @param answers an array of answer characters to evaluate; must not be
-     *                {@code null}
-     * @return {@code true} if all provided answers are correct and match the
-     *         test answers; {@code false} otherwise
-     * @throws NullPointerException if {@code answers} is {@code null}
-     */
     @Override
-    public boolean isCorrect(char[] answers) {
-        if (answers == null) {
-            throw new NullPointerException("Answers array cannot be null.");
-        }
+    public int ordinal() {
+        return ordinal;
+    }
 
-        if (answers.length != this.answers.length) {
-            return false;
-        }
-        
-        return countCorrect(answers) == this.answers.length;
+    @Override
+    public String questionText() {
+        return questionText;
     }
 
+    @Override
+    public String codeSnippet() {
+        return codeSnippet;
+    }
+
+    @Override
+    public String[] choices() {
+        return choices.clone();
+    }
+
+    @Override
+    public char[] answers() {
+        return answers.clone();
+    }
+
+    @Override
+    public int answerMask() {
+        return answerMask;
+    }
+
+    // =============================[ API Methods ]============================== \\
+
     /**
      * Checks whether a code snippet is associated with the question.
      *
@@ -78,35 +166,12 @@ record QuestionData (int ordinal, String questionText, String codeSnippet, Strin
         return codeSnippet != null && !codeSnippet.isBlank();
     }
 
-    /**
-     * Counts the number of correct answers in the provided array.
-     *
-     * @param answers an array of answer characters to evaluate; must not be
-     *                {@code null}
-     * @return the number of correct answers found
-     * @throws NullPointerException if {@code answers} is {@code null}
-     */
-    @Override
-    public int countCorrect(char[] answers) {
-        if (answers == null) {
-            throw new NullPointerException("Answers array cannot be null.");
-        }
-
-        int count = 0;
-        for (char answer : answers) {
-            if (isACorrectAnswer(answer)) {
-                count++;
-            }
-        }
-
-        return count;
-    }
-    
     /**
      * Retrieves the ordinal character corresponding to the specified answer.
      * <p>
      * For example, if the answer is the first in the list, it returns 'A'; if
-     * it is the second, 'B', and so on.
+     * it is the second, 'B', and so on. The answer may be given with or
+     * without the choice's ordinal prefix, in any case.
      * </p>
      *
      * @param answer the answer to find the ordinal for; must not be
@@ -117,65 +182,38 @@ record QuestionData (int ordinal, String questionText, String codeSnippet, Strin
      */
     @Override
     public char getOrdinalOf(String answer) {
-        if (answer == null) {
-            throw new NullPointerException("Answer cannot be null.");
-        }
-
-        char alpha = 'A';
-        for (String uAnswer : choices) {
-            if (answer.equalsIgnoreCase(uAnswer)) {
-                return alpha;
-            }
-            
-            alpha++;
-        }
-
-        return 0;
+        return choiceIndex.ordinalOf(answer);
     }
     
     /**
      * Returns a string representation of the {@code QuestionData} object,
      * including the ordinal, question text, code snippet (if any), user
      * answers, and correct answers.
+     * <p>
+     * The text is rendered in {@link RenderStyle#FULL} and cached in the
+     * shared {@link RenderCache}, so repeated calls do not format it again.
+     * </p>
      *
      * @return a formatted string containing the question details
      */
     @Override
     public String toString() {
-        return """
-               %d.\t%s
-               
-               %s
-               
-               %s
-               answers: %s
-               """.formatted(ordinal, questionText, StringUtil.formatCode(codeSnippet), formatUserAnswers(), Arrays.toString(answers));
+        return RenderCache.shared().render(this, RenderStyle.FULL);
     }
 
-    // ============================[ Helper Methods ]============================ \\
-    /**
-     * Formats the user answers for display, listing each answer on a new line.
-     *
-     * @return a formatted string of user answers
-     */
-    private String formatUserAnswers() {
-        StringBuilder formattedAnswers = new StringBuilder();
-
-        for (String answer : choices) {
-            formattedAnswers.append(answer).append(System.lineSeparator());
-        }
-
-        return formattedAnswers.toString();
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof QuestionData other
+                && ordinal == other.ordinal
+                && Objects.equals(questionText, other.questionText)
+                && Objects.equals(codeSnippet, other.codeSnippet)
+                && choices == other.choices
+                && answers == other.answers;
     }
-    
-    private boolean isACorrectAnswer(char answer) {
-        for (char cAnswer : answers) {
-            if (Character.toUpperCase(answer) == cAnswer) {
-                return true;
-            }
-        }
 
-        return false;
+    @Override
+    public int hashCode() {
+        return Objects.hash(ordinal, questionText, codeSnippet, System.identityHashCode(choices), System.identityHashCode(answers));
     }
 
 }
\ No newline at end of file
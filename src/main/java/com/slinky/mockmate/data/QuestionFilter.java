@@ -0,0 +1,149 @@
+package com.slinky.mockmate.data;
+
+/**
+ * A condition on questions that an {@link AttributeIndex} resolves into a
+ * {@link QuestionBitmap} of matching question ids.
+ *
+ * <p>
+ * Filters are built from the attribute factories below and combined with
+ * {@link #and}, {@link #or} and {@link #negate}, each of which becomes the
+ * matching bitmap operation when the filter is applied. Filters hold no
+ * index, so the same filter can be applied to any number of indexes.
+ * </p>
+ * <p>
+ * Example usage:
+ * </p>
+ * <pre>{@code
+ * QuestionFilter hard = QuestionFilter.multiAnswer()
+ *         .and(QuestionFilter.withCode())
+ *         .and(QuestionFilter.chapters(1, 3));
+ * int count = index.count(hard);
+ * }</pre>
+ *
+ * @author Kheagen Haskins
+ */
+@FunctionalInterface
+public interface QuestionFilter {
+
+    /**
+     * Resolves the filter against an index.
+     *
+     * @param index the index.
+     * @return the ids of the matching questions.
+     */
+    QuestionBitmap apply(AttributeIndex index);
+
+    /**
+     * Combines this filter with another, matching questions that match both.
+     *
+     * @param other the other filter.
+     * @return the combined filter.
+     */
+    default QuestionFilter and(QuestionFilter other) {
+        return index -> apply(index).and(other.apply(index));
+    }
+
+    /**
+     * Combines this filter with another, matching questions that match
+     * either.
+     *
+     * @param other the other filter.
+     * @return the combined filter.
+     */
+    default QuestionFilter or(QuestionFilter other) {
+        return index -> apply(index).or(other.apply(index));
+    }
+
+    /**
+     * Inverts this filter.
+     *
+     * @return a filter matching the questions this one does not.
+     */
+    default QuestionFilter negate() {
+        return index -> index.all().andNot(apply(index));
+    }
+
+    /**
+     * Matches every question.
+     *
+     * @return the filter.
+     */
+    static QuestionFilter all() {
+        return AttributeIndex::all;
+    }
+
+    /**
+     * Matches the questions of an exam.
+     *
+     * @param examCode the exam.
+     * @return the filter.
+     */
+    static QuestionFilter exam(ExamCode examCode) {
+        return index -> index.exam(examCode);
+    }
+
+    /**
+     * Matches the questions of a chapter number, in every exam.
+     *
+     * @param chapterNumber the chapter number.
+     * @return the filter.
+     */
+    static QuestionFilter chapter(int chapterNumber) {
+        return index -> index.chapter(chapterNumber);
+    }
+
+    /**
+     * Matches the questions of a range of chapter numbers, in every exam.
+     *
+     * @param from the first chapter number, inclusive.
+     * @param to   the last chapter number, inclusive.
+     * @return the filter.
+     * @throws IllegalArgumentException if {@code from} is greater than
+     *                                  {@code to}.
+     */
+    static QuestionFilter chapters(int from, int to) {
+        if (from > to) {
+            throw new IllegalArgumentException("Invalid chapter range: %d to %d".formatted(from, to));
+        }
+
+        return index -> index.chapters(from, to);
+    }
+
+    /**
+     * Matches the questions with a code snippet.
+     *
+     * @return the filter.
+     */
+    static QuestionFilter withCode() {
+        return AttributeIndex::withCode;
+    }
+
+    /**
+     * Matches the questions with exactly one correct answer.
+     *
+     * @return the filter.
+     */
+    static QuestionFilter singleAnswer() {
+        return AttributeIndex::singleAnswer;
+    }
+
+    /**
+     * Matches the questions with more than one correct answer.
+     *
+     * @return the filter.
+     */
+    static QuestionFilter multiAnswer() {
+        return AttributeIndex::multiAnswer;
+    }
+
+    /**
+     * Matches the questions with a given number of choices.
+     *
+     * @param count the number of choices.
+     * @return the filter.
+     */
+    static QuestionFilter choiceCount(int count) {
+        return index -> index.choiceCount(count);
+    }
+
+}
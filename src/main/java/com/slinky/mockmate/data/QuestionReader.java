@@ -0,0 +1,303 @@
+package com.slinky.mockmate.data;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A token-based reader that decodes a single question JSON document into a
+ * {@link QuestionData} record.
+ *
+ * <p>
+ * Unlike {@code ObjectMapper.readValue}, this reader walks the
+ * {@link JsonParser} token stream directly, so there is no reflective record
+ * introspection and no per-call mapper configuration. The lenient coercions the
+ * question files rely on are handled explicitly: the {@code ordinal} may be a
+ * number or a numeric string, and each entry of {@code answers} is a one letter
+ * string that becomes a {@code char}. Unknown fields are skipped.
+ * </p>
+ * <p>
+ * A reader built with a {@link StringPool} passes the choices through it, so
+ * that choices repeated across questions, chapters and exams are held once.
+ * Question text and code snippets are rarely repeated and are not pooled. The shared reader uses
+ * {@link StringPool#shared()}.
+ * </p>
+ * <p>
+ * Instances hold no per-document state and are safe to share between threads.
+ * Use {@link #shared()} rather than creating new readers.
+ * </p>
+ * <p>
+ * Example usage:
+ * </p>
+ * <pre>{@code
+ * try (var in = getClass().getResourceAsStream("/json/exam-1Z0-829/chapter1/q1.json")) {
+ *     QuestionData question = QuestionReader.shared().read(in);
+ * }
+ * }</pre>
+ *
+ * @author Kheagen Haskins
+ */
+final class QuestionReader {
+
+    // ================================[ Static ]================================ \\
+
+    /**
+     * The reader shared by all exams.
+     */
+    private static final QuestionReader SHARED = new QuestionReader(new JsonFactory(), StringPool.shared());
+
+    /**
+     * Reusable empty array for questions without choices.
+     */
+    private static final String[] NO_CHOICES = new String[0];
+
+    // ================================[ Fields ]================================ \\
+
+    /**
+     * The thread-safe factory used to create a parser per document.
+     */
+    private final JsonFactory factory;
+
+    /**
+     * The pool decoded strings are canonicalized through, or {@code null} to
+     * keep every string as decoded.
+     */
+    private final StringPool pool;
+
+    // =============================[ Constructors ]============================= \\
+
+    /**
+     * Constructs a new {@code QuestionReader} using the given factory, without
+     * string pooling.
+     *
+     * @param factory the factory used to create parsers.
+     */
+    QuestionReader(JsonFactory factory) {
+        this(factory, null);
+    }
+
+    /**
+     * Constructs a new {@code QuestionReader} using the given factory and
+     * string pool.
+     *
+     * @param factory the factory used to create parsers.
+     * @param pool    the pool to canonicalize decoded strings through, or
+     *                {@code null} for none.
+     */
+    QuestionReader(JsonFactory factory, StringPool pool) {
+        if (factory == null) {
+            throw new IllegalArgumentException("JSON factory cannot be null");
+        }
+
+        this.factory = factory;
+        this.pool    = pool;
+    }
+
+    // ===========================[ Accessor Methods ]=========================== \\
+
+    /**
+     * Retrieves the reader shared by all exams.
+     *
+     * @return the shared {@code QuestionReader}.
+     */
+    static QuestionReader shared() {
+        return SHARED;
+    }
+
+    // =============================[ API Methods ]============================== \\
+
+    /**
+     * Reads a question from the given stream. The stream is closed once the
+     * question has been read.
+     *
+     * @param in the stream containing a single question document.
+     * @return the decoded question.
+     * @throws IOException              if the stream cannot be read or does not
+     *                                  contain a well-formed question document.
+     * @throws IllegalArgumentException if the document describes an invalid
+     *                                  question.
+     */
+    QuestionData read(InputStream in) throws IOException {
+        if (in == null) {
+            throw new IOException("Question resource not found");
+        }
+
+        try (JsonParser parser = factory.createParser(in)) {
+            return read(parser, null);
+        }
+    }
+
+    /**
+     * Reads a question from a region of a byte array.
+     *
+     * @param data   the array holding the UTF-8 encoded document.
+     * @param offset the offset of the first byte of the document.
+     * @param length the length of the document in bytes.
+     * @return the decoded question.
+     * @throws IOException              if the region does not contain a
+     *                                  well-formed question document.
+     * @throws IllegalArgumentException if the document describes an invalid
+     *                                  question.
+     */
+    QuestionData read(byte[] data, int offset, int length) throws IOException {
+        return read(data, offset, length, null);
+    }
+
+    /**
+     * Reads a question from a region of a byte array, adding the memory saved
+     * by string pooling to a counter.
+     *
+     * @param data   the array holding the UTF-8 encoded document.
+     * @param offset the offset of the first byte of the document.
+     * @param length the length of the document in bytes.
+     * @param saved  receives the estimated bytes saved by pooling, or
+     *               {@code null}.
+     * @return the decoded question.
+     * @throws IOException              if the region does not contain a
+     *                                  well-formed question document.
+     * @throws IllegalArgumentException if the document describes an invalid
+     *                                  question.
+     */
+    QuestionData read(byte[] data, int offset, int length, LongAdder saved) throws IOException {
+        try (JsonParser parser = factory.createParser(data, offset, length)) {
+            return read(parser, saved);
+        }
+    }
+
+    // ============================[ Helper Methods ]============================ \\
+
+    /**
+     * Reads a question object from the parser's current position.
+     *
+     * @param parser a parser positioned before the question object.
+     * @param saved  receives the estimated bytes saved by pooling, or
+     *               {@code null}.
+     * @return the decoded question.
+     * @throws IOException if the token stream is not a question object.
+     */
+    private QuestionData read(JsonParser parser, LongAdder saved) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a question object");
+        }
+
+        int ordinal         = 0;
+        String questionText = null;
+        String codeSnippet  = null;
+        String[] choices    = NO_CHOICES;
+        char[] answers      = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String field = parser.currentName();
+            final JsonToken value = parser.nextToken();
+
+            switch (field) {
+                case "ordinal"      -> ordinal      = parser.getValueAsInt(0);
+                case "questionText" -> questionText = parser.getValueAsString();
+                case "codeSnippet"  -> codeSnippet  = parser.getValueAsString();
+                case "choices"      -> choices      = readChoices(parser, value, saved);
+                case "answers"      -> answers      = readAnswers(parser, value);
+                default             -> parser.skipChildren();
+            }
+        }
+
+        if (parser.currentToken() != JsonToken.END_OBJECT) {
+            throw new JsonParseException(parser, "Unterminated question object");
+        }
+
+        return new QuestionData(ordinal, questionText, codeSnippet, choices, answers);
+    }
+
+    /**
+     * Reads the {@code choices} array.
+     *
+     * @param parser a parser positioned on the value of the field.
+     * @param value  the current token.
+     * @param saved  receives the estimated bytes saved by pooling, or
+     *               {@code null}.
+     * @return the choices, or an empty array for {@code null}.
+     * @throws IOException if the value is not an array of strings.
+     */
+    private String[] readChoices(JsonParser parser, JsonToken value, LongAdder saved) throws IOException {
+        if (value == JsonToken.VALUE_NULL) {
+            return NO_CHOICES;
+        }
+
+        expectArray(parser, value, "choices");
+
+        List<String> choices = new ArrayList<>(8);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            choices.add(canonicalize(parser.getValueAsString(), saved));
+        }
+
+        return choices.toArray(NO_CHOICES);
+    }
+
+    /**
+     * Reads the {@code answers} array, converting each one letter string into a
+     * {@code char}.
+     *
+     * @param parser a parser positioned on the value of the field.
+     * @param value  the current token.
+     * @return the answers, or {@code null} for a {@code null} value.
+     * @throws IOException if the value is not an array of one letter strings.
+     */
+    private static char[] readAnswers(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        expectArray(parser, value, "answers");
+
+        char[] answers = new char[4];
+        int count      = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            String answer = parser.getValueAsString();
+            if (answer == null || answer.length() != 1) {
+                throw new JsonParseException(parser, "Invalid answer: " + answer);
+            }
+
+            if (count == answers.length) {
+                answers = Arrays.copyOf(answers, count * 2);
+            }
+
+            answers[count++] = answer.charAt(0);
+        }
+
+        return count == answers.length ? answers : Arrays.copyOf(answers, count);
+    }
+
+    /**
+     * Passes a decoded string through the pool, if this reader has one.
+     *
+     * @param value the decoded string, or {@code null}.
+     * @param saved receives the estimated bytes saved, or {@code null}.
+     * @return the canonical instance of {@code value}.
+     */
+    private String canonicalize(String value, LongAdder saved) {
+        return pool == null ? value : pool.canonicalize(value, saved);
+    }
+
+    /**
+     * Verifies that the current token starts an array.
+     *
+     * @param parser the parser, used for error reporting.
+     * @param value  the current token.
+     * @param field  the name of the field being read.
+     * @throws IOException if the token is not {@link JsonToken#START_ARRAY}.
+     */
+    private static void expectArray(JsonParser parser, JsonToken value, String field) throws IOException {
+        if (value != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected an array for '%s'".formatted(field));
+        }
+    }
+
+}
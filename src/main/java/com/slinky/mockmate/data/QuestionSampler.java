@@ -0,0 +1,170 @@
+package com.slinky.mockmate.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Chooses a seeded random selection of questions from an exam, using only the
+ * question count of each chapter.
+ *
+ * <p>
+ * The questions of the selected chapters are numbered as one sequence, chapter
+ * by chapter, and positions are drawn from that sequence with a partial
+ * Fisher-Yates shuffle whose swaps are kept in a sparse map. Every question is
+ * therefore equally likely to be chosen, so chapters are weighted by their
+ * size, and a draw costs time and memory proportional to the number of
+ * questions chosen rather than the number available. The draw uses
+ * {@link Random}, whose sequence is fixed by its specification, so a seed
+ * always gives the same selection in the same order.
+ * </p>
+ * <p>
+ * This class is not instantiable and all methods are static.
+ * </p>
+ *
+ * @author Kheagen Haskins
+ */
+final class QuestionSampler {
+
+    // =============================[ Constructors ]============================= \\
+    /**
+     * Private constructor to prevent instantiation of the utility class.
+     */
+    private QuestionSampler() {}
+
+    // =============================[ API Methods ]============================== \\
+
+    /**
+     * Draws a selection of questions from an exam's chapters.
+     *
+     * @param exam          the exam, used for its chapter and question counts.
+     * @param n             the number of questions wanted.
+     * @param chapterFilter selects the chapters to draw from, by chapter
+     *                      number.
+     * @param seed          the seed of the draw.
+     * @return the chosen questions' positions, as described for
+     *         {@link #draw(int, IntUnaryOperator, int, IntPredicate, long)}.
+     * @throws IllegalArgumentException if {@code n} is negative.
+     * @throws NullPointerException     if {@code chapterFilter} is
+     *                                  {@code null}.
+     */
+    static int[][] draw(Exam exam, int n, IntPredicate chapterFilter, long seed) {
+        return draw(exam.getChapterCount(), exam::getQuestionCount, n, chapterFilter, seed);
+    }
+
+    /**
+     * Draws a selection of questions from chapters of the given sizes.
+     *
+     * <p>
+     * {@code questionCount} is asked once for each selected chapter, in
+     * chapter order, before anything is drawn. A loader whose chapters may
+     * change can therefore pin the version of each chapter it will read the
+     * drawn questions from, and report that version's size.
+     * </p>
+     *
+     * @param chapterCount  the number of chapters.
+     * @param questionCount the number of questions of a chapter, by chapter
+     *                      number.
+     * @param n             the number of questions wanted.
+     * @param chapterFilter selects the chapters to draw from, by chapter
+     *                      number.
+     * @param seed          the seed of the draw.
+     * @return the chosen questions' positions, in draw order: element
+     *         {@code i} holds the chapter number at {@code [i][0]} and the
+     *         zero-based position of the question within the chapter at
+     *         {@code [i][1]}. Fewer than {@code n} are returned when the
+     *         selected chapters hold fewer questions.
+     * @throws IllegalArgumentException if {@code n} is negative.
+     * @throws NullPointerException     if {@code chapterFilter} is
+     *                                  {@code null}.
+     */
+    static int[][] draw(int chapterCount, IntUnaryOperator questionCount, int n, IntPredicate chapterFilter, long seed) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Sample size cannot be negative: " + n);
+        }
+
+        if (chapterFilter == null) {
+            throw new NullPointerException("Chapter filter cannot be null.");
+        }
+
+        // Prefix sums of the selected chapters' question counts
+        int[] chapters = new int[chapterCount];
+        int[] starts   = new int[chapterCount + 1];
+        int selected   = 0;
+        for (int c = 1; c <= chapterCount; c++) {
+            if (chapterFilter.test(c)) {
+                chapters[selected]   = c;
+                starts[selected + 1] = starts[selected] + questionCount.applyAsInt(c);
+                selected++;
+            }
+        }
+
+        final int total = starts[selected];
+        final int size  = Math.min(n, total);
+        Random random   = new Random(seed);
+
+        // Swapped-out values of the virtual array [0, total), keyed by index
+        Map<Integer, Integer> swaps = new HashMap<>();
+        int[][] drawn               = new int[size][];
+        for (int i = 0; i < size; i++) {
+            int j        = i + random.nextInt(total - i);
+            int position = swaps.getOrDefault(j, j);
+            swaps.put(j, swaps.getOrDefault(i, i));
+
+            int chapter = Arrays.binarySearch(starts, 0, selected + 1, position);
+            // An exact hit may land on an empty chapter's start, so skip forward to the last equal start
+            chapter = chapter >= 0 ? lastStartAt(starts, chapter, selected) : -chapter - 2;
+            drawn[i] = new int[]{chapters[chapter], position - starts[chapter]};
+        }
+
+        return drawn;
+    }
+
+    /**
+     * Groups drawn positions by chapter, for loaders that read each chapter
+     * once.
+     *
+     * @param drawn the positions returned by {@link #draw}.
+     * @return for each chapter number drawn from, the indexes into
+     *         {@code drawn} of its questions, in ascending order of position.
+     */
+    static Map<Integer, List<Integer>> byChapter(int[][] drawn) {
+        Map<Integer, List<Integer>> groups = new HashMap<>();
+        for (int i = 0; i < drawn.length; i++) {
+            groups.computeIfAbsent(drawn[i][0], c -> new ArrayList<>()).add(i);
+        }
+
+        for (var group : groups.values()) {
+            group.sort((a, b) -> Integer.compare(drawn[a][1], drawn[b][1]));
+        }
+
+        return groups;
+    }
+
+    // ============================[ Helper Methods ]============================ \\
+
+    /**
+     * Finds the last selected chapter whose first position equals that of the
+     * chapter at {@code index}, which is the non-empty chapter holding that
+     * position.
+     *
+     * @param starts   the prefix sums of question counts.
+     * @param index    an index with {@code starts[index]} equal to the
+     *                 position.
+     * @param selected the number of selected chapters.
+     * @return the index of the chapter holding the position.
+     */
+    private static int lastStartAt(int[] starts, int index, int selected) {
+        while (index + 1 < selected && starts[index + 1] == starts[index]) {
+            index++;
+        }
+
+        return index;
+    }
+
+}
@@ -0,0 +1,336 @@
+package com.slinky.mockmate.data;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded, thread-safe cache of rendered questions.
+ *
+ * <p>
+ * Entries are keyed by question <em>identity</em> and {@link RenderStyle}, and
+ * hold the rendered text together with its UTF-8 encoding, so a question is
+ * formatted and encoded once however many times it is displayed or sent.
+ * Questions are never modified after construction, so an entry never goes
+ * stale. Questions of shared chapters (see {@link Exam#loadSharedChapter(int)})
+ * keep their identity for as long as the chapter is cached, which makes them
+ * the best keys. A {@link BundledQuestion} is keyed by the bundle buffer and
+ * record it views rather than by the view itself, so every view of the same
+ * record shares one entry; any other question that is rebuilt on every load
+ * is rendered afresh each time.
+ * </p>
+ * <p>
+ * The weight of an entry is an estimate of its size in bytes: two bytes per
+ * character of text plus the length of the encoding. Entries are evicted in
+ * least-recently-used order once either the entry limit or the weight limit is
+ * exceeded. Rendering runs outside the cache lock, so two threads missing on
+ * the same entry may both render it; the results are identical.
+ * </p>
+ * <p>
+ * Example usage:
+ * </p>
+ * <pre>{@code
+ * Question question = exam.loadSharedChapter(1).getQuestion(1);
+ * String text       = RenderCache.shared().render(question, RenderStyle.PROMPT);
+ * ByteBuffer body   = RenderCache.shared().renderUtf8(question, RenderStyle.PROMPT);
+ * }</pre>
+ *
+ * @author Kheagen Haskins
+ */
+public final class RenderCache {
+
+    // ================================[ Static ]================================ \\
+
+    /**
+     * Default maximum number of cached renderings, overridable with the
+     * {@code mockmate.render.maxEntries} system property.
+     */
+    private static final int DEFAULT_MAX_ENTRIES = Integer.getInteger("mockmate.render.maxEntries", 20_000);
+
+    /**
+     * Default maximum total weight in bytes, overridable with the
+     * {@code mockmate.render.maxBytes} system property.
+     */
+    private static final long DEFAULT_MAX_WEIGHT = Long.getLong("mockmate.render.maxBytes", 32L << 20);
+
+    /**
+     * The cache used by {@link Question#toString()} implementations and
+     * {@link Chapter#toString()}.
+     */
+    private static final RenderCache SHARED = new RenderCache(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_WEIGHT);
+
+    // ================================[ Fields ]================================ \\
+
+    /**
+     * The maximum number of renderings held at once.
+     */
+    private final int maxEntries;
+
+    /**
+     * The maximum total weight held at once.
+     */
+    private final long maxWeight;
+
+    /**
+     * Cached renderings in access order, eldest first. Guarded by {@code this}.
+     */
+    private final LinkedHashMap<Key, Rendering> entries;
+
+    /**
+     * The current total weight of all cached renderings. Guarded by
+     * {@code this}.
+     */
+    private long weight;
+
+    /**
+     * Statistics counters. Guarded by {@code this}.
+     */
+    private long hits, misses, evictions;
+
+    // =============================[ Constructors ]============================= \\
+
+    /**
+     * Constructs a new, empty {@code RenderCache}.
+     *
+     * @param maxEntries the maximum number of renderings to hold; must be
+     *                   positive.
+     * @param maxWeight  the maximum total weight in bytes; must be positive.
+     * @throws IllegalArgumentException if either limit is not positive.
+     */
+    public RenderCache(int maxEntries, long maxWeight) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Invalid entry limit: " + maxEntries);
+        }
+
+        if (maxWeight <= 0) {
+            throw new IllegalArgumentException("Invalid weight limit: " + maxWeight);
+        }
+
+        this.maxEntries = maxEntries;
+        this.maxWeight  = maxWeight;
+        entries         = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    // ===========================[ Accessor Methods ]=========================== \\
+
+    /**
+     * Retrieves the cache used when questions and chapters are converted to
+     * strings.
+     *
+     * @return the shared {@code RenderCache}.
+     */
+    public static RenderCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Retrieves the number of lookups served from the cache.
+     *
+     * @return the hit count.
+     */
+    public synchronized long hitCount() {
+        return hits;
+    }
+
+    /**
+     * Retrieves the number of lookups that required a question to be
+     * rendered.
+     *
+     * @return the miss count.
+     */
+    public synchronized long missCount() {
+        return misses;
+    }
+
+    /**
+     * Retrieves the number of renderings evicted to stay within the limits.
+     *
+     * @return the eviction count.
+     */
+    public synchronized long evictionCount() {
+        return evictions;
+    }
+
+    /**
+     * Retrieves the number of renderings currently cached.
+     *
+     * @return the number of cached renderings.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Retrieves the estimated size in bytes of all cached renderings.
+     *
+     * @return the current weight of the cache.
+     */
+    public synchronized long weight() {
+        return weight;
+    }
+
+    // =============================[ API Methods ]============================== \\
+
+    /**
+     * Removes every cached rendering. Statistics counters are left untouched.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        weight = 0;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "RenderCache[size=%d, weight=%d, hits=%d, misses=%d, evictions=%d]"
+                .formatted(entries.size(), weight, hits, misses, evictions);
+    }
+
+    /**
+     * Renders a question, reusing a cached rendering when there is one.
+     *
+     * @param question the question to render.
+     * @param style    the layout to render it in.
+     * @return the rendered text.
+     * @throws NullPointerException if either argument is {@code null}.
+     */
+    public String render(Question question, RenderStyle style) {
+        return get(question, style).text();
+    }
+
+    /**
+     * Renders a question as UTF-8, reusing a cached rendering when there is
+     * one.
+     *
+     * @param question the question to render.
+     * @param style    the layout to render it in.
+     * @return a read-only buffer over the encoded text, positioned at zero.
+     * @throws NullPointerException if either argument is {@code null}.
+     */
+    public ByteBuffer renderUtf8(Question question, RenderStyle style) {
+        return ByteBuffer.wrap(get(question, style).utf8()).asReadOnlyBuffer();
+    }
+
+    // ============================[ Helper Methods ]============================ \\
+
+    /**
+     * Retrieves a rendering, rendering the question on a miss.
+     *
+     * @param question the question to render.
+     * @param style    the layout to render it in.
+     * @return the cached or fresh rendering.
+     */
+    private Rendering get(Question question, RenderStyle style) {
+        if (question == null || style == null) {
+            throw new NullPointerException("Question and style cannot be null.");
+        }
+
+        final Key key = Key.of(question, style);
+        synchronized (this) {
+            var rendering = entries.get(key);
+            if (rendering != null) {
+                hits++;
+                return rendering;
+            }
+
+            misses++;
+        }
+
+        String text   = style.render(question);
+        var rendering = new Rendering(text, text.getBytes(StandardCharsets.UTF_8));
+        put(key, rendering);
+        return rendering;
+    }
+
+    /**
+     * Inserts a rendering and evicts the least recently used entries until the
+     * cache is back within its limits. A rendering heavier than the weight
+     * limit is not cached at all.
+     *
+     * @param key       the cache key.
+     * @param rendering the rendering to cache.
+     */
+    private synchronized void put(Key key, Rendering rendering) {
+        if (rendering.weight() > maxWeight) {
+            return;
+        }
+
+        var previous = entries.put(key, rendering);
+        if (previous != null) {
+            weight -= previous.weight();
+        }
+
+        weight += rendering.weight();
+
+        Iterator<Map.Entry<Key, Rendering>> it = entries.entrySet().iterator();
+        while ((entries.size() > maxEntries || weight > maxWeight) && it.hasNext()) {
+            var eldest = it.next();
+            if (eldest.getKey().equals(key)) {
+                continue;
+            }
+
+            weight -= eldest.getValue().weight();
+            it.remove();
+            evictions++;
+        }
+    }
+
+    // ============================[ Nested Types ]============================== \\
+
+    /**
+     * Identifies a rendering of a particular question. Sources are compared by
+     * identity, since two equal questions may still be different questions to
+     * a caller and a flyweight has no meaningful equality.
+     *
+     * @param source the question, or the buffer a bundled question views.
+     * @param record the offset of a bundled question's record, or {@code -1}.
+     * @param style  the render style.
+     */
+    private record Key(Object source, int record, RenderStyle style) {
+
+        /**
+         * Builds the key of a rendering.
+         *
+         * @param question the question.
+         * @param style    the render style.
+         * @return the key.
+         */
+        static Key of(Question question, RenderStyle style) {
+            return question instanceof BundledQuestion bundled
+                    ? new Key(bundled.buffer(), bundled.record(), style)
+                    : new Key(question, -1, style);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Key other && other.source == source && other.record == record && other.style == style;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * System.identityHashCode(source) + record) + style.ordinal();
+        }
+
+    }
+
+    /**
+     * A rendered question.
+     *
+     * @param text the rendered text.
+     * @param utf8 the UTF-8 encoding of {@code text}.
+     */
+    private record Rendering(String text, byte[] utf8) {
+
+        /**
+         * Estimates the size of this rendering in bytes.
+         *
+         * @return the weight.
+         */
+        long weight() {
+            return 2L * text.length() + utf8.length;
+        }
+
+    }
+
+}
@@ -0,0 +1,155 @@
+package com.slinky.mockmate.data;
+
+import com.slinky.mockmate.util.StringUtil;
+import com.slinky.mockmate.util.Utf8Appender;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+
+/**
+ * The layouts a {@link Question} can be rendered in as plain text.
+ *
+ * <p>
+ * Each style writes a question straight into an {@link Appendable}, such as a
+ * {@link StringBuilder} or a {@link java.io.Writer}, or encodes it into a
+ * {@link ByteBuffer}, in one pass and without building intermediate strings.
+ * Rendering still formats the question's code snippet and lists its choices,
+ * so callers that render the same question repeatedly should go through a
+ * {@link RenderCache} rather than rendering it each time.
+ * </p>
+ *
+ * @author Kheagen Haskins
+ * @see RenderCache
+ */
+public enum RenderStyle {
+
+    /**
+     * The question number and text, the formatted code snippet, the choices
+     * and the correct answers. This is the layout of
+     * {@link QuestionData#toString()}.
+     */
+    FULL {
+        @Override
+        void write(Question question, Appendable out) throws IOException {
+            writePrompt(question, out);
+            out.append("\nanswers: [");
+            char[] answers = question.answers();
+            for (int i = 0; i < answers.length; i++) {
+                if (i > 0) {
+                    out.append(", ");
+                }
+
+                out.append(answers[i]);
+            }
+
+            out.append("]\n");
+        }
+    },
+
+    /**
+     * The question as shown to a candidate: the {@link #FULL} layout without
+     * the correct answers.
+     */
+    PROMPT {
+        @Override
+        void write(Question question, Appendable out) throws IOException {
+            writePrompt(question, out);
+        }
+    };
+
+    // =============================[ API Methods ]============================== \\
+
+    /**
+     * Renders a question in this style, without caching.
+     *
+     * @param question the question to render.
+     * @return the rendered text.
+     */
+    public String render(Question question) {
+        return renderTo(question, new StringBuilder(256)).toString();
+    }
+
+    /**
+     * Writes a question in this style to {@code out}, without caching.
+     *
+     * @param <A>      the type of the destination.
+     * @param question the question to render.
+     * @param out      the destination.
+     * @return {@code out}.
+     * @throws UncheckedIOException if {@code out} fails to append.
+     */
+    public <A extends Appendable> A renderTo(Question question, A out) {
+        try {
+            write(question, out);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        return out;
+    }
+
+    /**
+     * Encodes a question in this style as UTF-8 at the current position of
+     * {@code buffer}, without caching.
+     *
+     * @param question the question to render.
+     * @param buffer   the destination buffer.
+     * @return {@code buffer}, positioned after the encoded text.
+     * @throws java.nio.BufferOverflowException if the text does not fit.
+     */
+    public ByteBuffer renderTo(Question question, ByteBuffer buffer) {
+        return renderTo(question, new Utf8Appender(buffer)).finish();
+    }
+
+    // ============================[ Helper Methods ]============================ \\
+
+    /**
+     * Writes a question in this style.
+     *
+     * @param question the question to render.
+     * @param out      the destination.
+     * @throws IOException if {@code out} fails to append.
+     */
+    abstract void write(Question question, Appendable out) throws IOException;
+
+    /**
+     * Writes the question number and text, the formatted code snippet and the
+     * choices, each choice on its own line.
+     *
+     * @param question the question to render.
+     * @param out      the destination.
+     * @throws IOException if {@code out} fails to append.
+     */
+    private static void writePrompt(Question question, Appendable out) throws IOException {
+        writeInt(question.ordinal(), out);
+        out.append(".\t").append(question.questionText()).append("\n\n");
+        StringUtil.appendCode(out, question.codeSnippet());
+        out.append("\n\n");
+
+        final String separator = System.lineSeparator();
+        for (String choice : question.choices()) {
+            out.append(choice).append(separator);
+        }
+    }
+
+    /**
+     * Writes the decimal digits of a non-negative number without converting
+     * it to a string first.
+     *
+     * @param value the number.
+     * @param out   the destination.
+     * @throws IOException if {@code out} fails to append.
+     */
+    private static void writeInt(int value, Appendable out) throws IOException {
+        int divisor = 1;
+        while (value / divisor >= 10) {
+            divisor *= 10;
+        }
+
+        for (; divisor > 0; divisor /= 10) {
+            out.append((char) ('0' + value / divisor % 10));
+        }
+    }
+
+}
@@ -0,0 +1,218 @@
+package com.slinky.mockmate.data;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The build-time generated index of all exam resources on the classpath.
+ *
+ * <p>
+ * The index is written by {@link ResourceIndexCompiler} to
+ * {@value #INDEX_PATH} and read once per JVM, on first use. It holds an
+ * {@link ExamManifest} for every exam, listing its chapters with their titles,
+ * and each chapter's metadata, question pack and question files with their
+ * sizes and SHA-256 hashes. Exams are looked up by code in a hash map and
+ * chapters by number in a list, so every lookup is O(1) and the runtime never
+ * needs to list a resource directory, which is not possible inside a jar.
+ * </p>
+ *
+ * @author Kheagen Haskins
+ */
+final class ResourceIndex {
+
+    // ================================[ Static ]================================ \\
+
+    /**
+     * Classpath location of the index.
+     */
+    static final String INDEX_PATH = "/json/index.json";
+
+    /**
+     * The index format version.
+     */
+    static final int VERSION = 2;
+
+    /**
+     * The lazily loaded index of the classpath.
+     */
+    private static volatile ResourceIndex instance;
+
+    // ================================[ Fields ]================================ \\
+
+    /**
+     * Indexed exams keyed by exam code.
+     */
+    private final Map<String, ExamManifest> exams;
+
+    // =============================[ Constructors ]============================= \\
+
+    /**
+     * Constructs an index over the given exams.
+     *
+     * @param exams the indexed exams keyed by exam code.
+     */
+    private ResourceIndex(Map<String, ExamManifest> exams) {
+        this.exams = Map.copyOf(exams);
+    }
+
+    // ============================[ Factory Methods ]=========================== \\
+
+    /**
+     * Retrieves the index of the classpath, reading it on first use.
+     *
+     * @return the classpath index.
+     * @throws IllegalStateException if the index is missing or unreadable.
+     */
+    static ResourceIndex get() {
+        var index = instance;
+        if (index == null) {
+            synchronized (ResourceIndex.class) {
+                index = instance;
+                if (index == null) {
+                    index    = load();
+                    instance = index;
+                }
+            }
+        }
+
+        return index;
+    }
+
+    /**
+     * Reads an index from a stream. Resource paths in the index are resolved
+     * against {@code /json/}.
+     *
+     * @param in the stream holding the index.
+     * @return the index.
+     * @throws IOException if the stream does not hold a valid index.
+     */
+    static ResourceIndex read(InputStream in) throws IOException {
+        final JsonNode root = new ObjectMapper().readTree(in);
+        if (root == null || root.path("version").asInt() != VERSION) {
+            throw new IOException("Unsupported resource index");
+        }
+
+        final Map<String, ExamManifest> exams = new HashMap<>();
+        for (JsonNode exam : root.path("exams")) {
+            final String code    = exam.path("code").asText();
+            final String examDir = "/json/" + exam.path("dir").asText() + "/";
+
+            List<ExamManifest.ChapterManifest> chapters = new ArrayList<>();
+            for (JsonNode chapter : exam.path("chapters")) {
+                final String chapterDir = examDir + chapter.path("dir").asText() + "/";
+
+                List<ExamManifest.QuestionEntry> questions = new ArrayList<>();
+                for (JsonNode question : chapter.path("questions")) {
+                    questions.add(new ExamManifest.QuestionEntry(file(chapterDir, question), question.path("offset").asInt()));
+                }
+
+                if (questions.size() != chapter.path("questionCount").asInt()) {
+                    throw new IOException("Question count of %s chapter %s does not match its files".formatted(code, chapter.path("number")));
+                }
+
+                chapters.add(new ExamManifest.ChapterManifest(
+                        chapter.path("number").asInt(),
+                        chapter.path("title").asText(),
+                        file(chapterDir, chapter.path("meta")),
+                        file(chapterDir, chapter.path("pack")),
+                        questions
+                ));
+            }
+
+            exams.put(code, new ExamManifest(code, chapters));
+        }
+
+        return new ResourceIndex(exams);
+    }
+
+    // =============================[ API Methods ]============================== \\
+
+    /**
+     * Retrieves the manifest of an exam.
+     *
+     * @param examCode the exam to look up.
+     * @return the exam's manifest.
+     * @throws IllegalArgumentException if the index has no such exam.
+     */
+    ExamManifest exam(ExamCode examCode) {
+        var exam = exams.get(examCode.getCode());
+        if (exam == null) {
+            throw new IllegalArgumentException("No exam data found for " + examCode.getCode());
+        }
+
+        return exam;
+    }
+
+    /**
+     * Checks whether the index has an entry for an exam.
+     *
+     * @param examCode the exam to look up.
+     * @return {@code true} if the exam's resources are indexed.
+     */
+    boolean contains(ExamCode examCode) {
+        return exams.containsKey(examCode.getCode());
+    }
+
+    /**
+     * Checks whether the index has an entry for a chapter of an exam.
+     *
+     * @param examCode      the exam to look up.
+     * @param chapterNumber the chapter number.
+     * @return {@code true} if the exam's resources are indexed and include the
+     *         chapter.
+     */
+    boolean contains(ExamCode examCode, int chapterNumber) {
+        var exam = exams.get(examCode.getCode());
+        return exam != null && chapterNumber > 0 && chapterNumber <= exam.chapterCount();
+    }
+
+    // ============================[ Helper Methods ]============================ \\
+
+    /**
+     * Reads the index from the classpath.
+     *
+     * @return the classpath index.
+     */
+    private static ResourceIndex load() {
+        try (InputStream in = ResourceIndex.class.getResourceAsStream(INDEX_PATH)) {
+            if (in == null) {
+                throw new IllegalStateException("Resource index %s not found; it is generated by the build".formatted(INDEX_PATH));
+            }
+
+            return read(in);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Unable to read resource index: " + ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Reads a file entry.
+     *
+     * @param dir  the classpath directory holding the file.
+     * @param node the file node.
+     * @return the file entry.
+     */
+    private static FileEntry file(String dir, JsonNode node) {
+        return new FileEntry(dir + node.path("name").asText(), node.path("size").asLong(), node.path("sha256").asText());
+    }
+
+    // ============================[ Nested Types ]============================== \\
+
+    /**
+     * An indexed resource file.
+     *
+     * @param path   the absolute classpath path of the file.
+     * @param size   the size of the file in bytes.
+     * @param sha256 the SHA-256 hash of the file, as lower case hexadecimal.
+     */
+    record FileEntry(String path, long size, String sha256) {}
+
+}
@@ -0,0 +1,202 @@
+package com.slinky.mockmate.data;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import java.util.HexFormat;
+
+/**
+ * Build-time tool that writes the {@link ResourceIndex} of the exam JSON tree.
+ *
+ * <p>
+ * The index lists every exam, its chapters in order, and for each chapter the
+ * metadata file and the question files in order, each with its size in bytes
+ * and SHA-256 hash. The runtime reads this index instead of listing resource
+ * directories, which does not work once the resources are inside a jar.
+ * </p>
+ * <p>
+ * The tool also writes a {@value ExamSources#PACK_FILE} file into each chapter
+ * directory holding the chapter's question files back to back. The index
+ * records the chapter's title and question count from {@code meta.json}, the
+ * pack's hash as the chapter's content hash, and the offset of each question
+ * within the pack, which together form each exam's {@link ExamManifest}.
+ * </p>
+ * <p>
+ * Usage:
+ * </p>
+ * <pre>{@code
+ * java com.slinky.mockmate.data.ResourceIndexCompiler <json-root> <index-file>
+ * }</pre>
+ *
+ * @author Kheagen Haskins
+ */
+public final class ResourceIndexCompiler {
+
+    // ================================[ Static ]================================ \\
+
+    /**
+     * Factory used to write the index.
+     */
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    // =============================[ Constructors ]============================= \\
+    /**
+     * Private constructor to prevent instantiation of the tool.
+     */
+    private ResourceIndexCompiler() {}
+
+    // =============================[ API Methods ]============================== \\
+
+    /**
+     * Writes the index of a JSON root.
+     *
+     * @param args the JSON root directory and the index file to write.
+     * @throws IOException if the tree cannot be read or the index cannot be
+     *                     written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: ResourceIndexCompiler <json-root> <index-file>");
+        }
+
+        final Path index = Path.of(args[1]);
+        compile(Path.of(args[0]), index);
+        System.out.println("Indexed %s (%d bytes)".formatted(index, Files.size(index)));
+    }
+
+    /**
+     * Writes the index of a JSON root to a file.
+     *
+     * @param jsonRoot the JSON root directory.
+     * @param index    the index file to write.
+     * @throws IOException if the tree cannot be read or the index cannot be
+     *                     written.
+     */
+    static void compile(Path jsonRoot, Path index) throws IOException {
+        try (JsonGenerator out = JSON_FACTORY.createGenerator(index.toFile(), JsonEncoding.UTF8)) {
+            out.useDefaultPrettyPrinter();
+            out.writeStartObject();
+            out.writeNumberField("version", ResourceIndex.VERSION);
+            out.writeArrayFieldStart("exams");
+
+            for (Path examDir : ExamSources.exams(jsonRoot)) {
+                out.writeStartObject();
+                out.writeStringField("code", ExamSources.examCode(examDir));
+                out.writeStringField("dir", examDir.getFileName().toString());
+                out.writeArrayFieldStart("chapters");
+
+                for (Path chapterDir : ExamSources.chapters(examDir)) {
+                    writeChapter(out, chapterDir);
+                }
+
+                out.writeEndArray();
+                out.writeEndObject();
+            }
+
+            out.writeEndArray();
+            out.writeEndObject();
+        }
+    }
+
+    // ============================[ Helper Methods ]============================ \\
+
+    /**
+     * Writes a chapter's question pack and the chapter's entry.
+     *
+     * @param out        the generator.
+     * @param chapterDir the chapter directory.
+     * @throws IOException if the chapter cannot be read or its pack cannot be
+     *                     written.
+     */
+    private static void writeChapter(JsonGenerator out, Path chapterDir) throws IOException {
+        final var meta      = ExamSources.meta(chapterDir);
+        final var questions = ExamSources.questions(chapterDir);
+        final var pack      = new ByteArrayOutputStream();
+        final int[] offsets = new int[questions.size()];
+
+        for (int i = 0; i < offsets.length; i++) {
+            offsets[i] = pack.size();
+            pack.write(Files.readAllBytes(questions.get(i)));
+        }
+
+        final Path packFile = chapterDir.resolve(ExamSources.PACK_FILE);
+        Files.write(packFile, pack.toByteArray());
+
+        out.writeStartObject();
+        out.writeNumberField("number", ExamSources.chapterNumber(chapterDir));
+        out.writeStringField("dir", chapterDir.getFileName().toString());
+        out.writeStringField("title", meta.title());
+        out.writeNumberField("questionCount", meta.questionCount());
+        out.writeFieldName("meta");
+        writeFile(out, chapterDir.resolve(ExamSources.META_FILE), -1);
+        out.writeFieldName("pack");
+        writeFile(out, packFile, -1);
+        out.writeArrayFieldStart("questions");
+        for (int i = 0; i < offsets.length; i++) {
+            writeFile(out, questions.get(i), offsets[i]);
+        }
+
+        out.writeEndArray();
+        out.writeEndObject();
+    }
+
+    /**
+     * Writes the entry of a single file.
+     *
+     * @param out    the generator.
+     * @param file   the file to describe.
+     * @param offset the file's offset within its chapter's pack, or a negative
+     *               value if it is not packed.
+     * @throws IOException if the file cannot be read.
+     */
+    private static void writeFile(JsonGenerator out, Path file, int offset) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            throw new IOException("Missing file: " + file);
+        }
+
+        out.writeStartObject();
+        out.writeStringField("name", file.getFileName().toString());
+        out.writeNumberField("size", Files.size(file));
+        out.writeStringField("sha256", sha256(file));
+        if (offset >= 0) {
+            out.writeNumberField("offset", offset);
+        }
+
+        out.writeEndObject();
+    }
+
+    /**
+     * Computes the SHA-256 hash of a file.
+     *
+     * @param file the file to hash.
+     * @return the hash as lower case hexadecimal.
+     * @throws IOException if the file cannot be read.
+     */
+    static String sha256(Path file) throws IOException {
+        return HexFormat.of().formatHex(digest().digest(Files.readAllBytes(file)));
+    }
+
+    /**
+     * Creates a SHA-256 digest.
+     *
+     * @return a new digest.
+     */
+    private static MessageDigest digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+}
@@ -0,0 +1,733 @@
+package com.slinky.mockmate.data;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Schedules questions for review with spaced repetition, so that questions a
+ * user gets wrong come back soon and questions they get right come back after
+ * growing intervals.
+ *
+ * <p>
+ * Each (user, question) pair the scheduler has seen is a <em>card</em> with an
+ * ease factor, an interval and a due time. Reviews follow a binary variant of
+ * SM-2: a correct answer multiplies the interval by the ease (at least one
+ * day) and raises the ease slightly, while a wrong answer resets the interval
+ * to ten minutes and lowers the ease, never below 1.3. Users are identified by
+ * non-negative int indexes, which need not be dense, and questions by question
+ * ids, such as those of {@link AttributeIndex} or {@link ExamGrader}.
+ * </p>
+ * <p>
+ * Cards are stored column-wise in packed primitive arrays, with due times and
+ * intervals in whole minutes and the ease in thousandths, and are found
+ * through an open-addressing table of card numbers. Each user with cards is
+ * given a dense slot, and each slot's cards are kept in a binary min-heap on
+ * due time, so the next due card is found in constant time and a review
+ * reschedules its card in {@code O(log n)}. A card costs 34 bytes, and up to
+ * about 50 while the arrays have room to grow, with no per-card objects; each
+ * user with cards costs one map entry more.
+ * </p>
+ * <p>
+ * The scheduler never holds more cards than its limit, which defaults to the
+ * {@code mockmate.review.maxCards} system property. Once it is full, a review
+ * of a new (user, question) pair evicts a card chosen by the CLOCK policy: a
+ * hand sweeps the cards in card number order, sparing and unmarking each card
+ * reviewed since the hand last passed it, and evicts the first unmarked card.
+ * A card that is reviewed again before the hand comes round therefore
+ * survives, and an evicted card starts again from scratch if it is reviewed
+ * later. A user whose last card is evicted gives up their slot.
+ * </p>
+ * <p>
+ * Times are passed in as epoch milliseconds rather than read from a clock, so
+ * schedules can be replayed and tested. All methods are thread-safe.
+ * </p>
+ * <p>
+ * Example usage:
+ * </p>
+ * <pre>{@code
+ * var scheduler = new ReviewScheduler();
+ * scheduler.review(user, questionId, question, submitted, System.currentTimeMillis());
+ * int[] due = new int[10];
+ * int count = scheduler.nextDue(user, System.currentTimeMillis(), due);
+ * }</pre>
+ *
+ * @author Kheagen Haskins
+ */
+public final class ReviewScheduler {
+
+    // ================================[ Static ]================================ \\
+
+    /**
+     * Default maximum number of cards, overridable with the
+     * {@code mockmate.review.maxCards} system property.
+     */
+    private static final int DEFAULT_MAX_CARDS = Integer.getInteger("mockmate.review.maxCards", 8_000_000);
+
+    /**
+     * The largest card limit whose table length still fits in an int array.
+     */
+    private static final int MAX_CARDS = 1 << 29;
+
+    /**
+     * The interval after a wrong answer, in minutes.
+     */
+    private static final int RELEARN_MINUTES = 10;
+
+    /**
+     * The shortest interval after a correct answer, in minutes.
+     */
+    private static final int MIN_PASS_MINUTES = (int) TimeUnit.DAYS.toMinutes(1);
+
+    /**
+     * The longest interval, in minutes.
+     */
+    private static final int MAX_MINUTES = (int) TimeUnit.DAYS.toMinutes(3_650);
+
+    /**
+     * The initial, lowest, highest ease and the ease changes after a correct
+     * and a wrong answer, in thousandths.
+     */
+    private static final int INITIAL_EASE = 2_500, MIN_EASE = 1_300, MAX_EASE = 3_000;
+    private static final int PASS_EASE    = 50, FAIL_EASE = -200;
+
+    /**
+     * Marks an empty entry of {@link #table}.
+     */
+    private static final int EMPTY = -1;
+
+    // ================================[ Fields ]================================ \\
+
+    /**
+     * The maximum number of cards.
+     */
+    private final int maxCards;
+
+    /**
+     * The user, question id, due time (epoch minutes), interval (minutes),
+     * ease (thousandths) and position in its user's heap of each card, by
+     * card number. Guarded by {@code this}.
+     */
+    private int[] userOf, questionOf, dueOf, intervalOf, heapIndexOf;
+    private char[] easeOf;
+
+    /**
+     * The number of cards. Guarded by {@code this}.
+     */
+    private int cards;
+
+    /**
+     * An open-addressing table from (user, question) to card number, with
+     * {@link #EMPTY} slots. Its length is a power of two at least twice the
+     * number of cards. Guarded by {@code this}.
+     */
+    private int[] table;
+
+    /**
+     * The cards reviewed since the eviction hand last passed them, and the
+     * card number the hand points at. Guarded by {@code this}.
+     */
+    private final BitSet referenced = new BitSet();
+    private int hand;
+
+    /**
+     * The slot of each user with cards. Guarded by {@code this}.
+     */
+    private final Map<Integer, Integer> slots = new HashMap<>();
+
+    /**
+     * Each slot's card numbers as a min-heap on due time, and the heap sizes,
+     * by slot. Guarded by {@code this}.
+     */
+    private int[][] heaps;
+    private int[] heapSizes;
+
+    /**
+     * The slots given up by users whose cards were all evicted, as a stack,
+     * and the number of slots ever handed out. Guarded by {@code this}.
+     */
+    private int[] freeSlots;
+    private int freeCount, slotCount;
+
+    // =============================[ Constructors ]============================= \\
+
+    /**
+     * Constructs an empty scheduler holding at most the default number of
+     * cards.
+     */
+    public ReviewScheduler() {
+        this(DEFAULT_MAX_CARDS);
+    }
+
+    /**
+     * Constructs an empty scheduler.
+     *
+     * @param maxCards the maximum number of (user, question) pairs to hold.
+     * @throws IllegalArgumentException if {@code maxCards} is not positive or
+     *                                  exceeds 2<sup>29</sup>.
+     */
+    public ReviewScheduler(int maxCards) {
+        if (maxCards <= 0 || maxCards > MAX_CARDS) {
+            throw new IllegalArgumentException("Invalid card limit: " + maxCards);
+        }
+
+        final int capacity = Math.min(maxCards, 1_024);
+        this.maxCards    = maxCards;
+        this.userOf      = new int[capacity];
+        this.questionOf  = new int[capacity];
+        this.dueOf       = new int[capacity];
+        this.intervalOf  = new int[capacity];
+        this.heapIndexOf = new int[capacity];
+        this.easeOf      = new char[capacity];
+        this.table       = new int[tableSize(capacity)];
+        this.heaps       = new int[16][];
+        this.heapSizes   = new int[16];
+        this.freeSlots   = new int[16];
+        Arrays.fill(table, EMPTY);
+    }
+
+    // ===========================[ Accessor Methods ]=========================== \\
+
+    /**
+     * Retrieves the number of cards.
+     *
+     * @return the number of (user, question) pairs scheduled.
+     */
+    public synchronized int size() {
+        return cards;
+    }
+
+    /**
+     * Retrieves the maximum number of cards.
+     *
+     * @return the card limit.
+     */
+    public int maxCards() {
+        return maxCards;
+    }
+
+    /**
+     * Retrieves the number of cards a user has.
+     *
+     * @param user the user index.
+     * @return the number of questions scheduled for the user.
+     */
+    public synchronized int size(int user) {
+        Integer slot = slots.get(user);
+        return slot == null ? 0 : heapSizes[slot];
+    }
+
+    /**
+     * Retrieves when a question is next due for a user.
+     *
+     * @param user       the user index.
+     * @param questionId the question id.
+     * @return the due time in epoch milliseconds, or {@code -1} if the user
+     *         has never reviewed the question.
+     */
+    public synchronized long dueAt(int user, int questionId) {
+        int card = find(user, questionId);
+        return card == EMPTY ? -1 : TimeUnit.MINUTES.toMillis(dueOf[card]);
+    }
+
+    /**
+     * Retrieves the current review interval of a question for a user.
+     *
+     * @param user       the user index.
+     * @param questionId the question id.
+     * @return the interval in milliseconds, or {@code -1} if the user has
+     *         never reviewed the question.
+     */
+    public synchronized long intervalMillis(int user, int questionId) {
+        int card = find(user, questionId);
+        return card == EMPTY ? -1 : TimeUnit.MINUTES.toMillis(intervalOf[card]);
+    }
+
+    /**
+     * Retrieves the ease factor of a question for a user.
+     *
+     * @param user       the user index.
+     * @param questionId the question id.
+     * @return the ease factor, or {@code 0} if the user has never reviewed the
+     *         question.
+     */
+    public synchronized double ease(int user, int questionId) {
+        int card = find(user, questionId);
+        return card == EMPTY ? 0 : easeOf[card] / 1_000.0;
+    }
+
+    // =============================[ API Methods ]============================== \\
+
+    /**
+     * Grades a user's answers with {@link Question#isCorrect(char[])} and
+     * reschedules the question.
+     *
+     * @param user       the user index.
+     * @param questionId the question's id.
+     * @param question   the question.
+     * @param answers    the user's answers.
+     * @param nowMillis  the time of the review, in epoch milliseconds.
+     * @return {@code true} if the answers were correct.
+     * @throws IllegalArgumentException if {@code user} or {@code questionId}
+     *                                  is negative.
+     */
+    public boolean review(int user, int questionId, Question question, char[] answers, long nowMillis) {
+        boolean correct = question.isCorrect(answers);
+        record(user, questionId, correct, nowMillis);
+        return correct;
+    }
+
+    /**
+     * Reschedules a question after a user answered it. If the question is
+     * new to the user and the scheduler is full, another card is evicted to
+     * make room.
+     *
+     * @param user       the user index.
+     * @param questionId the question's id.
+     * @param correct    whether the user answered correctly.
+     * @param nowMillis  the time of the review, in epoch milliseconds.
+     * @throws IllegalArgumentException if {@code user} or {@code questionId}
+     *                                  is negative.
+     */
+    public synchronized void record(int user, int questionId, boolean correct, long nowMillis) {
+        if (user < 0 || questionId < 0) {
+            throw new IllegalArgumentException("Invalid user %d or question %d".formatted(user, questionId));
+        }
+
+        int card = find(user, questionId);
+        int ease, interval;
+        if (card == EMPTY) {
+            card     = newCard(user, questionId);
+            ease     = INITIAL_EASE;
+            interval = 0;
+        } else {
+            ease     = easeOf[card];
+            interval = intervalOf[card];
+        }
+
+        if (correct) {
+            interval = (int) Math.min(MAX_MINUTES, Math.max(MIN_PASS_MINUTES, (long) interval * ease / 1_000));
+            ease     = Math.min(MAX_EASE, ease + PASS_EASE);
+        } else {
+            interval = RELEARN_MINUTES;
+            ease     = Math.max(MIN_EASE, ease + FAIL_EASE);
+        }
+
+        easeOf[card]     = (char) ease;
+        intervalOf[card] = interval;
+        dueOf[card]      = (int) Math.min(Integer.MAX_VALUE, TimeUnit.MILLISECONDS.toMinutes(nowMillis) + interval);
+        referenced.set(card);
+
+        final int slot = slots.get(user);
+        siftDown(slot, siftUp(slot, heapIndexOf[card]));
+    }
+
+    /**
+     * Lists the questions due for a user, soonest due first.
+     *
+     * <p>
+     * Only the heap entries that are due are visited, so listing {@code k}
+     * questions costs {@code O(k log k)} regardless of how many cards the user
+     * has.
+     * </p>
+     *
+     * @param user        the user index.
+     * @param nowMillis   the current time, in epoch milliseconds.
+     * @param questionIds receives the due question ids; its length is the
+     *                    maximum number listed.
+     * @return the number of question ids written.
+     */
+    public synchronized int nextDue(int user, long nowMillis, int[] questionIds) {
+        Integer slot = slots.get(user);
+        if (slot == null || questionIds.length == 0) {
+            return 0;
+        }
+
+        final long now = TimeUnit.MILLISECONDS.toMinutes(nowMillis);
+        final int[] heap = heaps[slot];
+        final int size   = heapSizes[slot];
+
+        // Best-first walk of the heap, with the frontier kept in a small heap of positions
+        int[] frontier = new int[Math.min(size, 2 * questionIds.length + 1)];
+        int open       = 0;
+        int count      = 0;
+        frontier[open++] = 0;
+        while (open > 0 && count < questionIds.length) {
+            int position = frontier[0];
+            frontier[0]  = frontier[--open];
+            siftFrontier(heap, frontier, open);
+
+            int card = heap[position];
+            if (dueOf[card] > now) {
+                break;
+            }
+
+            questionIds[count++] = questionOf[card];
+            for (int child = 2 * position + 1; child <= 2 * position + 2 && child < size; child++) {
+                if (open == frontier.length) {
+                    frontier = Arrays.copyOf(frontier, open * 2);
+                }
+
+                frontier[open] = child;
+                liftFrontier(heap, frontier, open++);
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Estimates the heap memory held by the scheduler's arrays.
+     *
+     * @return the estimated size in bytes.
+     */
+    public synchronized long footprint() {
+        // A map entry holds a node and two boxed integers, about 64 bytes
+        long bytes = 5L * Integer.BYTES * userOf.length + (long) Character.BYTES * easeOf.length
+                + (long) Integer.BYTES * table.length + 2L * Integer.BYTES * heapSizes.length
+                + referenced.size() / Byte.SIZE + 64L * slots.size();
+        for (int[] heap : heaps) {
+            bytes += heap == null ? 0 : (long) Integer.BYTES * heap.length;
+        }
+
+        return bytes;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "ReviewScheduler[cards=%d, maxCards=%d]".formatted(cards, maxCards);
+    }
+
+    // ============================[ Helper Methods ]============================ \\
+
+    /**
+     * Finds a card. The caller must hold the lock.
+     *
+     * @param user       the user index.
+     * @param questionId the question id.
+     * @return the card number, or {@link #EMPTY}.
+     */
+    private int find(int user, int questionId) {
+        final int mask = table.length - 1;
+        for (int slot = hash(user, questionId) & mask; ; slot = (slot + 1) & mask) {
+            int card = table[slot];
+            if (card == EMPTY || (userOf[card] == user && questionOf[card] == questionId)) {
+                return card;
+            }
+        }
+    }
+
+    /**
+     * Creates a card and adds it to the end of its user's heap, evicting
+     * another card if the scheduler is full. The caller must hold the lock
+     * and set the card's schedule, then restore the heap.
+     *
+     * @param user       the user index.
+     * @param questionId the question id.
+     * @return the new card's number.
+     */
+    private int newCard(int user, int questionId) {
+        final int card;
+        if (cards == maxCards) {
+            card = evict();
+        } else {
+            if (cards == userOf.length) {
+                int capacity = (int) Math.min(maxCards, userOf.length + (userOf.length >> 1) + 1L);
+                userOf       = Arrays.copyOf(userOf, capacity);
+                questionOf   = Arrays.copyOf(questionOf, capacity);
+                dueOf        = Arrays.copyOf(dueOf, capacity);
+                intervalOf   = Arrays.copyOf(intervalOf, capacity);
+                heapIndexOf  = Arrays.copyOf(heapIndexOf, capacity);
+                easeOf       = Arrays.copyOf(easeOf, capacity);
+            }
+
+            card = cards++;
+        }
+
+        userOf[card]     = user;
+        questionOf[card] = questionId;
+        if (2L * cards > table.length) {
+            rehash(tableSize(cards));
+        } else {
+            insert(card);
+        }
+
+        final int slot = slotOf(user);
+        int[] heap     = heaps[slot];
+        int size       = heapSizes[slot];
+        if (heap == null || size == heap.length) {
+            heap = heaps[slot] = heap == null ? new int[4] : Arrays.copyOf(heap, size * 2);
+        }
+
+        heap[size]        = card;
+        heapIndexOf[card] = size;
+        heapSizes[slot]   = size + 1;
+        return card;
+    }
+
+    /**
+     * Retrieves a user's slot, giving the user one if they have none. The
+     * caller must hold the lock.
+     *
+     * @param user the user index.
+     * @return the user's slot.
+     */
+    private int slotOf(int user) {
+        Integer slot = slots.get(user);
+        if (slot != null) {
+            return slot;
+        }
+
+        // Every slot in use holds a card, so there are never more slots than cards
+        final int free = freeCount > 0 ? freeSlots[--freeCount] : slotCount++;
+        if (free == heaps.length) {
+            heaps     = Arrays.copyOf(heaps, free * 2);
+            heapSizes = Arrays.copyOf(heapSizes, free * 2);
+        }
+
+        slots.put(user, free);
+        return free;
+    }
+
+    /**
+     * Chooses a card with the CLOCK policy and removes it. The caller must
+     * hold the lock, and the scheduler must be full.
+     *
+     * @return the number of the removed card, now free for reuse.
+     */
+    private int evict() {
+        while (referenced.get(hand)) {
+            referenced.clear(hand);
+            hand = (hand + 1) % cards;
+        }
+
+        final int card = hand;
+        hand = (hand + 1) % cards;
+        remove(card);
+        return card;
+    }
+
+    /**
+     * Removes a card from the table and from its user's heap, giving up the
+     * user's slot if it was their last card. The card's number is left for
+     * the caller to reuse. The caller must hold the lock.
+     *
+     * @param card the card number.
+     */
+    private void remove(int card) {
+        // Backward-shift deletion keeps every probe sequence unbroken
+        final int mask = table.length - 1;
+        int hole       = hash(userOf[card], questionOf[card]) & mask;
+        while (table[hole] != card) {
+            hole = (hole + 1) & mask;
+        }
+
+        for (int next = (hole + 1) & mask; table[next] != EMPTY; next = (next + 1) & mask) {
+            int home = hash(userOf[table[next]], questionOf[table[next]]) & mask;
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                table[hole] = table[next];
+                hole        = next;
+            }
+        }
+
+        table[hole] = EMPTY;
+
+        final int user = userOf[card];
+        final int slot = slots.get(user);
+        final int last = --heapSizes[slot];
+        if (last == 0) {
+            slots.remove(user);
+            heaps[slot] = null;
+            if (freeCount == freeSlots.length) {
+                freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+            }
+
+            freeSlots[freeCount++] = slot;
+            return;
+        }
+
+        final int position = heapIndexOf[card];
+        if (position != last) {
+            int[] heap                  = heaps[slot];
+            heap[position]              = heap[last];
+            heapIndexOf[heap[position]] = position;
+            siftDown(slot, siftUp(slot, position));
+        }
+    }
+
+    /**
+     * Adds a card to the table. The caller must hold the lock.
+     *
+     * @param card the card number.
+     */
+    private void insert(int card) {
+        final int mask = table.length - 1;
+        int slot       = hash(userOf[card], questionOf[card]) & mask;
+        while (table[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+
+        table[slot] = card;
+    }
+
+    /**
+     * Rebuilds the table at a new size. The caller must hold the lock.
+     *
+     * @param size the new table length, a power of two.
+     */
+    private void rehash(int size) {
+        table = new int[size];
+        Arrays.fill(table, EMPTY);
+        for (int card = 0; card < cards; card++) {
+            insert(card);
+        }
+    }
+
+    /**
+     * Moves a heap entry towards the root while it is due sooner than its
+     * parent. The caller must hold the lock.
+     *
+     * @param slot     the user's slot.
+     * @param position the entry's position.
+     * @return the entry's new position.
+     */
+    private int siftUp(int slot, int position) {
+        final int[] heap = heaps[slot];
+        final int card   = heap[position];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (!before(card, heap[parent])) {
+                break;
+            }
+
+            heap[position]              = heap[parent];
+            heapIndexOf[heap[position]] = position;
+            position                    = parent;
+        }
+
+        heap[position]    = card;
+        heapIndexOf[card] = position;
+        return position;
+    }
+
+    /**
+     * Moves a heap entry away from the root while a child is due sooner. The
+     * caller must hold the lock.
+     *
+     * @param slot     the user's slot.
+     * @param position the entry's position.
+     */
+    private void siftDown(int slot, int position) {
+        final int[] heap = heaps[slot];
+        final int size   = heapSizes[slot];
+        final int card   = heap[position];
+        while (true) {
+            int child = 2 * position + 1;
+            if (child >= size) {
+                break;
+            }
+
+            if (child + 1 < size && before(heap[child + 1], heap[child])) {
+                child++;
+            }
+
+            if (!before(heap[child], card)) {
+                break;
+            }
+
+            heap[position]              = heap[child];
+            heapIndexOf[heap[position]] = position;
+            position                    = child;
+        }
+
+        heap[position]    = card;
+        heapIndexOf[card] = position;
+    }
+
+    /**
+     * Orders cards by due time, then by card number so that ties are stable.
+     *
+     * @param a a card.
+     * @param b another card.
+     * @return {@code true} if {@code a} comes first.
+     */
+    private boolean before(int a, int b) {
+        return dueOf[a] != dueOf[b] ? dueOf[a] < dueOf[b] : a < b;
+    }
+
+    /**
+     * Restores the frontier heap after its root was replaced.
+     *
+     * @param heap     the user's heap.
+     * @param frontier positions in {@code heap}, as a min-heap.
+     * @param open     the number of frontier entries.
+     */
+    private void siftFrontier(int[] heap, int[] frontier, int open) {
+        int position = 0;
+        while (true) {
+            int child = 2 * position + 1;
+            if (child >= open) {
+                return;
+            }
+
+            if (child + 1 < open && before(heap[frontier[child + 1]], heap[frontier[child]])) {
+                child++;
+            }
+
+            if (!before(heap[frontier[child]], heap[frontier[position]])) {
+                return;
+            }
+
+            int swap           = frontier[child];
+            frontier[child]    = frontier[position];
+            frontier[position] = swap;
+            position           = child;
+        }
+    }
+
+    /**
+     * Restores the frontier heap after an entry was appended.
+     *
+     * @param heap     the user's heap.
+     * @param frontier positions in {@code heap}, as a min-heap.
+     * @param position the appended entry's position.
+     */
+    private void liftFrontier(int[] heap, int[] frontier, int position) {
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (!before(heap[frontier[position]], heap[frontier[parent]])) {
+                return;
+            }
+
+            int swap           = frontier[parent];
+            frontier[parent]   = frontier[position];
+            frontier[position] = swap;
+            position           = parent;
+        }
+    }
+
+    /**
+     * Mixes a (user, question) pair into a table hash.
+     *
+     * @param user       the user index.
+     * @param questionId the question id.
+     * @return the hash.
+     */
+    private static int hash(int user, int questionId) {
+        long h = ((long) user << 32 | (questionId & 0xFFFFFFFFL)) * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * Computes a table length for a number of cards.
+     *
+     * @param cards the number of cards.
+     * @return the smallest power of two at least twice {@code cards}.
+     */
+    private static int tableSize(int cards) {
+        return Integer.highestOneBit(Math.max(2, 2 * cards - 1)) << 1;
+    }
+
+}
@@ -0,0 +1,132 @@
+package com.slinky.mockmate.data;
+
+/**
+ * Scores a submission against a question's answer key.
+ *
+ * <p>
+ * Both the key and the submission are answer masks, in which bit {@code n} is
+ * set when choice {@code 'A' + n} is selected (see {@link #mask(char...)}).
+ * Policies compare the two masks with bit operations only, so scoring a
+ * question costs a handful of instructions and no branches, however many
+ * choices it has.
+ * </p>
+ * <p>
+ * Example usage:
+ * </p>
+ * <pre>{@code
+ * int submission = ScoringPolicy.mask('A', 'C');
+ * double credit  = question.score(submission, ScoringPolicy.partialCredit());
+ * }</pre>
+ *
+ * @author Kheagen Haskins
+ */
+@FunctionalInterface
+public interface ScoringPolicy {
+
+    /**
+     * The mask bit set by {@link #mask(char...)} for any selection that is not
+     * a choice letter. It is never part of an answer key, so such a selection
+     * always counts as a wrong pick.
+     */
+    int INVALID_CHOICE = 1 << 31;
+
+    /**
+     * Scores a submission.
+     *
+     * @param key        the answer mask of the correct answers; never zero.
+     * @param submission the answer mask of the selected answers.
+     * @return the credit awarded, where {@code 1} is full credit.
+     */
+    double score(int key, int submission);
+
+    // ============================[ Factory Methods ]=========================== \\
+
+    /**
+     * Awards full credit when the submission selects exactly the correct
+     * answers, and nothing otherwise.
+     *
+     * @return the all-or-nothing policy.
+     */
+    static ScoringPolicy allOrNothing() {
+        return (key, submission) -> {
+            int diff = key ^ submission;
+            // (diff | -diff) has its sign bit set unless diff is zero
+            return 1 - ((diff | -diff) >>> 31);
+        };
+    }
+
+    /**
+     * Awards credit for each correct answer selected, less one for each wrong
+     * answer selected, as a fraction of the number of correct answers. The
+     * score never drops below zero, so selecting every choice earns nothing.
+     *
+     * @return the partial credit policy.
+     */
+    static ScoringPolicy partialCredit() {
+        return (key, submission) -> {
+            int hits   = Integer.bitCount(key & submission);
+            int misses = Integer.bitCount(submission & ~key);
+            return (double) Math.max(0, hits - misses) / Integer.bitCount(key);
+        };
+    }
+
+    /**
+     * Awards credit for each correct answer selected and deducts
+     * {@code penalty} for each wrong answer selected, as a fraction of the
+     * number of correct answers. The score may be negative.
+     *
+     * @param penalty the deduction per wrong answer, relative to the credit
+     *                for a correct answer.
+     * @return the negative marking policy.
+     * @throws IllegalArgumentException if {@code penalty} is negative or not a
+     *                                  number.
+     */
+    static ScoringPolicy negativeMarking(double penalty) {
+        if (!(penalty >= 0)) {
+            throw new IllegalArgumentException("Penalty must be zero or positive: " + penalty);
+        }
+
+        return (key, submission) -> {
+            int hits   = Integer.bitCount(key & submission);
+            int misses = Integer.bitCount(submission & ~key);
+            return (hits - penalty * misses) / Integer.bitCount(key);
+        };
+    }
+
+    // ============================[ Answer Masks ]============================== \\
+
+    /**
+     * Converts selected answers to an answer mask. Letters are case
+     * insensitive, a letter selected twice counts once, and any character
+     * other than a letter sets {@link #INVALID_CHOICE}.
+     *
+     * @param answers the selected answer letters.
+     * @return the answer mask.
+     * @throws NullPointerException if {@code answers} is {@code null}.
+     */
+    static int mask(char... answers) {
+        if (answers == null) {
+            throw new NullPointerException("Answers array cannot be null.");
+        }
+
+        int mask = 0;
+        for (char answer : answers) {
+            mask |= bit(answer);
+        }
+
+        return mask;
+    }
+
+    /**
+     * Converts a single answer letter to its mask bit.
+     *
+     * @param answer the answer letter.
+     * @return the bit of the letter, or {@link #INVALID_CHOICE} if the
+     *         character is not a letter from {@code 'A'} to {@code 'Z'}.
+     */
+    static int bit(char answer) {
+        int index = Character.toUpperCase(answer) - 'A';
+        return index >= 0 && index < 26 ? 1 << index : INVALID_CHOICE;
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.slinky.mockmate.data;
+
+/**
+ * A question matched by a {@link SearchIndex} query.
+ *
+ * <p>
+ * A hit identifies its question rather than holding it, so searching loads no
+ * chapters. Load the question with
+ * {@code Exam.loadExam(examCode).loadSharedChapter(chapterNumber).getQuestion(ordinal)}.
+ * </p>
+ *
+ * @param examCode      the exam holding the question.
+ * @param chapterNumber the chapter holding the question.
+ * @param ordinal       the question's ordinal within the chapter.
+ * @param score         the BM25 relevance of the question to the query;
+ *                      higher is more relevant.
+ *
+ * @author Kheagen Haskins
+ */
+public record SearchHit(ExamCode examCode, int chapterNumber, int ordinal, double score) {}
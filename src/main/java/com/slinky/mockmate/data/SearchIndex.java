@@ -0,0 +1,781 @@
+package com.slinky.mockmate.data;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+/**
+ * A full-text index over the questions of any number of exams, ranked with
+ * BM25.
+ *
+ * <p>
+ * Each question is a document made of its text, choices and code snippet,
+ * split into terms by {@link JavaTokenizer}. Every term maps to a posting list
+ * of primitive {@code int} arrays holding the documents it occurs in and how
+ * often, so the index holds no per-occurrence objects. A query is tokenized
+ * the same way and each document is scored by summing the BM25 weight of every
+ * query term it contains, with the usual parameters {@code k1 = 1.2} and
+ * {@code b = 0.75}.
+ * </p>
+ * <p>
+ * Chapters are indexed one at a time, so the index can grow as chapters are
+ * loaded: {@link #attach(ChapterCache)} indexes every chapter the cache loads
+ * or a reload swaps in from then on. Adding a chapter that is already indexed
+ * does nothing unless a hash of the content it would index differs from the
+ * hash of the content indexed for it, in which case its old documents are
+ * dropped and it is indexed again. Dropped documents are compacted away once
+ * they outnumber the live ones. The index can be written
+ * to disk with {@link #save(Path)} and read back with {@link #load(Path)}, so a
+ * restart does not need to tokenize the bank again.
+ * </p>
+ * <p>
+ * All methods are thread-safe.
+ * </p>
+ * <p>
+ * Example usage:
+ * </p>
+ * <pre>{@code
+ * SearchIndex index = SearchIndex.buildAll();
+ * for (SearchHit hit : index.search("switch expression", 10)) {
+ *     System.out.println(hit.chapterNumber() + "." + hit.ordinal());
+ * }
+ * index.save(Path.of("search.idx"));
+ * }</pre>
+ *
+ * @author Kheagen Haskins
+ */
+public final class SearchIndex {
+
+    // ================================[ Static ]================================ \\
+
+    /**
+     * Identifies a saved index file.
+     */
+    private static final int MAGIC = 0x4D4D5349; // "MMSI"
+
+    /**
+     * The version of the saved index format.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * BM25 term frequency saturation.
+     */
+    private static final double K1 = 1.2;
+
+    /**
+     * BM25 document length normalisation.
+     */
+    private static final double B = 0.75;
+
+    // ================================[ Fields ]================================ \\
+
+    /**
+     * The exam, chapter number, ordinal and length in terms of each document,
+     * by document id. Guarded by {@code this}.
+     */
+    private ExamCode[] docExams = new ExamCode[64];
+    private int[] docChapters   = new int[64];
+    private int[] docOrdinals   = new int[64];
+    private int[] docLengths    = new int[64];
+
+    /**
+     * The number of document ids assigned. Guarded by {@code this}.
+     */
+    private int docCount;
+
+    /**
+     * The documents of chapters that were re-indexed, and how many there are.
+     * Guarded by {@code this}.
+     */
+    private final BitSet deleted = new BitSet();
+    private int deletedCount;
+
+    /**
+     * The number of documents not deleted, and their total length. Guarded by
+     * {@code this}.
+     */
+    private int liveCount;
+    private long liveLength;
+
+    /**
+     * The posting list of each term. Guarded by {@code this}.
+     */
+    private final Map<String, Postings> terms = new HashMap<>();
+
+    /**
+     * The indexed chapters, by {@link #chapterKey(ExamCode, int)}. Guarded by
+     * {@code this}.
+     */
+    private final Map<String, IndexedChapter> chapters = new HashMap<>();
+
+    // =============================[ Constructors ]============================= \\
+
+    /**
+     * Constructs an empty index.
+     */
+    public SearchIndex() {}
+
+    /**
+     * Builds an index over every exam in {@link ExamCode} that has question
+     * data, loading each chapter through the shared {@link ChapterCache}.
+     *
+     * @return a new index.
+     */
+    public static SearchIndex buildAll() {
+        var index = new SearchIndex();
+        for (ExamCode examCode : ExamCode.values()) {
+            if (ResourceIndex.get().contains(examCode)) {
+                index.addExam(examCode, Exam.loadExam(examCode));
+            }
+        }
+
+        return index;
+    }
+
+    // ===========================[ Accessor Methods ]=========================== \\
+
+    /**
+     * Retrieves the number of questions in the index.
+     *
+     * @return the number of indexed questions.
+     */
+    public synchronized int size() {
+        return liveCount;
+    }
+
+    /**
+     * Retrieves the number of distinct terms in the index, including terms
+     * that only occur in dropped documents until the index is compacted.
+     *
+     * @return the number of terms.
+     */
+    public synchronized int termCount() {
+        return terms.size();
+    }
+
+    /**
+     * Checks whether a chapter has been indexed.
+     *
+     * @param examCode      the exam.
+     * @param chapterNumber the chapter number.
+     * @return {@code true} if the chapter's questions are in the index.
+     */
+    public synchronized boolean contains(ExamCode examCode, int chapterNumber) {
+        return chapters.containsKey(chapterKey(examCode, chapterNumber));
+    }
+
+    // =============================[ API Methods ]============================== \\
+
+    /**
+     * Indexes every chapter of an exam, through
+     * {@link Exam#loadSharedChapter(int)}.
+     *
+     * @param examCode the code of the exam.
+     * @param exam     the exam.
+     */
+    public void addExam(ExamCode examCode, Exam exam) {
+        for (int c = 1; c <= exam.getChapterCount(); c++) {
+            addChapter(examCode, exam.loadSharedChapter(c));
+        }
+    }
+
+    /**
+     * Indexes the questions of a chapter, unless the chapter is already
+     * indexed with the same content. The content is compared by a hash of the
+     * ordinal, text, choices and code snippet of every question.
+     *
+     * @param examCode the exam the chapter belongs to.
+     * @param chapter  the chapter.
+     * @throws NullPointerException if either argument is {@code null}.
+     */
+    public void addChapter(ExamCode examCode, Chapter chapter) {
+        if (examCode == null || chapter == null) {
+            throw new NullPointerException("Exam code and chapter cannot be null.");
+        }
+
+        final int number   = chapter.getChapterNumber();
+        final String key   = chapterKey(examCode, number);
+
+        // Tokenize outside the lock; only the posting updates need it
+        List<Question> questions      = chapter.getAllQuestions();
+        List<Map<String, int[]>> docs = new ArrayList<>(questions.size());
+        int[] lengths                 = new int[questions.size()];
+        MessageDigest digest          = digest();
+        for (int i = 0; i < questions.size(); i++) {
+            Map<String, int[]> freqs = new HashMap<>();
+            int[] length             = new int[1];
+            Consumer<String> sink = term -> {
+                freqs.computeIfAbsent(term, t -> new int[1])[0]++;
+                length[0]++;
+            };
+
+            Question question = questions.get(i);
+            digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(question.ordinal()).array());
+            update(digest, question.questionText());
+            JavaTokenizer.tokenize(question.questionText(), sink);
+            for (String choice : question.choices()) {
+                update(digest, choice);
+                JavaTokenizer.tokenize(choice, sink);
+            }
+            update(digest, question.codeSnippet());
+            JavaTokenizer.tokenize(question.codeSnippet(), sink);
+
+            docs.add(freqs);
+            lengths[i] = length[0];
+        }
+
+        final String hash = HexFormat.of().formatHex(digest.digest());
+
+        synchronized (this) {
+            var previous = chapters.get(key);
+            if (previous != null) {
+                if (previous.hash().equals(hash)) {
+                    return;
+                }
+
+                drop(previous);
+            }
+
+            final int first = docCount;
+            for (int i = 0; i < docs.size(); i++) {
+                int doc = newDocument(examCode, number, questions.get(i).ordinal(), lengths[i]);
+                for (var entry : docs.get(i).entrySet()) {
+                    terms.computeIfAbsent(entry.getKey(), t -> new Postings()).add(doc, entry.getValue()[0]);
+                }
+            }
+
+            chapters.put(key, new IndexedChapter(examCode, number, hash, first, docCount));
+            if (deletedCount > liveCount) {
+                compact();
+            }
+        }
+    }
+
+    /**
+     * Indexes every chapter that the given cache loads or swaps in from now
+     * on.
+     *
+     * @param cache the cache to listen to.
+     */
+    public void attach(ChapterCache cache) {
+        cache.addLoadListener(this::addChapter);
+    }
+
+    /**
+     * Finds the questions most relevant to a query.
+     *
+     * @param query the search terms.
+     * @param limit the maximum number of hits.
+     * @return the hits, most relevant first. Questions matching none of the
+     *         query's terms are not returned.
+     * @throws IllegalArgumentException if {@code limit} is negative.
+     */
+    public synchronized List<SearchHit> search(String query, int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit cannot be negative: " + limit);
+        }
+
+        var queryTerms = new LinkedHashSet<String>();
+        JavaTokenizer.tokenize(query, queryTerms::add);
+        if (limit == 0 || queryTerms.isEmpty() || liveCount == 0) {
+            return List.of();
+        }
+
+        final double avgLength = (double) liveLength / liveCount;
+        double[] scores        = new double[docCount];
+        BitSet matched         = new BitSet(docCount);
+        for (String term : queryTerms) {
+            Postings postings = terms.get(term);
+            if (postings == null) {
+                continue;
+            }
+
+            int df = 0;
+            for (int i = 0; i < postings.size; i++) {
+                if (!deleted.get(postings.docs[i])) {
+                    df++;
+                }
+            }
+
+            final double idf = Math.log(1 + (liveCount - df + 0.5) / (df + 0.5));
+            for (int i = 0; i < postings.size; i++) {
+                int doc = postings.docs[i];
+                if (deleted.get(doc)) {
+                    continue;
+                }
+
+                double tf   = postings.freqs[i];
+                double norm = K1 * (1 - B + B * docLengths[doc] / avgLength);
+                scores[doc] += idf * tf * (K1 + 1) / (tf + norm);
+                matched.set(doc);
+            }
+        }
+
+        // Keep the best hits in a min-heap of document ids
+        PriorityQueue<Integer> best = new PriorityQueue<>(Math.min(limit, 1_024) + 1,
+                (a, b) -> scores[a] != scores[b] ? Double.compare(scores[a], scores[b]) : Integer.compare(b, a));
+        for (int doc = matched.nextSetBit(0); doc >= 0; doc = matched.nextSetBit(doc + 1)) {
+            best.add(doc);
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+
+        SearchHit[] hits = new SearchHit[best.size()];
+        for (int i = hits.length - 1; i >= 0; i--) {
+            int doc = best.poll();
+            hits[i] = new SearchHit(docExams[doc], docChapters[doc], docOrdinals[doc], scores[doc]);
+        }
+
+        return List.of(hits);
+    }
+
+    // =============================[ Persistence ]============================== \\
+
+    /**
+     * Writes the index to a file, replacing it atomically where the file
+     * system allows. Dropped documents are left out.
+     *
+     * @param file the file to write.
+     * @throws IOException if the file cannot be written.
+     */
+    public synchronized void save(Path file) throws IOException {
+        var ordered = chaptersInDocumentOrder();
+        int[] remap = remap(ordered);
+
+        Path temp = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+        try {
+            try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+
+                out.writeInt(ordered.size());
+                for (var chapter : ordered) {
+                    out.writeUTF(chapter.examCode().name());
+                    out.writeInt(chapter.number());
+                    out.writeUTF(chapter.hash());
+                    out.writeInt(chapter.endDoc() - chapter.firstDoc());
+                    for (int doc = chapter.firstDoc(); doc < chapter.endDoc(); doc++) {
+                        writeVarInt(out, docOrdinals[doc]);
+                        writeVarInt(out, docLengths[doc]);
+                    }
+                }
+
+                int liveTerms = 0;
+                for (var postings : terms.values()) {
+                    if (postings.liveCount(deleted) > 0) {
+                        liveTerms++;
+                    }
+                }
+
+                out.writeInt(liveTerms);
+                for (var entry : terms.entrySet()) {
+                    Postings postings = entry.getValue();
+                    int df = postings.liveCount(deleted);
+                    if (df == 0) {
+                        continue;
+                    }
+
+                    out.writeUTF(entry.getKey());
+                    writeVarInt(out, df);
+                    int last = 0;
+                    for (int i = 0; i < postings.size; i++) {
+                        int doc = remap[postings.docs[i]];
+                        if (doc >= 0) {
+                            writeVarInt(out, doc - last);
+                            writeVarInt(out, postings.freqs[i]);
+                            last = doc;
+                        }
+                    }
+                }
+            }
+
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Reads an index written by {@link #save(Path)}.
+     *
+     * @param file the file to read.
+     * @return the index.
+     * @throws IOException if the file cannot be read, is not a saved index or
+     *                     is corrupt.
+     */
+    public static SearchIndex load(Path file) throws IOException {
+        var index = new SearchIndex();
+        try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("Not a search index: " + file);
+            }
+
+            synchronized (index) {
+                int chapterCount = in.readInt();
+                for (int c = 0; c < chapterCount; c++) {
+                    ExamCode examCode = examCode(in.readUTF());
+                    int number        = in.readInt();
+                    String hash       = in.readUTF();
+                    int docs          = in.readInt();
+                    int first         = index.docCount;
+                    for (int d = 0; d < docs; d++) {
+                        int ordinal = readVarInt(in);
+                        index.newDocument(examCode, number, ordinal, readVarInt(in));
+                    }
+
+                    index.chapters.put(chapterKey(examCode, number), new IndexedChapter(examCode, number, hash, first, index.docCount));
+                }
+
+                int termCount = in.readInt();
+                for (int t = 0; t < termCount; t++) {
+                    String term       = in.readUTF();
+                    int df            = readVarInt(in);
+                    Postings postings = new Postings(df);
+                    int doc           = 0;
+                    for (int i = 0; i < df; i++) {
+                        doc += readVarInt(in);
+                        if (doc < 0 || doc >= index.docCount) {
+                            throw new IOException("Corrupt search index %s: term '%s' lists document %d of %d"
+                                    .formatted(file, term, doc, index.docCount));
+                        }
+
+                        postings.add(doc, readVarInt(in));
+                    }
+
+                    index.terms.put(term, postings);
+                }
+            }
+        } catch (IllegalArgumentException ex) {
+            throw new IOException("Corrupt search index %s: %s".formatted(file, ex.getMessage()));
+        }
+
+        return index;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "SearchIndex[questions=%d, terms=%d, chapters=%d]".formatted(liveCount, terms.size(), chapters.size());
+    }
+
+    // ============================[ Helper Methods ]============================ \\
+
+    /**
+     * Assigns the next document id. The caller must hold the lock.
+     *
+     * @param examCode      the exam of the document.
+     * @param chapterNumber the chapter of the document.
+     * @param ordinal       the question ordinal of the document.
+     * @param length        the number of terms in the document.
+     * @return the new document id.
+     */
+    private int newDocument(ExamCode examCode, int chapterNumber, int ordinal, int length) {
+        if (docCount == docLengths.length) {
+            int capacity = docCount * 2;
+            docExams     = Arrays.copyOf(docExams, capacity);
+            docChapters  = Arrays.copyOf(docChapters, capacity);
+            docOrdinals  = Arrays.copyOf(docOrdinals, capacity);
+            docLengths   = Arrays.copyOf(docLengths, capacity);
+        }
+
+        docExams[docCount]    = examCode;
+        docChapters[docCount] = chapterNumber;
+        docOrdinals[docCount] = ordinal;
+        docLengths[docCount]  = length;
+        liveCount++;
+        liveLength += length;
+        return docCount++;
+    }
+
+    /**
+     * Drops the documents of a chapter. The caller must hold the lock.
+     *
+     * @param chapter the chapter to drop.
+     */
+    private void drop(IndexedChapter chapter) {
+        for (int doc = chapter.firstDoc(); doc < chapter.endDoc(); doc++) {
+            deleted.set(doc);
+            liveCount--;
+            liveLength -= docLengths[doc];
+        }
+
+        deletedCount += chapter.endDoc() - chapter.firstDoc();
+        chapters.remove(chapterKey(chapter.examCode(), chapter.number()));
+    }
+
+    /**
+     * Renumbers the live documents from zero and removes the dropped ones
+     * from every posting list, forgetting terms left with no documents. The
+     * caller must hold the lock.
+     */
+    private void compact() {
+        var ordered = chaptersInDocumentOrder();
+        int[] remap = remap(ordered);
+
+        final int capacity = Math.max(64, liveCount);
+        var exams          = new ExamCode[capacity];
+        int[] chapterIds   = new int[capacity];
+        int[] ordinals     = new int[capacity];
+        int[] lengths      = new int[capacity];
+        for (var chapter : ordered) {
+            final int first = remap[chapter.firstDoc()];
+            for (int doc = chapter.firstDoc(); doc < chapter.endDoc(); doc++) {
+                int to         = remap[doc];
+                exams[to]      = docExams[doc];
+                chapterIds[to] = docChapters[doc];
+                ordinals[to]   = docOrdinals[doc];
+                lengths[to]    = docLengths[doc];
+            }
+
+            chapters.put(chapterKey(chapter.examCode(), chapter.number()), new IndexedChapter(chapter.examCode(),
+                    chapter.number(), chapter.hash(), first, first + chapter.endDoc() - chapter.firstDoc()));
+        }
+
+        terms.values().removeIf(postings -> postings.remap(remap) == 0);
+        docExams     = exams;
+        docChapters  = chapterIds;
+        docOrdinals  = ordinals;
+        docLengths   = lengths;
+        docCount     = liveCount;
+        deletedCount = 0;
+        deleted.clear();
+    }
+
+    /**
+     * Lists the indexed chapters in document order, so that renumbering their
+     * documents in this order keeps each posting list sorted. The caller must
+     * hold the lock.
+     *
+     * @return the indexed chapters, by first document id.
+     */
+    private List<IndexedChapter> chaptersInDocumentOrder() {
+        var ordered = new ArrayList<>(chapters.values());
+        ordered.sort((a, b) -> Integer.compare(a.firstDoc(), b.firstDoc()));
+        return ordered;
+    }
+
+    /**
+     * Maps every document id to its id once dropped documents are left out.
+     * The caller must hold the lock.
+     *
+     * @param ordered the indexed chapters in document order.
+     * @return the new id of each document, or {@code -1} for a dropped one.
+     */
+    private int[] remap(List<IndexedChapter> ordered) {
+        int[] remap = new int[docCount];
+        Arrays.fill(remap, -1);
+        int next = 0;
+        for (var chapter : ordered) {
+            for (int doc = chapter.firstDoc(); doc < chapter.endDoc(); doc++) {
+                remap[doc] = next++;
+            }
+        }
+
+        return remap;
+    }
+
+    /**
+     * Adds a string to a content hash, marking where it ends so that
+     * neighbouring strings cannot run together.
+     *
+     * @param digest the digest.
+     * @param text   the string, or {@code null}.
+     */
+    private static void update(MessageDigest digest, String text) {
+        if (text != null) {
+            digest.update(text.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        } else {
+            digest.update((byte) 1);
+        }
+    }
+
+    /**
+     * Creates the digest used for content hashes.
+     *
+     * @return a SHA-256 digest.
+     */
+    private static MessageDigest digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    /**
+     * Builds the key of a chapter in {@link #chapters}.
+     *
+     * @param examCode      the exam.
+     * @param chapterNumber the chapter number.
+     * @return the key.
+     */
+    private static String chapterKey(ExamCode examCode, int chapterNumber) {
+        return examCode.name() + '#' + chapterNumber;
+    }
+
+    /**
+     * Finds an exam code by constant name.
+     *
+     * @param name the constant name.
+     * @return the exam code.
+     * @throws IllegalArgumentException if there is no such exam code.
+     */
+    private static ExamCode examCode(String name) {
+        return ExamCode.valueOf(name);
+    }
+
+    /**
+     * Writes a non-negative int in as few bytes as possible, seven bits per
+     * byte.
+     *
+     * @param out   the stream.
+     * @param value the value.
+     * @throws IOException if the stream fails.
+     */
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+
+        out.writeByte(value);
+    }
+
+    /**
+     * Reads an int written by {@link #writeVarInt(DataOutputStream, int)}.
+     *
+     * @param in the stream.
+     * @return the value.
+     * @throws IOException if the stream fails or the value is malformed.
+     */
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+
+        throw new IOException("Malformed variable length int");
+    }
+
+    // ============================[ Nested Types ]============================== \\
+
+    /**
+     * The documents a term occurs in, in ascending order, and the number of
+     * times it occurs in each.
+     */
+    private static final class Postings {
+
+        private int[] docs;
+        private int[] freqs;
+        private int size;
+
+        Postings() {
+            this(4);
+        }
+
+        Postings(int capacity) {
+            docs  = new int[Math.max(1, capacity)];
+            freqs = new int[docs.length];
+        }
+
+        /**
+         * Appends a document, which must have a higher id than any present.
+         *
+         * @param doc  the document id.
+         * @param freq the number of occurrences.
+         */
+        void add(int doc, int freq) {
+            if (size == docs.length) {
+                docs  = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+
+            docs[size]  = doc;
+            freqs[size] = freq;
+            size++;
+        }
+
+        /**
+         * Renumbers the documents, leaving out those mapped to {@code -1}.
+         * The mapping must keep the remaining documents in order.
+         *
+         * @param remap the new id of each document.
+         * @return the number of documents left.
+         */
+        int remap(int[] remap) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int doc = remap[docs[i]];
+                if (doc >= 0) {
+                    docs[kept]  = doc;
+                    freqs[kept] = freqs[i];
+                    kept++;
+                }
+            }
+
+            size = kept;
+            return kept;
+        }
+
+        /**
+         * Counts the documents that have not been dropped.
+         *
+         * @param deleted the dropped documents.
+         * @return the live document frequency.
+         */
+        int liveCount(BitSet deleted) {
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                if (!deleted.get(docs[i])) {
+                    count++;
+                }
+            }
+
+            return count;
+        }
+
+    }
+
+    /**
+     * An indexed chapter, whose questions hold the consecutive document ids
+     * from {@code firstDoc} (inclusive) to {@code endDoc} (exclusive).
+     *
+     * @param examCode the exam.
+     * @param number   the chapter number.
+     * @param hash     the hash of the chapter's indexed content.
+     * @param firstDoc the first document id.
+     * @param endDoc   one past the last document id.
+     */
+    private record IndexedChapter(ExamCode examCode, int number, String hash, int firstDoc, int endDoc) {}
+
+}
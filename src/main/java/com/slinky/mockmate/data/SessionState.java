@@ -0,0 +1,424 @@
+package com.slinky.mockmate.data;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.Checksum;
+
+/**
+ * The latest answer each user gave to each question, kept in memory so that a
+ * session can resume where it left off.
+ *
+ * <p>
+ * Answers are grouped by exam and chapter. Each chapter has its own
+ * open-addressing table from (user, question ordinal) to the answer mask and
+ * the time it was given, held in packed primitive arrays with its own lock, so
+ * users answering different chapters never contend. Recording an answer to a
+ * question the user has answered before replaces it.
+ * </p>
+ * <p>
+ * The state is not durable by itself. Answers are written to an
+ * {@link AnswerJournal}, which records each one here once it is on disk; at
+ * startup the journal rebuilds a fresh state from the newest snapshot its
+ * {@link JournalCompactor} wrote and the answers after it. All methods are
+ * thread-safe.
+ * </p>
+ * <p>
+ * Example usage:
+ * </p>
+ * <pre>{@code
+ * var state   = new SessionState();
+ * var journal = AnswerJournal.open(Path.of("journal"), state);
+ * journal.append(System.currentTimeMillis(), user, examCode, 1, 4, mask).join();
+ * int answer  = state.answerMask(user, examCode, 1, 4);
+ * }</pre>
+ *
+ * @author Kheagen Haskins
+ */
+public final class SessionState {
+
+    // ================================[ Static ]================================ \\
+
+    /**
+     * The answer mask reported for a question the user has not answered. No
+     * real mask has every bit set, since only 26 letters are valid.
+     */
+    public static final int NO_ANSWER = -1;
+
+    /**
+     * The largest chapter number or ordinal that can be recorded.
+     */
+    static final int MAX_NUMBER = 0xFFFF;
+
+    /**
+     * The exams by ordinal.
+     */
+    private static final ExamCode[] EXAMS = ExamCode.values();
+
+    /**
+     * The size of an answer in a snapshot: key, mask and time.
+     */
+    private static final int ENTRY_BYTES = 8 + 4 + 8;
+
+    // ================================[ Fields ]================================ \\
+
+    /**
+     * The answers of each chapter, by {@link #chapterKey(ExamCode, int)}.
+     */
+    private final ConcurrentHashMap<Integer, ChapterAnswers> chapters = new ConcurrentHashMap<>();
+
+    // =============================[ Constructors ]============================= \\
+
+    /**
+     * Constructs an empty state.
+     */
+    public SessionState() {}
+
+    // ===========================[ Accessor Methods ]=========================== \\
+
+    /**
+     * Retrieves the number of (user, question) pairs that have an answer.
+     *
+     * @return the number of answers held.
+     */
+    public long size() {
+        long size = 0;
+        for (ChapterAnswers answers : chapters.values()) {
+            size += answers.size();
+        }
+
+        return size;
+    }
+
+    /**
+     * Retrieves the number of chapters that have at least one answer.
+     *
+     * @return the chapter count.
+     */
+    public int chapterCount() {
+        return chapters.size();
+    }
+
+    // =============================[ API Methods ]============================== \\
+
+    /**
+     * Records a user's answer to a question, replacing any earlier answer.
+     *
+     * @param time          the time of the answer, in epoch milliseconds.
+     * @param user          the user index.
+     * @param examCode      the exam.
+     * @param chapterNumber the chapter number.
+     * @param ordinal       the question's ordinal within the chapter.
+     * @param answerMask    the answer mask submitted.
+     * @throws NullPointerException     if {@code examCode} is {@code null}.
+     * @throws IllegalArgumentException if the user, chapter number or ordinal
+     *                                  is out of range.
+     */
+    public void record(long time, int user, ExamCode examCode, int chapterNumber, int ordinal, int answerMask) {
+        long key = answerKey(user, ordinal);
+        int chapter = chapterKey(examCode, chapterNumber);
+        ChapterAnswers answers = chapters.get(chapter);
+        if (answers == null) {
+            answers = chapters.computeIfAbsent(chapter, k -> new ChapterAnswers());
+        }
+
+        answers.put(key, answerMask, time);
+    }
+
+    /**
+     * Retrieves a user's latest answer to a question.
+     *
+     * @param user          the user index.
+     * @param examCode      the exam.
+     * @param chapterNumber the chapter number.
+     * @param ordinal       the question's ordinal within the chapter.
+     * @return the answer mask, or {@link #NO_ANSWER} if the user has not
+     *         answered the question.
+     * @throws NullPointerException     if {@code examCode} is {@code null}.
+     * @throws IllegalArgumentException if the user, chapter number or ordinal
+     *                                  is out of range.
+     */
+    public int answerMask(int user, ExamCode examCode, int chapterNumber, int ordinal) {
+        long key = answerKey(user, ordinal);
+        ChapterAnswers answers = chapters.get(chapterKey(examCode, chapterNumber));
+        return answers == null ? NO_ANSWER : answers.mask(key);
+    }
+
+    /**
+     * Retrieves when a user last answered a question.
+     *
+     * @param user          the user index.
+     * @param examCode      the exam.
+     * @param chapterNumber the chapter number.
+     * @param ordinal       the question's ordinal within the chapter.
+     * @return the time of the answer in epoch milliseconds, or {@code -1} if
+     *         the user has not answered the question.
+     * @throws NullPointerException     if {@code examCode} is {@code null}.
+     * @throws IllegalArgumentException if the user, chapter number or ordinal
+     *                                  is out of range.
+     */
+    public long answeredAt(int user, ExamCode examCode, int chapterNumber, int ordinal) {
+        long key = answerKey(user, ordinal);
+        ChapterAnswers answers = chapters.get(chapterKey(examCode, chapterNumber));
+        return answers == null ? -1 : answers.time(key);
+    }
+
+    @Override
+    public String toString() {
+        return "SessionState[chapters=%d, answers=%d]".formatted(chapterCount(), size());
+    }
+
+    // =============================[ Persistence ]============================== \\
+
+    /**
+     * Writes every answer to a snapshot, one section per chapter. Each
+     * chapter's table is copied under its own lock and encoded after the lock
+     * is released, so recording is held up only for the copy of one chapter
+     * at a time. Answers recorded while the snapshot is written may or may not
+     * be included.
+     *
+     * @param channel  the snapshot file.
+     * @param checksum updated with every byte written.
+     * @throws IOException if the file cannot be written.
+     */
+    void writeTo(FileChannel channel, Checksum checksum) throws IOException {
+        var sections = new ArrayList<Map.Entry<Integer, ChapterAnswers>>(chapters.entrySet());
+        JournalCompactor.write(channel, checksum, ByteBuffer.allocate(4).putInt(sections.size()).flip());
+        for (var section : sections) {
+            int chapter = section.getKey();
+            ExamCode examCode = EXAMS[chapter >>> 16];
+            JournalCompactor.write(channel, checksum, section.getValue().encode(AnswerJournal.examNumber(examCode), chapter & MAX_NUMBER));
+        }
+    }
+
+    /**
+     * Reads the answers of a snapshot written by
+     * {@link #writeTo(FileChannel, Checksum)} into this state.
+     *
+     * @param buffer the snapshot's sections.
+     * @throws IOException              if the snapshot is malformed.
+     * @throws IllegalStateException    if the state is not empty.
+     * @throws BufferUnderflowException if the snapshot is cut short.
+     */
+    void readFrom(ByteBuffer buffer) throws IOException {
+        if (!chapters.isEmpty()) {
+            throw new IllegalStateException("Session state is not empty");
+        }
+
+        int sections = buffer.getInt();
+        for (int i = 0; i < sections; i++) {
+            ExamCode examCode = AnswerJournal.examCode(Short.toUnsignedInt(buffer.getShort()));
+            if (examCode == null) {
+                throw new IOException("Unknown exam in snapshot section " + i);
+            }
+
+            int chapterNumber = Short.toUnsignedInt(buffer.getShort());
+            chapters.put(chapterKey(examCode, chapterNumber), ChapterAnswers.decode(buffer));
+        }
+    }
+
+    // ============================[ Helper Methods ]============================ \\
+
+    /**
+     * Packs an exam and chapter number into a map key.
+     *
+     * @param examCode      the exam.
+     * @param chapterNumber the chapter number.
+     * @return the key.
+     * @throws NullPointerException     if {@code examCode} is {@code null}.
+     * @throws IllegalArgumentException if the chapter number is out of range.
+     */
+    static int chapterKey(ExamCode examCode, int chapterNumber) {
+        Objects.requireNonNull(examCode, "Exam code cannot be null");
+        if (chapterNumber < 0 || chapterNumber > MAX_NUMBER) {
+            throw new IllegalArgumentException("Invalid chapter number: " + chapterNumber);
+        }
+
+        return examCode.ordinal() << 16 | chapterNumber;
+    }
+
+    /**
+     * Packs a user and question ordinal into a table key.
+     *
+     * @param user    the user index.
+     * @param ordinal the question's ordinal.
+     * @return the key, never {@link ChapterAnswers#EMPTY}.
+     * @throws IllegalArgumentException if the user or ordinal is out of range.
+     */
+    private static long answerKey(int user, int ordinal) {
+        if (user < 0) {
+            throw new IllegalArgumentException("Invalid user index: " + user);
+        }
+
+        if (ordinal < 0 || ordinal > MAX_NUMBER) {
+            throw new IllegalArgumentException("Invalid question ordinal: " + ordinal);
+        }
+
+        return (long) user << 16 | ordinal;
+    }
+
+    // ============================[ Nested Types ]============================== \\
+
+    /**
+     * The answers of one chapter, in an open-addressing table with linear
+     * probing. All methods are synchronized on the table.
+     */
+    static final class ChapterAnswers {
+
+        /**
+         * Marks an unused slot; no packed key is negative.
+         */
+        static final long EMPTY = -1;
+
+        /**
+         * The packed (user, ordinal) key, answer mask and answer time of each
+         * slot.
+         */
+        private long[] keys;
+        private int[] masks;
+        private long[] times;
+
+        /**
+         * The number of used slots.
+         */
+        private int size;
+
+        ChapterAnswers() {
+            this(8);
+        }
+
+        ChapterAnswers(int expected) {
+            keys  = empty(Integer.highestOneBit(Math.max(8, expected) * 4 - 1));
+            masks = new int[keys.length];
+            times = new long[keys.length];
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        synchronized void put(long key, int mask, long time) {
+            int slot = slot(key);
+            if (keys[slot] == EMPTY) {
+                if ((size + 1) * 2 > keys.length) {
+                    grow();
+                    slot = slot(key);
+                }
+
+                keys[slot] = key;
+                size++;
+            }
+
+            masks[slot] = mask;
+            times[slot] = time;
+        }
+
+        synchronized int mask(long key) {
+            int slot = slot(key);
+            return keys[slot] == EMPTY ? NO_ANSWER : masks[slot];
+        }
+
+        synchronized long time(long key) {
+            int slot = slot(key);
+            return keys[slot] == EMPTY ? -1 : times[slot];
+        }
+
+        /**
+         * Copies the table under the lock, then encodes it as a snapshot
+         * section: exam number, chapter number, answer count and answers.
+         */
+        ByteBuffer encode(int examNumber, int chapterNumber) {
+            long[] keys, times;
+            int[] masks;
+            int size;
+            synchronized (this) {
+                keys  = this.keys.clone();
+                masks = this.masks.clone();
+                times = this.times.clone();
+                size  = this.size;
+            }
+
+            ByteBuffer section = ByteBuffer.allocate(8 + size * ENTRY_BYTES)
+                                           .putShort((short) examNumber)
+                                           .putShort((short) chapterNumber)
+                                           .putInt(size);
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != EMPTY) {
+                    section.putLong(keys[i]).putInt(masks[i]).putLong(times[i]);
+                }
+            }
+
+            return section.flip();
+        }
+
+        /**
+         * Decodes the answers of a snapshot section, after its exam and
+         * chapter numbers, into a table sized to hold them.
+         */
+        static ChapterAnswers decode(ByteBuffer buffer) throws IOException {
+            int count = buffer.getInt();
+            if (count < 0 || (long) count * ENTRY_BYTES > buffer.remaining()) {
+                throw new IOException("Invalid answer count in snapshot: " + count);
+            }
+
+            var answers = new ChapterAnswers(count);
+            for (int i = 0; i < count; i++) {
+                long key = buffer.getLong();
+                if (key < 0) {
+                    throw new IOException("Invalid answer key in snapshot: " + key);
+                }
+
+                answers.put(key, buffer.getInt(), buffer.getLong());
+            }
+
+            return answers;
+        }
+
+        /**
+         * Finds the slot holding a key, or the empty slot where it belongs.
+         */
+        private int slot(long key) {
+            final int mask = keys.length - 1;
+            long h = key * 0x9E3779B97F4A7C15L;
+            for (int slot = (int) (h ^ (h >>> 32)) & mask; ; slot = (slot + 1) & mask) {
+                if (keys[slot] == EMPTY || keys[slot] == key) {
+                    return slot;
+                }
+            }
+        }
+
+        /**
+         * Doubles the table.
+         */
+        private void grow() {
+            long[] oldKeys  = keys;
+            int[] oldMasks  = masks;
+            long[] oldTimes = times;
+            keys  = empty(oldKeys.length * 2);
+            masks = new int[keys.length];
+            times = new long[keys.length];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY) {
+                    int slot    = slot(oldKeys[i]);
+                    keys[slot]  = oldKeys[i];
+                    masks[slot] = oldMasks[i];
+                    times[slot] = oldTimes[i];
+                }
+            }
+        }
+
+        private static long[] empty(int length) {
+            long[] keys = new long[length];
+            Arrays.fill(keys, EMPTY);
+            return keys;
+        }
+
+    }
+
+}
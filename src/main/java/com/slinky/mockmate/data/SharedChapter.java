@@ -0,0 +1,145 @@
+package com.slinky.mockmate.data;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A view of a frozen {@link ChapterData} with its own navigation position, as
+ * returned by {@link Exam#loadSharedChapter(int)}.
+ *
+ * <p>
+ * The questions belong to the frozen chapter and are shared by every view of
+ * it, so a view costs no more than its {@link ChapterCursor}. Each view
+ * navigates independently with {@link #nextQuestion()} and
+ * {@link #previousQuestion()}; only modification is unsupported. A view is
+ * meant for one user at a time, while the chapter behind it may be shared
+ * between any number of threads.
+ * </p>
+ *
+ * @author Kheagen Haskins
+ */
+final class SharedChapter implements Chapter {
+
+    // ================================[ Fields ]================================ \\
+
+    /**
+     * The frozen chapter holding the questions.
+     */
+    private final ChapterData chapter;
+
+    /**
+     * The navigation position of this view.
+     */
+    private final ChapterCursor position;
+
+    // =============================[ Constructors ]============================= \\
+
+    /**
+     * Constructs a view of a frozen chapter, positioned at the first question.
+     *
+     * @param chapter the frozen chapter.
+     * @throws IllegalArgumentException if the chapter is not frozen.
+     */
+    SharedChapter(ChapterData chapter) {
+        if (!Objects.requireNonNull(chapter, "Chapter cannot be null").isFrozen()) {
+            throw new IllegalArgumentException("Only a frozen chapter can be shared");
+        }
+
+        this.chapter  = chapter;
+        this.position = chapter.cursor();
+    }
+
+    // ===========================[ Accessor Methods ]=========================== \\
+
+    /**
+     * Retrieves the frozen chapter this view navigates.
+     *
+     * @return the shared chapter.
+     */
+    ChapterData chapter() {
+        return chapter;
+    }
+
+    @Override
+    public String getTitle() {
+        return chapter.getTitle();
+    }
+
+    @Override
+    public int getChapterNumber() {
+        return chapter.getChapterNumber();
+    }
+
+    @Override
+    public int countQuestions() {
+        return chapter.countQuestions();
+    }
+
+    // =============================[ API Methods ]============================== \\
+
+    /**
+     * Not supported, since the questions are shared.
+     *
+     * @param question ignored.
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public void addQuestion(Question question) {
+        throw new UnsupportedOperationException("Chapter %d is shared and cannot be modified".formatted(getChapterNumber()));
+    }
+
+    /**
+     * Not supported, since the questions are shared.
+     *
+     * @param ordinal ignored.
+     * @return never returns normally.
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public boolean removeQuestion(int ordinal) {
+        throw new UnsupportedOperationException("Chapter %d is shared and cannot be modified".formatted(getChapterNumber()));
+    }
+
+    @Override
+    public Question getQuestion(int ordinal) {
+        return chapter.getQuestion(ordinal);
+    }
+
+    /**
+     * Retrieves the next question in this view's sequence, wrapping back to
+     * the first question after the last.
+     *
+     * @return the next question in the sequence.
+     */
+    @Override
+    public Question nextQuestion() {
+        return position.next();
+    }
+
+    /**
+     * Retrieves the previous question in this view's sequence, wrapping to
+     * the last question before the first.
+     *
+     * @return the previous question in the sequence.
+     */
+    @Override
+    public Question previousQuestion() {
+        return position.previous();
+    }
+
+    @Override
+    public List<Question> getAllQuestions() {
+        return chapter.getAllQuestions();
+    }
+
+    @Override
+    public ChapterCursor cursor() {
+        return chapter.cursor();
+    }
+
+    @Override
+    public String toString() {
+        return chapter.toString();
+    }
+
+}
@@ -0,0 +1,137 @@
+package com.slinky.mockmate.data;
+
+/**
+ * A point-in-time copy of {@link AnswerStatistics}, for dashboards and
+ * reports.
+ *
+ * <p>
+ * The counts are held in one flat primitive array with a row per question, so
+ * reading a snapshot costs nothing beyond the array access. A snapshot never
+ * changes once taken.
+ * </p>
+ *
+ * @author Kheagen Haskins
+ */
+public final class StatisticsSnapshot {
+
+    // ================================[ Fields ]================================ \\
+
+    /**
+     * The counts of each question: answers, correct answers, then one pick
+     * count per choice letter.
+     */
+    private final long[] counts;
+
+    /**
+     * The number of questions and of choice letters per question.
+     */
+    private final int questionCount, choiceCount;
+
+    // =============================[ Constructors ]============================= \\
+    /**
+     * Constructs a snapshot over the given counts, which are not copied.
+     *
+     * @param counts        the counts, one row per question.
+     * @param questionCount the number of questions.
+     * @param choiceCount   the number of choice letters per question.
+     */
+    StatisticsSnapshot(long[] counts, int questionCount, int choiceCount) {
+        this.counts        = counts;
+        this.questionCount = questionCount;
+        this.choiceCount   = choiceCount;
+    }
+
+    // =============================[ API Methods ]============================== \\
+
+    /**
+     * Retrieves the number of questions.
+     *
+     * @return the question count.
+     */
+    public int questionCount() {
+        return questionCount;
+    }
+
+    /**
+     * Retrieves how often a question had been answered.
+     *
+     * @param questionId the question id.
+     * @return the number of answers.
+     * @throws IndexOutOfBoundsException if there is no such question.
+     */
+    public long answered(int questionId) {
+        return counts[row(questionId) + AnswerStatistics.ANSWERED];
+    }
+
+    /**
+     * Retrieves how often a question had been answered correctly.
+     *
+     * @param questionId the question id.
+     * @return the number of correct answers.
+     * @throws IndexOutOfBoundsException if there is no such question.
+     */
+    public long correct(int questionId) {
+        return counts[row(questionId) + AnswerStatistics.CORRECT];
+    }
+
+    /**
+     * Retrieves the share of a question's answers that were correct, which
+     * {@link ItemBank#difficultyOf(double)} turns into a difficulty.
+     *
+     * @param questionId the question id.
+     * @return the correct answers over all answers, or {@code NaN} if the
+     *         question has not been answered.
+     * @throws IndexOutOfBoundsException if there is no such question.
+     */
+    public double correctRate(int questionId) {
+        long answered = answered(questionId);
+        return answered == 0 ? Double.NaN : (double) correct(questionId) / answered;
+    }
+
+    /**
+     * Retrieves how often a choice letter of a question had been picked.
+     *
+     * @param questionId the question id.
+     * @param choice     the choice letter.
+     * @return the number of answers that included the letter, or {@code 0}
+     *         if the letter is not counted.
+     * @throws IndexOutOfBoundsException if there is no such question.
+     */
+    public long picks(int questionId, char choice) {
+        int letter = Character.toUpperCase(choice) - 'A';
+        int row    = row(questionId);
+        return letter >= 0 && letter < choiceCount ? counts[row + AnswerStatistics.PICKS + letter] : 0;
+    }
+
+    /**
+     * Retrieves the total number of answers recorded.
+     *
+     * @return the answers across all questions.
+     */
+    public long totalAnswered() {
+        long total = 0;
+        for (int q = 0; q < questionCount; q++) {
+            total += answered(q);
+        }
+
+        return total;
+    }
+
+    // ============================[ Helper Methods ]============================ \\
+
+    /**
+     * Finds the start of a question's row.
+     *
+     * @param questionId the question id.
+     * @return the index of the question's first count.
+     * @throws IndexOutOfBoundsException if there is no such question.
+     */
+    private int row(int questionId) {
+        if (questionId < 0 || questionId >= questionCount) {
+            throw new IndexOutOfBoundsException("Invalid question id: " + questionId);
+        }
+
+        return questionId * (AnswerStatistics.PICKS + choiceCount);
+    }
+
+}
@@ -0,0 +1,222 @@
+package com.slinky.mockmate.data;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded, thread-safe table that maps equal strings to one shared
+ * instance, used by {@link QuestionReader} while it decodes questions.
+ *
+ * <p>
+ * Choice texts such as {@code "A. true"} or {@code "D. None of the above"}
+ * repeat across chapters and across the versions of an exam. Without pooling
+ * each question keeps its own copy. Passing every decoded choice through
+ * {@link #canonicalize(String, LongAdder)} keeps one copy per distinct value,
+ * and the duplicates become garbage as soon as the question is built.
+ * </p>
+ * <p>
+ * The table is direct mapped: each string hashes to one slot, and a string
+ * that is not found replaces whatever the slot held. The table therefore
+ * never grows beyond its capacity, at the price of missing some duplicates
+ * when two frequent strings share a slot. Slots hold their strings strongly,
+ * so a pooled string stays reachable until another string takes its slot,
+ * even after every question using it is gone; the pool retains at most one
+ * string per slot. Lookups take no locks.
+ * </p>
+ * <p>
+ * Saved memory is estimated from the size of each duplicate that was
+ * replaced by the pooled instance, assuming a 64-bit JVM with compressed
+ * references and compact strings.
+ * </p>
+ *
+ * @author Kheagen Haskins
+ */
+final class StringPool {
+
+    // ================================[ Static ]================================ \\
+
+    /**
+     * Default number of slots, overridable with the
+     * {@code mockmate.strings.poolSize} system property.
+     */
+    private static final int DEFAULT_CAPACITY = Integer.getInteger("mockmate.strings.poolSize", 1 << 14);
+
+    /**
+     * The pool used by {@link QuestionReader#shared()}.
+     */
+    private static final StringPool SHARED = new StringPool(DEFAULT_CAPACITY);
+
+    /**
+     * Estimated size of a {@code String} object, excluding its byte array.
+     */
+    private static final int STRING_BYTES = 24;
+
+    /**
+     * Estimated size of an array header.
+     */
+    private static final int ARRAY_HEADER_BYTES = 16;
+
+    /**
+     * The largest capacity, chosen so that the slot count stays a positive
+     * power of two.
+     */
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    // ================================[ Fields ]================================ \\
+
+    /**
+     * The pooled strings by slot, or {@code null} where a slot is empty.
+     */
+    private final AtomicReferenceArray<String> table;
+
+    /**
+     * The slot count less one, used to mask hashes.
+     */
+    private final int mask;
+
+    /**
+     * Statistics counters.
+     */
+    private final LongAdder hits = new LongAdder(), misses = new LongAdder(), savedBytes = new LongAdder();
+
+    // =============================[ Constructors ]============================= \\
+
+    /**
+     * Constructs an empty pool.
+     *
+     * @param capacity the number of slots, rounded up to a power of two.
+     * @throws IllegalArgumentException if the capacity is not positive or is
+     *                                  larger than {@code 2^30}.
+     */
+    StringPool(int capacity) {
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Invalid pool capacity: " + capacity);
+        }
+
+        int slots = Integer.highestOneBit(capacity);
+        if (slots < capacity) {
+            slots <<= 1;
+        }
+
+        table = new AtomicReferenceArray<>(slots);
+        mask  = slots - 1;
+    }
+
+    // ===========================[ Accessor Methods ]=========================== \\
+
+    /**
+     * Retrieves the pool used by {@link QuestionReader#shared()} while decoding
+     * questions from JSON.
+     *
+     * @return the shared {@code StringPool}.
+     */
+    static StringPool shared() {
+        return SHARED;
+    }
+
+    /**
+     * Retrieves the number of slots in the table.
+     *
+     * @return the capacity.
+     */
+    int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Retrieves the number of strings replaced by a pooled instance.
+     *
+     * @return the hit count.
+     */
+    long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Retrieves the number of strings that were not found and were pooled.
+     *
+     * @return the miss count.
+     */
+    long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Retrieves the estimated heap saved by every hit so far.
+     *
+     * @return the saved bytes.
+     */
+    long savedBytes() {
+        return savedBytes.sum();
+    }
+
+    // =============================[ API Methods ]============================== \\
+
+    /**
+     * Returns the pooled instance equal to a string, pooling the string
+     * itself if no equal instance is found in its slot.
+     *
+     * @param value the string to canonicalize; may be {@code null}.
+     * @param saved if not {@code null}, receives the estimated bytes saved
+     *              when an equal instance is found, so that callers can
+     *              attribute savings to an exam.
+     * @return the canonical instance, or {@code null} if {@code value} is
+     *         {@code null}.
+     */
+    String canonicalize(String value, LongAdder saved) {
+        if (value == null) {
+            return null;
+        }
+
+        final int hash   = value.hashCode();
+        final int slot   = (hash ^ (hash >>> 16)) & mask;
+        final var pooled = table.get(slot);
+        if (pooled == value) {
+            return pooled;
+        }
+
+        if (pooled != null && pooled.hashCode() == hash && pooled.equals(value)) {
+            final long bytes = retainedBytes(value);
+            hits.increment();
+            savedBytes.add(bytes);
+            if (saved != null) {
+                saved.add(bytes);
+            }
+
+            return pooled;
+        }
+
+        table.set(slot, value);
+        misses.increment();
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return "StringPool[capacity=%d, hits=%d, misses=%d, saved=%d bytes]"
+                .formatted(capacity(), hitCount(), missCount(), savedBytes());
+    }
+
+    // ============================[ Helper Methods ]============================ \\
+
+    /**
+     * Estimates the heap held by a string and its backing array. Strings of
+     * Latin-1 characters are stored in one byte per character, others in two.
+     *
+     * @param value the string.
+     * @return the estimated size in bytes.
+     */
+    static long retainedBytes(String value) {
+        int bytesPerChar = 1;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0xFF) {
+                bytesPerChar = 2;
+                break;
+            }
+        }
+
+        long array = ARRAY_HEADER_BYTES + (long) value.length() * bytesPerChar;
+        return STRING_BYTES + (array + 7 & ~7L);
+    }
+
+}
@@ -1,18 +1,30 @@
 package com.slinky.mockmate.util;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
 /**
  * A utility class providing various string manipulation methods used throughout
  * the application.
  *
  * <p>
  * These methods assist in formatting strings, generating headings, and handling
- * code snippets.
+ * code snippets. The {@code append} methods write straight into an
+ * {@link Appendable} in a single pass over their input, for callers that
+ * render into a shared buffer or stream instead of building strings.
  * </p>
  *
  * @author Kheagen Haskins
  */
 public final class StringUtil {
-    
+
+    // ================================[ Static ]================================ \\
+
+    /**
+     * The text shown in place of a missing code snippet.
+     */
+    private static final String NO_CODE = "<< No code snippet provided >>";
+
     // =============================[ Constructors ]============================= \\
     private StringUtil() {}
     
@@ -39,39 +51,22 @@ public final class StringUtil {
      * Formats a given answer choice with a specified tab space for alignment.
      *
      * <p>
-     * This method splits the answer choice into lines, extracts any ordinal
-     * prefix from the first line, and applies tab spaces for alignment.
-     * Additional lines are indented consistently.
+     * The ordinal prefix of the first line (e.g., "A.") is padded to
+     * {@code tabSpace} characters and followed by the rest of the line.
+     * Additional lines are indented by {@code tabSpace} spaces, so the choice
+     * text forms a hanging indent.
      * </p>
      * 
      * @param answerChoice the answer choice text to format, potentially 
      *                     spanning multiple lines
      * @param tabSpace     the number of spaces for tab alignment
      * @return a string representing the formatted answer choice
+     * @throws IllegalArgumentException if the ordinal prefix is longer than
+     *                                  {@code tabSpace}
+     * @see #appendChoice(Appendable, CharSequence, int)
      */
     public static String formatChoice(String answerChoice, int tabSpace) {
-        // Split the answer choice per lines 
-        String[] lines = answerChoice.split("/n");
-        // Determine the index immediately after the first period (".") in the first line.
-        int adjPeriodIndex = lines[0].indexOf(".") + 1;
-        // Extract the ordinal prefix (e.g., "1.", "2.") from the first line.
-        String ordinalPrefix = lines[0].substring(0, adjPeriodIndex);
-
-            // Configure first line: //
-        // Create the tab space for the first line (considering the ordinal prefix)
-        String tab = " ".repeat(tabSpace - ordinalPrefix.length());
-        // Construct the first line with the ordinal prefix and adjusted tab space.
-        String formattedAnswer = ordinalPrefix + tab;
-        // Adjust the tab to the full specified tab space for subsequent lines.
-        tab = " ".repeat(tabSpace);
-
-        // Process any additional lines in the answer choice.
-        for (int j = 1; j < lines.length; j++) {
-            // Append each line with the appropriate tab space and text.
-            formattedAnswer += "\n%s%s".formatted(tab, lines[j]);
-        }
-
-        return formattedAnswer;
+        return appendChoice(new StringBuilder(answerChoice.length() + tabSpace * 2), answerChoice, tabSpace).toString();
     }
 
     /**
@@ -87,33 +82,195 @@ public final class StringUtil {
      * @param code the code snippet to format, or {@code null} if no code is
      *             provided
      * @return a string representing the formatted code snippet
+     * @see #appendCode(Appendable, CharSequence)
      */
     public static String formatCode(String code) {
         if (code == null || code.isBlank()) {
-            return "<< No code snippet provided >>";
+            return NO_CODE;
         }
 
-        StringBuilder formattedCode = new StringBuilder();
-        String[] codeLines = code.split("\n");
-        for (String line : codeLines) {
-            if (line.isEmpty()) {
-                continue;
+        return appendCode(new StringBuilder(code.length() + 16), code).toString();
+    }
+
+    /**
+     * Writes a formatted answer choice to {@code out}, exactly as
+     * {@link #formatChoice(String, int)} would return it.
+     *
+     * <p>
+     * The choice is scanned once and copied to {@code out} in ranges, so no
+     * intermediate strings are created. Lines are separated by {@code '\n'}.
+     * </p>
+     *
+     * @param <A>          the type of the destination.
+     * @param out          the destination.
+     * @param answerChoice the answer choice text to format.
+     * @param tabSpace     the number of spaces for tab alignment.
+     * @return {@code out}.
+     * @throws IllegalArgumentException if the ordinal prefix is longer than
+     *                                  {@code tabSpace}.
+     * @throws UncheckedIOException     if {@code out} fails to append.
+     */
+    public static <A extends Appendable> A appendChoice(A out, CharSequence answerChoice, int tabSpace) {
+        final int length  = answerChoice.length();
+        final int lineEnd = indexOf(answerChoice, '\n', 0, length);
+
+        // The ordinal prefix runs up to and including the first period of the first line
+        final int period    = indexOf(answerChoice, '.', 0, lineEnd);
+        final int prefixEnd = period == lineEnd ? 0 : period + 1;
+        if (prefixEnd > tabSpace) {
+            throw new IllegalArgumentException("Ordinal prefix is longer than the tab space: " + tabSpace);
+        }
+
+        try {
+            out.append(answerChoice, 0, prefixEnd);
+            appendSpaces(out, tabSpace - prefixEnd);
+            out.append(answerChoice, skipSpaces(answerChoice, prefixEnd, lineEnd), lineEnd);
+
+            for (int start = lineEnd + 1; start < length; ) {
+                int end = indexOf(answerChoice, '\n', start, length);
+                out.append('\n');
+                appendSpaces(out, tabSpace);
+                out.append(answerChoice, start, end);
+                start = end + 1;
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        return out;
+    }
+
+    /**
+     * Writes a formatted code snippet to {@code out}, exactly as
+     * {@link #formatCode(String)} would return it.
+     *
+     * <p>
+     * The snippet is scanned once and each line is copied to {@code out} as a
+     * range of the snippet, so no intermediate strings are created.
+     * </p>
+     *
+     * @param <A>  the type of the destination.
+     * @param out  the destination.
+     * @param code the code snippet to format, or {@code null} if no code is
+     *             provided.
+     * @return {@code out}.
+     * @throws UncheckedIOException if {@code out} fails to append.
+     */
+    public static <A extends Appendable> A appendCode(A out, CharSequence code) {
+        try {
+            if (code == null || isBlank(code)) {
+                out.append(NO_CODE);
+                return out;
             }
 
-            if (Character.isDigit(line.charAt(0))) {
-                int colonIndex = line.indexOf(":");
-                if (colonIndex != -1) {
-                    formattedCode.append(line, 0, colonIndex + 1).append("\t")
-                                 .append(line.substring(colonIndex + 1))
-                                 .append("\n");
-                    continue;
+            final int length = code.length();
+            for (int start = 0; start < length; ) {
+                int end = indexOf(code, '\n', start, length);
+                if (end > start) {
+                    appendCodeLine(out, code, start, end);
                 }
+
+                start = end + 1;
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        return out;
+    }
+
+    // ============================[ Helper Methods ]============================ \\
+
+    /**
+     * Writes one non-empty line of a code snippet, placing a tab after the
+     * line number of a numbered line.
+     *
+     * @param out   the destination.
+     * @param code  the code snippet.
+     * @param start the start of the line.
+     * @param end   the end of the line, exclusive of its line break.
+     * @throws IOException if {@code out} fails to append.
+     */
+    private static void appendCodeLine(Appendable out, CharSequence code, int start, int end) throws IOException {
+        if (Character.isDigit(code.charAt(start))) {
+            int colon = indexOf(code, ':', start, end);
+            if (colon != end) {
+                out.append(code, start, colon + 1).append('\t').append(code, colon + 1, end).append('\n');
+                return;
             }
+        }
 
-            formattedCode.append(line).append(System.lineSeparator());
+        out.append(code, start, end).append(System.lineSeparator());
+    }
+
+    /**
+     * Writes {@code count} spaces.
+     *
+     * @param out   the destination.
+     * @param count the number of spaces.
+     * @throws IOException if {@code out} fails to append.
+     */
+    private static void appendSpaces(Appendable out, int count) throws IOException {
+        for (int i = 0; i < count; i++) {
+            out.append(' ');
+        }
+    }
+
+    /**
+     * Finds a character within a range.
+     *
+     * @param text the text to search.
+     * @param c    the character to find.
+     * @param from the start of the range.
+     * @param to   the end of the range.
+     * @return the index of the first occurrence, or {@code to} if there is
+     *         none.
+     */
+    private static int indexOf(CharSequence text, char c, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (text.charAt(i) == c) {
+                return i;
+            }
         }
 
-        return formattedCode.toString();
+        return to;
     }
-    
-}
\ No newline at end of file
+
+    /**
+     * Skips spaces within a range.
+     *
+     * @param text the text.
+     * @param from the start of the range.
+     * @param to   the end of the range.
+     * @return the index of the first character that is not a space, or
+     *         {@code to}.
+     */
+    private static int skipSpaces(CharSequence text, int from, int to) {
+        while (from < to && text.charAt(from) == ' ') {
+            from++;
+        }
+
+        return from;
+    }
+
+    /**
+     * Checks whether text is empty or only whitespace, as
+     * {@link String#isBlank()} does.
+     *
+     * @param text the text.
+     * @return {@code true} if {@code text} has no non-whitespace code points.
+     */
+    private static boolean isBlank(CharSequence text) {
+        for (int i = 0; i < text.length(); ) {
+            int cp = Character.codePointAt(text, i);
+            if (!Character.isWhitespace(cp)) {
+                return false;
+            }
+
+            i += Character.charCount(cp);
+        }
+
+        return true;
+    }
+
+}
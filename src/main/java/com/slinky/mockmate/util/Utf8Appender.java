@@ -0,0 +1,182 @@
+package com.slinky.mockmate.util;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * An {@link Appendable} that encodes characters as UTF-8 straight into a
+ * {@link ByteBuffer}.
+ *
+ * <p>
+ * Characters are encoded one at a time as they are appended, so text can be
+ * rendered into a network or file buffer without first being built as a
+ * {@code String}. A surrogate pair split across two appends is still encoded
+ * as a single code point; an unpaired surrogate is encoded as {@code '?'}, as
+ * {@link String#getBytes(java.nio.charset.Charset)} would replace it.
+ * </p>
+ * <p>
+ * Example usage:
+ * </p>
+ * <pre>{@code
+ * ByteBuffer buffer = ByteBuffer.allocate(4096);
+ * StringUtil.appendCode(new Utf8Appender(buffer), snippet);
+ * buffer.flip();
+ * }</pre>
+ *
+ * @author Kheagen Haskins
+ */
+public final class Utf8Appender implements Appendable {
+
+    // ================================[ Fields ]================================ \\
+
+    /**
+     * The destination buffer.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * A high surrogate waiting for its low surrogate, or {@code 0}.
+     */
+    private char pendingHigh;
+
+    // =============================[ Constructors ]============================= \\
+    /**
+     * Constructs an appender writing at the current position of
+     * {@code buffer}.
+     *
+     * @param buffer the destination buffer.
+     * @throws NullPointerException if {@code buffer} is {@code null}.
+     */
+    public Utf8Appender(ByteBuffer buffer) {
+        if (buffer == null) {
+            throw new NullPointerException("Buffer cannot be null.");
+        }
+
+        this.buffer = buffer;
+    }
+
+    // =============================[ API Methods ]============================== \\
+
+    /**
+     * Encodes a character sequence.
+     *
+     * @param csq the characters to encode; {@code null} appends
+     *            {@code "null"}.
+     * @return this appender.
+     * @throws BufferOverflowException if the buffer fills up.
+     */
+    @Override
+    public Utf8Appender append(CharSequence csq) {
+        return csq == null ? append("null", 0, 4) : append(csq, 0, csq.length());
+    }
+
+    /**
+     * Encodes a range of a character sequence.
+     *
+     * @param csq   the characters to encode; {@code null} appends from
+     *              {@code "null"}.
+     * @param start the start of the range.
+     * @param end   the end of the range.
+     * @return this appender.
+     * @throws BufferOverflowException if the buffer fills up.
+     */
+    @Override
+    public Utf8Appender append(CharSequence csq, int start, int end) {
+        CharSequence text = csq == null ? "null" : csq;
+        for (int i = start; i < end; i++) {
+            append(text.charAt(i));
+        }
+
+        return this;
+    }
+
+    /**
+     * Encodes a character.
+     *
+     * @param c the character to encode.
+     * @return this appender.
+     * @throws BufferOverflowException if the buffer fills up.
+     */
+    @Override
+    public Utf8Appender append(char c) {
+        if (pendingHigh != 0) {
+            char high   = pendingHigh;
+            pendingHigh = 0;
+            if (Character.isLowSurrogate(c)) {
+                putCodePoint(Character.toCodePoint(high, c));
+                return this;
+            }
+
+            buffer.put((byte) '?');
+        }
+
+        if (Character.isHighSurrogate(c)) {
+            pendingHigh = c;
+        } else if (Character.isLowSurrogate(c)) {
+            buffer.put((byte) '?');
+        } else {
+            putCodePoint(c);
+        }
+
+        return this;
+    }
+
+    /**
+     * Encodes any high surrogate still waiting for its pair as {@code '?'}.
+     * Call this after the last append when the text may end mid-pair.
+     *
+     * @return the destination buffer.
+     * @throws BufferOverflowException if the buffer is full.
+     */
+    public ByteBuffer finish() {
+        if (pendingHigh != 0) {
+            pendingHigh = 0;
+            buffer.put((byte) '?');
+        }
+
+        return buffer;
+    }
+
+    // ============================[ Helper Methods ]============================ \\
+
+    /**
+     * Encodes a code point, checking for room first so that a partial
+     * sequence is never written.
+     *
+     * @param cp the code point.
+     * @throws BufferOverflowException if the encoding does not fit.
+     */
+    private void putCodePoint(int cp) {
+        if (cp < 0x80) {
+            buffer.put((byte) cp);
+        } else if (cp < 0x800) {
+            ensureRemaining(2);
+            buffer.put((byte) (0xC0 | cp >> 6))
+                  .put((byte) (0x80 | cp & 0x3F));
+        } else if (cp < 0x10000) {
+            ensureRemaining(3);
+            buffer.put((byte) (0xE0 | cp >> 12))
+                  .put((byte) (0x80 | cp >> 6 & 0x3F))
+                  .put((byte) (0x80 | cp & 0x3F));
+        } else {
+            ensureRemaining(4);
+            buffer.put((byte) (0xF0 | cp >> 18))
+                  .put((byte) (0x80 | cp >> 12 & 0x3F))
+                  .put((byte) (0x80 | cp >> 6 & 0x3F))
+                  .put((byte) (0x80 | cp & 0x3F));
+        }
+    }
+
+    /**
+     * Checks that the buffer has room for {@code bytes} more bytes.
+     *
+     * @param bytes the number of bytes needed.
+     * @throws BufferOverflowException if there is not enough room.
+     */
+    private void ensureRemaining(int bytes) {
+        if (buffer.remaining() < bytes) {
+            throw new BufferOverflowException();
+        }
+    }
+
+}
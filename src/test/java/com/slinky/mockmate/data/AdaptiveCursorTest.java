@@ -0,0 +1,196 @@
+package com.slinky.mockmate.data;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ *
+ * @author Kheagen Haskins
+ */
+public class AdaptiveCursorTest {
+
+    private static final char[] RIGHT = {'A'};
+    private static final char[] WRONG = {'B'};
+
+    // ==========================[ ItemBank Unit Tests ]=========================== \\
+    @Test
+    void testItemBankRejectsInvalidParameters() {
+        // Arrange
+        Chapter chapter = chapter(3);
+
+        // Act & Assert
+        assertAll("Invalid parameters",
+                () -> assertThrows(IllegalArgumentException.class, () -> ItemBank.of(chapter, new double[2])),
+                () -> assertThrows(IllegalArgumentException.class, () -> ItemBank.of(chapter, new double[]{0, Double.NaN, 0})),
+                () -> assertThrows(IllegalArgumentException.class, () -> ItemBank.of(chapter, new double[3], new double[]{1, 0, 1})),
+                () -> assertEquals(0, ItemBank.difficultyOf(0.5), 1e-12),
+                () -> assertTrue(ItemBank.difficultyOf(0.2) > 0, "Expected rarely answered questions to be hard."),
+                () -> assertTrue(Double.isFinite(ItemBank.difficultyOf(1)))
+        );
+    }
+
+    @Test
+    void testInformationMatchesTheModel() {
+        // Arrange
+        ItemBank bank = ItemBank.of(chapter(2), new double[]{-1, 0.5}, new double[]{0.8, 2});
+
+        // Act & Assert
+        for (int item = 0; item < 2; item++) {
+            for (double theta = -3; theta <= 3; theta += 0.25) {
+                double a = bank.discrimination(item);
+                double p = 1 / (1 + Math.exp(-a * (theta - bank.difficulty(item))));
+                assertEquals(a * a * p * (1 - p), bank.information(item, theta), 0.01);
+            }
+        }
+    }
+
+    // ========================[ AdaptiveCursor Unit Tests ]======================= \\
+    @Test
+    void testNextFollowsTheAbilityEstimate() {
+        // Arrange
+        Chapter chapter       = chapter(5);
+        AdaptiveCursor cursor = chapter.adaptiveCursor(new double[]{-2, -1, 0, 1, 2});
+
+        // Act
+        Question first  = cursor.next();
+        boolean correct = cursor.answer(RIGHT);
+        double afterOne = cursor.ability();
+        Question second = cursor.next();
+        cursor.answer(WRONG);
+        double afterTwo = cursor.ability();
+
+        // Assert
+        assertAll("Adaptive order",
+                () -> assertEquals(3, first.ordinal(), "Expected the item nearest the prior mean."),
+                () -> assertTrue(correct),
+                () -> assertTrue(afterOne > 0),
+                () -> assertEquals(4, second.ordinal(), "Expected a harder item after a correct answer."),
+                () -> assertTrue(afterTwo < afterOne),
+                () -> assertEquals(2, cursor.answeredCount())
+        );
+    }
+
+    @Test
+    void testHistoryNavigationAndWrapping() {
+        // Arrange
+        Chapter chapter       = chapter(3);
+        AdaptiveCursor cursor = chapter.adaptiveCursor(new double[]{0, 1, 2});
+        assertThrows(IllegalStateException.class, cursor::previous);
+        assertThrows(IllegalStateException.class, () -> cursor.answer(RIGHT));
+
+        // Act
+        Set<Integer> firstRound = new HashSet<>();
+        Question[] asked        = new Question[3];
+        for (int i = 0; i < 3; i++) {
+            asked[i] = cursor.next();
+            firstRound.add(asked[i].ordinal());
+        }
+
+        Question back = cursor.previous();
+        cursor.seek(3);
+        Question fourth = cursor.next();
+
+        // Assert
+        assertAll("History",
+                () -> assertEquals(Set.of(1, 2, 3), firstRound, "Expected no repeats before every item is asked."),
+                () -> assertSame(asked[2], back),
+                () -> assertEquals(4, cursor.position()),
+                () -> assertEquals(3, cursor.size()),
+                () -> assertSame(asked[0], fourth, "Expected the choice to start over once every item was asked."),
+                () -> assertThrows(IllegalArgumentException.class, () -> cursor.seek(6))
+        );
+    }
+
+    @Test
+    void testEstimateConvergesOnSimulatedLearner() {
+        // Arrange: a learner of ability 1.5 answering by the model
+        final int size        = 400;
+        Random random         = new Random(3);
+        double[] difficulties = new double[size];
+        for (int i = 0; i < size; i++) {
+            difficulties[i] = random.nextGaussian() * 1.5;
+        }
+
+        AdaptiveCursor cursor = ItemBank.of(chapter(size), difficulties).cursor();
+
+        // Act
+        for (int i = 0; i < 60; i++) {
+            Question question = cursor.next();
+            double p          = 1 / (1 + Math.exp(-(1.5 - difficulties[question.ordinal() - 1])));
+            cursor.answer(random.nextDouble() < p ? RIGHT : WRONG);
+        }
+
+        // Assert
+        assertAll("Convergence",
+                () -> assertEquals(1.5, cursor.ability(), 3 * cursor.standardError()),
+                () -> assertTrue(cursor.standardError() < 0.4, "Expected 60 answers to narrow the estimate."),
+                () -> assertFalse(Double.isNaN(cursor.ability()))
+        );
+    }
+
+    // ==============================[ Benchmarks ]=============================== \\
+    @Test
+    @Tag("benchmark")
+    void testSelectionOverFiveThousandItems(TestReporter reporter) {
+        // Arrange
+        final int size           = 5_000;
+        Random random            = new Random(11);
+        double[] difficulties    = new double[size];
+        double[] discriminations = new double[size];
+        for (int i = 0; i < size; i++) {
+            difficulties[i]    = random.nextGaussian() * 1.5;
+            discriminations[i] = 0.5 + random.nextDouble() * 1.5;
+        }
+
+        Chapter chapter = chapter(size);
+        ItemBank rasch  = ItemBank.of(chapter, difficulties);
+        ItemBank twoPl  = ItemBank.of(chapter, difficulties, discriminations);
+        run(rasch.cursor(), 500, random); // warm up
+        run(twoPl.cursor(), 500, random);
+
+        // Act
+        long raschNanos = run(rasch.cursor(), 1_000, random);
+        long twoPlNanos = run(twoPl.cursor(), 1_000, random);
+
+        // Assert: a generous bound; a selection plus update takes microseconds
+        assertTrue(raschNanos / 1_000 < TimeUnit.MILLISECONDS.toNanos(1));
+        assertTrue(twoPlNanos / 1_000 < TimeUnit.MILLISECONDS.toNanos(1));
+        reporter.publishEntry("rasch", "%d ns per next() and answer() over %d items".formatted(raschNanos / 1_000, size));
+        reporter.publishEntry("2pl", "%d ns per next() and answer() over %d items".formatted(twoPlNanos / 1_000, size));
+    }
+
+    // ============================[ Helper Methods ]============================ \\
+
+    private static long run(AdaptiveCursor cursor, int steps, Random random) {
+        long start = System.nanoTime();
+        for (int i = 0; i < steps; i++) {
+            cursor.next();
+            cursor.answer(random.nextBoolean() ? RIGHT : WRONG);
+        }
+
+        return System.nanoTime() - start;
+    }
+
+    private static Chapter chapter(int size) {
+        ChapterData chapter = new ChapterData(1, "Adaptive");
+        for (int i = 1; i <= size; i++) {
+            chapter.addQuestion(new QuestionData(i, "Question " + i, null, new String[]{"A. Right", "B. Wrong"}, new char[]{'A'}));
+        }
+
+        return chapter;
+    }
+
+}
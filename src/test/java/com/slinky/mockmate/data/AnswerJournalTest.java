@@ -0,0 +1,413 @@
+package com.slinky.mockmate.data;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ *
+ * @author Kheagen Haskins
+ */
+public class AnswerJournalTest {
+
+    private static final ExamCode EXAM = ExamCode.EXAM_CODE_1Z0_829;
+
+    @TempDir
+    Path directory;
+
+    // =========================[ SessionState Unit Tests ]======================== \\
+    @Test
+    void testSessionStateKeepsLatestAnswer() {
+        // Arrange
+        SessionState state = new SessionState();
+
+        // Act
+        state.record(100, 7, EXAM, 1, 4, 0b0010);
+        state.record(200, 7, EXAM, 1, 4, 0b0110);
+        state.record(300, 8, EXAM, 1, 4, 0b0001);
+        state.record(400, 7, ExamCode.EXAM_CODE_1Z0_819, 1, 4, 0b1000);
+
+        // Assert
+        assertAll("Session state",
+                () -> assertEquals(0b0110, state.answerMask(7, EXAM, 1, 4)),
+                () -> assertEquals(200, state.answeredAt(7, EXAM, 1, 4)),
+                () -> assertEquals(0b0001, state.answerMask(8, EXAM, 1, 4)),
+                () -> assertEquals(0b1000, state.answerMask(7, ExamCode.EXAM_CODE_1Z0_819, 1, 4)),
+                () -> assertEquals(SessionState.NO_ANSWER, state.answerMask(7, EXAM, 2, 4)),
+                () -> assertEquals(-1, state.answeredAt(9, EXAM, 1, 4)),
+                () -> assertEquals(3, state.size()),
+                () -> assertEquals(2, state.chapterCount()),
+                () -> assertThrows(IllegalArgumentException.class, () -> state.record(0, -1, EXAM, 1, 1, 1)),
+                () -> assertThrows(IllegalArgumentException.class, () -> state.record(0, 1, EXAM, 1, 1 << 16, 1)),
+                () -> assertThrows(NullPointerException.class, () -> state.answerMask(1, null, 1, 1))
+        );
+    }
+
+    @Test
+    void testSessionStateGrows() {
+        // Arrange
+        SessionState state = new SessionState();
+
+        // Act
+        for (int user = 0; user < 1_000; user++) {
+            for (int ordinal = 1; ordinal <= 20; ordinal++) {
+                state.record(user, user, EXAM, 1, ordinal, user ^ ordinal);
+            }
+        }
+
+        // Assert
+        assertEquals(20_000, state.size());
+        for (int user = 0; user < 1_000; user++) {
+            for (int ordinal = 1; ordinal <= 20; ordinal++) {
+                assertEquals(user ^ ordinal, state.answerMask(user, EXAM, 1, ordinal));
+            }
+        }
+    }
+
+    // =========================[ AnswerJournal Unit Tests ]======================= \\
+    @Test
+    void testAppendedAnswersReplayAfterRestart() throws IOException {
+        // Arrange
+        List<CompletableFuture<Long>> futures = new ArrayList<>();
+        SessionState live = new SessionState();
+        try (var journal = AnswerJournal.open(directory, live::record)) {
+            // Act
+            futures.add(journal.append(1_000, 3, EXAM, 1, 2, 0b0100));
+            futures.add(journal.append(2_000, 3, EXAM, 1, 2, 0b0001));
+            futures.add(journal.append(3_000, 4, ExamCode.EXAM_CODE_1Z0_811, 65_535, 65_535, ScoringPolicy.INVALID_CHOICE | 1));
+            futures.forEach(CompletableFuture::join);
+            assertEquals(3, journal.durableSequence());
+            assertEquals(0b0001, live.answerMask(3, EXAM, 1, 2), "Expected durable records to reach the visitor.");
+        }
+
+        SessionState state = new SessionState();
+        try (var journal = AnswerJournal.open(directory, state::record)) {
+            // Assert
+            assertAll("Replay",
+                    () -> assertEquals(List.of(0L, 1L, 2L), futures.stream().map(CompletableFuture::join).toList()),
+                    () -> assertEquals(3, journal.nextSequence()),
+                    () -> assertEquals(0b0001, state.answerMask(3, EXAM, 1, 2)),
+                    () -> assertEquals(2_000, state.answeredAt(3, EXAM, 1, 2)),
+                    () -> assertEquals(ScoringPolicy.INVALID_CHOICE | 1, state.answerMask(4, ExamCode.EXAM_CODE_1Z0_811, 65_535, 65_535)),
+                    () -> assertEquals(2, state.size())
+            );
+        }
+    }
+
+    @Test
+    void testTornTailIsTruncated() throws IOException {
+        // Arrange: three records, then half of a fourth as a crash mid-write would leave
+        try (var journal = AnswerJournal.open(directory, none())) {
+            for (int i = 0; i < 3; i++) {
+                journal.append(i, i, EXAM, 1, 1, 1).join();
+            }
+        }
+
+        Path segment = AnswerJournal.segments(directory).get(AnswerJournal.segments(directory).size() - 1);
+        long intact  = Files.size(segment);
+        Files.write(segment, new byte[AnswerJournal.RECORD_BYTES / 2], StandardOpenOption.APPEND);
+
+        // Act
+        SessionState state = new SessionState();
+        long readOnly      = AnswerJournal.replay(directory, state::record);
+        long sizeAfterRead = Files.size(segment);
+        try (var journal = AnswerJournal.open(directory, none())) {
+            journal.append(3, 3, EXAM, 1, 1, 1).join();
+        }
+
+        SessionState reopened = new SessionState();
+        long sequence         = AnswerJournal.replay(directory, reopened::record);
+
+        // Assert
+        assertAll("Torn tail",
+                () -> assertEquals(3, readOnly),
+                () -> assertEquals(intact + AnswerJournal.RECORD_BYTES / 2, sizeAfterRead, "Expected replay alone to leave the file as it is."),
+                () -> assertEquals(intact + AnswerJournal.RECORD_BYTES, Files.size(segment), "Expected open to cut the torn record and append after it."),
+                () -> assertEquals(4, sequence),
+                () -> assertEquals(4, reopened.size())
+        );
+    }
+
+    @Test
+    void testChecksumStopsReplayAtCorruptTail() throws IOException {
+        // Arrange
+        try (var journal = AnswerJournal.open(directory, none())) {
+            for (int i = 0; i < 3; i++) {
+                journal.append(i, i, EXAM, 1, 1, 1).join();
+            }
+        }
+
+        // Act: flip a bit in the last record's answer mask
+        Path segment = AnswerJournal.segments(directory).get(0);
+        try (var channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            long mask = AnswerJournal.HEADER_BYTES + 2L * AnswerJournal.RECORD_BYTES + 22;
+            channel.write(ByteBuffer.wrap(new byte[]{(byte) 0x80}), mask);
+        }
+
+        SessionState state = new SessionState();
+        long sequence      = AnswerJournal.replay(directory, state::record);
+
+        // Assert
+        assertAll("Checksum",
+                () -> assertEquals(2, sequence),
+                () -> assertEquals(SessionState.NO_ANSWER, state.answerMask(2, EXAM, 1, 1))
+        );
+    }
+
+    @Test
+    void testSegmentsRollAndReplayInOrder() throws IOException {
+        // Arrange: room for about four records per segment
+        final int records = 50;
+        try (var journal = AnswerJournal.open(directory, none(), 4L * AnswerJournal.RECORD_BYTES, 1 << 10)) {
+            // Act
+            for (int i = 0; i < records; i++) {
+                journal.append(i, 1, EXAM, 1, i, i).join();
+            }
+        }
+
+        List<Integer> order = new ArrayList<>();
+        long sequence       = AnswerJournal.replay(directory, (time, user, examCode, chapter, ordinal, mask) -> order.add(ordinal));
+
+        // Assert
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < records; i++) {
+            expected.add(i);
+        }
+
+        assertAll("Segments",
+                () -> assertTrue(AnswerJournal.segments(directory).size() > 5),
+                () -> assertEquals(AnswerJournal.segmentPath(directory, 0), AnswerJournal.segments(directory).get(0)),
+                () -> assertEquals(records, sequence),
+                () -> assertEquals(expected, order)
+        );
+    }
+
+    @Test
+    void testReopenAppendsToNewestSegment() throws IOException {
+        // Arrange
+        try (var journal = AnswerJournal.open(directory, none())) {
+            journal.append(0, 1, EXAM, 1, 1, 1).join();
+        }
+
+        // Act
+        for (int i = 1; i < 3; i++) {
+            try (var journal = AnswerJournal.open(directory, none())) {
+                journal.append(i, 1, EXAM, 1, 1, 1).join();
+            }
+        }
+
+        SessionState state = new SessionState();
+        long sequence      = AnswerJournal.replay(directory, state::record);
+
+        // Assert
+        assertAll("Reopen",
+                () -> assertEquals(List.of(AnswerJournal.segmentPath(directory, 0)), AnswerJournal.segments(directory)),
+                () -> assertEquals(AnswerJournal.HEADER_BYTES + 3L * AnswerJournal.RECORD_BYTES, Files.size(AnswerJournal.segmentPath(directory, 0))),
+                () -> assertEquals(3, sequence),
+                () -> assertEquals(2, state.answeredAt(1, EXAM, 1, 1))
+        );
+    }
+
+    @Test
+    void testUnfinishedHeaderIsRemovedButForeignHeaderIsKept() throws IOException {
+        // Arrange: three records, then a newest segment cut off inside its header
+        try (var journal = AnswerJournal.open(directory, none())) {
+            for (int i = 0; i < 3; i++) {
+                journal.append(i, i, EXAM, 1, 1, 1).join();
+            }
+        }
+
+        Path unfinished = AnswerJournal.segmentPath(directory, 3);
+        Files.write(unfinished, new byte[AnswerJournal.HEADER_BYTES / 2]);
+
+        // Act
+        try (var journal = AnswerJournal.open(directory, none())) {
+            journal.append(3, 3, EXAM, 1, 1, 1).join();
+        }
+
+        boolean removed = Files.notExists(unfinished);
+
+        // A complete header of a later format version must not be mistaken for a crash
+        byte[] header  = new byte[AnswerJournal.HEADER_BYTES];
+        ByteBuffer.wrap(header).put(Files.readAllBytes(AnswerJournal.segmentPath(directory, 0)), 0, 4).putInt(2).putLong(4);
+        Path foreign   = AnswerJournal.segmentPath(directory, 4);
+        Files.write(foreign, header);
+
+        // Assert
+        assertAll("Segment headers",
+                () -> assertTrue(removed, "Expected the unfinished segment to be deleted."),
+                () -> assertThrows(IOException.class, () -> AnswerJournal.open(directory, none())),
+                () -> assertThrows(IOException.class, () -> AnswerJournal.replay(directory, none())),
+                () -> assertTrue(Files.exists(foreign), "Expected the foreign segment to be kept.")
+        );
+    }
+
+    @Test
+    void testMissingSegmentIsReported() throws IOException {
+        // Arrange
+        try (var journal = AnswerJournal.open(directory, none(), 2L * AnswerJournal.RECORD_BYTES, 1 << 10)) {
+            for (int i = 0; i < 10; i++) {
+                journal.append(i, 1, EXAM, 1, i, i).join();
+            }
+        }
+
+        // Act
+        Files.delete(AnswerJournal.segments(directory).get(1));
+
+        // Assert
+        assertThrows(IOException.class, () -> AnswerJournal.replay(directory, none()));
+    }
+
+    @Test
+    void testInvalidAppendsAndClose() throws IOException {
+        // Arrange
+        var journal = AnswerJournal.open(directory, none());
+
+        // Act & Assert
+        assertAll("Invalid appends",
+                () -> assertThrows(NullPointerException.class, () -> journal.append(0, 1, null, 1, 1, 1)),
+                () -> assertThrows(IllegalArgumentException.class, () -> journal.append(0, -1, EXAM, 1, 1, 1)),
+                () -> assertThrows(IllegalArgumentException.class, () -> journal.append(0, 1, EXAM, 1 << 16, 1, 1)),
+                () -> assertThrows(IllegalArgumentException.class, () -> AnswerJournal.open(directory, none(), 8, 1 << 10))
+        );
+
+        CompletableFuture<Long> last = journal.append(0, 1, EXAM, 1, 1, 1);
+        journal.close();
+        journal.close();
+        assertAll("Close",
+                () -> assertEquals(0L, last.getNow(-1L), "Expected close to flush pending records."),
+                () -> assertThrows(IllegalStateException.class, () -> journal.append(0, 1, EXAM, 1, 1, 1))
+        );
+    }
+
+    @Test
+    void testPipelinedAppendsShareBatches() throws IOException {
+        // Arrange
+        final int records = 10_000;
+        long sequence, batches;
+
+        // Act
+        try (var journal = AnswerJournal.open(directory, none())) {
+            CompletableFuture<Long> last = null;
+            for (int i = 0; i < records; i++) {
+                last = journal.append(i, i, EXAM, 1, 1, 1);
+            }
+
+            sequence = last.join();
+            batches  = journal.batchCount();
+        }
+
+        // Assert
+        assertAll("Group commit",
+                () -> assertEquals(records - 1, sequence),
+                () -> assertTrue(batches < records, "Expected many records per fsync but got " + batches + " batches.")
+        );
+    }
+
+    // ==============================[ Benchmarks ]=============================== \\
+    @Test
+    @Tag("benchmark")
+    void testSustainedDurableAppends(TestReporter reporter) throws Exception {
+        // Arrange: every caller waits until its own answer is durable
+        final int threads   = 32;
+        final int perThread = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try (var journal = AnswerJournal.open(directory, none())) {
+            // Act
+            long start = System.nanoTime();
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    final int user = t;
+                    futures.add(executor.submit(() -> {
+                        for (int i = 0; i < perThread; i++) {
+                            journal.append(i, user, EXAM, 1, i % 100, 1).join();
+                        }
+                    }));
+                }
+
+                for (Future<?> future : futures) {
+                    future.get(120, TimeUnit.SECONDS);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            long elapsed = System.nanoTime() - start;
+
+            // Assert
+            final long total = (long) threads * perThread;
+            assertEquals(total, journal.durableSequence());
+            long millis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(elapsed));
+            reporter.publishEntry("durable", "%d durable appends from %d threads in %d ms (%d appends/s, %.1f records per fsync)"
+                    .formatted(total, threads, millis, total * 1_000 / millis, (double) total / journal.batchCount()));
+        }
+    }
+
+    @Test
+    @Tag("benchmark")
+    void testRecoveryOfTenMillionRecords(TestReporter reporter) throws IOException {
+        // Arrange: 10M answers from 10,000 users to 25 questions in each of four chapters, about 300 MB
+        final int records   = 10_000_000;
+        final int users     = 10_000;
+        final int questions = 25;
+        long writeStart     = System.nanoTime();
+        try (var journal = AnswerJournal.open(directory, none())) {
+            CompletableFuture<Long> last = null;
+            for (int i = 0; i < records; i++) {
+                last = journal.append(i, i % users, EXAM, 1 + i / users % 4, i / (users * 4) % questions, i & 0xF);
+            }
+
+            last.join();
+        }
+
+        long writeNanos = System.nanoTime() - writeStart;
+
+        // Act
+        SessionState state = new SessionState();
+        long replayStart   = System.nanoTime();
+        try (var journal = AnswerJournal.open(directory, state::record)) {
+            long replayNanos = System.nanoTime() - replayStart;
+
+            // Assert
+            assertEquals(records, journal.nextSequence());
+            assertEquals((long) users * 4 * questions, state.size());
+            assertEquals((records - 1) & 0xF, state.answerMask((records - 1) % users, EXAM, 4, questions - 1));
+
+            long writeMillis  = Math.max(1, TimeUnit.NANOSECONDS.toMillis(writeNanos));
+            long replayMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(replayNanos));
+            reporter.publishEntry("append", "%d pipelined appends in %d ms (%d appends/s)"
+                    .formatted(records, writeMillis, (long) records * 1_000 / writeMillis));
+            reporter.publishEntry("recovery", "%d records (%d MB) replayed into session state in %d ms (%d records/s)"
+                    .formatted(records, (long) records * AnswerJournal.RECORD_BYTES >> 20, replayMillis, (long) records * 1_000 / replayMillis));
+        }
+    }
+
+    // ============================[ Helper Methods ]============================ \\
+
+    private static AnswerJournal.Visitor none() {
+        return (time, user, examCode, chapter, ordinal, mask) -> {};
+    }
+
+}
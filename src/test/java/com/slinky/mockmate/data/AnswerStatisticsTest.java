@@ -0,0 +1,155 @@
+package com.slinky.mockmate.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ *
+ * @author Kheagen Haskins
+ */
+public class AnswerStatisticsTest {
+
+    // =========================[ Constructor Unit Tests ]========================= \\
+    @Test
+    void testConstructorInvalidCounts() {
+        assertAll("Invalid counts",
+                () -> assertThrows(IllegalArgumentException.class, () -> new AnswerStatistics(-1)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new AnswerStatistics(1, 32, 1)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new AnswerStatistics(1, 4, 0)),
+                () -> assertEquals(4, new AnswerStatistics(1, 4, 3).stripeCount(), "Expected stripes rounded up to a power of two.")
+        );
+    }
+
+    // =========================[ record() Unit Tests ]=========================== \\
+    @Test
+    void testRecordCountsAnswersAndPicks() {
+        // Arrange
+        AnswerStatistics stats = new AnswerStatistics(2, 4, 2);
+        Question question      = new QuestionData(1, "Pick B and D", null, new String[]{"A. 1", "B. 2", "C. 3", "D. 4"}, new char[]{'B', 'D'});
+
+        // Act
+        boolean right = stats.record(1, question, new char[]{'d', 'B'});
+        boolean wrong = stats.record(1, question, new char[]{'B', 'Z'});
+        stats.record(0, ScoringPolicy.mask('A'), ScoringPolicy.mask('A'));
+        StatisticsSnapshot snapshot = stats.snapshot();
+
+        // Assert
+        assertAll("Counts",
+                () -> assertTrue(right),
+                () -> assertFalse(wrong),
+                () -> assertEquals(2, stats.answered(1)),
+                () -> assertEquals(1, stats.correct(1)),
+                () -> assertEquals(2, stats.picks(1, 'B')),
+                () -> assertEquals(1, stats.picks(1, 'd')),
+                () -> assertEquals(0, stats.picks(1, 'Z'), "Expected uncounted letters to read as zero."),
+                () -> assertEquals(2, snapshot.answered(1)),
+                () -> assertEquals(0.5, snapshot.correctRate(1)),
+                () -> assertEquals(1.0, snapshot.correctRate(0)),
+                () -> assertEquals(2, snapshot.picks(1, 'b')),
+                () -> assertEquals(3, snapshot.totalAnswered()),
+                () -> assertThrows(IllegalArgumentException.class, () -> stats.answered(2)),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> snapshot.answered(-1))
+        );
+    }
+
+    @Test
+    void testSnapshotIsACopy() {
+        // Arrange
+        AnswerStatistics stats = new AnswerStatistics(1);
+        stats.record(0, 1, 1);
+        StatisticsSnapshot before = stats.snapshot();
+
+        // Act
+        stats.record(0, 1, 2);
+
+        // Assert
+        assertAll("Snapshot",
+                () -> assertEquals(1, before.answered(0)),
+                () -> assertEquals(2, stats.snapshot().answered(0)),
+                () -> assertTrue(Double.isNaN(new AnswerStatistics(1).snapshot().correctRate(0)))
+        );
+    }
+
+    @Test
+    void testGradeRecordsEveryAnswer() {
+        // Arrange
+        Exam exam              = Exam.mapExam(ExamCode.EXAM_CODE_1Z0_829);
+        ExamGrader grader      = ExamGrader.of(exam);
+        AnswerStatistics stats = new AnswerStatistics(grader.questionCount());
+        int key                = exam.loadSharedChapter(1).getAllQuestions().get(0).answerMask();
+
+        // Act: three users answer question 0, two of them correctly
+        grader.grade(new int[]{0, 1, 2, 3}, new int[]{0, 0, 0}, new int[]{key, key, key ^ 1},
+                ScoringPolicy.allOrNothing(), stats);
+
+        // Assert
+        assertAll("Grading hook",
+                () -> assertEquals(3, stats.answered(0)),
+                () -> assertEquals(2, stats.correct(0)),
+                () -> assertEquals(0, stats.answered(1)),
+                () -> assertThrows(IllegalArgumentException.class, () -> grader.grade(new int[]{0}, new int[0], new int[0],
+                        ScoringPolicy.allOrNothing(), new AnswerStatistics(1)))
+        );
+    }
+
+    // ==============================[ Benchmarks ]=============================== \\
+    @Test
+    @Tag("benchmark")
+    void testConcurrentRecordingIsExact(TestReporter reporter) throws Exception {
+        // Arrange: many threads hammering the same few questions
+        final int threads   = 64;
+        final int perThread = 50_000;
+        final int questions = 4;
+        AnswerStatistics stats   = new AnswerStatistics(questions);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // Act
+        long start = System.nanoTime();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        stats.record(i % questions, 0b0010, (i / questions & 1) == 0 ? 0b0010 : 0b0101);
+                    }
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        // Assert
+        StatisticsSnapshot snapshot = stats.snapshot();
+        final long perQuestion      = (long) threads * perThread / questions;
+        for (int q = 0; q < questions; q++) {
+            assertEquals(perQuestion, snapshot.answered(q));
+            assertEquals(perQuestion / 2, snapshot.correct(q));
+            assertEquals(perQuestion / 2, snapshot.picks(q, 'A'));
+            assertEquals(perQuestion / 2, snapshot.picks(q, 'B'));
+        }
+
+        long millis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(elapsed));
+        reporter.publishEntry("throughput", "%d answers from %d threads over %d stripes in %d ms (%d answers/s)"
+                .formatted((long) threads * perThread, threads, stats.stripeCount(), millis, threads * (long) perThread * 1_000 / millis));
+    }
+
+}
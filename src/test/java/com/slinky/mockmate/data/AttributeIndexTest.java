@@ -0,0 +1,211 @@
+package com.slinky.mockmate.data;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ *
+ * @author Kheagen Haskins
+ */
+public class AttributeIndexTest {
+
+    private static final ExamCode EXAM_CODE = ExamCode.EXAM_CODE_1Z0_829;
+
+    // ======================[ QuestionBitmap Unit Tests ]======================== \\
+    @Test
+    void testBitmapOperationsMatchBitSet() {
+        // Arrange: spans several containers, some dense enough to become bitmaps
+        Random random = new Random(42);
+        BitSet left = new BitSet(), right = new BitSet();
+        for (int i = 0; i < 30_000; i++) {
+            left.set(random.nextInt(200_000));
+            right.set(random.nextInt(i < 20_000 ? 65_536 : 300_000));
+        }
+
+        QuestionBitmap a = QuestionBitmap.of(left.stream().toArray());
+        QuestionBitmap b = QuestionBitmap.of(right.stream().toArray());
+
+        // Act & Assert
+        assertAll("Set operations",
+                () -> assertArrayEquals(left.stream().toArray(), a.toArray()),
+                () -> assertEquals(left.cardinality(), a.cardinality()),
+                () -> assertArrayEquals(expected(left, right, BitSet::and), a.and(b).toArray()),
+                () -> assertArrayEquals(expected(left, right, BitSet::or), a.or(b).toArray()),
+                () -> assertArrayEquals(expected(left, right, BitSet::andNot), a.andNot(b).toArray()),
+                () -> assertEquals(a, QuestionBitmap.of(left.stream().toArray())),
+                () -> assertEquals(a.hashCode(), QuestionBitmap.of(left.stream().toArray()).hashCode()),
+                () -> assertTrue(a.andNot(a).isEmpty())
+        );
+    }
+
+    @Test
+    void testBitmapContainsAndAdd() {
+        // Arrange
+        QuestionBitmap bitmap = QuestionBitmap.of(5, 1, 70_000, 5);
+
+        // Act & Assert
+        assertAll("Membership",
+                () -> assertArrayEquals(new int[]{1, 5, 70_000}, bitmap.toArray()),
+                () -> assertTrue(bitmap.contains(70_000)),
+                () -> assertFalse(bitmap.contains(4)),
+                () -> assertFalse(bitmap.contains(-1)),
+                () -> assertTrue(QuestionBitmap.EMPTY.isEmpty()),
+                () -> assertThrows(IllegalArgumentException.class, () -> QuestionBitmap.of(-3)),
+                () -> assertThrows(IllegalArgumentException.class, () -> {
+                    var unordered = new QuestionBitmap();
+                    unordered.add(9);
+                    unordered.add(2);
+                })
+        );
+    }
+
+    @Test
+    void testDenseContainerKeepsAddOrder() {
+        // Arrange: past 4,096 ids the container is a bitmap
+        QuestionBitmap bitmap = new QuestionBitmap();
+        for (int id = 0; id < 10_000; id += 2) {
+            bitmap.add(id);
+        }
+
+        // Act
+        bitmap.add(10_001);
+
+        // Assert
+        assertAll("Dense adds",
+                () -> assertEquals(5_001, bitmap.cardinality()),
+                () -> assertTrue(bitmap.contains(10_001)),
+                () -> assertThrows(IllegalArgumentException.class, () -> bitmap.add(10_000)),
+                () -> assertThrows(IllegalArgumentException.class, () -> bitmap.add(10_001))
+        );
+    }
+
+    // ======================[ AttributeIndex Unit Tests ]======================== \\
+    @Test
+    void testFiltersMatchQuestionAttributes() {
+        // Arrange
+        Exam exam            = Exam.loadExam(EXAM_CODE, new ChapterCache(4, 1_000));
+        AttributeIndex index = AttributeIndex.of(EXAM_CODE, exam);
+        List<Question> questions = new ArrayList<>();
+        for (int c = 1; c <= exam.getChapterCount(); c++) {
+            questions.addAll(exam.loadChapter(c).getAllQuestions());
+        }
+
+        // Act
+        QuestionFilter multiWithCode = QuestionFilter.multiAnswer()
+                .and(QuestionFilter.withCode())
+                .and(QuestionFilter.chapters(1, 3));
+        QuestionFilter noCode = QuestionFilter.withCode().negate();
+
+        // Assert
+        assertAll("Filters",
+                () -> assertEquals(questions.size(), index.size()),
+                () -> assertEquals(index.all(), index.select(QuestionFilter.exam(EXAM_CODE))),
+                () -> assertArrayEquals(matching(questions, q -> q.hasCodeSnippet() && q.answers().length > 1), index.select(multiWithCode).toArray()),
+                () -> assertArrayEquals(matching(questions, q -> !q.hasCodeSnippet()), index.select(noCode).toArray()),
+                () -> assertArrayEquals(matching(questions, q -> q.answers().length == 1), index.select(QuestionFilter.singleAnswer()).toArray()),
+                () -> assertArrayEquals(matching(questions, q -> q.choices().length == 4), index.select(QuestionFilter.choiceCount(4)).toArray()),
+                () -> assertEquals(index.size(), index.count(QuestionFilter.singleAnswer().or(QuestionFilter.multiAnswer()))),
+                () -> assertTrue(index.select(QuestionFilter.chapter(99)).isEmpty()),
+                () -> assertThrows(IllegalArgumentException.class, () -> QuestionFilter.chapters(3, 1))
+        );
+    }
+
+    @Test
+    void testChapterRangeVisitsOnlyIndexedChapters() {
+        // Arrange
+        AttributeIndex index = AttributeIndex.of(EXAM_CODE, Exam.loadExam(EXAM_CODE, new ChapterCache(4, 1_000)));
+
+        // Act: a range this wide must not be walked number by number
+        QuestionBitmap open = index.select(QuestionFilter.chapters(1, Integer.MAX_VALUE));
+
+        // Assert
+        assertAll("Chapter ranges",
+                () -> assertEquals(index.all(), open),
+                () -> assertEquals(index.all(), index.select(QuestionFilter.chapters(Integer.MIN_VALUE, Integer.MAX_VALUE))),
+                () -> assertEquals(index.chapter(1), index.chapters(1, 1)),
+                () -> assertTrue(index.chapters(100, Integer.MAX_VALUE).isEmpty())
+        );
+    }
+
+    @Test
+    void testIdsMapBackToQuestions() {
+        // Arrange
+        Exam exam            = Exam.loadExam(EXAM_CODE, new ChapterCache(4, 1_000));
+        AttributeIndex index = AttributeIndex.of(EXAM_CODE, exam);
+        Chapter chapter      = exam.loadSharedChapter(1);
+
+        // Act
+        QuestionBitmap ids       = index.select(QuestionFilter.withCode());
+        List<Question> questions = index.load(ids);
+
+        // Assert
+        assertAll("Id mapping",
+                () -> assertEquals(ids.cardinality(), questions.size()),
+                () -> assertTrue(questions.stream().allMatch(Question::hasCodeSnippet)),
+                () -> assertEquals(EXAM_CODE, index.examCode(ids.toArray()[0])),
+                () -> assertEquals(1, index.chapterNumber(ids.toArray()[0])),
+                () -> assertEquals(questions.get(0).ordinal(), index.ordinal(ids.toArray()[0])),
+                () -> assertSame(chapter.getAllQuestions().get(ids.toArray()[0]), questions.get(0))
+        );
+    }
+
+    @Test
+    void testLoadReturnsIndexedQuestionsAfterReload() {
+        // Arrange: the reload leaves chapter 1 with a single question
+        ChapterCache cache   = new ChapterCache(4, 1_000);
+        Exam exam            = Exam.loadExam(EXAM_CODE, cache);
+        AttributeIndex index = AttributeIndex.of(EXAM_CODE, exam);
+        List<Question> indexed = exam.loadSharedChapter(1).getAllQuestions();
+
+        Question last        = indexed.get(indexed.size() - 1);
+        ChapterData reloaded = new ChapterData(1, "Reloaded");
+        reloaded.addQuestion(new QuestionData(1, "Edited: " + last.questionText(), last.codeSnippet(), last.choices(), last.answers()));
+        cache.replace(EXAM_CODE, 1, reloaded.freeze());
+
+        // Act
+        List<Question> questions = index.load(index.select(QuestionFilter.chapter(1)));
+
+        // Assert
+        assertAll("Snapshot",
+                () -> assertEquals(1, exam.loadSharedChapter(1).countQuestions()),
+                () -> assertEquals(indexed, questions)
+        );
+    }
+
+    // ============================[ Helper Methods ]============================ \\
+
+    private interface BitSetOp {
+        void apply(BitSet target, BitSet other);
+    }
+
+    private static int[] expected(BitSet left, BitSet right, BitSetOp op) {
+        BitSet result = (BitSet) left.clone();
+        op.apply(result, right);
+        return result.stream().toArray();
+    }
+
+    private static int[] matching(List<Question> questions, Predicate<Question> predicate) {
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 0; i < questions.size(); i++) {
+            if (predicate.test(questions.get(i))) {
+                ids.add(i);
+            }
+        }
+
+        return ids.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+}
@@ -0,0 +1,305 @@
+package com.slinky.mockmate.data;
+
+import com.fasterxml.jackson.core.JsonFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ *
+ * @author Kheagen Haskins
+ */
+public class BundledExamTest {
+
+    private static final ExamCode VALID_EXAM_CODE = ExamCode.EXAM_CODE_1Z0_829;
+
+    @Test
+    void testMappedExamMatchesJsonExam() {
+        // Arrange
+        Exam json   = Exam.loadExam(VALID_EXAM_CODE, new ChapterCache(4, 1_000));
+        Exam mapped = Exam.mapExam(VALID_EXAM_CODE);
+
+        // Assert
+        assertAll("Exam metadata",
+                () -> assertEquals(json.getExamCode(),     mapped.getExamCode()),
+                () -> assertEquals(json.getJavaVersion(),  mapped.getJavaVersion()),
+                () -> assertEquals(json.getChapterCount(), mapped.getChapterCount())
+        );
+
+        for (int c = 1; c <= json.getChapterCount(); c++) {
+            Chapter expected = json.loadChapter(c);
+            Chapter actual   = mapped.loadChapter(c);
+            assertEquals(expected.getTitle(), actual.getTitle());
+            assertEquals(json.getChapterTitle(c), mapped.getChapterTitle(c));
+            assertEquals(json.getQuestionCount(c), mapped.getQuestionCount(c));
+            assertQuestionsMatch(expected.getAllQuestions(), actual.getAllQuestions());
+        }
+    }
+
+    @Test
+    void testBundledQuestionGrading() {
+        // Arrange: chapter 1, question 1 has the answers E and D
+        Question question = Exam.mapExam(VALID_EXAM_CODE).loadChapter(1).getQuestion(1);
+
+        // Assert
+        assertAll("Grading from the bundle",
+                () -> assertArrayEquals(new char[]{'D', 'E'}, question.answers()),
+                () -> assertTrue(question.isCorrect(new char[]{'e', 'D'})),
+                () -> assertFalse(question.isCorrect(new char[]{'E'})),
+                () -> assertEquals(1, question.countCorrect(new char[]{'A', 'E', '?'})),
+                () -> assertEquals('E', question.getOrdinalOf("e. public static void main(String[] args)")),
+                () -> assertEquals('D', question.getOrdinalOf("public static final void main(String[] args)")),
+                () -> assertEquals(0, question.getOrdinalOf("Not a choice"))
+        );
+    }
+
+    @Test
+    void testLoadsShareQuestionViews() {
+        // Arrange
+        Exam mapped = Exam.mapExam(VALID_EXAM_CODE);
+
+        // Act
+        Chapter first  = mapped.loadChapter(1);
+        Chapter second = mapped.loadChapter(1);
+
+        // Assert
+        assertAll("Shared flyweights",
+                () -> assertNotSame(first, second),
+                () -> assertSame(first.getQuestion(1), second.getQuestion(1)),
+                () -> assertSame(first.getQuestion(1), mapped.loadSharedChapter(1).getQuestion(1))
+        );
+    }
+
+    @Test
+    void testWriterRejectsMoreChoicesThanLetters() {
+        // Arrange
+        String[] choices = new String[27];
+        Arrays.setAll(choices, i -> "Choice " + i);
+        var writer = new ExamBundleCompiler.BundleWriter(VALID_EXAM_CODE.getCode());
+        writer.addChapter(1, "Chapter 1", List.of(new QuestionData(1, "Too many?", null, choices, new char[]{'A'})));
+
+        // Assert
+        assertThrows(IllegalArgumentException.class, writer::toByteArray);
+    }
+
+    @Test
+    void testCompileToFileAndOpen(@TempDir Path tempDir) throws IOException {
+        // Arrange
+        Path examDir = Path.of("src/main/resources/json/exam-1Z0-829");
+        Path file    = tempDir.resolve("exam.bin");
+
+        // Act
+        int size          = ExamBundleCompiler.compile(examDir, file);
+        ExamBundle bundle = ExamBundle.open(file);
+
+        // Assert
+        assertAll("Compiled bundle",
+                () -> assertTrue(size > ExamBundle.HEADER_SIZE),
+                () -> assertEquals("1Z0-829", bundle.examCode()),
+                () -> assertEquals(1, bundle.chapterNumber(0)),
+                () -> assertEquals("Building Blocks", bundle.chapterTitle(0)),
+                () -> assertEquals(bundle.questionCount(), bundle.chapterQuestionCount(0))
+        );
+    }
+
+    @Test
+    void testRejectsInvalidBundles() {
+        assertAll("Invalid bundles",
+                () -> assertThrows(IllegalArgumentException.class, () -> ExamBundle.wrap(ByteBuffer.allocate(8))),
+                () -> assertThrows(IllegalArgumentException.class, () -> ExamBundle.wrap(ByteBuffer.allocate(ExamBundle.HEADER_SIZE))),
+                () -> assertThrows(IllegalArgumentException.class, () -> Exam.mapExam(ExamCode.EXAM_CODE_1Z0_866)),
+                () -> assertThrows(IllegalArgumentException.class, () -> Exam.mapExam(VALID_EXAM_CODE).loadChapter(99))
+        );
+    }
+
+    @Test
+    void testPackedExamMatchesJsonExam() {
+        // Arrange
+        Exam json = Exam.loadExam(VALID_EXAM_CODE, new ChapterCache(4, 1_000));
+
+        // Act
+        Exam packed = Exam.packExam(VALID_EXAM_CODE);
+
+        // Assert
+        assertEquals(json.getChapterCount(), packed.getChapterCount());
+        for (int c = 1; c <= json.getChapterCount(); c++) {
+            assertEquals(json.getChapterTitle(c), packed.getChapterTitle(c));
+            assertQuestionsMatch(json.loadChapter(c).getAllQuestions(), packed.loadChapter(c).getAllQuestions());
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> Exam.packExam(ExamCode.EXAM_CODE_1Z0_866));
+    }
+
+    @Test
+    void testDirectBufferMatchesCompiledBytes() {
+        // Arrange
+        Chapter chapter = Exam.loadExam(VALID_EXAM_CODE, new ChapterCache(4, 1_000)).loadChapter(1);
+        var writer      = new ExamBundleCompiler.BundleWriter(VALID_EXAM_CODE.getCode());
+        writer.addChapter(1, chapter.getTitle(), chapter.getAllQuestions());
+
+        // Act
+        byte[] heap       = writer.toByteArray();
+        ByteBuffer direct = writer.toDirectBuffer();
+
+        // Assert
+        assertTrue(direct.isDirect());
+        assertEquals(ByteBuffer.wrap(heap), direct);
+    }
+
+    // ==============================[ Benchmarks ]=============================== \\
+    @Test
+    @Tag("benchmark")
+    void testGcPausesOnHeapAgainstOffHeap(TestReporter reporter) throws IOException {
+        // Arrange: one bank per exam code. Only 1Z0-829 has questions, so each
+        // bank repeats its first chapter with the question text made unique
+        final int banks    = ExamCode.values().length;
+        final int chapters = 40;
+        byte[][] sources   = questionSources();
+
+        List<List<QuestionData>> onHeap = new ArrayList<>();
+        for (int b = 0; b < banks; b++) {
+            for (int c = 0; c < chapters; c++) {
+                onHeap.add(bankChapter(sources, b, c));
+            }
+        }
+
+        // Act
+        long onHeapBytes  = HeapProbe.usedHeap();
+        double onHeapGc   = fullGcMillis();
+        long youngOnHeap  = churnGcMillis();
+        int questionCount = onHeap.size() * sources.length;
+        onHeap.clear();
+
+        List<Exam> offHeap = new ArrayList<>();
+        long slabBytes     = 0;
+        for (int b = 0; b < banks; b++) {
+            ExamCode examCode = ExamCode.values()[b];
+            var writer        = new ExamBundleCompiler.BundleWriter(examCode.getCode());
+            for (int c = 0; c < chapters; c++) {
+                writer.addChapter(c + 1, "Chapter " + (c + 1), bankChapter(sources, b, c));
+            }
+
+            ByteBuffer slab = writer.toDirectBuffer();
+            slabBytes      += slab.capacity();
+            offHeap.add(new BundledExam(examCode, ExamBundle.wrap(slab)));
+        }
+
+        long offHeapBytes = HeapProbe.usedHeap();
+        double offHeapGc  = fullGcMillis();
+        long youngOffHeap = churnGcMillis();
+
+        // Assert
+        Question last = offHeap.get(banks - 1).loadChapter(chapters).getQuestion(sources.length);
+        assertEquals(bankChapter(sources, banks - 1, chapters - 1).get(sources.length - 1).questionText(), last.questionText());
+        reporter.publishEntry("on heap", "%d questions, %d MB heap, %.1f ms per full GC, %d ms GC under churn"
+                .formatted(questionCount, onHeapBytes >> 20, onHeapGc, youngOnHeap));
+        reporter.publishEntry("off heap", "%d MB heap + %d MB slabs, %.1f ms per full GC, %d ms GC under churn"
+                .formatted(offHeapBytes >> 20, slabBytes >> 20, offHeapGc, youngOffHeap));
+    }
+
+    // ============================[ Helper Methods ]============================ \\
+    private static void assertQuestionsMatch(List<Question> expected, List<Question> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Question e = expected.get(i);
+            Question a = actual.get(i);
+            char[] sortedAnswers = e.answers().clone();
+            Arrays.sort(sortedAnswers);
+
+            assertAll("Question " + e.ordinal(),
+                    () -> assertEquals(e.ordinal(),        a.ordinal()),
+                    () -> assertEquals(e.questionText(),   a.questionText()),
+                    () -> assertEquals(e.codeSnippet(),    a.codeSnippet()),
+                    () -> assertEquals(e.hasCodeSnippet(), a.hasCodeSnippet()),
+                    () -> assertArrayEquals(e.choices(),   a.choices()),
+                    () -> assertArrayEquals(sortedAnswers, a.answers())
+            );
+        }
+    }
+
+    private byte[][] questionSources() throws IOException {
+        byte[][] sources = new byte[Exam.mapExam(VALID_EXAM_CODE).getQuestionCount(1)][];
+        for (int i = 0; i < sources.length; i++) {
+            try (InputStream in = getClass().getResourceAsStream("/json/exam-1Z0-829/chapter1/q%d.json".formatted(i + 1))) {
+                sources[i] = in.readAllBytes();
+            }
+        }
+
+        return sources;
+    }
+
+    /**
+     * Parses the source questions without string pooling, as separate banks
+     * would not share their text, and tags each question with its bank and
+     * chapter.
+     */
+    private static List<QuestionData> bankChapter(byte[][] sources, int bank, int chapter) throws IOException {
+        var reader = new QuestionReader(new JsonFactory());
+        List<QuestionData> questions = new ArrayList<>(sources.length);
+        for (byte[] json : sources) {
+            QuestionData q = reader.read(json, 0, json.length);
+            questions.add(new QuestionData(q.ordinal(), "[%d.%d] %s".formatted(bank, chapter, q.questionText()),
+                    q.codeSnippet(), q.choices(), q.answers()));
+        }
+
+        return questions;
+    }
+
+    private static double fullGcMillis() {
+        final int rounds = 5;
+        System.gc();
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            System.gc();
+        }
+
+        return (System.nanoTime() - start) / 1e6 / rounds;
+    }
+
+    /**
+     * Allocates short-lived garbage and reports the time the collectors spent
+     * on it.
+     */
+    private static long churnGcMillis() {
+        long before = gcMillis();
+        long sink   = 0;
+        for (int i = 0; i < 200_000; i++) {
+            sink += new byte[2_048].length;
+        }
+
+        assertTrue(sink > 0);
+        return gcMillis() - before;
+    }
+
+    private static long gcMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionTime());
+        }
+
+        return total;
+    }
+
+}
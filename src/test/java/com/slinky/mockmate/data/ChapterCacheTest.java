@@ -0,0 +1,213 @@
+package com.slinky.mockmate.data;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ *
+ * @author Kheagen Haskins
+ */
+public class ChapterCacheTest {
+
+    private static final ExamCode EXAM_CODE = ExamCode.EXAM_CODE_1Z0_829;
+
+    // =========================[ Constructor Unit Tests ]========================= \\
+    @Test
+    void testConstructorInvalidLimits() {
+        assertAll("Invalid limits",
+                () -> assertThrows(IllegalArgumentException.class, () -> new ChapterCache(0, 10)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new ChapterCache(10, 0))
+        );
+    }
+
+    // ===========================[ get() Unit Tests ]============================ \\
+    @Test
+    void testGetCountsHitsAndMisses() {
+        // Arrange
+        ChapterCache cache = new ChapterCache(4, 100);
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        ChapterData first  = cache.get(EXAM_CODE, 1, () -> chapter(1, 3, loads));
+        ChapterData second = cache.get(EXAM_CODE, 1, () -> chapter(1, 3, loads));
+
+        // Assert
+        assertAll("Hit and miss accounting",
+                () -> assertSame(first, second, "Expected the cached chapter to be returned on a hit."),
+                () -> assertEquals(1, loads.get(), "Expected the loader to run once."),
+                () -> assertEquals(1, cache.hitCount()),
+                () -> assertEquals(1, cache.missCount()),
+                () -> assertEquals(3, cache.weight())
+        );
+    }
+
+    @Test
+    void testCoalescedWaitersAreNotCountedAsMisses() {
+        // Arrange
+        ChapterCache cache = new ChapterCache(4, 100);
+        AtomicInteger loads = new AtomicInteger();
+        var load = new CompletableFuture<ChapterData>();
+
+        // Act
+        var first  = cache.getAsync(EXAM_CODE, 1, () -> { loads.incrementAndGet(); return load; });
+        var second = cache.getAsync(EXAM_CODE, 1, () -> { loads.incrementAndGet(); return load; });
+        load.complete(chapter(1, 3, new AtomicInteger()));
+        var third  = cache.getAsync(EXAM_CODE, 1, () -> { loads.incrementAndGet(); return load; });
+
+        // Assert
+        assertAll("Coalesced accounting",
+                () -> assertSame(first.join(), second.join()),
+                () -> assertSame(first.join(), third.join()),
+                () -> assertEquals(1, loads.get(), "Expected the loader to run once."),
+                () -> assertEquals(1, cache.missCount(), "Expected only the real load to count as a miss."),
+                () -> assertEquals(1, cache.hitCount())
+        );
+    }
+
+    @Test
+    void testGetEvictsLeastRecentlyUsedByCount() {
+        // Arrange
+        ChapterCache cache = new ChapterCache(2, 100);
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(EXAM_CODE, 1, () -> chapter(1, 1, loads));
+        cache.get(EXAM_CODE, 2, () -> chapter(2, 1, loads));
+        cache.get(EXAM_CODE, 1, () -> chapter(1, 1, loads)); // Touch chapter 1
+
+        // Act
+        cache.get(EXAM_CODE, 3, () -> chapter(3, 1, loads));
+        cache.get(EXAM_CODE, 1, () -> chapter(1, 1, loads));
+
+        // Assert
+        assertAll("LRU eviction by chapter count",
+                () -> assertEquals(2, cache.size()),
+                () -> assertEquals(1, cache.evictionCount(), "Expected chapter 2 to be evicted."),
+                () -> assertEquals(3, loads.get(), "Expected chapter 1 to survive eviction.")
+        );
+    }
+
+    @Test
+    void testGetEvictsByWeight() {
+        // Arrange
+        ChapterCache cache = new ChapterCache(10, 5);
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        cache.get(EXAM_CODE, 1, () -> chapter(1, 3, loads));
+        cache.get(EXAM_CODE, 2, () -> chapter(2, 3, loads));
+
+        // Assert
+        assertAll("Eviction by weight",
+                () -> assertEquals(1, cache.size()),
+                () -> assertEquals(3, cache.weight()),
+                () -> assertEquals(1, cache.evictionCount())
+        );
+    }
+
+    @Test
+    void testGetDoesNotCacheOverweightChapter() {
+        // Arrange
+        ChapterCache cache = new ChapterCache(10, 2);
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        cache.get(EXAM_CODE, 1, () -> chapter(1, 3, loads));
+        cache.get(EXAM_CODE, 1, () -> chapter(1, 3, loads));
+
+        // Assert
+        assertAll("Overweight chapter",
+                () -> assertEquals(0, cache.size()),
+                () -> assertEquals(2, loads.get())
+        );
+    }
+
+    @Test
+    void testGetPropagatesLoaderFailure() {
+        // Arrange
+        ChapterCache cache = new ChapterCache(4, 100);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class,
+                () -> cache.get(EXAM_CODE, 1, () -> { throw new IllegalStateException("boom"); }));
+        assertEquals(0, cache.size());
+    }
+
+    // =========================[ replace() Unit Tests ]========================== \\
+    @Test
+    void testClearForgetsReplacedChapters() {
+        // Arrange
+        ChapterCache cache   = new ChapterCache(4, 100);
+        AtomicInteger loads  = new AtomicInteger();
+        ChapterData reloaded = chapter(1, 2, loads).freeze();
+        cache.replace(EXAM_CODE, 1, reloaded);
+        ChapterData before = cache.getIfPresent(EXAM_CODE, 1);
+
+        // Act
+        cache.clear();
+
+        // Assert
+        assertAll("Clear",
+                () -> assertSame(reloaded, before),
+                () -> assertNull(cache.getIfPresent(EXAM_CODE, 1)),
+                () -> assertEquals(3, cache.get(EXAM_CODE, 1, () -> chapter(1, 3, loads)).countQuestions())
+        );
+    }
+
+    @Test
+    void testReplaceRejectsChaptersOutsideTheIndex() {
+        // Arrange
+        ChapterCache cache  = new ChapterCache(4, 100);
+        ChapterData chapter = chapter(1, 2, new AtomicInteger()).freeze();
+
+        // Act & Assert
+        assertAll("Unknown chapters",
+                () -> assertThrows(IllegalArgumentException.class, () -> cache.replace(EXAM_CODE, 0, chapter)),
+                () -> assertThrows(IllegalArgumentException.class, () -> cache.replace(EXAM_CODE, 10_000, chapter)),
+                () -> assertThrows(IllegalArgumentException.class, () -> cache.replace(EXAM_CODE, 1, chapter(1, 2, new AtomicInteger()))),
+                () -> assertNull(cache.getIfPresent(EXAM_CODE, 10_000))
+        );
+    }
+
+    // ==========================[ Integration Tests ]============================ \\
+    @Test
+    void testLoadChapterReturnsIndependentCopies() {
+        // Arrange
+        ChapterCache cache = new ChapterCache(4, 1_000);
+        Exam exam = Exam.loadExam(EXAM_CODE, cache);
+
+        // Act
+        Chapter first  = exam.loadChapter(1);
+        Chapter second = exam.loadChapter(1);
+        first.removeQuestion(1);
+        first.nextQuestion();
+
+        // Assert
+        assertAll("Independent chapter copies",
+                () -> assertNotSame(first, second),
+                () -> assertEquals(1, cache.hitCount()),
+                () -> assertEquals(second.countQuestions() - 1, first.countQuestions()),
+                () -> assertEquals(1, second.nextQuestion().ordinal()),
+                () -> assertSame(second.getQuestion(2), first.getQuestion(2), "Expected question instances to be shared.")
+        );
+    }
+
+    // ============================[ Helper Methods ]============================ \\
+    private static ChapterData chapter(int number, int questionCount, AtomicInteger loads) {
+        loads.incrementAndGet();
+        ChapterData chapter = new ChapterData(number, "Chapter " + number);
+        for (int i = 1; i <= questionCount; i++) {
+            chapter.addQuestion(new QuestionData(i, "Question " + i + "?", null, new String[]{"A. Option 1"}, new char[]{'A'}));
+        }
+
+        return chapter;
+    }
+
+}
@@ -1,8 +1,11 @@
 package com.slinky.mockmate.data;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 import java.util.stream.Stream;
 
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -11,6 +14,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import org.junit.jupiter.params.ParameterizedTest;
 
@@ -365,6 +369,13 @@ public class ChapterDataTest {
                 () -> assertTrue(chapter.getAllQuestions().contains(question), "Expected one instance of the duplicate question to remain.")
         );
     }
+
+    @Test
+    public void testLargeChapterMatchesListModel() {
+        // 2,000 questions over 500 ordinals, so most ordinals are duplicated
+        assertMatchesListModel(2_000, 500);
+    }
+
     // ========================[ getQuestion() Unit Tests ]======================== \\
     @Test
     public void testGetExistingQuestion() {
@@ -694,5 +705,194 @@ public class ChapterDataTest {
                 "Expected UnsupportedOperationException when attempting to modify the list."
         );
     }
-    
-}
\ No newline at end of file
+
+    // =========================[ cursor() Unit Tests ]========================== \\
+    @Test
+    public void testCursorsNavigateIndependently() {
+        // Arrange
+        ChapterData chapter = new ChapterData(1, "Cursor Chapter");
+        Question question1  = new QuestionData(1, "What is Java?", null, new String[]{"A. Option 1"}, new char[]{'A'});
+        Question question2  = new QuestionData(2, "Explain polymorphism.", null, new String[]{"A. Option 1"}, new char[]{'A'});
+        chapter.addQuestion(question1);
+        chapter.addQuestion(question2);
+        ChapterCursor cursor1 = chapter.cursor();
+        ChapterCursor cursor2 = chapter.cursor();
+
+        // Act
+        Question first  = cursor1.next();
+        Question second = cursor1.next();
+        Question last   = cursor2.previous();
+
+        // Assert
+        assertAll("Independent cursors",
+                () -> assertSame(question1, first),
+                () -> assertSame(question2, second),
+                () -> assertSame(question2, last, "Expected previous() to wrap to the last question."),
+                () -> assertEquals(0, cursor1.position(), "Expected next() to wrap to the first question."),
+                () -> assertEquals(1, cursor2.position()),
+                () -> assertEquals(2, cursor1.size()),
+                () -> assertSame(question1, chapter.nextQuestion(), "Expected the chapter's own navigation to be unaffected.")
+        );
+    }
+
+    @Test
+    public void testCursorIgnoresLaterChanges() {
+        // Arrange
+        ChapterData chapter = new ChapterData(1, "Cursor Snapshot Chapter");
+        Question question1  = new QuestionData(1, "What is Java?", null, new String[]{"A. Option 1"}, new char[]{'A'});
+        Question question2  = new QuestionData(2, "Explain polymorphism.", null, new String[]{"A. Option 1"}, new char[]{'A'});
+        chapter.addQuestion(question1);
+        ChapterCursor before = chapter.cursor();
+
+        // Act
+        chapter.addQuestion(question2);
+        chapter.removeQuestion(1);
+        ChapterCursor after = chapter.cursor();
+
+        // Assert
+        assertAll("Cursor snapshots",
+                () -> assertEquals(1, before.size()),
+                () -> assertSame(question1, before.next()),
+                () -> assertEquals(1, after.size()),
+                () -> assertSame(question2, after.next())
+        );
+    }
+
+    @Test
+    public void testCursorOnEmptyChapter() {
+        ChapterCursor cursor = new ChapterData(1, "Empty Cursor Chapter").cursor();
+        assertAll("Empty cursor",
+                () -> assertEquals(0, cursor.size()),
+                () -> assertThrows(IllegalStateException.class, cursor::next),
+                () -> assertThrows(IllegalStateException.class, cursor::previous),
+                () -> assertThrows(IllegalArgumentException.class, () -> cursor.seek(0))
+        );
+    }
+
+    @Test
+    public void testCursorSeek() {
+        // Arrange
+        ChapterData chapter = new ChapterData(1, "Seek Chapter");
+        Question question1  = new QuestionData(1, "What is Java?", null, new String[]{"A. Option 1"}, new char[]{'A'});
+        Question question2  = new QuestionData(2, "Explain polymorphism.", null, new String[]{"A. Option 1"}, new char[]{'A'});
+        chapter.addQuestion(question1);
+        chapter.addQuestion(question2);
+        ChapterCursor cursor = chapter.cursor();
+
+        // Act
+        cursor.seek(1);
+
+        // Assert
+        assertAll("Cursor seek",
+                () -> assertSame(question2, cursor.next()),
+                () -> assertThrows(IllegalArgumentException.class, () -> cursor.seek(2)),
+                () -> assertThrows(IllegalArgumentException.class, () -> cursor.seek(-1))
+        );
+    }
+
+    // =========================[ freeze() Unit Tests ]========================== \\
+    @Test
+    public void testFrozenChapterIsReadOnly() {
+        // Arrange
+        ChapterData chapter = new ChapterData(1, "Frozen Chapter");
+        Question question   = new QuestionData(1, "What is Java?", null, new String[]{"A. Option 1"}, new char[]{'A'});
+        chapter.addQuestion(question);
+        chapter.addQuestion(new QuestionData(2, "Explain polymorphism.", null, new String[]{"A. Option 1"}, new char[]{'A'}));
+        chapter.removeQuestion(2);
+
+        // Act
+        chapter.freeze();
+
+        // Assert
+        assertAll("Frozen chapter",
+                () -> assertTrue(chapter.isFrozen()),
+                () -> assertEquals(1, chapter.countQuestions()),
+                () -> assertSame(question, chapter.getQuestion(1)),
+                () -> assertEquals(List.of(question), chapter.getAllQuestions()),
+                () -> assertSame(question, chapter.cursor().next()),
+                () -> assertThrows(UnsupportedOperationException.class, () -> chapter.addQuestion(question)),
+                () -> assertThrows(UnsupportedOperationException.class, () -> chapter.removeQuestion(1)),
+                () -> assertThrows(UnsupportedOperationException.class, chapter::nextQuestion),
+                () -> assertThrows(UnsupportedOperationException.class, chapter::previousQuestion)
+        );
+    }
+
+    @Test
+    public void testCopyOfFrozenChapterIsMutable() {
+        // Arrange
+        ChapterData frozen = new ChapterData(1, "Frozen Source Chapter").freeze();
+        Question question  = new QuestionData(1, "What is Java?", null, new String[]{"A. Option 1"}, new char[]{'A'});
+
+        // Act
+        ChapterData copy = new ChapterData(frozen);
+        copy.addQuestion(question);
+
+        // Assert
+        assertAll("Copy of a frozen chapter",
+                () -> assertFalse(copy.isFrozen()),
+                () -> assertSame(question, copy.nextQuestion()),
+                () -> assertEquals(0, frozen.countQuestions())
+        );
+    }
+
+    // ==============================[ Benchmarks ]=============================== \\
+    @Test
+    @Tag("benchmark")
+    public void testVeryLargeChapterMatchesListModel() {
+        // 20,000 questions over 5,000 ordinals; quadratic in the model, so slow
+        assertMatchesListModel(20_000, 5_000);
+    }
+
+    // ============================[ Helper Methods ]============================ \\
+    /**
+     * Checks every step of a random mix of additions, removals, lookups and
+     * navigation against a linear {@code ArrayList} model.
+     *
+     * @param questions the number of questions added up front, and of steps.
+     * @param ordinals  the number of distinct ordinals drawn from.
+     */
+    private static void assertMatchesListModel(int questions, int ordinals) {
+        // Arrange
+        ChapterData chapter  = new ChapterData(1, "Large Chapter");
+        List<Question> model = new ArrayList<>();
+        Random random        = new Random(42);
+        for (int i = 0; i < questions; i++) {
+            Question question = new QuestionData(1 + random.nextInt(ordinals), "Question " + i, null, new String[]{"A. Option 1"}, new char[]{'A'});
+            chapter.addQuestion(question);
+            model.add(question);
+        }
+
+        // Act: interleave removals, lookups, additions and navigation
+        for (int i = 0; i < questions; i++) {
+            int ordinal = 1 + random.nextInt(ordinals + ordinals / 10);
+            Question expected = model.stream().filter(q -> q.ordinal() == ordinal).findFirst().orElse(null);
+            if (expected == null) {
+                assertThrows(IllegalArgumentException.class, () -> chapter.getQuestion(ordinal));
+            } else {
+                assertSame(expected, chapter.getQuestion(ordinal));
+            }
+
+            switch (random.nextInt(3)) {
+                case 0 -> assertEquals(model.remove(expected), chapter.removeQuestion(ordinal));
+                case 1 -> {
+                    Question question = new QuestionData(ordinal, "Added " + i, null, new String[]{"A. Option 1"}, new char[]{'A'});
+                    chapter.addQuestion(question);
+                    model.add(question);
+                }
+                default -> {
+                    if (!model.isEmpty()) {
+                        assertSame(model.get(0), new ChapterData(chapter).nextQuestion());
+                    }
+                }
+            }
+        }
+
+        // Assert
+        assertAll("Large chapter",
+                () -> assertEquals(model.size(), chapter.countQuestions()),
+                () -> assertEquals(model, chapter.getAllQuestions()),
+                () -> assertEquals(model, new ChapterData(chapter).getAllQuestions())
+        );
+    }
+
+}
@@ -0,0 +1,132 @@
+package com.slinky.mockmate.data;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ *
+ * @author Kheagen Haskins
+ */
+public class ExamGraderTest {
+
+    private static final ExamCode VALID_EXAM_CODE = ExamCode.EXAM_CODE_1Z0_829;
+
+    private Exam exam;
+    private ExamGrader grader;
+
+    @BeforeEach
+    void setup() {
+        exam   = Exam.loadExam(VALID_EXAM_CODE, new ChapterCache(4, 1_000));
+        grader = ExamGrader.of(exam);
+    }
+
+    @Test
+    void testQuestionIdsFollowChapterOrder() {
+        List<Question> questions = exam.loadChapter(1).getAllQuestions();
+
+        assertEquals(questions.size(), grader.questionCount());
+        for (int id = 0; id < questions.size(); id++) {
+            assertEquals(id, grader.questionId(1, questions.get(id).ordinal()));
+        }
+    }
+
+    @Test
+    void testQuestionIdOfMissingQuestion() {
+        assertAll("Missing questions",
+                () -> assertThrows(IllegalArgumentException.class, () -> grader.questionId(0, 1)),
+                () -> assertThrows(IllegalArgumentException.class, () -> grader.questionId(grader.chapterCount() + 1, 1)),
+                () -> assertThrows(IllegalArgumentException.class, () -> grader.questionId(1, 10_000))
+        );
+    }
+
+    @Test
+    void testGradeSmallBatch() {
+        // Arrange: chapter 1, question 1 has the answers E and D
+        int q1         = grader.questionId(1, 1);
+        int[] offsets  = {0, 1, 1, 2};
+        int[] ids      = {q1, q1};
+        int[] masks    = {ScoringPolicy.mask('D', 'E'), ScoringPolicy.mask('D', 'A')};
+
+        // Act
+        GradeReport report = grader.grade(offsets, ids, masks, ScoringPolicy.partialCredit());
+
+        // Assert
+        assertAll("Small batch",
+                () -> assertEquals(3, report.userCount()),
+                () -> assertEquals(1.0, report.total(0)),
+                () -> assertEquals(0.0, report.total(1), "Expected nothing for an empty submission."),
+                () -> assertEquals(0.0, report.total(2), "Expected the wrong pick to cancel the right one."),
+                () -> assertEquals(1.0, report.chapterScore(0, 1)),
+                () -> assertEquals(grader.questionCount(), report.maxScore())
+        );
+    }
+
+    @Test
+    void testGradeRejectsMalformedBatches() {
+        ScoringPolicy policy = ScoringPolicy.allOrNothing();
+
+        assertAll("Malformed batches",
+                () -> assertThrows(NullPointerException.class,     () -> grader.grade(null, new int[0], new int[0], policy)),
+                () -> assertThrows(IllegalArgumentException.class, () -> grader.grade(new int[0], new int[0], new int[0], policy)),
+                () -> assertThrows(IllegalArgumentException.class, () -> grader.grade(new int[]{0, 1}, new int[]{0}, new int[0], policy)),
+                () -> assertThrows(IllegalArgumentException.class, () -> grader.grade(new int[]{0, 2, 1}, new int[]{0}, new int[]{1}, policy)),
+                () -> assertThrows(IllegalArgumentException.class, () -> grader.grade(new int[]{0, 2}, new int[]{0}, new int[]{1}, policy)),
+                () -> assertThrows(IllegalArgumentException.class, () -> grader.grade(new int[]{0, 1}, new int[]{-1}, new int[]{1}, policy))
+        );
+    }
+
+    @Test
+    @Tag("benchmark")
+    void testGradeOneHundredThousandSubmissions(TestReporter reporter) {
+        // Arrange: every user answers every question, half of them correctly
+        final int users      = 100_000;
+        final int questions  = grader.questionCount();
+        List<Question> model = exam.loadChapter(1).getAllQuestions();
+        Random random        = new Random(829);
+
+        int[] offsets = new int[users + 1];
+        int[] ids     = new int[users * questions];
+        int[] masks   = new int[users * questions];
+        for (int u = 0; u < users; u++) {
+            offsets[u + 1] = offsets[u] + questions;
+            for (int q = 0; q < questions; q++) {
+                ids[u * questions + q]   = q;
+                masks[u * questions + q] = random.nextBoolean() ? model.get(q).answerMask() : random.nextInt(1 << 8);
+            }
+        }
+
+        ScoringPolicy policy = ScoringPolicy.negativeMarking(0.25);
+        grader.grade(offsets, ids, masks, policy); // warm up
+
+        // Act
+        long start         = System.nanoTime();
+        GradeReport report = grader.grade(offsets, ids, masks, policy);
+        long elapsed       = System.nanoTime() - start;
+
+        // Assert: spot check against grading one question at a time
+        for (int u = 0; u < users; u += 997) {
+            double expected = 0;
+            for (int q = 0; q < questions; q++) {
+                expected += model.get(q).score(masks[u * questions + q], policy);
+            }
+
+            assertEquals(expected, report.total(u), 1e-9);
+            assertEquals(expected, report.chapterScore(u, 1), 1e-9);
+        }
+
+        long millis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(elapsed));
+        reporter.publishEntry("throughput", "%d submissions of %d answers in %d ms (%d submissions/s)"
+                .formatted(users, questions, millis, users * 1_000L / millis));
+    }
+
+}
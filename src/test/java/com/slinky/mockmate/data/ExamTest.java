@@ -1,5 +1,12 @@
 package com.slinky.mockmate.data;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -28,4 +35,204 @@ public class ExamTest {
         );
     }
     
-}
+    @Test
+    void testChapterMetadataMatchesLoadedChapter() {
+        var exam    = Exam.loadExam(VALID_EXAM_CODE, new ChapterCache(4, 1_000));
+        var chapter = exam.loadChapter(1);
+        assertAll("Chapter metadata",
+                () -> assertEquals("Building Blocks", exam.getChapterTitle(1)),
+                () -> assertEquals(chapter.getTitle(), exam.getChapterTitle(1)),
+                () -> assertEquals(chapter.getAllQuestions().size(), exam.getQuestionCount(1)),
+                () -> assertThrows(IllegalArgumentException.class, () -> exam.getChapterTitle(0)),
+                () -> assertThrows(IllegalArgumentException.class, () -> exam.getQuestionCount(exam.getChapterCount() + 1))
+        );
+    }
+    
+    @Test
+    void testLoadChapterAsyncKeepsQuestionOrder() throws Exception {
+        var exam = Exam.loadExam(VALID_EXAM_CODE, new ChapterCache(4, 1_000));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Chapter chapter = exam.loadChapterAsync(1, executor).get(10, TimeUnit.SECONDS);
+            List<Question> questions = chapter.getAllQuestions();
+
+            assertAll("Async chapter load",
+                    () -> assertEquals(exam.loadChapter(1).getTitle(), chapter.getTitle()),
+                    () -> assertEquals(exam.loadChapter(1).countQuestions(), questions.size()),
+                    () -> {
+                        for (int i = 0; i < questions.size(); i++) {
+                            assertEquals(i + 1, questions.get(i).ordinal(), "Expected questions in file order.");
+                        }
+                    }
+            );
+        } finally {
+            executor.shutdown();
+        }
+    }
+    
+    @Test
+    void testLoadAllChaptersAsync() throws Exception {
+        var exam = Exam.loadExam(VALID_EXAM_CODE, new ChapterCache(4, 1_000));
+        List<Chapter> chapters = exam.loadAllChaptersAsync().get(10, TimeUnit.SECONDS);
+
+        assertEquals(exam.getChapterCount(), chapters.size());
+        for (int i = 0; i < chapters.size(); i++) {
+            assertEquals(i + 1, chapters.get(i).getChapterNumber());
+        }
+    }
+    
+    @Test
+    void testLoadChapterAsyncInvalidChapter() {
+        var exam = Exam.loadExam(VALID_EXAM_CODE);
+        assertThrows(IllegalArgumentException.class, () -> exam.loadChapterAsync(0));
+        assertThrows(IllegalArgumentException.class, () -> exam.loadChapterAsync(exam.getChapterCount() + 1));
+    }
+    
+    @Test
+    void testSharedChapterIsReusedAcrossSessions() throws Exception {
+        var exam   = Exam.loadExam(VALID_EXAM_CODE, new ChapterCache(4, 1_000));
+        var shared = exam.loadSharedChapter(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            // Each session walks the whole chapter with its own cursor
+            List<Future<List<Question>>> sessions = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                sessions.add(executor.submit(() -> {
+                    var cursor  = exam.loadSharedChapter(1).cursor();
+                    var visited = new ArrayList<Question>();
+                    for (int q = 0; q < cursor.size(); q++) {
+                        visited.add(cursor.next());
+                    }
+                    return visited;
+                }));
+            }
+
+            for (var session : sessions) {
+                assertEquals(shared.getAllQuestions(), session.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Each view keeps its own position in the shared questions
+        var other = exam.loadSharedChapter(1);
+        shared.nextQuestion();
+        Question second = shared.nextQuestion();
+
+        var mapped = Exam.mapExam(VALID_EXAM_CODE);
+        assertAll("Shared chapter",
+                () -> assertSame(((SharedChapter) shared).chapter(), ((SharedChapter) other).chapter()),
+                () -> assertNotSame(shared, exam.loadChapter(1)),
+                () -> assertSame(shared.getQuestion(2), second),
+                () -> assertSame(shared.getQuestion(1), other.nextQuestion()),
+                () -> assertSame(second, shared.previousQuestion()),
+                () -> assertThrows(UnsupportedOperationException.class, () -> shared.removeQuestion(1)),
+                () -> assertDoesNotThrow(() -> exam.loadChapter(1).removeQuestion(1)),
+                () -> assertSame(((SharedChapter) mapped.loadSharedChapter(1)).chapter(), ((SharedChapter) mapped.loadSharedChapter(1)).chapter())
+        );
+    }
+
+    @Test
+    void testSampleIsRepeatableAndDistinct() {
+        // Arrange
+        var cache = new ChapterCache(4, 1_000);
+        var exam  = Exam.loadExam(VALID_EXAM_CODE, cache);
+
+        // Act
+        List<Question> first  = exam.sample(10, c -> c == 1, 829L);
+        List<Question> second = exam.sample(10, c -> c == 1, 829L);
+        List<Question> all    = exam.sample(1_000, c -> true, 829L);
+
+        // Assert
+        assertAll("Seeded sample",
+                () -> assertEquals(10, first.size()),
+                () -> assertEquals(ordinals(first), ordinals(second), "Expected the same seed to give the same selection."),
+                () -> assertEquals(10, ordinals(first).stream().distinct().count(), "Expected no question to be drawn twice."),
+                () -> assertEquals(exam.getQuestionCount(1), all.size(), "Expected the sample to stop at the questions available."),
+                () -> assertTrue(exam.sample(5, c -> false, 1L).isEmpty()),
+                () -> assertEquals(0, cache.size(), "Expected sampling not to load whole chapters."),
+                () -> assertThrows(IllegalArgumentException.class, () -> exam.sample(-1, c -> true, 1L))
+        );
+    }
+
+    @Test
+    void testSampleMatchesAcrossExamFormats() {
+        // Arrange
+        var cache  = new ChapterCache(4, 1_000);
+        var json   = Exam.loadExam(VALID_EXAM_CODE, cache);
+        var mapped = Exam.mapExam(VALID_EXAM_CODE);
+
+        // Act
+        List<Question> uncached = json.sample(8, c -> true, 42L);
+        json.loadChapter(1);
+        List<Question> cached   = json.sample(8, c -> true, 42L);
+        List<Question> bundled  = mapped.sample(8, c -> true, 42L);
+
+        // Assert
+        assertAll("Sample sources",
+                () -> assertEquals(ordinals(uncached), ordinals(cached)),
+                () -> assertEquals(ordinals(uncached), ordinals(bundled)),
+                () -> assertEquals(uncached.get(0).questionText(), bundled.get(0).questionText()),
+                () -> assertSame(json.loadSharedChapter(1).getQuestion(cached.get(0).ordinal()), cached.get(0),
+                        "Expected cached questions to be reused.")
+        );
+    }
+
+    @Test
+    void testSampleDrawsFromReloadedChapter() {
+        // Arrange: a reload drops the last questions and edits the first
+        var cache    = new ChapterCache(4, 1_000);
+        var exam     = Exam.loadExam(VALID_EXAM_CODE, cache);
+        var original = exam.loadSharedChapter(1);
+        var reloaded = new ChapterData(1, original.getTitle());
+        var first    = original.getQuestion(1);
+        reloaded.addQuestion(new QuestionData(1, "Edited: " + first.questionText(), first.codeSnippet(), first.choices(), first.answers()));
+        for (int i = 2; i <= 5; i++) {
+            reloaded.addQuestion(original.getQuestion(i));
+        }
+
+        cache.replace(VALID_EXAM_CODE, 1, reloaded.freeze());
+
+        // Act
+        List<Question> all = exam.sample(1_000, c -> c == 1, 829L);
+
+        // Assert
+        assertAll("Reloaded sample",
+                () -> assertEquals(5, all.size(), "Expected positions to be drawn against the reloaded chapter."),
+                () -> assertEquals(List.of(1, 2, 3, 4, 5), ordinals(all).stream().sorted().toList()),
+                () -> assertTrue(all.stream().anyMatch(q -> q.questionText().startsWith("Edited: ")))
+        );
+    }
+
+    @Test
+    void testQuestionCountFollowsReloadedChapter() {
+        // Arrange
+        var cache    = new ChapterCache(4, 1_000);
+        var exam     = Exam.loadExam(VALID_EXAM_CODE, cache);
+        var original = exam.loadSharedChapter(1);
+        var reloaded = new ChapterData(1, "Reloaded title");
+        reloaded.addQuestion(original.getQuestion(1));
+        int before   = exam.getQuestionCount(1);
+
+        // Act
+        cache.replace(VALID_EXAM_CODE, 1, reloaded.freeze());
+
+        // Assert
+        assertAll("Reloaded counts",
+                () -> assertEquals(original.countQuestions(), before),
+                () -> assertEquals(1, exam.getQuestionCount(1)),
+                () -> assertEquals("Reloaded title", exam.getChapterTitle(1)),
+                () -> assertEquals(exam.getQuestionCount(1), exam.loadChapter(1).countQuestions())
+        );
+    }
+
+    private static List<Integer> ordinals(List<Question> questions) {
+        List<Integer> ordinals = new ArrayList<>();
+        for (Question question : questions) {
+            ordinals.add(question.ordinal());
+        }
+
+        return ordinals;
+    }
+
+}
\ No newline at end of file
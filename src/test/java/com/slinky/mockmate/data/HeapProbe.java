@@ -0,0 +1,35 @@
+package com.slinky.mockmate.data;
+
+/**
+ * Measures heap use for the memory benchmarks.
+ *
+ * @author Kheagen Haskins
+ */
+final class HeapProbe {
+
+    // =============================[ Constructors ]============================= \\
+
+    /**
+     * Not instantiable.
+     */
+    private HeapProbe() {
+    }
+
+    // =============================[ API Methods ]============================== \\
+
+    /**
+     * Requests a few collections and then retrieves the heap in use, so that
+     * garbage left by earlier work is not counted.
+     *
+     * @return the heap in use, in bytes.
+     */
+    static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+}
@@ -0,0 +1,294 @@
+package com.slinky.mockmate.data;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ *
+ * @author Kheagen Haskins
+ */
+public class JournalCompactorTest {
+
+    private static final ExamCode EXAM = ExamCode.EXAM_CODE_1Z0_829;
+
+    /**
+     * About 64 records per segment.
+     */
+    private static final long SEGMENT_BYTES = 64L * AnswerJournal.RECORD_BYTES;
+
+    @TempDir
+    Path directory;
+
+    // ===========================[ snapshot() Unit Tests ]======================== \\
+    @Test
+    void testSnapshotDropsSegmentsAndRecovers() throws IOException {
+        // Arrange
+        SessionState live = new SessionState();
+        long sequence;
+        int segmentsBefore, segmentsAfter;
+        try (var journal   = AnswerJournal.open(directory, live, SEGMENT_BYTES, 1 << 12);
+             var compactor = JournalCompactor.start(journal, live, Duration.ofHours(1))) {
+            append(journal, 0, 1_000);
+            segmentsBefore = AnswerJournal.segments(directory).size();
+
+            // Act
+            sequence      = compactor.snapshot();
+            segmentsAfter = AnswerJournal.segments(directory).size();
+            append(journal, 1_000, 1_010);
+        }
+
+        SessionState recovered = new SessionState();
+        long next;
+        try (var journal = AnswerJournal.open(directory, recovered, SEGMENT_BYTES, 1 << 12)) {
+            next = journal.nextSequence();
+        }
+
+        // Assert
+        final long nextSequence = next;
+        assertAll("Compaction",
+                () -> assertEquals(1_000, sequence),
+                () -> assertTrue(segmentsBefore > 1),
+                () -> assertEquals(1, segmentsAfter, "Expected only the segment being written to remain."),
+                () -> assertEquals(1, JournalCompactor.snapshots(directory).size()),
+                () -> assertEquals(1_010, nextSequence),
+                () -> assertSameState(live, recovered)
+        );
+    }
+
+    @Test
+    void testSnapshotSkipsWhenJournalIsIdle() throws IOException {
+        // Arrange
+        SessionState state = new SessionState();
+        try (var journal   = AnswerJournal.open(directory, state);
+             var compactor = JournalCompactor.start(journal, state, Duration.ofHours(1))) {
+            append(journal, 0, 10);
+
+            // Act
+            long first    = compactor.snapshot();
+            Path snapshot = JournalCompactor.snapshots(directory).get(0);
+            long second   = compactor.snapshot();
+            append(journal, 10, 20);
+            long third    = compactor.snapshot();
+
+            // Assert
+            assertAll("Idle",
+                    () -> assertEquals(10, first),
+                    () -> assertEquals(10, second),
+                    () -> assertEquals(20, third),
+                    () -> assertFalse(Files.exists(snapshot), "Expected the older snapshot to be deleted."),
+                    () -> assertEquals(List.of(JournalCompactor.snapshotPath(directory, 20)), JournalCompactor.snapshots(directory))
+            );
+        }
+    }
+
+    @Test
+    void testSnapshotsWhileAppending() throws Exception {
+        // Arrange: one thread appends without pause while snapshots are taken
+        SessionState live = new SessionState();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        int snapshots = 0;
+        try (var journal   = AnswerJournal.open(directory, live, SEGMENT_BYTES * 16, 1 << 14);
+             var compactor = JournalCompactor.start(journal, live, Duration.ofHours(1))) {
+            Future<?> appender = executor.submit(() -> append(journal, 0, 200_000));
+
+            // Act
+            while (!appender.isDone()) {
+                compactor.snapshot();
+                snapshots++;
+            }
+
+            appender.get(60, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        SessionState recovered = new SessionState();
+        AnswerJournal.open(directory, recovered).close();
+
+        // Assert
+        assertTrue(snapshots > 0);
+        assertSameState(live, recovered);
+    }
+
+    @Test
+    void testPeriodicSnapshots() throws Exception {
+        // Arrange
+        SessionState state = new SessionState();
+        try (var journal   = AnswerJournal.open(directory, state);
+             var compactor = JournalCompactor.start(journal, state, Duration.ofMillis(20))) {
+            // Act
+            append(journal, 0, 100);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (compactor.snapshotSequence() < 100 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+
+            // Assert
+            assertAll("Periodic",
+                    () -> assertEquals(100, compactor.snapshotSequence()),
+                    () -> assertEquals(null, compactor.lastFailure()),
+                    () -> assertThrows(IllegalArgumentException.class, () -> JournalCompactor.start(journal, state, Duration.ZERO))
+            );
+        }
+    }
+
+    // ===========================[ Recovery Unit Tests ]========================== \\
+    @Test
+    void testDamagedSnapshotIsReported() throws IOException {
+        // Arrange
+        SessionState state = new SessionState();
+        try (var journal   = AnswerJournal.open(directory, state);
+             var compactor = JournalCompactor.start(journal, state, Duration.ofHours(1))) {
+            append(journal, 0, 10);
+            compactor.snapshot();
+        }
+
+        Path temp     = Files.createFile(directory.resolve("123.snapshot.tmp"));
+        Path snapshot = JournalCompactor.snapshots(directory).get(0);
+
+        // Act
+        try (var channel = FileChannel.open(snapshot, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0x7F}), 30);
+        }
+
+        // Assert
+        assertThrows(IOException.class, () -> AnswerJournal.open(directory, new SessionState()));
+        assertFalse(Files.exists(temp), "Expected a half written snapshot to be deleted.");
+    }
+
+    @Test
+    void testRecoveryRejectsNonEmptyStateAndMissingRecords() throws IOException {
+        // Arrange
+        SessionState state = new SessionState();
+        try (var journal   = AnswerJournal.open(directory, state, SEGMENT_BYTES, 1 << 12);
+             var compactor = JournalCompactor.start(journal, state, Duration.ofHours(1))) {
+            append(journal, 0, 100);
+            compactor.snapshot();
+            append(journal, 100, 1_000);
+        }
+
+        // Act: lose a segment after the snapshot that is not the newest, since
+        // a lost newest segment cannot be told apart from a torn tail
+        SessionState full = new SessionState();
+        full.record(0, 1, EXAM, 1, 1, 1);
+        var segments = AnswerJournal.segments(directory);
+        assertTrue(segments.size() >= 3, "Expected the appends to span several segments.");
+        Files.delete(segments.get(1));
+
+        // Assert
+        assertAll("Recovery",
+                () -> assertThrows(IllegalStateException.class, () -> AnswerJournal.open(directory, full)),
+                () -> assertThrows(IOException.class, () -> AnswerJournal.open(directory, new SessionState()))
+        );
+    }
+
+    // ==============================[ Benchmarks ]=============================== \\
+    @Test
+    @Tag("benchmark")
+    void testRecoveryFromSnapshotAgainstFullReplay(TestReporter reporter) throws IOException {
+        // Arrange: 4M answers, most of them replacing earlier answers of 200,000 pairs
+        final int records = 4_000_000;
+        try (var journal = AnswerJournal.open(directory, (t, u, e, c, o, m) -> {}, 8L << 20, 1 << 20)) {
+            CompletableFuture<Long> last = null;
+            for (int i = 0; i < records; i++) {
+                last = journal.append(i, i % 10_000, EXAM, 1 + i / 10_000 % 4, i / 40_000 % 5 + 1, i & 0xF);
+            }
+
+            last.join();
+        }
+
+        long segmentBytes = totalSize(AnswerJournal.segments(directory));
+
+        // Act: a full replay, then a snapshot, then recovery from the snapshot
+        SessionState replayed = new SessionState();
+        long replayStart      = System.nanoTime();
+        long replayNanos, snapshotNanos, sequence;
+        try (var journal = AnswerJournal.open(directory, replayed, 8L << 20, 1 << 20);
+             var compactor = JournalCompactor.start(journal, replayed, Duration.ofHours(1))) {
+            replayNanos       = System.nanoTime() - replayStart;
+            long snapshotStart = System.nanoTime();
+            sequence          = compactor.snapshot();
+            snapshotNanos     = System.nanoTime() - snapshotStart;
+        }
+
+        SessionState recovered = new SessionState();
+        long recoverStart      = System.nanoTime();
+        AnswerJournal.open(directory, recovered, 8L << 20, 1 << 20).close();
+        long recoverNanos = System.nanoTime() - recoverStart;
+
+        // Assert
+        assertEquals(records, sequence);
+        assertEquals(200_000, recovered.size());
+        assertSameState(replayed, recovered);
+        long snapshotBytes = totalSize(JournalCompactor.snapshots(directory));
+        reporter.publishEntry("full replay", "%d records (%d MB) in %d ms"
+                .formatted(records, segmentBytes >> 20, TimeUnit.NANOSECONDS.toMillis(replayNanos)));
+        reporter.publishEntry("snapshot", "%d answers (%d MB) written in %d ms"
+                .formatted(replayed.size(), snapshotBytes >> 20, TimeUnit.NANOSECONDS.toMillis(snapshotNanos)));
+        reporter.publishEntry("recovery", "from snapshot in %d ms, %d segment(s) left"
+                .formatted(TimeUnit.NANOSECONDS.toMillis(recoverNanos), AnswerJournal.segments(directory).size()));
+    }
+
+    // ============================[ Helper Methods ]============================ \\
+
+    /**
+     * Appends answers {@code from} to {@code to}: 500 users over 4 chapters of
+     * 20 questions, so later answers replace earlier ones.
+     */
+    private static Void append(AnswerJournal journal, int from, int to) {
+        CompletableFuture<Long> last = null;
+        for (int i = from; i < to; i++) {
+            last = journal.append(i, i % 500, EXAM, 1 + i / 500 % 4, i / 2_000 % 20 + 1, i * 31 & 0xFF);
+        }
+
+        if (last != null) {
+            last.join();
+        }
+
+        return null;
+    }
+
+    private static void assertSameState(SessionState expected, SessionState actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int user = 0; user < 10_000; user++) {
+            for (int chapter = 1; chapter <= 4; chapter++) {
+                for (int ordinal = 1; ordinal <= 20; ordinal++) {
+                    assertEquals(expected.answerMask(user, EXAM, chapter, ordinal), actual.answerMask(user, EXAM, chapter, ordinal));
+                    assertEquals(expected.answeredAt(user, EXAM, chapter, ordinal), actual.answeredAt(user, EXAM, chapter, ordinal));
+                }
+            }
+        }
+    }
+
+    private static long totalSize(Iterable<Path> files) throws IOException {
+        long size = 0;
+        for (Path file : files) {
+            size += Files.size(file);
+        }
+
+        return size;
+    }
+
+}
@@ -0,0 +1,250 @@
+package com.slinky.mockmate.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ *
+ * @author Kheagen Haskins
+ */
+public class LazyChapterTest {
+
+    private static final ExamCode EXAM = ExamCode.EXAM_CODE_1Z0_829;
+
+    // =======================[ getQuestion() Unit Tests ]======================== \\
+    @Test
+    void testGetQuestionDecodesOnlyThatQuestion() {
+        // Arrange
+        Exam exam         = Exam.loadExam(EXAM, new ChapterCache(4, 1_000));
+        Chapter eager     = Exam.loadExam(EXAM, new ChapterCache(4, 1_000)).loadChapter(1);
+
+        // Act
+        Chapter lazy      = exam.loadLazyChapter(1);
+        var pack          = ((LazyChapter) lazy).pack();
+        int before        = pack.decodedCount();
+        Question question = lazy.getQuestion(7);
+
+        // Assert
+        assertAll("Lazy decode",
+                () -> assertEquals(0, before, "Expected nothing to be decoded on load."),
+                () -> assertEquals(1, pack.decodedCount()),
+                () -> assertSame(question, lazy.getQuestion(7), "Expected the decoded question to be kept."),
+                () -> assertEquals(1, pack.decodeCount()),
+                () -> assertEquals(eager.getTitle(), lazy.getTitle()),
+                () -> assertEquals(eager.countQuestions(), lazy.countQuestions()),
+                () -> assertEquals(eager.getQuestion(7).questionText(), question.questionText()),
+                () -> assertEquals(eager.getQuestion(7).codeSnippet(), question.codeSnippet()),
+                () -> assertArrayEquals(eager.getQuestion(7).choices(), question.choices()),
+                () -> assertEquals(eager.getQuestion(7).answerMask(), question.answerMask())
+        );
+    }
+
+    @Test
+    void testGetQuestionInvalidOrdinal() {
+        Chapter lazy = Exam.loadExam(EXAM, new ChapterCache(4, 1_000)).loadLazyChapter(1);
+
+        assertAll("Invalid ordinals",
+                () -> assertThrows(IllegalArgumentException.class, () -> lazy.getQuestion(0)),
+                () -> assertThrows(IllegalArgumentException.class, () -> lazy.getQuestion(lazy.countQuestions() + 1)),
+                () -> assertThrows(IllegalArgumentException.class, () -> Exam.loadExam(EXAM).loadLazyChapter(0))
+        );
+    }
+
+    // ========================[ Navigation Unit Tests ]========================== \\
+    @Test
+    void testNavigationWrapsAndDecodesOnDemand() {
+        // Arrange
+        Chapter lazy = Exam.loadExam(EXAM, new ChapterCache(4, 1_000)).loadLazyChapter(1);
+        var pack     = ((LazyChapter) lazy).pack();
+        int count    = lazy.countQuestions();
+
+        // Act
+        Question first = lazy.nextQuestion();
+        Question last  = lazy.previousQuestion();
+        Question wrap  = lazy.previousQuestion();
+
+        // Assert
+        assertAll("Navigation",
+                () -> assertEquals(1, first.ordinal()),
+                () -> assertSame(first, last),
+                () -> assertEquals(count, wrap.ordinal()),
+                () -> assertEquals(2, pack.decodedCount())
+        );
+    }
+
+    @Test
+    void testCursorsAndChaptersShareDecodedQuestions() {
+        // Arrange
+        Exam exam       = Exam.loadExam(EXAM, new ChapterCache(4, 1_000));
+        Chapter first   = exam.loadLazyChapter(1);
+        Chapter second  = exam.loadLazyChapter(1);
+        ChapterCursor a = first.cursor();
+        ChapterCursor b = second.cursor();
+
+        // Act
+        a.seek(4);
+        Question fromCursor = a.next();
+        Question fromOther  = b.next();
+
+        // Assert
+        assertAll("Sharing",
+                () -> assertSame(((LazyChapter) first).pack(), ((LazyChapter) second).pack()),
+                () -> assertSame(fromCursor, second.getQuestion(5)),
+                () -> assertSame(fromOther, first.getAllQuestions().get(0)),
+                () -> assertEquals(5, a.position()),
+                () -> assertEquals(first.countQuestions(), first.getAllQuestions().size()),
+                () -> assertEquals(2, ((LazyChapter) first).pack().decodeCount())
+        );
+    }
+
+    @Test
+    void testModificationIsRejected() {
+        Chapter lazy = Exam.loadExam(EXAM, new ChapterCache(4, 1_000)).loadLazyChapter(1);
+
+        assertAll("Read only",
+                () -> assertThrows(UnsupportedOperationException.class, () -> lazy.addQuestion(lazy.getQuestion(1))),
+                () -> assertThrows(UnsupportedOperationException.class, () -> lazy.removeQuestion(1)),
+                () -> assertThrows(UnsupportedOperationException.class, () -> lazy.getAllQuestions().remove(0))
+        );
+    }
+
+    @Test
+    void testCachedChapterIsCopiedInstead() {
+        // Arrange
+        Exam exam = Exam.loadExam(EXAM, new ChapterCache(4, 1_000));
+        Chapter shared = exam.loadSharedChapter(1);
+
+        // Act
+        Chapter chapter = exam.loadLazyChapter(1);
+
+        // Assert
+        assertInstanceOf(ChapterData.class, chapter);
+        assertSame(shared.getQuestion(3), chapter.getQuestion(3));
+    }
+
+    @Test
+    void testConcurrentDecodesAgreeOnOneInstance() throws Exception {
+        // Arrange
+        final int threads = 8;
+        Exam exam         = Exam.loadExam(EXAM, new ChapterCache(4, 1_000));
+        Chapter lazy      = exam.loadLazyChapter(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start     = new CountDownLatch(1);
+
+        try {
+            // Act
+            List<CompletableFuture<Question>> reads = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                reads.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+
+                    return lazy.getQuestion(11);
+                }, executor));
+            }
+
+            start.countDown();
+
+            // Assert
+            Question expected = reads.get(0).get(10, TimeUnit.SECONDS);
+            for (var read : reads) {
+                assertSame(expected, read.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // ==============================[ Benchmarks ]=============================== \\
+    @Test
+    @Tag("benchmark")
+    void testTimeToFirstQuestion(TestReporter reporter) {
+        // Arrange
+        final int rounds = 2_000;
+        firstQuestion(false, 500);
+        firstQuestion(true, 500);
+
+        // Act
+        long eagerNanos = firstQuestion(false, rounds);
+        long lazyNanos  = firstQuestion(true, rounds);
+
+        // Assert
+        reporter.publishEntry("eager", "%.1f us to the first question".formatted(eagerNanos / 1_000.0 / rounds));
+        reporter.publishEntry("lazy", "%.1f us to the first question".formatted(lazyNanos / 1_000.0 / rounds));
+    }
+
+    @Test
+    @Tag("benchmark")
+    void testResidentHeap(TestReporter reporter) {
+        // Arrange: one chapter held per session, three questions visited
+        final int sessions = 500;
+        List<Chapter> held = new ArrayList<>(sessions);
+        long baseline      = HeapProbe.usedHeap();
+
+        // Act
+        for (int i = 0; i < sessions; i++) {
+            held.add(visit(Exam.loadExam(EXAM, new ChapterCache(4, 1_000)).loadChapter(1)));
+        }
+
+        long eagerBytes = HeapProbe.usedHeap() - baseline;
+        held.clear();
+        baseline        = HeapProbe.usedHeap();
+        for (int i = 0; i < sessions; i++) {
+            held.add(visit(Exam.loadExam(EXAM, new ChapterCache(4, 1_000)).loadLazyChapter(1)));
+        }
+
+        long lazyBytes = HeapProbe.usedHeap() - baseline;
+
+        // Assert
+        assertEquals(sessions, held.size());
+        int packBytes = ((LazyChapter) held.get(0)).pack().byteSize();
+        reporter.publishEntry("eager", "%d KB per session".formatted(eagerBytes / sessions >> 10));
+        reporter.publishEntry("lazy", "%d KB per session, %d KB of it the pack".formatted(lazyBytes / sessions >> 10, packBytes >> 10));
+    }
+
+    // ============================[ Helper Methods ]============================ \\
+
+    /**
+     * Loads chapter 1 of a fresh exam and reads its first question,
+     * {@code rounds} times.
+     */
+    private static long firstQuestion(boolean lazy, int rounds) {
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            Exam exam = Exam.loadExam(EXAM, new ChapterCache(4, 1_000));
+            Chapter chapter = lazy ? exam.loadLazyChapter(1) : exam.loadChapter(1);
+            if (chapter.nextQuestion().ordinal() != 1) {
+                throw new AssertionError();
+            }
+        }
+
+        return System.nanoTime() - start;
+    }
+
+    private static Chapter visit(Chapter chapter) {
+        chapter.getQuestion(1);
+        chapter.getQuestion(2);
+        chapter.getQuestion(3);
+        return chapter;
+    }
+
+}
@@ -0,0 +1,256 @@
+package com.slinky.mockmate.data;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ *
+ * @author Kheagen Haskins
+ */
+public class QuestionBankWatcherTest {
+
+    private static final ExamCode EXAM = ExamCode.EXAM_CODE_1Z0_829;
+
+    private static final Path SOURCE = Path.of("src/main/resources/json/exam-1Z0-829/chapter1");
+
+    private static final Duration DEBOUNCE = Duration.ofMillis(50);
+
+    @TempDir
+    Path root;
+
+    Path chapterDir;
+
+    ChapterCache cache;
+
+    Exam exam;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        chapterDir = Files.createDirectories(root.resolve("exam-1Z0-829/chapter1"));
+        try (Stream<Path> files = Files.list(SOURCE)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.copy(file, chapterDir.resolve(file.getFileName()));
+            }
+        }
+
+        cache = new ChapterCache(16, 10_000);
+        exam  = Exam.loadExam(EXAM, cache);
+    }
+
+    // ===========================[ Reload Unit Tests ]=========================== \\
+    @Test
+    void testEditSwapsInNewVersionAndKeepsOldReadersConsistent() throws Exception {
+        // Arrange
+        Chapter before       = exam.loadSharedChapter(1);
+        ChapterCursor cursor = before.cursor();
+        cursor.seek(2);
+        String oldText       = before.getQuestion(3).questionText();
+
+        try (var watcher = QuestionBankWatcher.start(root, cache, DEBOUNCE)) {
+            // Act
+            rewrite(3, "Which of the following are true?", "Which of these statements are true?");
+            awaitTrue(() -> watcher.reloadCount() >= 1);
+            Chapter after = exam.loadSharedChapter(1);
+
+            // Assert
+            assertAll("Reload",
+                    () -> assertEquals("Which of these statements are true? (Choose all that apply.)", after.getQuestion(3).questionText()),
+                    () -> assertEquals("Which of these statements are true? (Choose all that apply.)", exam.loadChapter(1).getQuestion(3).questionText()),
+                    () -> assertEquals(oldText, before.getQuestion(3).questionText(), "Expected the old version to be unchanged."),
+                    () -> assertEquals(oldText, cursor.next().questionText(), "Expected the cursor to keep the old version."),
+                    () -> assertSame(before.getQuestion(1), after.getQuestion(1), "Expected unchanged questions to be carried over."),
+                    () -> assertEquals(1, watcher.parseCount(), "Expected only the edited file to be parsed."),
+                    () -> assertEquals(before.countQuestions(), after.countQuestions()),
+                    () -> assertNull(watcher.lastFailure())
+            );
+        }
+    }
+
+    @Test
+    void testChapterNotYetLoadedIsReadInFull() throws Exception {
+        try (var watcher = QuestionBankWatcher.start(root, cache, DEBOUNCE)) {
+            // Act
+            rewrite(2, "\"questionText\": \"", "\"questionText\": \"Edited: ");
+            awaitTrue(() -> watcher.reloadCount() >= 1);
+            Chapter chapter = exam.loadSharedChapter(1);
+
+            // Assert
+            assertAll("Full read",
+                    () -> assertTrue(chapter.getQuestion(2).questionText().startsWith("Edited: ")),
+                    () -> assertEquals(23, watcher.parseCount()),
+                    () -> assertEquals(0, cache.missCount(), "Expected the reloaded version to be served.")
+            );
+        }
+    }
+
+    @Test
+    void testDeletedQuestionAndTitleChange() throws Exception {
+        // Arrange
+        Chapter before = exam.loadSharedChapter(1);
+
+        try (var watcher = QuestionBankWatcher.start(root, cache, DEBOUNCE)) {
+            // Act
+            Files.delete(chapterDir.resolve("q23.json"));
+            Files.writeString(chapterDir.resolve(ExamSources.META_FILE), "{\"title\": \"Building Blocks, Revised\"}");
+            awaitTrue(() -> watcher.reloadCount() >= 1);
+            Chapter after = exam.loadSharedChapter(1);
+
+            // Assert
+            assertAll("Delete",
+                    () -> assertEquals(22, after.countQuestions()),
+                    () -> assertThrows(IllegalArgumentException.class, () -> after.getQuestion(23)),
+                    () -> assertEquals("Building Blocks, Revised", after.getTitle()),
+                    () -> assertEquals(23, before.countQuestions()),
+                    () -> assertEquals(0, watcher.parseCount())
+            );
+        }
+    }
+
+    @Test
+    void testMalformedEditKeepsCurrentVersion() throws Exception {
+        // Arrange
+        Chapter before = exam.loadSharedChapter(1);
+
+        try (var watcher = QuestionBankWatcher.start(root, cache, DEBOUNCE)) {
+            // Act
+            Files.writeString(chapterDir.resolve("q3.json"), "{\"ordinal\": \"3\", \"questionText\": ");
+            awaitTrue(() -> watcher.lastFailure() != null);
+            Chapter during = exam.loadSharedChapter(1);
+
+            rewrite(4, "\"ordinal\": \"4\"", "\"ordinal\": \"5\"");
+            awaitTrue(() -> watcher.parseCount() >= 1);
+            Chapter wrongOrdinal = exam.loadSharedChapter(1);
+
+            Files.copy(SOURCE.resolve("q3.json"), chapterDir.resolve("q3.json"), StandardCopyOption.REPLACE_EXISTING);
+            Files.copy(SOURCE.resolve("q4.json"), chapterDir.resolve("q4.json"), StandardCopyOption.REPLACE_EXISTING);
+            awaitTrue(() -> watcher.reloadCount() >= 1);
+
+            // Assert
+            assertAll("Malformed",
+                    () -> assertSame(version(before), version(during), "Expected the current version to stay in place."),
+                    () -> assertSame(version(before), version(wrongOrdinal), "Expected a file holding another question to be rejected."),
+                    () -> assertNull(watcher.lastFailure(), "Expected the fixed files to clear the failure."),
+                    () -> assertEquals(23, exam.loadSharedChapter(1).countQuestions())
+            );
+        }
+    }
+
+    @Test
+    void testFailedBatchKeepsItsOtherEdits() throws Exception {
+        // Arrange
+        Chapter before = exam.loadSharedChapter(1);
+
+        try (var watcher = QuestionBankWatcher.start(root, cache, DEBOUNCE)) {
+            // Act: one batch holds a good edit and a malformed file
+            rewrite(2, "\"questionText\": \"", "\"questionText\": \"Edited: ");
+            Files.writeString(chapterDir.resolve("q3.json"), "{\"ordinal\": \"3\", \"questionText\": ");
+            awaitTrue(() -> watcher.lastFailure() != null);
+            Chapter during = exam.loadSharedChapter(1);
+
+            Files.copy(SOURCE.resolve("q3.json"), chapterDir.resolve("q3.json"), StandardCopyOption.REPLACE_EXISTING);
+            awaitTrue(() -> watcher.reloadCount() >= 1 && watcher.lastFailure() == null);
+            Chapter after = exam.loadSharedChapter(1);
+
+            // Assert
+            assertAll("Retried batch",
+                    () -> assertSame(version(before), version(during), "Expected the current version to stay in place."),
+                    () -> assertTrue(after.getQuestion(2).questionText().startsWith("Edited: "), "Expected the good edit to survive the failure."),
+                    () -> assertEquals(before.getQuestion(3).questionText(), after.getQuestion(3).questionText()),
+                    () -> assertEquals(1, watcher.reloadCount())
+            );
+        }
+    }
+
+    @Test
+    void testBurstOfWritesIsDebounced() throws Exception {
+        // Arrange
+        exam.loadSharedChapter(1);
+
+        try (var watcher = QuestionBankWatcher.start(root, cache, Duration.ofMillis(200))) {
+            // Act
+            String original = Files.readString(SOURCE.resolve("q3.json"));
+            for (int i = 0; i < 10; i++) {
+                Files.writeString(chapterDir.resolve("q3.json"), original.replace("apply.", "apply" + i + "."));
+                Thread.sleep(5);
+            }
+
+            awaitTrue(() -> exam.loadSharedChapter(1).getQuestion(3).questionText().contains("apply9"));
+            Thread.sleep(400);
+
+            // Assert
+            assertTrue(watcher.reloadCount() <= 2, "Expected the burst to be batched but got " + watcher.reloadCount());
+        }
+    }
+
+    @Test
+    void testStartRejectsInvalidArguments() {
+        assertAll("Invalid arguments",
+                () -> assertThrows(NullPointerException.class, () -> QuestionBankWatcher.start(null, cache, DEBOUNCE)),
+                () -> assertThrows(NullPointerException.class, () -> QuestionBankWatcher.start(root, null, DEBOUNCE)),
+                () -> assertThrows(IllegalArgumentException.class, () -> QuestionBankWatcher.start(root, cache, Duration.ZERO))
+        );
+    }
+
+    // ==============================[ Benchmarks ]=============================== \\
+    @Test
+    @Tag("benchmark")
+    void testReloadLatency(TestReporter reporter) throws Exception {
+        // Arrange
+        exam.loadSharedChapter(1);
+
+        try (var watcher = QuestionBankWatcher.start(root, cache, DEBOUNCE)) {
+            // Act
+            long start = System.nanoTime();
+            rewrite(3, "Which of the following are true?", "Which of these are true?");
+            awaitTrue(() -> watcher.reloadCount() >= 1);
+            long nanos = System.nanoTime() - start;
+
+            // Assert
+            assertEquals(1, watcher.parseCount());
+            reporter.publishEntry("reload", "edit visible after %d ms with a %d ms debounce"
+                    .formatted(TimeUnit.NANOSECONDS.toMillis(nanos), DEBOUNCE.toMillis()));
+        }
+    }
+
+    // ============================[ Helper Methods ]============================ \\
+
+    private void rewrite(int ordinal, String target, String replacement) throws IOException {
+        Path file = chapterDir.resolve("q" + ordinal + ".json");
+        Files.writeString(file, Files.readString(file).replace(target, replacement));
+    }
+
+    private static ChapterData version(Chapter shared) {
+        return ((SharedChapter) shared).chapter();
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(20);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Timed out waiting for a reload");
+            }
+
+            Thread.sleep(10);
+        }
+    }
+
+}
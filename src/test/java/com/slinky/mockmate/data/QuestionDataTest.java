@@ -39,8 +39,22 @@ public class QuestionDataTest {
                 () -> assertEquals(ORDINAL, testQuestion.ordinal()),
                 () -> assertEquals(Q_TEXT,  testQuestion.questionText()),
                 () -> assertEquals(CODE,    testQuestion.codeSnippet()),
-                () -> assertEquals(ANSWERS, testQuestion.answers()),
-                () -> assertEquals(CHOICES, testQuestion.choices())
+                () -> assertArrayEquals(ANSWERS, testQuestion.answers()),
+                () -> assertArrayEquals(CHOICES, testQuestion.choices())
+        );
+    }
+
+    @Test
+    public void testEqualityIgnoresDerivedState() {
+        // Arrange
+        Question same   = new QuestionData(ORDINAL, Q_TEXT, CODE, CHOICES, ANSWERS);
+        Question copied = new QuestionData(ORDINAL, Q_TEXT, CODE, CHOICES.clone(), ANSWERS);
+
+        // Act & Assert
+        assertAll("Equality",
+                () -> assertEquals(testQuestion, same),
+                () -> assertEquals(testQuestion.hashCode(), same.hashCode()),
+                () -> assertNotEquals(testQuestion, copied, "Expected arrays to be compared by identity.")
         );
     }
 
@@ -191,8 +205,68 @@ public class QuestionDataTest {
                 () -> testQuestion.countCorrect(null),
                 "Expected NullPointerException for null answers array.");
     }
-    
-    
+
+    // ==========================[ score() Unit Tests ]=========================== \\
+    @Test
+    public void testAnswerMaskMatchesAnswers() {
+        assertEquals(0b111, testQuestion.answerMask(), "Expected bits A, B and C to be set.");
+    }
+
+    @Test
+    public void testAccessorsReturnCopies() {
+        // Act
+        testQuestion.choices()[0] = "Z. Changed";
+        testQuestion.answers()[0] = 'Z';
+
+        // Assert
+        assertAll("Defensive copies",
+                () -> assertNotSame(testQuestion.choices(), testQuestion.choices()),
+                () -> assertArrayEquals(CHOICES, testQuestion.choices()),
+                () -> assertArrayEquals(ANSWERS, testQuestion.answers()),
+                () -> assertEquals(0b111, testQuestion.answerMask())
+        );
+    }
+
+    @Test
+    public void testScoreAllOrNothing() {
+        ScoringPolicy policy = ScoringPolicy.allOrNothing();
+
+        assertAll("All or nothing",
+                () -> assertEquals(1.0, testQuestion.score(new char[]{'c', 'A', 'B'}, policy)),
+                () -> assertEquals(0.0, testQuestion.score(new char[]{'A', 'B'}, policy)),
+                () -> assertEquals(0.0, testQuestion.score(new char[]{'A', 'B', 'C', 'D'}, policy))
+        );
+    }
+
+    @Test
+    public void testScorePartialCredit() {
+        ScoringPolicy policy = ScoringPolicy.partialCredit();
+
+        assertAll("Partial credit",
+                () -> assertEquals(1.0,       testQuestion.score(new char[]{'A', 'B', 'C'}, policy)),
+                () -> assertEquals(2.0 / 3.0, testQuestion.score(new char[]{'A', 'B'}, policy), 1e-9),
+                () -> assertEquals(1.0 / 3.0, testQuestion.score(new char[]{'A', 'B', 'D'}, policy), 1e-9),
+                () -> assertEquals(0.0,       testQuestion.score(new char[]{'A', 'B', 'C', 'D', 'E', 'F', 'G', 'H'}, policy))
+        );
+    }
+
+    @Test
+    public void testScoreNegativeMarking() {
+        ScoringPolicy policy = ScoringPolicy.negativeMarking(0.5);
+
+        assertAll("Negative marking",
+                () -> assertEquals(1.0,        testQuestion.score(new char[]{'A', 'B', 'C'}, policy)),
+                () -> assertEquals(0.5,        testQuestion.score(new char[]{'A', 'B', 'D'}, policy), 1e-9),
+                () -> assertEquals(-1.0 / 3.0, testQuestion.score(new char[]{'D', 'E'}, policy), 1e-9),
+                () -> assertEquals(-1.0 / 6.0, testQuestion.score(new char[]{'?'}, policy), 1e-9)
+        );
+    }
+
+    @Test
+    public void testNegativeMarkingRejectsNegativePenalty() {
+        assertThrows(IllegalArgumentException.class, () -> ScoringPolicy.negativeMarking(-1));
+    }
+
     // =======================[ getOrdinalOf() Unit Tests ]======================= \\
     @Test
     public void testGetOrdinalOfValidAnswer() {
@@ -264,4 +338,44 @@ public class QuestionDataTest {
         assertEquals('A', ordinal, "Expected 'A' for the first matching choice.");
     }
 
+    @Test
+    public void testGetOrdinalOfBareChoiceText() {
+        assertAll("Bare choice text",
+                () -> assertEquals('A', testQuestion.getOrdinalOf("It prints q1=blue.")),
+                () -> assertEquals('H', testQuestion.getOrdinalOf("  none of the ABOVE. ")),
+                () -> assertEquals('E', testQuestion.getOrdinalOf("e. line 4 does not compile.")),
+                () -> assertEquals(0,   testQuestion.getOrdinalOf("It prints"))
+        );
+    }
+
+    @Test
+    public void testGetOrdinalOfPrefersPrefixedChoice() {
+        // Arrange: the bare text of choice B is choice A as written
+        Question question = new QuestionData(1, "Q?", null, new String[]{"A. Yes", "B. A. Yes"}, new char[]{'A'});
+
+        // Act & Assert
+        assertAll("Ambiguous choices",
+                () -> assertEquals('A', question.getOrdinalOf("a. yes")),
+                () -> assertEquals('A', question.getOrdinalOf("Yes")),
+                () -> assertEquals('B', question.getOrdinalOf("B. A. Yes"))
+        );
+    }
+
+    @Test
+    public void testGetOrdinalsOf() {
+        // Arrange
+        String[] answers = {"It prints q2=1200.", "Not a choice", "G. Line 13 does not compile."};
+        char[] ordinals  = new char[4];
+
+        // Act
+        int matched = testQuestion.getOrdinalsOf(answers, ordinals);
+
+        // Assert
+        assertAll("Batch lookup",
+                () -> assertEquals(2, matched),
+                () -> assertArrayEquals(new char[]{'B', 0, 'G', 0}, ordinals),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> testQuestion.getOrdinalsOf(answers, new char[2]))
+        );
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,177 @@
+package com.slinky.mockmate.data;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ *
+ * @author Kheagen Haskins
+ */
+public class QuestionReaderTest {
+
+    private static final String CHAPTER_DIR = "/json/exam-1Z0-829/chapter1/";
+
+    // ==========================[ read() Unit Tests ]============================ \\
+    @ParameterizedTest
+    @MethodSource("bundledQuestions")
+    void testReadMatchesDatabind(int number) throws IOException {
+        // Arrange
+        String path = CHAPTER_DIR + "q%d.json".formatted(number);
+        QuestionData expected;
+        try (InputStream in = getClass().getResourceAsStream(path)) {
+            expected = new ObjectMapper().readValue(in, QuestionData.class);
+        }
+
+        // Act
+        QuestionData actual = QuestionReader.shared().read(getClass().getResourceAsStream(path));
+
+        // Assert
+        assertAll("Streaming reader agrees with databind for " + path,
+                () -> assertEquals(expected.ordinal(),      actual.ordinal()),
+                () -> assertEquals(expected.questionText(), actual.questionText()),
+                () -> assertEquals(expected.codeSnippet(),  actual.codeSnippet()),
+                () -> assertArrayEquals(expected.choices(), actual.choices()),
+                () -> assertArrayEquals(expected.answers(), actual.answers())
+        );
+    }
+
+    static IntStream bundledQuestions() {
+        return IntStream.rangeClosed(1, 23);
+    }
+
+    @Test
+    void testReadNumericOrdinalAndUnknownFields() throws IOException {
+        // Arrange
+        String json = """
+                {
+                  "ordinal": 7,
+                  "difficulty": { "level": [1, 2] },
+                  "questionText": "Pick one.",
+                  "choices": ["A. Yes", "B. No"],
+                  "answers": ["B"]
+                }
+                """;
+
+        // Act
+        QuestionData question = read(json);
+
+        // Assert
+        assertAll("Lenient decoding",
+                () -> assertEquals(7, question.ordinal()),
+                () -> assertNull(question.codeSnippet()),
+                () -> assertArrayEquals(new String[]{"A. Yes", "B. No"}, question.choices()),
+                () -> assertArrayEquals(new char[]{'B'}, question.answers())
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "[]",
+        "{\"ordinal\": \"1\", \"questionText\": \"Q?\", \"answers\": \"A\"}",
+        "{\"ordinal\": \"1\", \"questionText\": \"Q?\", \"answers\": [\"AB\"]}",
+        "{\"ordinal\": \"1\", \"questionText\": \"Q?\", \"answers\": [\"A\"]"
+    })
+    void testReadMalformedDocument(String json) {
+        assertThrows(IOException.class, () -> read(json));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "{\"ordinal\": \"0\", \"questionText\": \"Q?\", \"answers\": [\"A\"]}",
+        "{\"ordinal\": \"1\", \"answers\": [\"A\"]}",
+        "{\"ordinal\": \"1\", \"questionText\": \"Q?\", \"answers\": []}"
+    })
+    void testReadInvalidQuestion(String json) {
+        assertThrows(IllegalArgumentException.class, () -> read(json));
+    }
+
+    @Test
+    void testReadMissingResource() {
+        assertThrows(IOException.class, () -> QuestionReader.shared().read((InputStream) null));
+    }
+
+    // ==============================[ Benchmarks ]=============================== \\
+    @Test
+    @Tag("benchmark")
+    void testStreamingReadAgainstDatabind(TestReporter reporter) throws IOException {
+        // Arrange: the questions of chapter 1, read from memory so only parsing is timed
+        final int rounds = 5_000;
+        byte[][] files   = new byte[23][];
+        for (int i = 0; i < files.length; i++) {
+            try (InputStream in = getClass().getResourceAsStream(CHAPTER_DIR + "q%d.json".formatted(i + 1))) {
+                files[i] = in.readAllBytes();
+            }
+        }
+
+        // Warm up both paths so the JIT settles before measuring
+        long expected = databindRounds(files, rounds);
+        long actual   = streamingRounds(files, rounds);
+
+        // Act
+        long start     = System.nanoTime();
+        databindRounds(files, rounds);
+        long databind  = System.nanoTime() - start;
+
+        start          = System.nanoTime();
+        streamingRounds(files, rounds);
+        long streaming = System.nanoTime() - start;
+
+        // Assert
+        long questions = (long) rounds * files.length;
+        assertEquals(expected, actual, "Expected both readers to decode the same questions.");
+        reporter.publishEntry("parse", "ns per question: databind %d, streaming %d (%.1fx)"
+                .formatted(databind / questions, streaming / questions, (double) databind / streaming));
+    }
+
+    // ============================[ Helper Methods ]============================ \\
+    private static QuestionData read(String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        return QuestionReader.shared().read(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Parses every file once per round the way chapters were loaded before the
+     * streaming reader: one {@link ObjectMapper} per chapter, binding each
+     * file to {@link QuestionData}.
+     */
+    private static long databindRounds(byte[][] files, int rounds) throws IOException {
+        long checksum = 0;
+        for (int r = 0; r < rounds; r++) {
+            ObjectMapper mapper = new ObjectMapper();
+            for (byte[] file : files) {
+                checksum += mapper.readValue(file, QuestionData.class).choices().length;
+            }
+        }
+
+        return checksum;
+    }
+
+    private static long streamingRounds(byte[][] files, int rounds) throws IOException {
+        long checksum = 0;
+        for (int r = 0; r < rounds; r++) {
+            for (byte[] file : files) {
+                checksum += QuestionReader.shared().read(file, 0, file.length).choices().length;
+            }
+        }
+
+        return checksum;
+    }
+
+}
@@ -0,0 +1,192 @@
+package com.slinky.mockmate.data;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ *
+ * @author Kheagen Haskins
+ */
+public class RenderCacheTest {
+
+    // =========================[ Constructor Unit Tests ]========================= \\
+    @Test
+    void testConstructorInvalidLimits() {
+        assertAll("Invalid limits",
+                () -> assertThrows(IllegalArgumentException.class, () -> new RenderCache(0, 10)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new RenderCache(10, 0))
+        );
+    }
+
+    // =========================[ render() Unit Tests ]=========================== \\
+    @Test
+    void testRenderCountsHitsAndMisses() {
+        // Arrange
+        RenderCache cache = new RenderCache(16, 1 << 20);
+        Question question = question(1);
+
+        // Act
+        String first  = cache.render(question, RenderStyle.FULL);
+        String second = cache.render(question, RenderStyle.FULL);
+
+        // Assert
+        assertAll("Hit and miss accounting",
+                () -> assertSame(first, second, "Expected the cached text to be returned on a hit."),
+                () -> assertEquals(RenderStyle.FULL.render(question), first),
+                () -> assertEquals(1, cache.hitCount()),
+                () -> assertEquals(1, cache.missCount()),
+                () -> assertEquals(3L * first.length(), cache.weight(), "Expected two bytes per char plus the ASCII encoding.")
+        );
+    }
+
+    @Test
+    void testRenderKeysByIdentityAndStyle() {
+        // Arrange
+        RenderCache cache = new RenderCache(16, 1 << 20);
+        Question question = question(1);
+        Question equal    = question(1);
+
+        // Act
+        String full   = cache.render(question, RenderStyle.FULL);
+        String prompt = cache.render(question, RenderStyle.PROMPT);
+        cache.render(equal, RenderStyle.FULL);
+
+        // Assert
+        assertAll("Keys",
+                () -> assertEquals(3, cache.size()),
+                () -> assertEquals(3, cache.missCount()),
+                () -> assertTrue(full.contains("answers: [A]")),
+                () -> assertFalse(prompt.contains("answers:"), "Expected the prompt to hide the answers.")
+        );
+    }
+
+    @Test
+    void testRenderSharesEntriesBetweenViewsOfABundledQuestion() throws IOException {
+        // Arrange: two bundles over one buffer hand out distinct views of a record
+        RenderCache cache      = new RenderCache(16, 1 << 20);
+        ExamBundle bundle      = ExamBundle.load(ExamCode.EXAM_CODE_1Z0_829);
+        BundledQuestion first  = (BundledQuestion) bundle.question(0);
+        BundledQuestion second = (BundledQuestion) ExamBundle.wrap(first.buffer()).question(0);
+
+        // Act
+        String once  = cache.render(first, RenderStyle.FULL);
+        String twice = cache.render(second, RenderStyle.FULL);
+
+        // Assert
+        assertAll("Bundled keys",
+                () -> assertNotSame(first, second),
+                () -> assertSame(once, twice, "Expected the second view to hit the first view's entry."),
+                () -> assertEquals(1, cache.hitCount()),
+                () -> assertEquals(1, cache.size())
+        );
+    }
+
+    @Test
+    void testRenderEvictsLeastRecentlyUsed() {
+        // Arrange
+        RenderCache cache = new RenderCache(2, 1 << 20);
+        Question q1 = question(1), q2 = question(2), q3 = question(3);
+        cache.render(q1, RenderStyle.FULL);
+        cache.render(q2, RenderStyle.FULL);
+        cache.render(q1, RenderStyle.FULL); // Touch question 1
+
+        // Act
+        cache.render(q3, RenderStyle.FULL);
+        cache.render(q1, RenderStyle.FULL);
+
+        // Assert
+        assertAll("LRU eviction",
+                () -> assertEquals(2, cache.size()),
+                () -> assertEquals(1, cache.evictionCount(), "Expected question 2 to be evicted."),
+                () -> assertEquals(3, cache.missCount(), "Expected question 1 to survive eviction.")
+        );
+    }
+
+    @Test
+    void testRenderEvictsByWeight() {
+        // Arrange: room for one rendering only
+        Question q1       = question(1);
+        long oneRendering = 3L * RenderStyle.FULL.render(q1).length();
+        RenderCache cache = new RenderCache(16, oneRendering + 1);
+
+        // Act
+        cache.render(q1, RenderStyle.FULL);
+        cache.render(question(2), RenderStyle.FULL);
+
+        // Assert
+        assertAll("Weight eviction",
+                () -> assertEquals(1, cache.size()),
+                () -> assertEquals(1, cache.evictionCount()),
+                () -> assertTrue(cache.weight() <= oneRendering + 1)
+        );
+    }
+
+    @Test
+    void testRenderUtf8() {
+        // Arrange
+        RenderCache cache = new RenderCache(16, 1 << 20);
+        Question question = new QuestionData(1, "Qu'est-ce que ça imprime ?", null, new String[]{"A. Ça"}, new char[]{'A'});
+
+        // Act
+        ByteBuffer utf8 = cache.renderUtf8(question, RenderStyle.PROMPT);
+
+        // Assert
+        assertAll("UTF-8 rendering",
+                () -> assertTrue(utf8.isReadOnly()),
+                () -> assertEquals(cache.render(question, RenderStyle.PROMPT), StandardCharsets.UTF_8.decode(utf8).toString()),
+                () -> assertEquals(1, cache.missCount())
+        );
+    }
+
+    @Test
+    void testChapterToStringUsesRenderings() {
+        // Arrange
+        ChapterData chapter = new ChapterData(1, "Chapter");
+        Question question   = question(1);
+        chapter.addQuestion(question);
+
+        // Act & Assert
+        assertEquals("Chapter 1: Chapter\n" + System.lineSeparator() + RenderStyle.FULL.render(question), chapter.toString());
+        assertSame(question.toString(), RenderCache.shared().render(question, RenderStyle.FULL));
+    }
+
+    // ========================[ RenderStyle Unit Tests ]========================= \\
+    @Test
+    void testRenderToMatchesRender() {
+        // Arrange
+        Question question = new QuestionData(12, "Qu'est-ce que ça imprime ?", "1: int x;", new String[]{"A. Ça", "B. Rien"}, new char[]{'A', 'B'});
+        ByteBuffer buffer = ByteBuffer.allocate(1_024);
+
+        // Act
+        String expected = RenderStyle.FULL.render(question);
+        String written  = RenderStyle.FULL.renderTo(question, new StringWriter()).toString();
+        RenderStyle.FULL.renderTo(question, buffer).flip();
+
+        // Assert
+        assertAll("Streaming renderers",
+                () -> assertTrue(expected.startsWith("12.\tQu'est-ce que ça imprime ?\n\n1:\t int x;\n")),
+                () -> assertTrue(expected.endsWith("\nanswers: [A, B]\n")),
+                () -> assertEquals(expected, written),
+                () -> assertEquals(expected, StandardCharsets.UTF_8.decode(buffer).toString())
+        );
+    }
+
+    // ============================[ Helper Methods ]============================ \\
+
+    private static Question question(int ordinal) {
+        return new QuestionData(ordinal, "Question " + ordinal + "?", "1: int x;\n2: x++;", new String[]{"A. Yes", "B. No"}, new char[]{'A'});
+    }
+
+}
@@ -0,0 +1,136 @@
+package com.slinky.mockmate.data;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ *
+ * @author Kheagen Haskins
+ */
+public class ResourceIndexTest {
+
+    private static final ExamCode VALID_EXAM_CODE = ExamCode.EXAM_CODE_1Z0_829;
+
+    @Test
+    void testClasspathIndexListsExamResources() throws IOException {
+        // Arrange
+        ExamManifest exam = ResourceIndex.get().exam(VALID_EXAM_CODE);
+        ExamManifest.ChapterManifest chapter = exam.chapter(1);
+        ExamManifest.QuestionEntry second = chapter.questions().get(1);
+
+        // Act
+        byte[] bytes;
+        try (InputStream in = getClass().getResourceAsStream(second.file().path())) {
+            bytes = in.readAllBytes();
+        }
+
+        byte[] pack;
+        try (InputStream in = getClass().getResourceAsStream(chapter.pack().path())) {
+            pack = in.readAllBytes();
+        }
+
+        // Assert
+        assertAll("Classpath index",
+                () -> assertTrue(exam.chapterCount() > 0),
+                () -> assertEquals("Building Blocks", chapter.title()),
+                () -> assertEquals("/json/exam-1Z0-829/chapter1/meta.json", chapter.meta().path()),
+                () -> assertEquals(23, chapter.questionCount()),
+                () -> assertEquals("/json/exam-1Z0-829/chapter1/q2.json", second.file().path()),
+                () -> assertEquals(bytes.length, second.length()),
+                () -> assertEquals(64, second.file().sha256().length()),
+                () -> assertEquals(pack.length, chapter.pack().size()),
+                () -> assertArrayEquals(bytes, Arrays.copyOfRange(pack, second.offset(), second.offset() + second.length()))
+        );
+    }
+
+    @Test
+    void testUnknownExamAndChapter() {
+        ResourceIndex index = ResourceIndex.get();
+        assertAll("Unknown entries",
+                () -> assertFalse(index.contains(ExamCode.EXAM_CODE_1Z0_866)),
+                () -> assertThrows(IllegalArgumentException.class, () -> index.exam(ExamCode.EXAM_CODE_1Z0_866)),
+                () -> assertThrows(IllegalArgumentException.class, () -> index.exam(VALID_EXAM_CODE).chapter(0)),
+                () -> assertThrows(IllegalArgumentException.class, () -> Exam.loadExam(ExamCode.EXAM_CODE_1Z0_866))
+        );
+    }
+
+    @Test
+    void testCompileRoundTrip(@TempDir Path tempDir) throws IOException {
+        // Arrange
+        Path chapterDir = Files.createDirectories(tempDir.resolve("exam-1Z0-829/chapter1"));
+        Files.writeString(chapterDir.resolve("meta.json"), "{\"title\": \"Test\", \"questionCount\": \"2\"}");
+        Files.writeString(chapterDir.resolve("q1.json"), "{}");
+        Files.writeString(chapterDir.resolve("q2.json"), "{ }");
+        Files.writeString(chapterDir.resolve("notes.txt"), "ignored");
+        Path indexFile = tempDir.resolve("index.json");
+
+        // Act
+        ResourceIndexCompiler.compile(tempDir, indexFile);
+        ResourceIndex index;
+        try (InputStream in = Files.newInputStream(indexFile)) {
+            index = ResourceIndex.read(in);
+        }
+
+        // Assert
+        ExamManifest.ChapterManifest chapter = index.exam(VALID_EXAM_CODE).chapter(1);
+        Path pack = chapterDir.resolve(ExamSources.PACK_FILE);
+        assertAll("Compiled index",
+                () -> assertEquals(1, index.exam(VALID_EXAM_CODE).chapterCount()),
+                () -> assertEquals("Test", chapter.title()),
+                () -> assertEquals(2, chapter.questionCount()),
+                () -> assertEquals("/json/exam-1Z0-829/chapter1/q2.json", chapter.questions().get(1).file().path()),
+                () -> assertEquals(3, chapter.questions().get(1).length()),
+                () -> assertEquals(2, chapter.questions().get(1).offset()),
+                () -> assertEquals(ResourceIndexCompiler.sha256(chapterDir.resolve("q1.json")), chapter.questions().get(0).file().sha256()),
+                () -> assertEquals("{}{ }", Files.readString(pack)),
+                () -> assertEquals(ResourceIndexCompiler.sha256(pack), chapter.contentHash())
+        );
+    }
+
+    @Test
+    void testCompileRejectsGaps(@TempDir Path tempDir) throws IOException {
+        // Arrange
+        Path chapterDir = Files.createDirectories(tempDir.resolve("exam-TEST/chapter1"));
+        Files.writeString(chapterDir.resolve("meta.json"), "{\"title\": \"Test\"}");
+        Files.writeString(chapterDir.resolve("q1.json"), "{}");
+        Files.writeString(chapterDir.resolve("q3.json"), "{}");
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> ResourceIndexCompiler.compile(tempDir, tempDir.resolve("index.json")));
+    }
+
+    @Test
+    void testCompileRejectsWrongQuestionCount(@TempDir Path tempDir) throws IOException {
+        // Arrange
+        Path chapterDir = Files.createDirectories(tempDir.resolve("exam-TEST/chapter1"));
+        Files.writeString(chapterDir.resolve("meta.json"), "{\"title\": \"Test\", \"questionCount\": \"3\"}");
+        Files.writeString(chapterDir.resolve("q1.json"), "{}");
+        Files.writeString(chapterDir.resolve("q2.json"), "{}");
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> ResourceIndexCompiler.compile(tempDir, tempDir.resolve("index.json")));
+    }
+
+    @Test
+    void testReadRejectsUnknownVersion() {
+        InputStream in = new ByteArrayInputStream("{\"version\": 99}".getBytes(StandardCharsets.UTF_8));
+        assertThrows(IOException.class, () -> ResourceIndex.read(in));
+    }
+
+}
@@ -0,0 +1,201 @@
+package com.slinky.mockmate.data;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ *
+ * @author Kheagen Haskins
+ */
+public class ReviewSchedulerTest {
+
+    private static final long NOW = TimeUnit.DAYS.toMillis(20_000);
+    private static final long DAY = TimeUnit.DAYS.toMillis(1);
+
+    // =========================[ Constructor Unit Tests ]========================= \\
+    @Test
+    void testConstructorInvalidLimit() {
+        assertAll("Invalid limits",
+                () -> assertThrows(IllegalArgumentException.class, () -> new ReviewScheduler(0)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new ReviewScheduler(Integer.MAX_VALUE))
+        );
+    }
+
+    // =========================[ record() Unit Tests ]=========================== \\
+    @Test
+    void testCorrectAnswersGrowTheInterval() {
+        // Arrange
+        ReviewScheduler scheduler = new ReviewScheduler(16);
+
+        // Act
+        scheduler.record(0, 7, true, NOW);
+        long first = scheduler.intervalMillis(0, 7);
+        scheduler.record(0, 7, true, NOW + first);
+        long second = scheduler.intervalMillis(0, 7);
+        scheduler.record(0, 7, true, NOW + first + second);
+        long third = scheduler.intervalMillis(0, 7);
+
+        // Assert
+        assertAll("Growing intervals",
+                () -> assertEquals(DAY, first),
+                () -> assertTrue(second > first && third > second),
+                () -> assertEquals(NOW + first + second + third, scheduler.dueAt(0, 7)),
+                () -> assertEquals(2.65, scheduler.ease(0, 7), 1e-9)
+        );
+    }
+
+    @Test
+    void testWrongAnswerComesBackSoon() {
+        // Arrange
+        ReviewScheduler scheduler = new ReviewScheduler(16);
+        Question question = new QuestionData(1, "Pick B", null, new String[]{"A. One", "B. Two"}, new char[]{'B'});
+        scheduler.record(0, 3, true, NOW);
+        scheduler.record(0, 3, true, NOW + DAY);
+
+        // Act
+        boolean correct = scheduler.review(0, 3, question, new char[]{'A'}, NOW + 4 * DAY);
+
+        // Assert
+        assertAll("Relearning",
+                () -> assertFalse(correct),
+                () -> assertEquals(TimeUnit.MINUTES.toMillis(10), scheduler.intervalMillis(0, 3)),
+                () -> assertEquals(2.4, scheduler.ease(0, 3), 1e-9),
+                () -> assertEquals(-1, scheduler.dueAt(1, 3), "Expected users to be scheduled separately."),
+                () -> assertEquals(0, scheduler.ease(0, 4))
+        );
+    }
+
+    @Test
+    void testRecordWhenFullEvictsWithClock() {
+        // Arrange: the fourth card evicts the first, clearing the marks of the others
+        final int sparseUser      = 7_000_000;
+        ReviewScheduler scheduler = new ReviewScheduler(3);
+        scheduler.record(0, 1, true, NOW);
+        scheduler.record(0, 2, true, NOW);
+        scheduler.record(sparseUser, 3, true, NOW);
+        scheduler.record(0, 4, true, NOW);
+
+        // Act: question 2 is reviewed again, so the hand passes it by
+        scheduler.record(0, 2, false, NOW);
+        scheduler.record(5, 5, true, NOW);
+
+        // Assert
+        int[] due = new int[4];
+        assertAll("Eviction",
+                () -> assertEquals(3, scheduler.size()),
+                () -> assertEquals(-1, scheduler.dueAt(0, 1)),
+                () -> assertEquals(-1, scheduler.dueAt(sparseUser, 3)),
+                () -> assertEquals(0, scheduler.size(sparseUser)),
+                () -> assertTrue(scheduler.dueAt(0, 2) > 0),
+                () -> assertEquals(2, scheduler.size(0)),
+                () -> assertEquals(1, scheduler.size(5)),
+                () -> assertEquals(2, scheduler.nextDue(0, NOW + 10 * DAY, due)),
+                () -> assertArrayEquals(new int[]{2, 4, 0, 0}, due),
+                () -> assertThrows(IllegalArgumentException.class, () -> scheduler.record(-1, 3, true, NOW))
+        );
+    }
+
+    @Test
+    void testSparseUserIdsShareDenseSlots() {
+        // Arrange
+        ReviewScheduler scheduler = new ReviewScheduler(64);
+        long empty = scheduler.footprint();
+
+        // Act
+        scheduler.record(Integer.MAX_VALUE, 1, true, NOW);
+        scheduler.record(1 << 30, 1, false, NOW);
+
+        // Assert
+        assertAll("Sparse users",
+                () -> assertTrue(scheduler.footprint() - empty < 1_024, "A large user index grew the scheduler to " + scheduler.footprint() + " bytes."),
+                () -> assertEquals(1, scheduler.size(Integer.MAX_VALUE)),
+                () -> assertEquals(1, scheduler.size(1 << 30)),
+                () -> assertEquals(1, scheduler.nextDue(1 << 30, NOW + DAY, new int[1]))
+        );
+    }
+
+    // =========================[ nextDue() Unit Tests ]========================== \\
+    @Test
+    void testNextDueListsDueQuestionsSoonestFirst() {
+        // Arrange: question q is answered q days ago, wrongly if odd
+        ReviewScheduler scheduler = new ReviewScheduler(64);
+        for (int q = 0; q < 10; q++) {
+            scheduler.record(4, q, q % 2 == 0, NOW - q * DAY);
+        }
+
+        scheduler.record(5, 100, false, NOW);
+        int[] due = new int[10];
+
+        // Act
+        int count     = scheduler.nextDue(4, NOW, due);
+        int[] limited = new int[2];
+        int firstTwo  = scheduler.nextDue(4, NOW, limited);
+
+        // Assert: odd questions fell due 10 minutes after their review, even ones a day after
+        assertAll("Due questions",
+                () -> assertEquals(9, count, "Expected all but the question answered correctly just now."),
+                () -> assertArrayEquals(new int[]{9, 8, 7, 6, 5, 4, 3, 2, 1}, Arrays.copyOf(due, count)),
+                () -> assertEquals(2, firstTwo),
+                () -> assertArrayEquals(new int[]{9, 8}, limited),
+                () -> assertEquals(0, scheduler.nextDue(5, NOW, due)),
+                () -> assertEquals(0, scheduler.nextDue(6, NOW, due)),
+                () -> assertEquals(10, scheduler.size(4))
+        );
+    }
+
+    // ==============================[ Benchmarks ]=============================== \\
+    @Test
+    @Tag("benchmark")
+    void testTwoMillionCards(TestReporter reporter) {
+        // Arrange
+        final int users     = 20_000;
+        final int questions = 100;
+        ReviewScheduler scheduler = new ReviewScheduler(users * questions);
+        Random random = new Random(17);
+
+        // Act: every user reviews every question once, then again a day later
+        long start = System.nanoTime();
+        for (int round = 0; round < 2; round++) {
+            for (int u = 0; u < users; u++) {
+                for (int q = 0; q < questions; q++) {
+                    scheduler.record(u, q, random.nextInt(4) != 0, NOW + round * DAY + random.nextInt(60_000_000));
+                }
+            }
+        }
+        long recordNanos = System.nanoTime() - start;
+
+        int[] due   = new int[20];
+        int listed  = 0;
+        start       = System.nanoTime();
+        for (int u = 0; u < users; u++) {
+            listed += scheduler.nextDue(u, NOW + 2 * DAY, due);
+        }
+        long dueNanos = System.nanoTime() - start;
+
+        // Assert
+        final int cards         = users * questions;
+        final long bytesPerCard = scheduler.footprint() / cards;
+        assertEquals(cards, scheduler.size());
+        assertTrue(listed > 0);
+        assertTrue(bytesPerCard <= 64, "Expected a compact card layout, found " + bytesPerCard + " bytes per card.");
+
+        reporter.publishEntry("reviews", "%d reviews of %d cards in %d ms (%d ns/review)"
+                .formatted(2 * cards, cards, TimeUnit.NANOSECONDS.toMillis(recordNanos), recordNanos / (2L * cards)));
+        reporter.publishEntry("nextDue", "%d users in %d ms (%d ns/user)"
+                .formatted(users, TimeUnit.NANOSECONDS.toMillis(dueNanos), dueNanos / users));
+        reporter.publishEntry("memory", "%d bytes per card".formatted(bytesPerCard));
+    }
+
+}
@@ -0,0 +1,254 @@
+package com.slinky.mockmate.data;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ *
+ * @author Kheagen Haskins
+ */
+public class SearchIndexTest {
+
+    private static final ExamCode EXAM_CODE = ExamCode.EXAM_CODE_1Z0_829;
+
+    /**
+     * A chapter number the bundled exam does not have, so hand-built chapters
+     * never clash with bundled ones.
+     */
+    private static final int CHAPTER = 90;
+
+    // ========================[ Tokenizer Unit Tests ]========================== \\
+    @Test
+    void testTokenizeSplitsCompoundIdentifiers() {
+        // Arrange
+        List<String> terms = new ArrayList<>();
+
+        // Act
+        JavaTokenizer.tokenize("int x = Integer.parseInt(MAX_VALUE) + HTTPServer;", terms::add);
+
+        // Assert
+        assertEquals(List.of("int", "x", "integer", "parseint", "parse", "int",
+                "max_value", "max", "value", "httpserver", "http", "server"), terms);
+    }
+
+    @Test
+    void testTokenizeIgnoresPunctuation() {
+        // Arrange
+        List<String> terms = new ArrayList<>();
+
+        // Act
+        JavaTokenizer.tokenize("A. -> {}; 1200 _x", terms::add);
+        JavaTokenizer.tokenize(null, terms::add);
+
+        // Assert
+        assertEquals(List.of("a", "1200", "_x"), terms);
+    }
+
+    // =========================[ search() Unit Tests ]=========================== \\
+    @Test
+    void testSearchRanksByRelevance() {
+        // Arrange
+        SearchIndex index = new SearchIndex();
+        index.addChapter(EXAM_CODE, chapter(CHAPTER,
+                question(1, "Which lines compile?", "var x = 10;", "A. Line 1"),
+                question(2, "What does this switch expression print?", "switch (x) { case 1 -> 2; }", "A. switch"),
+                question(3, "What is printed?", "System.out.println(Integer.parseInt(\"12\"));", "A. 12")
+        ));
+
+        // Act
+        List<SearchHit> switches = index.search("switch", 10);
+        List<SearchHit> parse    = index.search("parse", 10);
+        List<SearchHit> either   = index.search("switch var", 10);
+
+        // Assert
+        assertAll("Ranking",
+                () -> assertEquals(1, switches.size()),
+                () -> assertEquals(2, switches.get(0).ordinal()),
+                () -> assertEquals(3, parse.get(0).ordinal(), "Expected camelCase words to be searchable."),
+                () -> assertEquals(2, either.size()),
+                () -> assertEquals(2, either.get(0).ordinal(), "Expected more occurrences to rank higher."),
+                () -> assertTrue(either.get(0).score() > either.get(1).score()),
+                () -> assertEquals(1, index.search("switch var", 1).size()),
+                () -> assertTrue(index.search("lambda", 10).isEmpty()),
+                () -> assertThrows(IllegalArgumentException.class, () -> index.search("x", -1))
+        );
+    }
+
+    @Test
+    void testAddChapterTwiceDoesNotDuplicate() {
+        // Arrange
+        SearchIndex index = new SearchIndex();
+        Chapter chapter   = chapter(CHAPTER, question(1, "Records are final", null, "A. Yes"));
+
+        // Act
+        index.addChapter(EXAM_CODE, chapter);
+        index.addChapter(EXAM_CODE, chapter);
+
+        // Assert
+        assertAll("Idempotent indexing",
+                () -> assertEquals(1, index.size()),
+                () -> assertTrue(index.contains(EXAM_CODE, CHAPTER)),
+                () -> assertEquals(1, index.search("records", 10).size())
+        );
+    }
+
+    @Test
+    void testAttachIndexesChaptersAsTheyLoad() {
+        // Arrange
+        ChapterCache cache = new ChapterCache(4, 1_000);
+        SearchIndex index  = new SearchIndex();
+        index.attach(cache);
+        Exam exam = Exam.loadExam(EXAM_CODE, cache);
+
+        // Act
+        Chapter chapter = exam.loadSharedChapter(1);
+        exam.loadChapter(1); // A hit, which must not index again
+
+        // Assert
+        assertAll("Incremental indexing",
+                () -> assertTrue(index.contains(EXAM_CODE, 1)),
+                () -> assertEquals(chapter.countQuestions(), index.size()),
+                () -> assertFalse(index.search("class", 5).isEmpty())
+        );
+    }
+
+    @Test
+    void testAddChapterReindexesChangedContent() {
+        // Arrange
+        SearchIndex index = new SearchIndex();
+        index.addChapter(EXAM_CODE, chapter(CHAPTER, question(1, "Records are final", null, "A. Yes")));
+
+        // Act
+        index.addChapter(EXAM_CODE, chapter(CHAPTER, question(1, "Enums are final", null, "A. Yes")));
+
+        // Assert
+        assertAll("Re-indexing",
+                () -> assertEquals(1, index.size()),
+                () -> assertTrue(index.search("records", 10).isEmpty()),
+                () -> assertEquals(1, index.search("enums", 10).size())
+        );
+    }
+
+    @Test
+    void testAttachIndexesReloadedChapters() {
+        // Arrange
+        ChapterCache cache = new ChapterCache(4, 1_000);
+        SearchIndex index  = new SearchIndex();
+        index.attach(cache);
+        Chapter chapter = Exam.loadExam(EXAM_CODE, cache).loadSharedChapter(1);
+
+        ChapterData reloaded = new ChapterData(1, chapter.getTitle());
+        for (Question question : chapter.getAllQuestions()) {
+            reloaded.addQuestion(question);
+        }
+        reloaded.addQuestion(question(chapter.countQuestions() + 1, "Hot reloaded zanzibar", null, "A. Yes"));
+
+        // Act
+        cache.replace(EXAM_CODE, 1, reloaded.freeze());
+
+        // Assert
+        assertAll("Hot reload",
+                () -> assertEquals(chapter.countQuestions() + 1, index.size()),
+                () -> assertEquals(1, index.search("zanzibar", 5).size())
+        );
+    }
+
+    @Test
+    void testReindexingCompactsDroppedDocuments() {
+        // Arrange
+        SearchIndex index = new SearchIndex();
+
+        // Act
+        for (int i = 0; i < 100; i++) {
+            index.addChapter(EXAM_CODE, chapter(CHAPTER, question(1, "Revision term" + i, null, "A. Yes")));
+        }
+
+        // Assert
+        assertAll("Compaction",
+                () -> assertEquals(1, index.size()),
+                () -> assertTrue(index.termCount() < 10, "Terms of dropped documents were kept: " + index.termCount()),
+                () -> assertEquals(1, index.search("term99", 5).size()),
+                () -> assertTrue(index.search("term98", 5).isEmpty())
+        );
+    }
+
+    // ======================[ save() and load() Unit Tests ]===================== \\
+    @Test
+    void testSaveAndLoadRoundTrip(@TempDir Path dir) throws IOException {
+        // Arrange
+        SearchIndex index = new SearchIndex();
+        index.addExam(EXAM_CODE, Exam.loadExam(EXAM_CODE, new ChapterCache(4, 1_000)));
+        index.addChapter(EXAM_CODE, chapter(CHAPTER, question(1, "Sealed interfaces permit subclasses", null, "A. permits")));
+        Path file = dir.resolve("search.idx");
+
+        // Act
+        index.save(file);
+        SearchIndex loaded = SearchIndex.load(file);
+
+        // Assert
+        assertAll("Round trip",
+                () -> assertEquals(index.size(), loaded.size()),
+                () -> assertEquals(index.termCount(), loaded.termCount()),
+                () -> assertTrue(loaded.contains(EXAM_CODE, 1)),
+                () -> assertEquals(index.search("sealed permits", 5), loaded.search("sealed permits", 5)),
+                () -> assertEquals(index.search("int string var", 20), loaded.search("int string var", 20))
+        );
+    }
+
+    @Test
+    void testLoadRejectsOtherFiles(@TempDir Path dir) throws IOException {
+        // Arrange
+        Path file = Files.write(dir.resolve("bad.idx"), new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> SearchIndex.load(file));
+    }
+
+    @Test
+    void testLoadRejectsPostingsPastTheLastDocument(@TempDir Path dir) throws IOException {
+        // Arrange
+        SearchIndex index = new SearchIndex();
+        index.addChapter(EXAM_CODE, chapter(CHAPTER, question(1, "Records are final", null, "A. Yes")));
+        Path file = dir.resolve("search.idx");
+        index.save(file);
+
+        // The file ends with the last posting: its one-byte doc gap, then its frequency
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 2] = 5;
+        Files.write(file, bytes);
+
+        // Act
+        IOException ex = assertThrows(IOException.class, () -> SearchIndex.load(file));
+
+        // Assert
+        assertTrue(ex.getMessage().contains("document 5 of 1"), ex.getMessage());
+    }
+
+    // ============================[ Helper Methods ]============================ \\
+
+    private static Chapter chapter(int number, Question... questions) {
+        ChapterData chapter = new ChapterData(number, "Chapter " + number);
+        for (Question question : questions) {
+            chapter.addQuestion(question);
+        }
+
+        return chapter;
+    }
+
+    private static Question question(int ordinal, String text, String code, String choice) {
+        return new QuestionData(ordinal, text, code, new String[]{choice}, new char[]{'A'});
+    }
+
+}
@@ -0,0 +1,201 @@
+package com.slinky.mockmate.data;
+
+import com.fasterxml.jackson.core.JsonFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ *
+ * @author Kheagen Haskins
+ */
+public class StringPoolTest {
+
+    private static final ExamCode EXAM = ExamCode.EXAM_CODE_1Z0_829;
+
+    // =========================[ Constructor Unit Tests ]========================= \\
+    @Test
+    void testCapacityIsRoundedToPowerOfTwo() {
+        assertAll("Capacity",
+                () -> assertEquals(1, new StringPool(1).capacity()),
+                () -> assertEquals(1024, new StringPool(1000).capacity()),
+                () -> assertEquals(1024, new StringPool(1024).capacity()),
+                () -> assertThrows(IllegalArgumentException.class, () -> new StringPool(0)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new StringPool((1 << 30) + 1))
+        );
+    }
+
+    // ======================[ canonicalize() Unit Tests ]======================== \\
+    @Test
+    void testCanonicalizeReturnsFirstInstance() {
+        // Arrange
+        StringPool pool = new StringPool(64);
+        LongAdder saved = new LongAdder();
+        String first    = new String("A. None of the above");
+        String second   = new String("A. None of the above");
+
+        // Act
+        String a = pool.canonicalize(first, saved);
+        String b = pool.canonicalize(second, saved);
+        String c = pool.canonicalize(first, saved);
+
+        // Assert
+        assertAll("Canonical instance",
+                () -> assertSame(first, a),
+                () -> assertSame(first, b),
+                () -> assertSame(first, c),
+                () -> assertNull(pool.canonicalize(null, saved)),
+                () -> assertEquals(1, pool.hitCount(), "Expected only the equal copy to count as a hit."),
+                () -> assertEquals(1, pool.missCount()),
+                () -> assertEquals(StringPool.retainedBytes(second), saved.sum()),
+                () -> assertEquals(saved.sum(), pool.savedBytes())
+        );
+    }
+
+    @Test
+    void testTableIsBounded() {
+        // Arrange: a single slot holds only the last string pooled
+        StringPool pool = new StringPool(1);
+        String first    = pool.canonicalize(new String("A. true"), null);
+
+        // Act
+        pool.canonicalize("B. false", null);
+        String again = pool.canonicalize(new String("A. true"), null);
+
+        // Assert
+        assertNotSame(first, again, "Expected the first string to have been replaced.");
+        assertEquals(0, pool.hitCount());
+        assertEquals(3, pool.missCount());
+    }
+
+    @Test
+    void testRetainedBytes() {
+        assertAll("Retained bytes",
+                () -> assertEquals(24 + 16, StringPool.retainedBytes("")),
+                () -> assertEquals(24 + 24, StringPool.retainedBytes("12345678")),
+                () -> assertEquals(24 + 40, StringPool.retainedBytes("12345678\u2192"))
+        );
+    }
+
+    // ======================[ QuestionReader Unit Tests ]======================== \\
+    @Test
+    void testReaderSharesRepeatedStrings() throws IOException {
+        // Arrange
+        byte[] json      = readResource("/json/exam-1Z0-829/chapter1/q3.json");
+        var pooled       = new QuestionReader(new JsonFactory(), new StringPool(256));
+        var plain        = new QuestionReader(new JsonFactory());
+        LongAdder saved  = new LongAdder();
+
+        // Act
+        QuestionData first  = pooled.read(json, 0, json.length, saved);
+        QuestionData second = pooled.read(json, 0, json.length, saved);
+        QuestionData third  = plain.read(json, 0, json.length);
+        QuestionData fourth = plain.read(json, 0, json.length);
+
+        // Assert
+        assertAll("Pooling",
+                () -> assertSame(first.choices()[6], second.choices()[6]),
+                () -> assertNotSame(first.questionText(), second.questionText(), "Expected question text not to be pooled."),
+                () -> assertNotSame(third.choices()[0], fourth.choices()[0]),
+                () -> assertEquals(third.questionText(), first.questionText()),
+                () -> assertTrue(saved.sum() > 0)
+        );
+    }
+
+    @Test
+    void testExamReportsSavedBytes() {
+        // Arrange
+        Exam first  = Exam.loadExam(EXAM, new ChapterCache(4, 1_000));
+        Exam second = Exam.loadExam(EXAM, new ChapterCache(4, 1_000));
+        first.loadChapter(1);
+
+        // Act
+        Chapter chapter = second.loadChapter(1);
+
+        // Assert
+        assertTrue(second.deduplicatedBytes() > 0);
+        assertSame(first.loadChapter(1).getQuestion(1).choices()[0], chapter.getQuestion(1).choices()[0]);
+        assertEquals(0, Exam.mapExam(EXAM).deduplicatedBytes());
+    }
+
+    @Test
+    void testSavedBytesCountOnlyLoadedChapters() {
+        // Arrange: after one decode every choice of the chapter is pooled
+        ChapterCache cache = new ChapterCache(4, 1_000);
+        Exam exam          = Exam.loadExam(EXAM, cache);
+        exam.loadChapter(1);
+        cache.clear();
+        exam.loadChapter(1);
+        long once = exam.deduplicatedBytes();
+
+        // Act: decode the chapter again, as after an eviction
+        cache.clear();
+        exam.loadChapter(1);
+
+        // Assert
+        assertTrue(once > 0);
+        assertEquals(once, exam.deduplicatedBytes(), "Expected the new decode to replace the evicted one.");
+    }
+
+    // ==============================[ Benchmarks ]=============================== \\
+    @Test
+    @Tag("benchmark")
+    void testHeapGrowthAcrossExamVersions(TestReporter reporter) throws IOException {
+        // Arrange: every version holds the same questions, as revisions of an
+        // exam largely do
+        final int versions = 200;
+        byte[][] questions = new byte[23][];
+        for (int i = 0; i < questions.length; i++) {
+            questions[i] = readResource("/json/exam-1Z0-829/chapter1/q%d.json".formatted(i + 1));
+        }
+
+        // Act
+        long plainBytes  = retainedHeap(new QuestionReader(new JsonFactory()), questions, versions, null);
+        LongAdder saved  = new LongAdder();
+        long pooledBytes = retainedHeap(new QuestionReader(new JsonFactory(), new StringPool(1 << 14)), questions, versions, saved);
+
+        // Assert
+        assertTrue(saved.sum() > 0);
+        reporter.publishEntry("without pool", "%d KB per version".formatted(plainBytes / versions >> 10));
+        reporter.publishEntry("with pool", "%d KB per version, %d KB saved per version"
+                .formatted(pooledBytes / versions >> 10, saved.sum() / versions >> 10));
+    }
+
+    // ============================[ Helper Methods ]============================ \\
+
+    private static long retainedHeap(QuestionReader reader, byte[][] questions, int versions, LongAdder saved) throws IOException {
+        List<QuestionData> held = new ArrayList<>(questions.length * versions);
+        long baseline           = HeapProbe.usedHeap();
+        for (int v = 0; v < versions; v++) {
+            for (byte[] json : questions) {
+                held.add(reader.read(json, 0, json.length, saved));
+            }
+        }
+
+        long used = HeapProbe.usedHeap() - baseline;
+        assertEquals(questions.length * versions, held.size());
+        return used;
+    }
+
+    private byte[] readResource(String path) throws IOException {
+        try (InputStream in = getClass().getResourceAsStream(path)) {
+            return in.readAllBytes();
+        }
+    }
+
+}
@@ -1,16 +0,0 @@
-package com.slinky.mockmate.util;
-
-import org.junit.jupiter.api.BeforeAll;
-import org.junit.jupiter.params.ParameterizedTest;
-import org.junit.jupiter.api.Test;
-import static org.junit.jupiter.api.Assertions.*;
-
-/**
- *
- * @author Kheagen Haskins
- */
-public class FileUtilTest {
-    
-    
-    
-}
\ No newline at end of file
@@ -0,0 +1,175 @@
+package com.slinky.mockmate.util;
+
+import java.io.StringWriter;
+import java.lang.management.ManagementFactory;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ *
+ * @author Kheagen Haskins
+ */
+public class StringUtilTest {
+
+    private static final String CODE = "1: public class PoliceBox {\n2:     String color;\n3:     long age;\n4: \n\n"
+                                     + "5:     public void PoliceBox() {\n        color = \"blue\";\n7:         age = 1200;\n8:     }\n";
+
+    // ========================[ formatCode() Unit Tests ]======================== \\
+    @ParameterizedTest
+    @ValueSource(strings = {CODE, "int x;", "\n\n1:\n", "no: number\n42 is not numbered", "1: a\r\n2: b\r\n", "   "})
+    void testFormatCodeMatchesSplitImplementation(String code) {
+        assertEquals(splitFormatCode(code), StringUtil.formatCode(code));
+    }
+
+    @Test
+    void testFormatCodeWithoutCode() {
+        assertAll("Missing code",
+                () -> assertEquals("<< No code snippet provided >>", StringUtil.formatCode(null)),
+                () -> assertEquals("<< No code snippet provided >>", StringUtil.formatCode(" \n\t"))
+        );
+    }
+
+    @Test
+    void testAppendCodeToWriter() {
+        // Arrange
+        StringWriter writer = new StringWriter();
+
+        // Act
+        StringUtil.appendCode(writer, new StringBuilder(CODE));
+
+        // Assert
+        assertEquals(StringUtil.formatCode(CODE), writer.toString());
+    }
+
+    // =======================[ formatChoice() Unit Tests ]======================= \\
+    @Test
+    void testFormatChoice() {
+        assertAll("Choices",
+                () -> assertEquals("A.  It prints q1=blue.", StringUtil.formatChoice("A. It prints q1=blue.", 4)),
+                () -> assertEquals("B.  Line one\n    line two", StringUtil.formatChoice("B. Line one\nline two", 4)),
+                () -> assertEquals("    no prefix", StringUtil.formatChoice("no prefix", 4)),
+                () -> assertThrows(IllegalArgumentException.class, () -> StringUtil.formatChoice("ABCDE. Too long", 4))
+        );
+    }
+
+    // =======================[ Utf8Appender Unit Tests ]========================= \\
+    @Test
+    void testUtf8AppenderMatchesGetBytes() {
+        // Arrange: one, two, three and four byte characters, plus a lone surrogate
+        String text       = "aé€😀\ud800z";
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+
+        // Act
+        Utf8Appender appender = new Utf8Appender(buffer);
+        appender.append(text, 0, 4).append(text, 4, text.length()).finish().flip();
+
+        // Assert
+        byte[] actual = new byte[buffer.remaining()];
+        buffer.get(actual);
+        assertEquals(new String(text.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8),
+                     new String(actual, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testUtf8AppenderOverflow() {
+        ByteBuffer buffer = ByteBuffer.allocate(2);
+
+        assertThrows(BufferOverflowException.class, () -> new Utf8Appender(buffer).append("a€"));
+        assertEquals(1, buffer.position(), "Expected no partial character to be written.");
+    }
+
+    // ============================[ Allocation Tests ]=========================== \\
+    @Test
+    @Tag("benchmark")
+    void testAppendCodeAllocatesLessThanStringBuilding(TestReporter reporter) {
+        // Arrange
+        final int rounds   = 20_000;
+        StringBuilder sink = new StringBuilder(1_024);
+        var bean           = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean t && t.isThreadAllocatedMemoryEnabled(),
+                "Per-thread allocation counters are not available on this JVM.");
+        var threads        = (com.sun.management.ThreadMXBean) bean;
+
+        // Warm up both paths so the JIT settles before measuring
+        for (int i = 0; i < rounds; i++) {
+            splitFormatCode(CODE);
+            StringUtil.formatCode(CODE);
+            sink.setLength(0);
+            StringUtil.appendCode(sink, CODE);
+        }
+
+        // Act
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < rounds; i++) {
+            splitFormatCode(CODE);
+        }
+        long split = threads.getCurrentThreadAllocatedBytes() - before;
+
+        before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < rounds; i++) {
+            StringUtil.formatCode(CODE);
+        }
+        long format = threads.getCurrentThreadAllocatedBytes() - before;
+
+        before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < rounds; i++) {
+            sink.setLength(0);
+            StringUtil.appendCode(sink, CODE);
+        }
+        long append = threads.getCurrentThreadAllocatedBytes() - before;
+
+        // Assert
+        reporter.publishEntry("allocation", "bytes per call: split %d, formatCode %d, appendCode %d"
+                .formatted(split / rounds, format / rounds, append / rounds));
+        assertTrue(format < split, "Expected formatCode to allocate less than splitting.");
+        assertTrue(append < format, "Expected appendCode into a reused builder to allocate less than formatCode.");
+    }
+
+    // ============================[ Helper Methods ]============================ \\
+
+    /**
+     * The original split-based implementation of {@link StringUtil#formatCode},
+     * kept as the reference for output and allocation.
+     */
+    private static String splitFormatCode(String code) {
+        if (code == null || code.isBlank()) {
+            return "<< No code snippet provided >>";
+        }
+
+        StringBuilder formattedCode = new StringBuilder();
+        String[] codeLines = code.split("\n");
+        for (String line : codeLines) {
+            if (line.isEmpty()) {
+                continue;
+            }
+
+            if (Character.isDigit(line.charAt(0))) {
+                int colonIndex = line.indexOf(":");
+                if (colonIndex != -1) {
+                    formattedCode.append(line, 0, colonIndex + 1).append("\t")
+                                 .append(line.substring(colonIndex + 1))
+                                 .append("\n");
+                    continue;
+                }
+            }
+
+            formattedCode.append(line).append(System.lineSeparator());
+        }
+
+        return formattedCode.toString();
+    }
+
+}